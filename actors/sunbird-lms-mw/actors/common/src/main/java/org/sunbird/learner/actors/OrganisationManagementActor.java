@@ -1,5 +1,6 @@
 package org.sunbird.learner.actors;
 
+import akka.actor.ActorRef;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.text.MessageFormat;
@@ -8,6 +9,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -38,7 +42,6 @@ import org.sunbird.learner.organisation.external.identity.service.OrgExternalSer
 import org.sunbird.learner.organisation.service.OrgService;
 import org.sunbird.learner.organisation.service.impl.OrgServiceImpl;
 import org.sunbird.learner.util.Util;
-import org.sunbird.models.location.Location;
 import org.sunbird.models.organisation.OrgTypeEnum;
 import org.sunbird.models.organisation.Organisation;
 import org.sunbird.telemetry.util.TelemetryUtil;
@@ -87,10 +90,6 @@ public class OrganisationManagementActor extends BaseActor {
   private void createOrg(Request actorMessage) {
     logger.info(
         actorMessage.getRequestContext(), "OrgManagementActor: Create org method call start");
-    // object of telemetry event...
-    Map<String, Object> targetObject = null;
-    List<Map<String, Object>> correlatedObject = new ArrayList<>();
-    String callerId = (String) actorMessage.getContext().get(JsonKey.CALLER_ID);
     try {
       actorMessage.toLower();
       Map<String, Object> request = actorMessage.getRequest();
@@ -103,7 +102,6 @@ public class OrganisationManagementActor extends BaseActor {
       request.put(JsonKey.ORG_TYPE, OrgTypeEnum.getValueByType(orgType));
       // Channel is mandatory for all org
       channelMandatoryValidation(request);
-      String channel = (String) request.get(JsonKey.CHANNEL);
       validateChannel(request, actorMessage.getRequestContext());
 
       Boolean isTenant = (Boolean) request.get(JsonKey.IS_TENANT);
@@ -119,103 +117,20 @@ public class OrganisationManagementActor extends BaseActor {
         request.put(JsonKey.SLUG, slug);
       }
 
-      validateOrgLocation(request, actorMessage.getRequestContext());
-
-      String passedExternalId = (String) request.get(JsonKey.EXTERNAL_ID);
-      if (StringUtils.isNotBlank(passedExternalId)) {
-        passedExternalId = passedExternalId.toLowerCase();
-        if (!validateChannelExternalIdUniqueness(
-            channel, passedExternalId, null, actorMessage.getRequestContext())) {
-          ProjectCommonException.throwClientErrorException(
-              ResponseCode.errorDuplicateEntry,
-              MessageFormat.format(
-                  ResponseCode.errorDuplicateEntry.getErrorMessage(),
-                  passedExternalId,
-                  JsonKey.EXTERNAL_ID));
-        }
-        request.put(JsonKey.EXTERNAL_ID, passedExternalId);
-        request.put(JsonKey.PROVIDER, StringUtils.lowerCase(channel));
-      } else {
-        request.remove(JsonKey.EXTERNAL_ID);
-        request.remove(JsonKey.PROVIDER);
-      }
-
-      String createdBy = (String) actorMessage.getContext().get(JsonKey.REQUESTED_BY);
-      request.put(JsonKey.CREATED_BY, createdBy);
-      request.put(JsonKey.CREATED_DATE, ProjectUtil.getFormattedDate());
-      String uniqueId = ProjectUtil.getUniqueIdFromTimestamp(actorMessage.getEnv());
-      request.put(JsonKey.ID, uniqueId);
-      // RootOrgId will always be same as orgId
-      request.put(JsonKey.ROOT_ORG_ID, uniqueId);
-
-      if (JsonKey.BULK_ORG_UPLOAD.equalsIgnoreCase(callerId)) {
-        if (null == request.get(JsonKey.STATUS)) {
-          request.put(JsonKey.STATUS, ProjectUtil.OrgStatus.ACTIVE.getValue());
-        }
-      } else {
-        request.put(JsonKey.STATUS, ProjectUtil.OrgStatus.ACTIVE.getValue());
-      }
-
-      if (null != isTenant && isTenant) {
-        boolean bool = Util.registerChannel(request, actorMessage.getRequestContext());
-        request.put(
-            JsonKey.IS_SSO_ROOTORG_ENABLED,
-            request.containsKey(JsonKey.IS_SSO_ROOTORG_ENABLED)
-                ? request.get(JsonKey.IS_SSO_ROOTORG_ENABLED)
-                : false);
-        if (!bool) {
-          sender().tell(ProjectUtil.createServerError(ResponseCode.channelRegFailed), self());
-          return;
-        }
-      } else {
-        request.put(JsonKey.IS_TENANT, false);
-        request.put(JsonKey.IS_SSO_ROOTORG_ENABLED, false);
-      }
-      Util.DbInfo orgDbInfo = Util.dbInfoMap.get(JsonKey.ORG_DB);
-      // This will remove all extra unnecessary parameter from request
-      ObjectMapper mapper = new ObjectMapper();
-      Organisation org = mapper.convertValue(request, Organisation.class);
-      request = mapper.convertValue(org, Map.class);
-      try {
-        String orgLoc = mapper.writeValueAsString(org.getOrgLocation());
-        request.put(JsonKey.ORG_LOCATION, orgLoc);
-      } catch (JsonProcessingException e) {
-        ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
-      }
-      Response result =
-          cassandraOperation.insertRecord(
-              orgDbInfo.getKeySpace(),
-              orgDbInfo.getTableName(),
-              request,
-              actorMessage.getRequestContext());
-
-      if (StringUtils.isNotBlank(passedExternalId)) {
-        createOrgExternalIdRecord(
-            channel, passedExternalId, uniqueId, actorMessage.getRequestContext());
-      }
-      logger.info(
-          actorMessage.getRequestContext(),
-          "OrgManagementActor : createOrg : Created org id is ----." + uniqueId);
-      result.getResult().put(JsonKey.ORGANISATION_ID, uniqueId);
-      sender().tell(result, self());
-      Request orgReq = new Request();
-      orgReq.setRequestContext(actorMessage.getRequestContext());
-      orgReq.getRequest().put(JsonKey.ORGANISATION, request);
-      orgReq.setOperation(ActorOperations.INSERT_ORG_INFO_ELASTIC.getValue());
-      logger.info(
-          actorMessage.getRequestContext(),
-          "OrganisationManagementActor:createOrg: Calling background job to sync org data "
-              + uniqueId);
-      tellToAnother(orgReq);
-      targetObject =
-          TelemetryUtil.generateTargetObject(uniqueId, JsonKey.ORGANISATION, JsonKey.CREATE, null);
-      TelemetryUtil.generateCorrelatedObject(
-          uniqueId, JsonKey.ORGANISATION, null, correlatedObject);
-      TelemetryUtil.telemetryProcessingCall(
-          (Map<String, Object>) actorMessage.getRequest().get(JsonKey.ORGANISATION),
-          targetObject,
-          correlatedObject,
-          actorMessage.getContext());
+      Executor executor = getContext().dispatcher();
+      Map<String, Object> savedOrg = new HashMap<>();
+      CompletionStage<Object> result =
+          validateOrgLocation(request, actorMessage.getRequestContext())
+              .thenApplyAsync(v -> saveOrg(actorMessage, savedOrg), executor);
+      pipeToSender(result, actorMessage);
+      // the org is synced to ES and the telemetry sent once the reply is piped
+      result.thenAcceptAsync(
+          response -> {
+            if (!savedOrg.isEmpty()) {
+              syncOrg(actorMessage, savedOrg);
+            }
+          },
+          executor);
     } catch (ProjectCommonException e) {
       logger.error(
           actorMessage.getRequestContext(),
@@ -226,6 +141,117 @@ public class OrganisationManagementActor extends BaseActor {
     }
   }
 
+  @SuppressWarnings("unchecked")
+  private Object saveOrg(Request actorMessage, Map<String, Object> savedOrg) {
+    String callerId = (String) actorMessage.getContext().get(JsonKey.CALLER_ID);
+    Map<String, Object> request = actorMessage.getRequest();
+    String channel = (String) request.get(JsonKey.CHANNEL);
+    Boolean isTenant = (Boolean) request.get(JsonKey.IS_TENANT);
+    String passedExternalId = (String) request.get(JsonKey.EXTERNAL_ID);
+    if (StringUtils.isNotBlank(passedExternalId)) {
+      passedExternalId = passedExternalId.toLowerCase();
+      if (!validateChannelExternalIdUniqueness(
+          channel, passedExternalId, null, actorMessage.getRequestContext())) {
+        ProjectCommonException.throwClientErrorException(
+            ResponseCode.errorDuplicateEntry,
+            MessageFormat.format(
+                ResponseCode.errorDuplicateEntry.getErrorMessage(),
+                passedExternalId,
+                JsonKey.EXTERNAL_ID));
+      }
+      request.put(JsonKey.EXTERNAL_ID, passedExternalId);
+      request.put(JsonKey.PROVIDER, StringUtils.lowerCase(channel));
+    } else {
+      request.remove(JsonKey.EXTERNAL_ID);
+      request.remove(JsonKey.PROVIDER);
+    }
+
+    String createdBy = (String) actorMessage.getContext().get(JsonKey.REQUESTED_BY);
+    request.put(JsonKey.CREATED_BY, createdBy);
+    request.put(JsonKey.CREATED_DATE, ProjectUtil.getFormattedDate());
+    String uniqueId = ProjectUtil.getUniqueIdFromTimestamp(actorMessage.getEnv());
+    request.put(JsonKey.ID, uniqueId);
+    // RootOrgId will always be same as orgId
+    request.put(JsonKey.ROOT_ORG_ID, uniqueId);
+
+    if (JsonKey.BULK_ORG_UPLOAD.equalsIgnoreCase(callerId)) {
+      if (null == request.get(JsonKey.STATUS)) {
+        request.put(JsonKey.STATUS, ProjectUtil.OrgStatus.ACTIVE.getValue());
+      }
+    } else {
+      request.put(JsonKey.STATUS, ProjectUtil.OrgStatus.ACTIVE.getValue());
+    }
+
+    if (null != isTenant && isTenant) {
+      boolean bool = Util.registerChannel(request, actorMessage.getRequestContext());
+      request.put(
+          JsonKey.IS_SSO_ROOTORG_ENABLED,
+          request.containsKey(JsonKey.IS_SSO_ROOTORG_ENABLED)
+              ? request.get(JsonKey.IS_SSO_ROOTORG_ENABLED)
+              : false);
+      if (!bool) {
+        return ProjectUtil.createServerError(ResponseCode.channelRegFailed);
+      }
+    } else {
+      request.put(JsonKey.IS_TENANT, false);
+      request.put(JsonKey.IS_SSO_ROOTORG_ENABLED, false);
+    }
+    Util.DbInfo orgDbInfo = Util.dbInfoMap.get(JsonKey.ORG_DB);
+    // This will remove all extra unnecessary parameter from request
+    ObjectMapper mapper = new ObjectMapper();
+    Organisation org = mapper.convertValue(request, Organisation.class);
+    request = mapper.convertValue(org, Map.class);
+    try {
+      String orgLoc = mapper.writeValueAsString(org.getOrgLocation());
+      request.put(JsonKey.ORG_LOCATION, orgLoc);
+    } catch (JsonProcessingException e) {
+      ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
+    }
+    Response result =
+        cassandraOperation.insertRecord(
+            orgDbInfo.getKeySpace(),
+            orgDbInfo.getTableName(),
+            request,
+            actorMessage.getRequestContext());
+
+    if (StringUtils.isNotBlank(passedExternalId)) {
+      createOrgExternalIdRecord(
+          channel, passedExternalId, uniqueId, actorMessage.getRequestContext());
+    }
+    logger.info(
+        actorMessage.getRequestContext(),
+        "OrgManagementActor : createOrg : Created org id is ----." + uniqueId);
+    result.getResult().put(JsonKey.ORGANISATION_ID, uniqueId);
+    savedOrg.putAll(request);
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void syncOrg(Request actorMessage, Map<String, Object> request) {
+    // object of telemetry event...
+    Map<String, Object> targetObject = null;
+    List<Map<String, Object>> correlatedObject = new ArrayList<>();
+    String uniqueId = (String) request.get(JsonKey.ID);
+    Request orgReq = new Request();
+    orgReq.setRequestContext(actorMessage.getRequestContext());
+    orgReq.getRequest().put(JsonKey.ORGANISATION, request);
+    orgReq.setOperation(ActorOperations.INSERT_ORG_INFO_ELASTIC.getValue());
+    logger.info(
+        actorMessage.getRequestContext(),
+        "OrganisationManagementActor:createOrg: Calling background job to sync org data "
+            + uniqueId);
+    tellToAnother(orgReq);
+    targetObject =
+        TelemetryUtil.generateTargetObject(uniqueId, JsonKey.ORGANISATION, JsonKey.CREATE, null);
+    TelemetryUtil.generateCorrelatedObject(
+        uniqueId, JsonKey.ORGANISATION, null, correlatedObject);
+    TelemetryUtil.telemetryProcessingCall(
+        (Map<String, Object>) actorMessage.getRequest().get(JsonKey.ORGANISATION),
+        targetObject,
+        correlatedObject,
+        actorMessage.getContext());
+  }
+
   private void createOrgExternalIdRecord(
       String channel, String externalId, String orgId, RequestContext context) {
     if (StringUtils.isNotBlank(channel) && StringUtils.isNotBlank(externalId)) {
@@ -321,11 +347,7 @@ public class OrganisationManagementActor extends BaseActor {
       updateOrgDao.put(JsonKey.ID, orgDao.get(JsonKey.ID));
       updateOrgDao.put(JsonKey.STATUS, nextStatus);
       Response response =
-          cassandraOperation.updateRecord(
-              orgDbInfo.getKeySpace(),
-              orgDbInfo.getTableName(),
-              updateOrgDao,
-              actorMessage.getRequestContext());
+          OrgServiceImpl.getInstance().updateOrg(updateOrgDao, actorMessage.getRequestContext());
       response.getResult().put(JsonKey.ORGANISATION_ID, orgDao.get(JsonKey.ID));
       sender().tell(response, self());
 
@@ -353,10 +375,6 @@ public class OrganisationManagementActor extends BaseActor {
   /** Update the Organisation data */
   @SuppressWarnings("unchecked")
   private void updateOrgData(Request actorMessage) {
-    Util.DbInfo orgDbInfo = Util.dbInfoMap.get(JsonKey.ORG_DB);
-    Map<String, Object> targetObject = null;
-    List<Map<String, Object>> correlatedObject = new ArrayList<>();
-    String callerId = (String) actorMessage.getContext().get(JsonKey.CALLER_ID);
     try {
       actorMessage.toLower();
       Map<String, Object> request = actorMessage.getRequest();
@@ -384,186 +402,191 @@ public class OrganisationManagementActor extends BaseActor {
             ResponseCode.CLIENT_ERROR.getResponseCode());
       }
 
-      String existingExternalId = (String) dbOrgDetails.get(JsonKey.EXTERNAL_ID);
-      validateOrgLocation(request, actorMessage.getRequestContext());
-      if (request.containsKey(JsonKey.CHANNEL)
-          && !validateChannelUniqueness(
-              (String) request.get(JsonKey.CHANNEL),
-              (String) request.get(JsonKey.ORGANISATION_ID),
-              (Boolean) dbOrgDetails.get(JsonKey.IS_TENANT),
-              actorMessage.getRequestContext())) {
-        logger.info(actorMessage.getRequestContext(), "Channel validation failed");
-        ProjectCommonException.throwClientErrorException(ResponseCode.channelUniquenessInvalid);
-      }
-      // allow lower case values for source and externalId to the database
-      if (request.get(JsonKey.PROVIDER) != null) {
-        request.put(JsonKey.PROVIDER, ((String) request.get(JsonKey.PROVIDER)).toLowerCase());
-      } else {
-        String reqChannel = (String) request.get(JsonKey.CHANNEL);
-        String dbChannel = (String) dbOrgDetails.get(JsonKey.CHANNEL);
-        if (StringUtils.isNotBlank(reqChannel) && !reqChannel.equalsIgnoreCase(dbChannel)) {
-          request.put(JsonKey.PROVIDER, reqChannel.toLowerCase());
-        }
-      }
+      Executor executor = getContext().dispatcher();
+      CompletionStage<Object> result =
+          validateOrgLocation(request, actorMessage.getRequestContext())
+              .thenApplyAsync(v -> saveUpdatedOrg(actorMessage, dbOrgDetails), executor);
+      pipeToSender(result, actorMessage);
+    } catch (ProjectCommonException e) {
+      sender().tell(e, self());
+      return;
+    }
+  }
 
-      String passedExternalId = (String) request.get(JsonKey.EXTERNAL_ID);
-      if (StringUtils.isNotBlank(passedExternalId)) {
-        passedExternalId = passedExternalId.toLowerCase();
-        String channel = (String) request.get(JsonKey.CHANNEL);
-        if (StringUtils.isBlank(channel)) {
-          channel = (String) dbOrgDetails.get(JsonKey.CHANNEL);
-        }
-        if (!validateChannelExternalIdUniqueness(
-            channel,
-            passedExternalId,
+  @SuppressWarnings("unchecked")
+  private Object saveUpdatedOrg(Request actorMessage, Map<String, Object> dbOrgDetails) {
+    Map<String, Object> targetObject = null;
+    List<Map<String, Object>> correlatedObject = new ArrayList<>();
+    String callerId = (String) actorMessage.getContext().get(JsonKey.CALLER_ID);
+    Map<String, Object> request = actorMessage.getRequest();
+    String orgId = (String) request.get(JsonKey.ORGANISATION_ID);
+    String existingExternalId = (String) dbOrgDetails.get(JsonKey.EXTERNAL_ID);
+    if (request.containsKey(JsonKey.CHANNEL)
+        && !validateChannelUniqueness(
+            (String) request.get(JsonKey.CHANNEL),
             (String) request.get(JsonKey.ORGANISATION_ID),
+            (Boolean) dbOrgDetails.get(JsonKey.IS_TENANT),
             actorMessage.getRequestContext())) {
-          ProjectCommonException.throwClientErrorException(
-              ResponseCode.errorDuplicateEntry,
-              MessageFormat.format(
-                  ResponseCode.errorDuplicateEntry.getErrorMessage(),
-                  passedExternalId,
-                  JsonKey.EXTERNAL_ID));
-        }
-        request.put(JsonKey.EXTERNAL_ID, passedExternalId);
-      } else {
-        request.remove(JsonKey.EXTERNAL_ID);
+      logger.info(actorMessage.getRequestContext(), "Channel validation failed");
+      ProjectCommonException.throwClientErrorException(ResponseCode.channelUniquenessInvalid);
+    }
+    // allow lower case values for source and externalId to the database
+    if (request.get(JsonKey.PROVIDER) != null) {
+      request.put(JsonKey.PROVIDER, ((String) request.get(JsonKey.PROVIDER)).toLowerCase());
+    } else {
+      String reqChannel = (String) request.get(JsonKey.CHANNEL);
+      String dbChannel = (String) dbOrgDetails.get(JsonKey.CHANNEL);
+      if (StringUtils.isNotBlank(reqChannel) && !reqChannel.equalsIgnoreCase(dbChannel)) {
+        request.put(JsonKey.PROVIDER, reqChannel.toLowerCase());
       }
-      Map<String, Object> updateOrgDao = new HashMap<>();
-      updateOrgDao.putAll(request);
-      updateOrgDao.remove(JsonKey.ROOT_ORG_ID);
-      updateOrgDao.remove(JsonKey.CONTACT_DETAILS);
-      if (JsonKey.BULK_ORG_UPLOAD.equalsIgnoreCase(callerId)) {
-        if (null == request.get(JsonKey.STATUS)) {
-          updateOrgDao.remove(JsonKey.STATUS);
-        }
-      } else {
+    }
+
+    String passedExternalId = (String) request.get(JsonKey.EXTERNAL_ID);
+    if (StringUtils.isNotBlank(passedExternalId)) {
+      passedExternalId = passedExternalId.toLowerCase();
+      String channel = (String) request.get(JsonKey.CHANNEL);
+      if (StringUtils.isBlank(channel)) {
+        channel = (String) dbOrgDetails.get(JsonKey.CHANNEL);
+      }
+      if (!validateChannelExternalIdUniqueness(
+          channel,
+          passedExternalId,
+          (String) request.get(JsonKey.ORGANISATION_ID),
+          actorMessage.getRequestContext())) {
+        ProjectCommonException.throwClientErrorException(
+            ResponseCode.errorDuplicateEntry,
+            MessageFormat.format(
+                ResponseCode.errorDuplicateEntry.getErrorMessage(),
+                passedExternalId,
+                JsonKey.EXTERNAL_ID));
+      }
+      request.put(JsonKey.EXTERNAL_ID, passedExternalId);
+    } else {
+      request.remove(JsonKey.EXTERNAL_ID);
+    }
+    Map<String, Object> updateOrgDao = new HashMap<>();
+    updateOrgDao.putAll(request);
+    updateOrgDao.remove(JsonKey.ROOT_ORG_ID);
+    updateOrgDao.remove(JsonKey.CONTACT_DETAILS);
+    if (JsonKey.BULK_ORG_UPLOAD.equalsIgnoreCase(callerId)) {
+      if (null == request.get(JsonKey.STATUS)) {
         updateOrgDao.remove(JsonKey.STATUS);
       }
+    } else {
+      updateOrgDao.remove(JsonKey.STATUS);
+    }
 
-      String updatedBy = (String) actorMessage.getContext().get(JsonKey.REQUESTED_BY);
-      if (!(StringUtils.isBlank(updatedBy))) {
-        updateOrgDao.put(JsonKey.UPDATED_BY, updatedBy);
-      }
-      updateOrgDao.put(JsonKey.UPDATED_DATE, ProjectUtil.getFormattedDate());
-      updateOrgDao.put(JsonKey.ID, dbOrgDetails.get(JsonKey.ID));
-
-      // if channel is available then make slug for channel.
-      // remove the slug key if coming from user input
-      updateOrgDao.remove(JsonKey.SLUG);
-      if (StringUtils.isNotBlank((String) updateOrgDao.get(JsonKey.CHANNEL))) {
-        String reqChannel = (String) updateOrgDao.get(JsonKey.CHANNEL);
-        String dbChannel = (String) dbOrgDetails.get(JsonKey.CHANNEL);
-        if (StringUtils.isNotBlank(dbChannel)
-            && StringUtils.isNotBlank(reqChannel)
-            && !dbChannel.equalsIgnoreCase(reqChannel)) {
-          String slug =
-              Slug.makeSlug((String) updateOrgDao.getOrDefault(JsonKey.CHANNEL, ""), true);
-          if (dbOrgDetails.containsKey(JsonKey.IS_TENANT)
-              && (boolean) dbOrgDetails.get(JsonKey.IS_TENANT)) {
-            String orgIdBySlug = getOrgIdFromSlug(slug, actorMessage.getRequestContext());
-            if (StringUtils.isBlank(orgIdBySlug)
-                || (StringUtils.isNotBlank(orgIdBySlug)
-                    && orgIdBySlug.equalsIgnoreCase((String) dbOrgDetails.get(JsonKey.ID)))) {
-              updateOrgDao.put(JsonKey.SLUG, slug);
-            } else {
-              sender()
-                  .tell(ProjectUtil.createClientException(ResponseCode.slugIsNotUnique), self());
-              return;
-            }
-          } else {
+    String updatedBy = (String) actorMessage.getContext().get(JsonKey.REQUESTED_BY);
+    if (!(StringUtils.isBlank(updatedBy))) {
+      updateOrgDao.put(JsonKey.UPDATED_BY, updatedBy);
+    }
+    updateOrgDao.put(JsonKey.UPDATED_DATE, ProjectUtil.getFormattedDate());
+    updateOrgDao.put(JsonKey.ID, dbOrgDetails.get(JsonKey.ID));
+
+    // if channel is available then make slug for channel.
+    // remove the slug key if coming from user input
+    updateOrgDao.remove(JsonKey.SLUG);
+    if (StringUtils.isNotBlank((String) updateOrgDao.get(JsonKey.CHANNEL))) {
+      String reqChannel = (String) updateOrgDao.get(JsonKey.CHANNEL);
+      String dbChannel = (String) dbOrgDetails.get(JsonKey.CHANNEL);
+      if (StringUtils.isNotBlank(dbChannel)
+          && StringUtils.isNotBlank(reqChannel)
+          && !dbChannel.equalsIgnoreCase(reqChannel)) {
+        String slug =
+            Slug.makeSlug((String) updateOrgDao.getOrDefault(JsonKey.CHANNEL, ""), true);
+        if (dbOrgDetails.containsKey(JsonKey.IS_TENANT)
+            && (boolean) dbOrgDetails.get(JsonKey.IS_TENANT)) {
+          String orgIdBySlug = getOrgIdFromSlug(slug, actorMessage.getRequestContext());
+          if (StringUtils.isBlank(orgIdBySlug)
+              || (StringUtils.isNotBlank(orgIdBySlug)
+                  && orgIdBySlug.equalsIgnoreCase((String) dbOrgDetails.get(JsonKey.ID)))) {
             updateOrgDao.put(JsonKey.SLUG, slug);
-            updateOrgDao.put(JsonKey.IS_SSO_ROOTORG_ENABLED, false);
+          } else {
+            return ProjectUtil.createClientException(ResponseCode.slugIsNotUnique);
           }
+        } else {
+          updateOrgDao.put(JsonKey.SLUG, slug);
+          updateOrgDao.put(JsonKey.IS_SSO_ROOTORG_ENABLED, false);
         }
       }
+    }
 
-      if (null != dbOrgDetails.get(JsonKey.IS_TENANT)
-          && (boolean) dbOrgDetails.get(JsonKey.IS_TENANT)) {
-        String channel = (String) dbOrgDetails.get(JsonKey.CHANNEL);
-        String updateOrgDaoChannel = (String) updateOrgDao.get(JsonKey.CHANNEL);
-        String license = (String) request.get(JsonKey.LICENSE);
-        if (null != updateOrgDaoChannel && null != channel && !(updateOrgDaoChannel.equals(channel))
-            || StringUtils.isNotBlank(license)) {
-          Map<String, Object> tempMap = new HashMap<>();
-          tempMap.put(JsonKey.CHANNEL, updateOrgDaoChannel);
-          tempMap.put(JsonKey.HASHTAGID, dbOrgDetails.get(JsonKey.ID));
-          tempMap.put(JsonKey.DESCRIPTION, dbOrgDetails.get(JsonKey.DESCRIPTION));
-          tempMap.put(JsonKey.LICENSE, license);
-          boolean bool = Util.updateChannel(tempMap, actorMessage.getRequestContext());
-          if (!bool) {
-            sender().tell(ProjectUtil.createServerError(ResponseCode.channelRegFailed), self());
-            return;
-          }
+    if (null != dbOrgDetails.get(JsonKey.IS_TENANT)
+        && (boolean) dbOrgDetails.get(JsonKey.IS_TENANT)) {
+      String channel = (String) dbOrgDetails.get(JsonKey.CHANNEL);
+      String updateOrgDaoChannel = (String) updateOrgDao.get(JsonKey.CHANNEL);
+      String license = (String) request.get(JsonKey.LICENSE);
+      if (null != updateOrgDaoChannel && null != channel && !(updateOrgDaoChannel.equals(channel))
+          || StringUtils.isNotBlank(license)) {
+        Map<String, Object> tempMap = new HashMap<>();
+        tempMap.put(JsonKey.CHANNEL, updateOrgDaoChannel);
+        tempMap.put(JsonKey.HASHTAGID, dbOrgDetails.get(JsonKey.ID));
+        tempMap.put(JsonKey.DESCRIPTION, dbOrgDetails.get(JsonKey.DESCRIPTION));
+        tempMap.put(JsonKey.LICENSE, license);
+        boolean bool = Util.updateChannel(tempMap, actorMessage.getRequestContext());
+        if (!bool) {
+          return ProjectUtil.createServerError(ResponseCode.channelRegFailed);
         }
       }
-      ObjectMapper mapper = new ObjectMapper();
-      // This will remove all extra unnecessary parameter from request
-      Organisation org = mapper.convertValue(updateOrgDao, Organisation.class);
-      updateOrgDao = mapper.convertValue(org, Map.class);
-      try {
-        if (CollectionUtils.isNotEmpty(org.getOrgLocation())) {
-          String orgLoc = mapper.writeValueAsString(org.getOrgLocation());
-          updateOrgDao.put(JsonKey.ORG_LOCATION, orgLoc);
-        }
-      } catch (JsonProcessingException e) {
-        ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
+    }
+    ObjectMapper mapper = new ObjectMapper();
+    // This will remove all extra unnecessary parameter from request
+    Organisation org = mapper.convertValue(updateOrgDao, Organisation.class);
+    updateOrgDao = mapper.convertValue(org, Map.class);
+    try {
+      if (CollectionUtils.isNotEmpty(org.getOrgLocation())) {
+        String orgLoc = mapper.writeValueAsString(org.getOrgLocation());
+        updateOrgDao.put(JsonKey.ORG_LOCATION, orgLoc);
       }
-      Response response =
-          cassandraOperation.updateRecord(
-              orgDbInfo.getKeySpace(),
-              orgDbInfo.getTableName(),
-              updateOrgDao,
-              actorMessage.getRequestContext());
-      response.getResult().put(JsonKey.ORGANISATION_ID, dbOrgDetails.get(JsonKey.ID));
-
-      if (StringUtils.isNotBlank(passedExternalId)) {
-        String channel =
-            StringUtils.isNotBlank((String) request.get(JsonKey.CHANNEL))
-                ? (String) request.get(JsonKey.CHANNEL)
-                : (String) dbOrgDetails.get(JsonKey.CHANNEL);
-        if (StringUtils.isBlank(existingExternalId)) {
+    } catch (JsonProcessingException e) {
+      ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
+    }
+    Response response =
+        OrgServiceImpl.getInstance().updateOrg(updateOrgDao, actorMessage.getRequestContext());
+    response.getResult().put(JsonKey.ORGANISATION_ID, dbOrgDetails.get(JsonKey.ID));
+
+    if (StringUtils.isNotBlank(passedExternalId)) {
+      String channel =
+          StringUtils.isNotBlank((String) request.get(JsonKey.CHANNEL))
+              ? (String) request.get(JsonKey.CHANNEL)
+              : (String) dbOrgDetails.get(JsonKey.CHANNEL);
+      if (StringUtils.isBlank(existingExternalId)) {
+        createOrgExternalIdRecord(
+            channel, passedExternalId, orgId, actorMessage.getRequestContext());
+      } else {
+        if (!existingExternalId.equalsIgnoreCase(passedExternalId)) {
+          deleteOrgExternalIdRecord(
+              channel, existingExternalId, actorMessage.getRequestContext());
           createOrgExternalIdRecord(
               channel, passedExternalId, orgId, actorMessage.getRequestContext());
-        } else {
-          if (!existingExternalId.equalsIgnoreCase(passedExternalId)) {
-            deleteOrgExternalIdRecord(
-                channel, existingExternalId, actorMessage.getRequestContext());
-            createOrgExternalIdRecord(
-                channel, passedExternalId, orgId, actorMessage.getRequestContext());
-          }
         }
       }
+    }
 
-      sender().tell(response, self());
-
-      String orgLocation = (String) updateOrgDao.get(JsonKey.ORG_LOCATION);
-      List orgLocationList = new ArrayList<>();
-      if (StringUtils.isNotBlank(orgLocation)) {
-        try {
-          orgLocationList = mapper.readValue(orgLocation, List.class);
-        } catch (Exception e) {
-          logger.info(
-              actorMessage.getRequestContext(),
-              "Exception occurred while converting orgLocation to List<Map<String,String>>.");
-        }
+    String orgLocation = (String) updateOrgDao.get(JsonKey.ORG_LOCATION);
+    List orgLocationList = new ArrayList<>();
+    if (StringUtils.isNotBlank(orgLocation)) {
+      try {
+        orgLocationList = mapper.readValue(orgLocation, List.class);
+      } catch (Exception e) {
+        logger.info(
+            actorMessage.getRequestContext(),
+            "Exception occurred while converting orgLocation to List<Map<String,String>>.");
       }
-      updateOrgDao.put(JsonKey.ORG_LOCATION, orgLocationList);
-
-      Request orgRequest = new Request();
-      orgRequest.setRequestContext(actorMessage.getRequestContext());
-      orgRequest.getRequest().put(JsonKey.ORGANISATION, updateOrgDao);
-      orgRequest.setOperation(ActorOperations.UPDATE_ORG_INFO_ELASTIC.getValue());
-      tellToAnother(orgRequest);
-      targetObject =
-          TelemetryUtil.generateTargetObject(
-              (String) dbOrgDetails.get(JsonKey.ID), JsonKey.ORGANISATION, JsonKey.UPDATE, null);
-      TelemetryUtil.telemetryProcessingCall(
-          updateOrgDao, targetObject, correlatedObject, actorMessage.getContext());
-    } catch (ProjectCommonException e) {
-      sender().tell(e, self());
-      return;
     }
+    updateOrgDao.put(JsonKey.ORG_LOCATION, orgLocationList);
+
+    Request orgRequest = new Request();
+    orgRequest.setRequestContext(actorMessage.getRequestContext());
+    orgRequest.getRequest().put(JsonKey.ORGANISATION, updateOrgDao);
+    orgRequest.setOperation(ActorOperations.UPDATE_ORG_INFO_ELASTIC.getValue());
+    tellToAnother(orgRequest);
+    targetObject =
+        TelemetryUtil.generateTargetObject(
+            (String) dbOrgDetails.get(JsonKey.ID), JsonKey.ORGANISATION, JsonKey.UPDATE, null);
+    TelemetryUtil.telemetryProcessingCall(
+        updateOrgDao, targetObject, correlatedObject, actorMessage.getContext());
+    return response;
   }
 
   /** Provides the details of the Organisation */
@@ -786,23 +809,24 @@ public class OrganisationManagementActor extends BaseActor {
     return new HashMap();
   }
 
-  private void validateOrgLocation(Map<String, Object> request, RequestContext context) {
-    List<String> locList = new ArrayList<>();
+  private CompletionStage<Void> validateOrgLocation(
+      Map<String, Object> request, RequestContext context) {
     List<Map<String, String>> orgLocationList =
         (List<Map<String, String>>) request.get(JsonKey.ORG_LOCATION);
+    if (CollectionUtils.isEmpty(orgLocationList)
+        && CollectionUtils.isEmpty((List<String>) request.get(JsonKey.LOCATION_CODE))) {
+      return CompletableFuture.completedFuture(null);
+    }
+    ActorRef searchActor = getActorRef(LocationActorOperation.SEARCH_LOCATION.getValue());
+    CompletionStage<List<String>> locList;
     if (CollectionUtils.isEmpty(orgLocationList)) {
       // Request is from org upload
-      if (CollectionUtils.isNotEmpty((List<String>) request.get(JsonKey.LOCATION_CODE))) {
-        locList =
-            validator.getValidatedLocationIds(
-                getActorRef(LocationActorOperation.SEARCH_LOCATION.getValue()),
-                (List<String>) request.get(JsonKey.LOCATION_CODE));
-        request.remove(JsonKey.LOCATION_CODE);
-      } else {
-        return;
-      }
+      locList =
+          validator.getValidatedLocationIdsAsync(
+              searchActor, (List<String>) request.get(JsonKey.LOCATION_CODE));
+      request.remove(JsonKey.LOCATION_CODE);
     } else {
-      List<String> finalLocList = locList;
+      List<String> finalLocList = new ArrayList<>();
       // If request orglocation is a list of map , which has location id, not location code
       orgLocationList
           .stream()
@@ -824,31 +848,33 @@ public class OrganisationManagementActor extends BaseActor {
                   }
                 });
         if (CollectionUtils.isNotEmpty(finalLocList)) {
-          locList =
-              validator.getValidatedLocationIds(
-                  getActorRef(LocationActorOperation.SEARCH_LOCATION.getValue()), finalLocList);
+          locList = validator.getValidatedLocationIdsAsync(searchActor, finalLocList);
+        } else {
+          locList = CompletableFuture.completedFuture(finalLocList);
         }
+      } else {
+        locList = CompletableFuture.completedFuture(finalLocList);
       }
     }
-    List<String> locationIdsList =
-        validator.getHierarchyLocationIds(
-            getActorRef(LocationActorOperation.SEARCH_LOCATION.getValue()), locList);
-    List<Map<String, String>> newOrgLocationList = new ArrayList<>();
-    List<Location> locationList =
-        locationClient.getLocationByIds(
-            getActorRef(LocationActorOperation.SEARCH_LOCATION.getValue()),
-            locationIdsList,
-            context);
-    locationList
-        .stream()
-        .forEach(
-            location -> {
-              Map<String, String> map = new HashMap<>();
-              map.put(JsonKey.ID, location.getId());
-              map.put(JsonKey.TYPE, location.getType());
-              newOrgLocationList.add(map);
+    return locList
+        .thenCompose(ids -> validator.getHierarchyLocationIdsAsync(searchActor, ids))
+        .thenCompose(
+            locationIdsList ->
+                locationClient.getLocationByIdsAsync(searchActor, locationIdsList, context))
+        .thenAccept(
+            locationList -> {
+              List<Map<String, String>> newOrgLocationList = new ArrayList<>();
+              locationList
+                  .stream()
+                  .forEach(
+                      location -> {
+                        Map<String, String> map = new HashMap<>();
+                        map.put(JsonKey.ID, location.getId());
+                        map.put(JsonKey.TYPE, location.getType());
+                        newOrgLocationList.add(map);
+                      });
+              request.put(JsonKey.ORG_LOCATION, newOrgLocationList);
             });
-    request.put(JsonKey.ORG_LOCATION, newOrgLocationList);
   }
 
   private Map<String, Object> getOrgById(String id, RequestContext context) {
@@ -921,8 +947,6 @@ public class OrganisationManagementActor extends BaseActor {
   }
 
   private Response updateCassandraOrgRecord(Map<String, Object> reqMap, RequestContext context) {
-    Util.DbInfo orgDbInfo = Util.dbInfoMap.get(JsonKey.ORG_DB);
-    return cassandraOperation.updateRecord(
-        orgDbInfo.getKeySpace(), orgDbInfo.getTableName(), reqMap, context);
+    return OrgServiceImpl.getInstance().updateOrg(reqMap, context);
   }
 }
@@ -1,13 +1,16 @@
 package org.sunbird.learner.actors.bulkupload;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actorutil.ActorCall;
 import org.sunbird.common.Constants;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.util.BulkUploadJsonKey;
@@ -92,6 +95,92 @@ public abstract class BaseBulkUploadBackgroundJobActor extends BaseBulkUploadAct
     bulkUploadDao.update(bulkUploadProcess, request.getRequestContext());
   }
 
+  /**
+   * Non blocking counterpart of {@link #handleBulkUploadBackground(Request, Function)}. The process
+   * is read and marked in progress on the calling thread, the stage returned by the function is
+   * then awaited without blocking and the process is marked completed on the executor. While it
+   * runs the process counts towards the bulk upload workers share of its tenant.
+   *
+   * @param request Request carrying the process id
+   * @param function Processes the bulk upload process
+   * @param executor Executor running the continuations, usually the dispatcher of the actor
+   * @return Stage completing once the process is marked completed
+   */
+  public CompletionStage<Void> handleBulkUploadBackgroundAsync(
+      Request request,
+      Function<BulkUploadProcess, CompletionStage<Void>> function,
+      Executor executor) {
+    String processId = (String) request.get(JsonKey.PROCESS_ID);
+    BulkUploadProcessDao bulkUploadDao = new BulkUploadProcessDaoImpl();
+    String logMessagePrefix =
+        MessageFormat.format(
+            "BaseBulkUploadBackGroundJobActor:handleBulkUploadBackgroundAsync:{0}: ", processId);
+
+    logger.info(request.getRequestContext(), logMessagePrefix + "called");
+
+    BulkUploadProcess bulkUploadProcess =
+        bulkUploadDao.read(processId, request.getRequestContext());
+    if (null == bulkUploadProcess) {
+      logger.info(request.getRequestContext(), logMessagePrefix + "Invalid process ID.");
+      return CompletableFuture.completedFuture(null);
+    }
+
+    CompletionStage<Void> processing = CompletableFuture.completedFuture(null);
+    int status = bulkUploadProcess.getStatus();
+    if (!(ProjectUtil.BulkProcessStatus.COMPLETED.getValue() == status)
+        || ProjectUtil.BulkProcessStatus.INTERRUPT.getValue() == status) {
+      BulkUploadWorkerPool workerPool = BulkUploadWorkerPool.getInstance();
+      workerPool.register(bulkUploadProcess.getOrganisationId());
+      try {
+        bulkUploadProcess.setStatus(ProjectUtil.BulkProcessStatus.IN_PROGRESS.getValue());
+        bulkUploadDao.update(bulkUploadProcess, request.getRequestContext());
+        processing = function.apply(bulkUploadProcess);
+      } catch (Exception e) {
+        processing = CompletableFuture.failedFuture(e);
+      }
+      processing =
+          processing.whenComplete(
+              (result, error) -> workerPool.unregister(bulkUploadProcess.getOrganisationId()));
+      processing =
+          processing.handleAsync(
+              (result, error) -> {
+                if (null != error) {
+                  Throwable cause = ActorCall.unwrap(error);
+                  bulkUploadProcess.setStatus(ProjectUtil.BulkProcessStatus.FAILED.getValue());
+                  bulkUploadProcess.setFailureResult(cause.getMessage());
+                  bulkUploadDao.update(bulkUploadProcess, null);
+                  logger.error(
+                      request.getRequestContext(),
+                      logMessagePrefix
+                          + "Exception occurred with error message = "
+                          + cause.getMessage(),
+                      cause);
+                }
+                return null;
+              },
+              executor);
+    }
+
+    return processing
+        .thenRunAsync(
+            () -> {
+              bulkUploadProcess.setStatus(ProjectUtil.BulkProcessStatus.COMPLETED.getValue());
+              bulkUploadDao.update(bulkUploadProcess, request.getRequestContext());
+            },
+            executor)
+        .whenComplete(
+            (result, error) -> {
+              if (null != error) {
+                logger.error(
+                    request.getRequestContext(),
+                    logMessagePrefix
+                        + "Exception occurred with error message = "
+                        + error.getMessage(),
+                    ActorCall.unwrap(error));
+              }
+            });
+  }
+
   public void processBulkUpload(
       BulkUploadProcess bulkUploadProcess, Function function, RequestContext context) {
     BulkUploadProcessTaskDao bulkUploadProcessTaskDao = new BulkUploadProcessTaskDaoImpl();
@@ -100,70 +189,323 @@ public abstract class BaseBulkUploadBackgroundJobActor extends BaseBulkUploadAct
             "BaseBulkUploadBackGroundJobActor:processBulkUpload:{0}: ", bulkUploadProcess.getId());
     Integer sequence = 0;
     Integer taskCount = bulkUploadProcess.getTaskCount();
-    List<Map<String, Object>> successList = new LinkedList<>();
-    List<Map<String, Object>> failureList = new LinkedList<>();
     while (sequence < taskCount) {
       Integer nextSequence = sequence + getBatchSize(JsonKey.CASSANDRA_WRITE_BATCH_SIZE);
-      Map<String, Object> queryMap = new HashMap<>();
-      queryMap.put(JsonKey.PROCESS_ID, bulkUploadProcess.getId());
-      Map<String, Object> sequenceRange = new HashMap<>();
-      sequenceRange.put(Constants.GT, sequence);
-      sequenceRange.put(Constants.LTE, nextSequence);
-      queryMap.put(BulkUploadJsonKey.SEQUENCE_ID, sequenceRange);
       List<BulkUploadProcessTask> tasks =
-          bulkUploadProcessTaskDao.readByPrimaryKeys(queryMap, context);
+          readTasks(
+              bulkUploadProcessTaskDao,
+              bulkUploadProcess,
+              sequence,
+              nextSequence,
+              logMessagePrefix,
+              context);
       if (tasks == null) {
-        logger.info(
-            context,
-            logMessagePrefix
-                + "No bulkUploadProcessTask found for process id: "
-                + bulkUploadProcess.getId()
-                + " and range "
-                + sequence
-                + ":"
-                + nextSequence);
         sequence = nextSequence;
         continue;
       }
       function.apply(tasks);
+      performBatchUpdate(tasks, context);
+      sequence = nextSequence;
+    }
+    setCompletionStatus(bulkUploadProcess, context);
+  }
 
-      try {
-        ObjectMapper mapper = new ObjectMapper();
-        for (BulkUploadProcessTask task : tasks) {
-
-          if (task.getStatus().equals(ProjectUtil.BulkProcessStatus.FAILED.getValue())) {
-            failureList.add(
-                mapper.readValue(
-                    task.getFailureResult(), new TypeReference<Map<String, Object>>() {}));
-          } else if (task.getStatus().equals(ProjectUtil.BulkProcessStatus.COMPLETED.getValue())) {
-            successList.add(
-                mapper.readValue(
-                    task.getSuccessResult(), new TypeReference<Map<String, Object>>() {}));
-          }
-        }
-
-      } catch (IOException e) {
-        logger.error(
+  /**
+   * Non blocking counterpart of {@link #processBulkUpload(BulkUploadProcess, Function,
+   * RequestContext)}. Batches are processed one after the other, the next batch is read once the
+   * stage returned by the function for the previous one completes. The function is expected to
+   * save each task as it finishes, see {@link #processTasksAsync}, so the batches are not saved
+   * again here. Only the current batch is kept in memory, the results stay in the tasks and are
+   * assembled from them by the status API.
+   *
+   * @param bulkUploadProcess Bulk upload process
+   * @param function Processes a batch of tasks
+   * @param context
+   * @param executor Executor running the continuations, usually the dispatcher of the actor
+   * @return Stage completing once the process results are saved
+   */
+  public CompletionStage<Void> processBulkUploadAsync(
+      BulkUploadProcess bulkUploadProcess,
+      Function<List<BulkUploadProcessTask>, CompletionStage<Void>> function,
+      RequestContext context,
+      Executor executor) {
+    String logMessagePrefix =
+        MessageFormat.format(
+            "BaseBulkUploadBackGroundJobActor:processBulkUploadAsync:{0}: ",
+            bulkUploadProcess.getId());
+    Progress progress = new Progress(bulkUploadProcess.getTaskCount());
+    return processBatchesAsync(
+            new BulkUploadProcessTaskDaoImpl(),
+            bulkUploadProcess,
+            0,
+            function,
+            progress,
+            logMessagePrefix,
             context,
-            logMessagePrefix + "Exception occurred with error message = " + e.getMessage(),
-            e);
+            executor)
+        .thenRun(() -> setCompletionStatus(bulkUploadProcess, context));
+  }
+
+  private CompletionStage<Void> processBatchesAsync(
+      BulkUploadProcessTaskDao bulkUploadProcessTaskDao,
+      BulkUploadProcess bulkUploadProcess,
+      int startSequence,
+      Function<List<BulkUploadProcessTask>, CompletionStage<Void>> function,
+      Progress progress,
+      String logMessagePrefix,
+      RequestContext context,
+      Executor executor) {
+    int taskCount = bulkUploadProcess.getTaskCount();
+    int sequence = startSequence;
+    while (sequence < taskCount) {
+      int nextSequence = sequence + getBatchSize(JsonKey.CASSANDRA_WRITE_BATCH_SIZE);
+      List<BulkUploadProcessTask> tasks =
+          readTasks(
+              bulkUploadProcessTaskDao,
+              bulkUploadProcess,
+              sequence,
+              nextSequence,
+              logMessagePrefix,
+              context);
+      if (tasks == null) {
+        sequence = nextSequence;
+        continue;
       }
-      performBatchUpdate(tasks, context);
-      sequence = nextSequence;
+      int pendingTasks =
+          (int)
+              tasks
+                  .stream()
+                  .filter(
+                      task ->
+                          task.getStatus() != null
+                              && task.getStatus()
+                                  != ProjectUtil.BulkProcessStatus.COMPLETED.getValue())
+                  .count();
+      return function
+          .apply(tasks)
+          .thenComposeAsync(
+              result -> {
+                progress.add(pendingTasks, countFinished(tasks));
+                logger.info(context, logMessagePrefix + progress);
+                return processBatchesAsync(
+                    bulkUploadProcessTaskDao,
+                    bulkUploadProcess,
+                    nextSequence,
+                    function,
+                    progress,
+                    logMessagePrefix,
+                    context,
+                    executor);
+              },
+              executor);
     }
-    setCompletionStatus(bulkUploadProcess, successList, failureList, context);
+    return CompletableFuture.completedFuture(null);
   }
 
-  private void setCompletionStatus(
+  /**
+   * Processes the tasks of a batch which are not completed yet, several at a time. The number of
+   * tasks processed at the same time is the share of the tenant of the process in the bulk upload
+   * workers of the node. Tasks sharing a uniqueness key (e.g. the email of a user) are processed
+   * one after the other by the same worker, so that the duplicate rows of a file are checked
+   * against each other instead of being written side by side. Each task is saved as soon as it
+   * finishes, so that a process resumed after a restart skips the tasks completed before it.
+   *
+   * @param tasks Tasks of the batch
+   * @param bulkUploadProcess Bulk upload process the tasks belong to
+   * @param uniquenessKeys Keys of a task which no other task of the process may share
+   * @param processTask Processes one task and sets its status
+   * @param context
+   * @param executor Executor running the continuations, usually the dispatcher of the actor
+   * @return Stage completing once all tasks are processed and saved
+   */
+  protected CompletionStage<Void> processTasksAsync(
+      List<BulkUploadProcessTask> tasks,
       BulkUploadProcess bulkUploadProcess,
-      List successList,
-      List failureList,
+      Function<BulkUploadProcessTask, Collection<String>> uniquenessKeys,
+      Function<BulkUploadProcessTask, CompletionStage<Void>> processTask,
+      RequestContext context,
+      Executor executor) {
+    List<BulkUploadProcessTask> pendingTasks = new ArrayList<>();
+    for (BulkUploadProcessTask task : tasks) {
+      if (task.getStatus() != null
+          && task.getStatus() != ProjectUtil.BulkProcessStatus.COMPLETED.getValue()) {
+        pendingTasks.add(task);
+      }
+    }
+    Queue<List<BulkUploadProcessTask>> pending =
+        new ConcurrentLinkedQueue<>(groupByKeys(pendingTasks, uniquenessKeys));
+    int workers =
+        Math.min(
+            BulkUploadWorkerPool.getInstance().getWorkers(bulkUploadProcess.getOrganisationId()),
+            pending.size());
+    BulkUploadProcessTaskDao bulkUploadProcessTaskDao = new BulkUploadProcessTaskDaoImpl();
+    CompletableFuture<?>[] workerStages = new CompletableFuture<?>[workers];
+    for (int i = 0; i < workers; i++) {
+      workerStages[i] =
+          processPendingTasks(pending, processTask, bulkUploadProcessTaskDao, context, executor)
+              .toCompletableFuture();
+    }
+    return CompletableFuture.allOf(workerStages);
+  }
+
+  /**
+   * Groups the tasks so that tasks sharing a key, directly or through other tasks, are in the same
+   * group. Groups are ordered by their first task and keep the order of the tasks.
+   *
+   * @param tasks Tasks to group
+   * @param keysOf Keys of a task
+   * @return Groups of tasks
+   */
+  static List<List<BulkUploadProcessTask>> groupByKeys(
+      List<BulkUploadProcessTask> tasks,
+      Function<BulkUploadProcessTask, Collection<String>> keysOf) {
+    int[] parent = new int[tasks.size()];
+    Map<String, Integer> firstTaskByKey = new HashMap<>();
+    for (int i = 0; i < tasks.size(); i++) {
+      parent[i] = i;
+      for (String key : keysOf.apply(tasks.get(i))) {
+        Integer firstTask = firstTaskByKey.putIfAbsent(key, i);
+        if (null != firstTask) {
+          parent[root(parent, i)] = root(parent, firstTask);
+        }
+      }
+    }
+    Map<Integer, List<BulkUploadProcessTask>> groups = new LinkedHashMap<>();
+    for (int i = 0; i < tasks.size(); i++) {
+      groups.computeIfAbsent(root(parent, i), group -> new ArrayList<>()).add(tasks.get(i));
+    }
+    return new ArrayList<>(groups.values());
+  }
+
+  private static int root(int[] parent, int index) {
+    while (parent[index] != index) {
+      parent[index] = parent[parent[index]];
+      index = parent[index];
+    }
+    return index;
+  }
+
+  private CompletionStage<Void> processPendingTasks(
+      Queue<List<BulkUploadProcessTask>> pending,
+      Function<BulkUploadProcessTask, CompletionStage<Void>> processTask,
+      BulkUploadProcessTaskDao bulkUploadProcessTaskDao,
+      RequestContext context,
+      Executor executor) {
+    List<BulkUploadProcessTask> group = pending.poll();
+    if (null == group) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return processGroup(group, 0, processTask, bulkUploadProcessTaskDao, context, executor)
+        .thenComposeAsync(
+            previous ->
+                processPendingTasks(
+                    pending, processTask, bulkUploadProcessTaskDao, context, executor),
+            executor);
+  }
+
+  private CompletionStage<Void> processGroup(
+      List<BulkUploadProcessTask> group,
+      int index,
+      Function<BulkUploadProcessTask, CompletionStage<Void>> processTask,
+      BulkUploadProcessTaskDao bulkUploadProcessTaskDao,
+      RequestContext context,
+      Executor executor) {
+    if (index == group.size()) {
+      return CompletableFuture.completedFuture(null);
+    }
+    BulkUploadProcessTask task = group.get(index);
+    CompletionStage<Void> processing;
+    try {
+      processing = processTask.apply(task);
+    } catch (Exception e) {
+      processing = CompletableFuture.failedFuture(e);
+    }
+    return processing
+        .handleAsync(
+            (result, error) -> {
+              if (null != error) {
+                logger.error(
+                    context,
+                    "BaseBulkUploadBackGroundJobActor:processGroup: failed to process task "
+                        + task.getSequenceId(),
+                    ActorCall.unwrap(error));
+              }
+              saveTask(task, bulkUploadProcessTaskDao, context);
+              return null;
+            },
+            executor)
+        .thenComposeAsync(
+            previous ->
+                processGroup(
+                    group, index + 1, processTask, bulkUploadProcessTaskDao, context, executor),
+            executor);
+  }
+
+  private void saveTask(
+      BulkUploadProcessTask task,
+      BulkUploadProcessTaskDao bulkUploadProcessTaskDao,
       RequestContext context) {
+    try {
+      bulkUploadProcessTaskDao.update(task, context);
+    } catch (Exception e) {
+      logger.error(
+          context,
+          "Cassandra Update failed for BulkUploadProcessTask-"
+              + task.getProcessId()
+              + task.getSequenceId(),
+          e);
+    }
+  }
+
+  private List<BulkUploadProcessTask> readTasks(
+      BulkUploadProcessTaskDao bulkUploadProcessTaskDao,
+      BulkUploadProcess bulkUploadProcess,
+      Integer sequence,
+      Integer nextSequence,
+      String logMessagePrefix,
+      RequestContext context) {
+    Map<String, Object> queryMap = new HashMap<>();
+    queryMap.put(JsonKey.PROCESS_ID, bulkUploadProcess.getId());
+    Map<String, Object> sequenceRange = new HashMap<>();
+    sequenceRange.put(Constants.GT, sequence);
+    sequenceRange.put(Constants.LTE, nextSequence);
+    queryMap.put(BulkUploadJsonKey.SEQUENCE_ID, sequenceRange);
+    List<BulkUploadProcessTask> tasks =
+        bulkUploadProcessTaskDao.readByPrimaryKeys(queryMap, context);
+    if (tasks == null) {
+      logger.info(
+          context,
+          logMessagePrefix
+              + "No bulkUploadProcessTask found for process id: "
+              + bulkUploadProcess.getId()
+              + " and range "
+              + sequence
+              + ":"
+              + nextSequence);
+    }
+    return tasks;
+  }
+
+  private int countFinished(List<BulkUploadProcessTask> tasks) {
+    int finished = 0;
+    for (BulkUploadProcessTask task : tasks) {
+      if (null != task.getStatus()
+          && (ProjectUtil.BulkProcessStatus.COMPLETED.getValue() == task.getStatus()
+              || ProjectUtil.BulkProcessStatus.FAILED.getValue() == task.getStatus())) {
+        finished++;
+      }
+    }
+    return finished;
+  }
+
+  /**
+   * Marks the process completed. The success and failure results are not copied into the process,
+   * they are read from its tasks when the status is requested.
+   */
+  private void setCompletionStatus(BulkUploadProcess bulkUploadProcess, RequestContext context) {
     String logMessagePrefix =
         MessageFormat.format(
             "BaseBulkUploadBackGroundJobActor:processBulkUpload:{0}: ", bulkUploadProcess.getId());
-    bulkUploadProcess.setSuccessResult(ProjectUtil.convertMapToJsonString(successList));
-    bulkUploadProcess.setFailureResult(ProjectUtil.convertMapToJsonString(failureList));
     bulkUploadProcess.setStatus(ProjectUtil.BulkProcessStatus.COMPLETED.getValue());
     logger.info(context, logMessagePrefix + "completed");
     BulkUploadProcessDao bulkUploadDao = new BulkUploadProcessDaoImpl();
@@ -191,4 +533,30 @@ public abstract class BaseBulkUploadBackgroundJobActor extends BaseBulkUploadAct
   }
 
   public abstract void preProcessResult(Map<String, Object> result);
+
+  /** Throughput of a run of a process, tasks completed by an earlier run are not counted in it. */
+  private static final class Progress {
+    private final long startTime = System.currentTimeMillis();
+    private final int taskCount;
+    private int processedInRun;
+    private int done;
+
+    private Progress(Integer taskCount) {
+      this.taskCount = null == taskCount ? 0 : taskCount;
+    }
+
+    private void add(int processed, int finished) {
+      processedInRun += processed;
+      done += finished;
+    }
+
+    @Override
+    public String toString() {
+      long elapsedMillis = Math.max(System.currentTimeMillis() - startTime, 1);
+      double rowsPerSecond = processedInRun * 1000.0 / elapsedMillis;
+      long eta = rowsPerSecond > 0 ? (long) (Math.max(taskCount - done, 0) / rowsPerSecond) : -1;
+      return String.format(
+          "processed %d/%d rows, %.2f rows/sec, eta %d sec", done, taskCount, rowsPerSecond, eta);
+    }
+  }
 }
@@ -8,9 +8,11 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.router.ActorConfig;
 import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.common.Constants;
 import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.factory.EsClientFactory;
@@ -27,6 +29,7 @@ import org.sunbird.common.models.util.datasecurity.DecryptionService;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.request.RequestContext;
 import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.common.util.ExecutorUtil;
 import org.sunbird.dto.SearchDTO;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.learner.actors.bulkupload.dao.BulkUploadProcessTaskDao;
@@ -47,6 +50,10 @@ public class BulkUploadManagementActor extends BaseBulkUploadActor {
 
   private BulkUploadProcessTaskDao bulkUploadProcessTaskDao = new BulkUploadProcessTaskDaoImpl();
   private ElasticSearchService esService = EsClientFactory.getInstance(JsonKey.REST);
+  private static final long PROGRESS_WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(5);
+  private static final int DEFAULT_STATUS_PAGE_SIZE = 1000;
+  private static final List<String> TASK_RESULT_FIELDS =
+      Arrays.asList(JsonKey.STATUS, JsonKey.SUCCESS_RESULT, JsonKey.FAILURE_RESULT);
 
   @Override
   public void onReceive(Request request) throws Throwable {
@@ -76,7 +83,8 @@ public class BulkUploadManagementActor extends BaseBulkUploadActor {
             JsonKey.STATUS,
             JsonKey.OBJECT_TYPE,
             JsonKey.SUCCESS_RESULT,
-            JsonKey.FAILURE_RESULT);
+            JsonKey.FAILURE_RESULT,
+            JsonKey.TASK_COUNT);
     Util.DbInfo bulkDb = Util.dbInfoMap.get(JsonKey.BULK_OP_DB);
     response =
         cassandraOperation.getRecordById(
@@ -91,11 +99,19 @@ public class BulkUploadManagementActor extends BaseBulkUploadActor {
     if (!resList.isEmpty()) {
       Map<String, Object> resMap = resList.get(0);
       String objectType = (String) resMap.get(JsonKey.OBJECT_TYPE);
+      Integer taskCount = (Integer) resMap.get(JsonKey.TASK_COUNT);
       if ((int) resMap.get(JsonKey.STATUS) == ProjectUtil.BulkProcessStatus.COMPLETED.getValue()) {
         resMap.put(JsonKey.PROCESS_ID, resMap.get(JsonKey.ID));
         updateResponseStatus(resMap);
-        ProjectUtil.removeUnwantedFields(resMap, JsonKey.ID);
-        if (!(JsonKey.LOCATION.equalsIgnoreCase(objectType))) {
+        // processes completed by earlier versions keep their results in the process itself
+        boolean resultsInTasks =
+            null != taskCount
+                && null == resMap.get(JsonKey.SUCCESS_RESULT)
+                && null == resMap.get(JsonKey.FAILURE_RESULT);
+        ProjectUtil.removeUnwantedFields(resMap, JsonKey.ID, JsonKey.TASK_COUNT);
+        if (JsonKey.LOCATION.equalsIgnoreCase(objectType) || resultsInTasks) {
+          putTaskResults(resMap, processId, taskCount, objectType, actorMessage);
+        } else {
           Object[] successMap = null;
           Object[] failureMap = null;
           try {
@@ -136,38 +152,24 @@ public class BulkUploadManagementActor extends BaseBulkUploadActor {
           } catch (IOException e) {
             logger.error(actorMessage.getRequestContext(), e.getMessage(), e);
           }
-        } else {
-          Map<String, Object> queryMap = new HashMap<>();
-          queryMap.put(JsonKey.PROCESS_ID, processId);
-          List<BulkUploadProcessTask> tasks =
-              bulkUploadProcessTaskDao.readByPrimaryKeys(
-                  queryMap, actorMessage.getRequestContext());
-
-          List<Map> successList = new ArrayList<>();
-          List<Map> failureList = new ArrayList<>();
-          tasks
-              .stream()
-              .forEach(
-                  x -> {
-                    if (x.getStatus() == BulkProcessStatus.COMPLETED.getValue()) {
-                      addTaskDataToList(successList, x.getSuccessResult());
-                    } else {
-                      addTaskDataToList(failureList, x.getFailureResult());
-                    }
-                  });
-          resMap.put(JsonKey.SUCCESS_RESULT, successList);
-          resMap.put(JsonKey.FAILURE_RESULT, failureList);
         }
         sender().tell(response, self());
       } else {
         resMap.put(JsonKey.PROCESS_ID, resMap.get(JsonKey.ID));
+        if ((int) resMap.get(JsonKey.STATUS)
+            == ProjectUtil.BulkProcessStatus.IN_PROGRESS.getValue()) {
+          resMap.put(
+              BulkUploadJsonKey.PROGRESS,
+              getProgress(processId, actorMessage.getRequestContext()));
+        }
         updateResponseStatus(resMap);
         ProjectUtil.removeUnwantedFields(
             resMap,
             JsonKey.ID,
             JsonKey.OBJECT_TYPE,
             JsonKey.SUCCESS_RESULT,
-            JsonKey.FAILURE_RESULT);
+            JsonKey.FAILURE_RESULT,
+            JsonKey.TASK_COUNT);
         sender().tell(response, self());
       }
     } else {
@@ -175,6 +177,56 @@ public class BulkUploadManagementActor extends BaseBulkUploadActor {
     }
   }
 
+  /**
+   * Works out the progress of a running process from the status of its tasks. The throughput is
+   * measured over the tasks finished in the last few minutes, so that it reflects the current run
+   * of a resumed process.
+   */
+  private Map<String, Object> getProgress(String processId, RequestContext context) {
+    Map<String, Object> queryMap = new HashMap<>();
+    queryMap.put(JsonKey.PROCESS_ID, processId);
+    List<BulkUploadProcessTask> tasks =
+        bulkUploadProcessTaskDao.readByPrimaryKeys(
+            queryMap, Arrays.asList(JsonKey.STATUS, JsonKey.LAST_UPDATED_ON), context);
+    if (null == tasks) {
+      tasks = new ArrayList<>();
+    }
+    long now = System.currentTimeMillis();
+    long windowStart = now - PROGRESS_WINDOW_MILLIS;
+    long earliestInWindow = now;
+    int success = 0;
+    int failure = 0;
+    int finishedInWindow = 0;
+    for (BulkUploadProcessTask task : tasks) {
+      if (null == task.getStatus()) {
+        continue;
+      }
+      if (task.getStatus() == BulkProcessStatus.COMPLETED.getValue()) {
+        success++;
+      } else if (task.getStatus() == BulkProcessStatus.FAILED.getValue()) {
+        failure++;
+      } else {
+        continue;
+      }
+      if (null != task.getLastUpdatedOn() && task.getLastUpdatedOn().getTime() >= windowStart) {
+        finishedInWindow++;
+        earliestInWindow = Math.min(earliestInWindow, task.getLastUpdatedOn().getTime());
+      }
+    }
+    int processed = success + failure;
+    double rowsPerSecond = finishedInWindow * 1000.0 / Math.max(now - earliestInWindow, 1000);
+    Map<String, Object> progress = new HashMap<>();
+    progress.put(BulkUploadJsonKey.TOTAL_COUNT, tasks.size());
+    progress.put(BulkUploadJsonKey.PROCESSED_COUNT, processed);
+    progress.put(BulkUploadJsonKey.SUCCESS_COUNT, success);
+    progress.put(BulkUploadJsonKey.FAILURE_COUNT, failure);
+    progress.put(BulkUploadJsonKey.ROWS_PER_SECOND, Math.round(rowsPerSecond * 100) / 100.0);
+    progress.put(
+        BulkUploadJsonKey.ETA,
+        rowsPerSecond > 0 ? (long) ((tasks.size() - processed) / rowsPerSecond) : -1);
+    return progress;
+  }
+
   private void updateResponseStatus(Map<String, Object> response) {
     String status = "";
     int progressStatus = (int) response.get(JsonKey.STATUS);
@@ -191,10 +243,92 @@ public class BulkUploadManagementActor extends BaseBulkUploadActor {
         MessageFormat.format(BulkUploadJsonKey.OPERATION_STATUS_MSG, status.toLowerCase()));
   }
 
-  private void addTaskDataToList(List<Map> list, String data) {
+  /**
+   * Assembles the success and failure results of one page of the rows of a process from its tasks.
+   * The page starts after the offset of the request and holds up to its limit of rows, the limit
+   * defaults to and is capped at the configured page size. Only the tasks of the page are read, one
+   * batch of sequence ids at a time, so the results of the whole process are never held at once.
+   */
+  private void putTaskResults(
+      Map<String, Object> resMap,
+      String processId,
+      Integer taskCount,
+      String objectType,
+      Request actorMessage) {
+    RequestContext context = actorMessage.getRequestContext();
+    int pageSize =
+        ExecutorUtil.getIntConfig(
+            JsonKey.SUNBIRD_BULK_UPLOAD_STATUS_PAGE_SIZE, DEFAULT_STATUS_PAGE_SIZE);
+    int offset = getPageParam(actorMessage, JsonKey.OFFSET, 0, 0);
+    int limit = Math.min(getPageParam(actorMessage, JsonKey.LIMIT, pageSize, 1), pageSize);
+    int end =
+        (int) Math.min((long) offset + limit, null == taskCount ? Integer.MAX_VALUE : taskCount);
+    List<Map> successList = new ArrayList<>();
+    List<Map> failureList = new ArrayList<>();
+    Map<String, Object> queryMap = new HashMap<>();
+    queryMap.put(JsonKey.PROCESS_ID, processId);
+    int batchSize = getBatchSize(JsonKey.CASSANDRA_WRITE_BATCH_SIZE);
+    for (int sequence = offset; sequence < end; sequence += batchSize) {
+      Map<String, Object> sequenceRange = new HashMap<>();
+      sequenceRange.put(Constants.GT, sequence);
+      sequenceRange.put(Constants.LTE, Math.min(sequence + batchSize, end));
+      queryMap.put(BulkUploadJsonKey.SEQUENCE_ID, sequenceRange);
+      addTaskResults(
+          bulkUploadProcessTaskDao.readByPrimaryKeys(queryMap, TASK_RESULT_FIELDS, context),
+          objectType,
+          successList,
+          failureList);
+    }
+    resMap.put(JsonKey.SUCCESS_RESULT, successList);
+    resMap.put(JsonKey.FAILURE_RESULT, failureList);
+    resMap.put(JsonKey.OFFSET, offset);
+    resMap.put(JsonKey.LIMIT, limit);
+    if (null != taskCount) {
+      resMap.put(JsonKey.COUNT, taskCount);
+    }
+  }
+
+  private static int getPageParam(
+      Request actorMessage, String param, int defaultValue, int minValue) {
+    Object value = actorMessage.getRequest().get(param);
+    if (null == value || StringUtils.isBlank(value.toString())) {
+      return defaultValue;
+    }
+    String text = value.toString().trim();
+    if (!StringUtils.isNumeric(text) || text.length() >= 10 || Integer.parseInt(text) < minValue) {
+      ProjectCommonException.throwClientErrorException(
+          ResponseCode.invalidParameterValue,
+          MessageFormat.format(ResponseCode.invalidParameterValue.getErrorMessage(), value, param));
+    }
+    return Integer.parseInt(text);
+  }
+
+  private void addTaskResults(
+      List<BulkUploadProcessTask> tasks,
+      String objectType,
+      List<Map> successList,
+      List<Map> failureList) {
+    if (null == tasks) {
+      return;
+    }
+    for (BulkUploadProcessTask task : tasks) {
+      if (null != task.getStatus() && task.getStatus() == BulkProcessStatus.COMPLETED.getValue()) {
+        addTaskDataToList(successList, task.getSuccessResult(), objectType);
+      } else if (null != task.getFailureResult()) {
+        addTaskDataToList(failureList, task.getFailureResult(), objectType);
+      }
+    }
+  }
+
+  private void addTaskDataToList(List<Map> list, String data, String objectType) {
     try {
       ObjectMapper mapper = new ObjectMapper();
-      list.add(mapper.readValue(data, Map.class));
+      Map<String, Object> result = mapper.readValue(data, Map.class);
+      if (JsonKey.USER.equalsIgnoreCase(objectType)) {
+        UserUtility.decryptUserData(result);
+        Util.addMaskEmailAndPhone(result);
+      }
+      list.add(result);
     } catch (IOException ex) {
       logger.error("Error while converting success list to map" + ex.getMessage(), ex);
     }
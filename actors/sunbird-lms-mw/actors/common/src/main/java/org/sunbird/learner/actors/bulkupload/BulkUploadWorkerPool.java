@@ -0,0 +1,70 @@
+package org.sunbird.learner.actors.bulkupload;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.util.ExecutorUtil;
+
+/**
+ * Shares the bulk upload workers of this node between tenants. Each tenant with a running process
+ * gets an equal share of the workers of the node, split between its own processes, and no process
+ * gets more than the configured workers per process. Shares are recomputed for every batch, so a
+ * tenant starting a process slows down the running ones of the other tenants from their next batch.
+ */
+final class BulkUploadWorkerPool {
+  private static final int DEFAULT_WORKERS_PER_PROCESS = 4;
+  private static final int DEFAULT_MAX_WORKERS = 16;
+  private static final String UNKNOWN_TENANT = "";
+  private static final BulkUploadWorkerPool instance =
+      new BulkUploadWorkerPool(
+          ExecutorUtil.getIntConfig(
+              JsonKey.SUNBIRD_BULK_UPLOAD_WORKERS_PER_PROCESS, DEFAULT_WORKERS_PER_PROCESS),
+          ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_BULK_UPLOAD_MAX_WORKERS, DEFAULT_MAX_WORKERS));
+
+  private final int workersPerProcess;
+  private final int maxWorkers;
+  private final Map<String, Integer> processesByTenant = new HashMap<>();
+
+  BulkUploadWorkerPool(int workersPerProcess, int maxWorkers) {
+    this.workersPerProcess = workersPerProcess;
+    this.maxWorkers = maxWorkers;
+  }
+
+  static BulkUploadWorkerPool getInstance() {
+    return instance;
+  }
+
+  /**
+   * Marks a process of the tenant as running.
+   *
+   * @param tenantId Root org id of the uploader
+   */
+  synchronized void register(String tenantId) {
+    processesByTenant.merge(StringUtils.defaultString(tenantId, UNKNOWN_TENANT), 1, Integer::sum);
+  }
+
+  /**
+   * Marks a process of the tenant as finished.
+   *
+   * @param tenantId Root org id of the uploader
+   */
+  synchronized void unregister(String tenantId) {
+    processesByTenant.computeIfPresent(
+        StringUtils.defaultString(tenantId, UNKNOWN_TENANT),
+        (tenant, count) -> count > 1 ? count - 1 : null);
+  }
+
+  /**
+   * @param tenantId Root org id of the uploader
+   * @return Number of rows a process of the tenant may process at the same time, at least 1
+   */
+  synchronized int getWorkers(String tenantId) {
+    int tenants = Math.max(processesByTenant.size(), 1);
+    int processes =
+        Math.max(
+            processesByTenant.getOrDefault(StringUtils.defaultString(tenantId, UNKNOWN_TENANT), 1),
+            1);
+    return Math.max(1, Math.min(workersPerProcess, maxWorkers / tenants / processes));
+  }
+}
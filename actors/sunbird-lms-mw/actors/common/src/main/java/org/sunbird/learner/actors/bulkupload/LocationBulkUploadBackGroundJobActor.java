@@ -39,6 +39,8 @@ public class LocationBulkUploadBackGroundJobActor extends BaseBulkUploadBackgrou
 
     switch (operation) {
       case "locationBulkUploadBackground":
+        // rows stay in file order, one at a time: a location may have its parent created by an
+        // earlier row of the same file
         handleBulkUploadBackground(
             request,
             (bulkUploadProcess) -> {
@@ -43,6 +43,8 @@ public class OrgBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJob
     String operation = request.getOperation();
     Util.initializeContext(request, TelemetryEnvKey.ORGANISATION);
     if (operation.equalsIgnoreCase("orgBulkUploadBackground")) {
+      // rows stay in file order, one at a time: an org may need the channel of a tenant created
+      // by an earlier row of the same file
       handleBulkUploadBackground(
           request,
           (baseBulkUpload) -> {
@@ -6,9 +6,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Timestamp;
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.router.ActorConfig;
+import org.sunbird.actorutil.ActorCall;
 import org.sunbird.actorutil.org.OrganisationClient;
 import org.sunbird.actorutil.org.impl.OrganisationClientImpl;
 import org.sunbird.actorutil.systemsettings.SystemSettingClient;
@@ -43,68 +48,123 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
     String operation = request.getOperation();
     Util.initializeContext(request, TelemetryEnvKey.USER);
     if (operation.equalsIgnoreCase("userBulkUploadBackground")) {
-      handleBulkUploadBackground(
+      Executor executor = getContext().dispatcher();
+      handleBulkUploadBackgroundAsync(
           request,
-          (baseBulkUpload) -> {
-            processBulkUpload(
-                (BulkUploadProcess) baseBulkUpload,
-                (tasks) -> {
-                  processTasks(
-                      (List<BulkUploadProcessTask>) tasks,
-                      ((BulkUploadProcess) baseBulkUpload),
-                      request.getRequestContext());
-                  return null;
-                },
-                request.getRequestContext());
-            return null;
-          });
+          bulkUploadProcess ->
+              processBulkUploadAsync(
+                  bulkUploadProcess,
+                  tasks ->
+                      processTasks(
+                          tasks, bulkUploadProcess, request.getRequestContext(), executor),
+                  request.getRequestContext(),
+                  executor),
+          executor);
     } else {
       onReceiveUnsupportedOperation("UserBulkUploadBackgroundJobActor");
     }
   }
 
-  private void processTasks(
+  private CompletionStage<Void> processTasks(
       List<BulkUploadProcessTask> bulkUploadProcessTasks,
       BulkUploadProcess bulkUploadProcess,
-      RequestContext context) {
-    for (BulkUploadProcessTask task : bulkUploadProcessTasks) {
-      try {
-        if (task.getStatus() != null
-            && task.getStatus() != ProjectUtil.BulkProcessStatus.COMPLETED.getValue()) {
-          processUser(
-              task,
-              bulkUploadProcess.getOrganisationId(),
-              bulkUploadProcess.getUploadedBy(),
-              context);
-          task.setLastUpdatedOn(new Timestamp(System.currentTimeMillis()));
-          task.setIterationId(task.getIterationId() + 1);
-        }
-      } catch (Exception ex) {
-        logger.error(context, "Error in processTasks", ex);
-        task.setStatus(ProjectUtil.BulkProcessStatus.FAILED.getValue());
-      }
+      RequestContext context,
+      Executor executor) {
+    // mandatory columns are the same for every row, fetch them once per batch
+    CompletionStage<String[]> mandatoryColumns =
+        systemSettingClient.getSystemSettingByFieldAndKeyAsync(
+            getActorRef(ActorOperations.GET_SYSTEM_SETTING.getValue()),
+            "userProfileConfig",
+            "csv.mandatoryColumns",
+            new TypeReference<String[]>() {},
+            context);
+    return processTasksAsync(
+        bulkUploadProcessTasks,
+        bulkUploadProcess,
+        task -> getUniquenessKeys(task, context),
+        task -> processTask(task, bulkUploadProcess, mandatoryColumns, context),
+        context,
+        executor);
+  }
+
+  /**
+   * Keys of the user of a row which must be unique: user id, user name, email, phone and external
+   * id of a provider. Rows sharing one of them are processed one after the other, so that the
+   * second row sees the user written by the first one.
+   */
+  @SuppressWarnings("unchecked")
+  private Collection<String> getUniquenessKeys(BulkUploadProcessTask task, RequestContext context) {
+    Map<String, Object> userMap;
+    try {
+      userMap = new ObjectMapper().readValue(task.getData(), Map.class);
+    } catch (Exception e) {
+      logger.info(
+          context,
+          "UserBulkUploadBackgroundJobActor:getUniquenessKeys: data of task "
+              + task.getSequenceId()
+              + " could not be read: "
+              + e.getMessage());
+      return Collections.emptyList();
+    }
+    List<String> keys = new ArrayList<>();
+    addUniquenessKey(keys, JsonKey.USER_ID, userMap.get(JsonKey.USER_ID));
+    addUniquenessKey(keys, JsonKey.USERNAME, userMap.get(JsonKey.USERNAME));
+    addUniquenessKey(keys, JsonKey.EMAIL, userMap.get(JsonKey.EMAIL));
+    addUniquenessKey(keys, JsonKey.PHONE, userMap.get(JsonKey.PHONE));
+    Object externalId = userMap.get(JsonKey.EXTERNAL_ID);
+    Object provider = userMap.get(JsonKey.EXTERNAL_ID_PROVIDER);
+    if (null != externalId && null != provider) {
+      addUniquenessKey(keys, JsonKey.EXTERNAL_ID, externalId + "@" + provider);
+    }
+    return keys;
+  }
+
+  private static void addUniquenessKey(List<String> keys, String name, Object value) {
+    if (null != value && StringUtils.isNotBlank(value.toString())) {
+      keys.add(name + ":" + value.toString().trim().toLowerCase());
     }
   }
 
+  private CompletionStage<Void> processTask(
+      BulkUploadProcessTask task,
+      BulkUploadProcess bulkUploadProcess,
+      CompletionStage<String[]> mandatoryColumns,
+      RequestContext context) {
+    return mandatoryColumns
+        .thenCompose(
+            columns ->
+                processUser(
+                    task,
+                    bulkUploadProcess.getOrganisationId(),
+                    bulkUploadProcess.getUploadedBy(),
+                    columns,
+                    context))
+        .handle(
+            (result, error) -> {
+              if (null != error) {
+                logger.error(
+                    context, "Error in process user" + task.getData(), ActorCall.unwrap(error));
+                task.setStatus(ProjectUtil.BulkProcessStatus.FAILED.getValue());
+              }
+              task.setLastUpdatedOn(new Timestamp(System.currentTimeMillis()));
+              task.setIterationId(task.getIterationId() + 1);
+              return null;
+            });
+  }
+
   @SuppressWarnings("unchecked")
-  private void processUser(
+  private CompletionStage<Void> processUser(
       BulkUploadProcessTask task,
       String organisationId,
       String uploadedBy,
+      String[] mandatoryColumnsObject,
       RequestContext context) {
     logger.info(context, "UserBulkUploadBackgroundJobActor: processUser called");
     String data = task.getData();
-    Organisation organisation = null;
+    Map<String, Object> userMap;
     try {
       ObjectMapper mapper = new ObjectMapper();
-      Map<String, Object> userMap = mapper.readValue(data, Map.class);
-      String[] mandatoryColumnsObject =
-          systemSettingClient.getSystemSettingByFieldAndKey(
-              getActorRef(ActorOperations.GET_SYSTEM_SETTING.getValue()),
-              "userProfileConfig",
-              "csv.mandatoryColumns",
-              new TypeReference<String[]>() {},
-              context);
+      userMap = mapper.readValue(data, Map.class);
       if (mandatoryColumnsObject != null) {
         validateMandatoryFields(userMap, task, mandatoryColumnsObject);
       }
@@ -132,15 +192,51 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
         logger.error(context, ex.getMessage(), ex);
         setTaskStatus(
             task, ProjectUtil.BulkProcessStatus.FAILED, ex.getMessage(), userMap, JsonKey.CREATE);
-        return;
+        return CompletableFuture.completedFuture(null);
       }
-      String orgId = (String) userMap.get(JsonKey.ORG_ID);
-      String orgExternalId = (String) userMap.get(JsonKey.ORG_EXTERNAL_ID);
-      HashMap<String, Object> uploaderMap = new HashMap<>();
-      uploaderMap.put(JsonKey.ORG_ID, organisationId);
-      Organisation uploaderOrg = getOrgDetails(uploaderMap, context);
-      if (StringUtils.isNotBlank(orgId) || StringUtils.isNotBlank(orgExternalId)) {
-        organisation = getOrgDetails(userMap, context);
+    } catch (Exception e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    String orgId = (String) userMap.get(JsonKey.ORG_ID);
+    String orgExternalId = (String) userMap.get(JsonKey.ORG_EXTERNAL_ID);
+    HashMap<String, Object> uploaderMap = new HashMap<>();
+    uploaderMap.put(JsonKey.ORG_ID, organisationId);
+    boolean orgRequested = StringUtils.isNotBlank(orgId) || StringUtils.isNotBlank(orgExternalId);
+    // uploader org and user org are independent lookups, run them together
+    CompletionStage<Organisation> uploaderOrgStage = getOrgDetails(uploaderMap, context);
+    CompletionStage<Organisation> orgStage =
+        orgRequested
+            ? getOrgDetails(userMap, context)
+            : CompletableFuture.completedFuture(null);
+    return uploaderOrgStage
+        .thenCombine(
+            orgStage,
+            (uploaderOrg, organisation) ->
+                upsertUser(
+                    task,
+                    userMap,
+                    organisationId,
+                    uploadedBy,
+                    orgRequested,
+                    organisation,
+                    uploaderOrg,
+                    context))
+        .thenCompose(upsert -> upsert);
+  }
+
+  private CompletionStage<Void> upsertUser(
+      BulkUploadProcessTask task,
+      Map<String, Object> userMap,
+      String organisationId,
+      String uploadedBy,
+      boolean orgRequested,
+      Organisation organisation,
+      Organisation uploaderOrg,
+      RequestContext context) {
+    String orgId = (String) userMap.get(JsonKey.ORG_ID);
+    String orgExternalId = (String) userMap.get(JsonKey.ORG_EXTERNAL_ID);
+    try {
+      if (orgRequested) {
         if (null == organisation) {
           setTaskStatus(
               task,
@@ -148,7 +244,7 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
               ResponseCode.invalidOrgId.getErrorMessage(),
               userMap,
               JsonKey.CREATE);
-          return;
+          return CompletableFuture.completedFuture(null);
         } else {
           if (StringUtils.isNotBlank(orgId)
               && StringUtils.isNotBlank(orgExternalId)
@@ -163,7 +259,7 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
                     orgExternalId);
             setTaskStatus(
                 task, ProjectUtil.BulkProcessStatus.FAILED, message, userMap, JsonKey.CREATE);
-            return;
+            return CompletableFuture.completedFuture(null);
 
           } else {
             if (StringUtils.isNotBlank(orgExternalId)) {
@@ -183,7 +279,7 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
             ResponseCode.errorConflictingRootOrgId.getErrorMessage(),
             userMap,
             JsonKey.CREATE);
-        return;
+        return CompletableFuture.completedFuture(null);
       }
 
       if (organisation != null
@@ -194,108 +290,136 @@ public class UserBulkUploadBackgroundJobActor extends BaseBulkUploadBackgroundJo
             ResponseCode.invalidOrgStatus.getErrorMessage(),
             userMap,
             JsonKey.CREATE);
-        return;
+        return CompletableFuture.completedFuture(null);
       }
-
-      String orgName = "";
-      if (null != organisation) {
-        orgName = organisation.getOrgName();
-      }
-
-      if (StringUtils.isNotEmpty((String) userMap.get(JsonKey.PHONE))) {
-        userMap.put(JsonKey.PHONE_VERIFIED, true);
-      }
-      if (StringUtils.isNotEmpty((String) userMap.get(JsonKey.EMAIL))) {
-        userMap.put(JsonKey.EMAIL_VERIFIED, true);
-      }
-      String userId = (String) userMap.get(JsonKey.USER_ID);
-      if (StringUtils.isEmpty(userId)) {
-        userMap.put(JsonKey.CREATED_BY, uploadedBy);
-        userMap.put(JsonKey.ROOT_ORG_ID, organisationId);
-        callCreateUser(userMap, task, orgName, context);
-      } else {
-        userMap.put(JsonKey.UPDATED_BY, uploadedBy);
-        callUpdateUser(userMap, task, orgName, context);
-      }
-    } catch (Exception e) {
-      logger.error(context, "Error in process user" + data, e);
-      task.setStatus(ProjectUtil.BulkProcessStatus.FAILED.getValue());
+    } catch (JsonProcessingException e) {
+      return CompletableFuture.failedFuture(e);
     }
-  }
 
-  @SuppressWarnings("unchecked")
-  private void callCreateUser(
-      Map<String, Object> user, BulkUploadProcessTask task, String orgName, RequestContext context)
-      throws JsonProcessingException {
-    logger.info(context, "UserBulkUploadBackgroundJobActor: callCreateUser called");
-    String userId;
-    try {
-      userId =
-          userClient.createUser(getActorRef(ActorOperations.CREATE_USER.getValue()), user, context);
-    } catch (Exception ex) {
-      logger.error(
-          context,
-          "UserBulkUploadBackgroundJobActor:callCreateUser: Exception occurred with error message = "
-              + ex.getMessage(),
-          ex);
-      setTaskStatus(
-          task, ProjectUtil.BulkProcessStatus.FAILED, ex.getMessage(), user, JsonKey.CREATE);
-      return;
+    String orgName = "";
+    if (null != organisation) {
+      orgName = organisation.getOrgName();
     }
 
+    if (StringUtils.isNotEmpty((String) userMap.get(JsonKey.PHONE))) {
+      userMap.put(JsonKey.PHONE_VERIFIED, true);
+    }
+    if (StringUtils.isNotEmpty((String) userMap.get(JsonKey.EMAIL))) {
+      userMap.put(JsonKey.EMAIL_VERIFIED, true);
+    }
+    String userId = (String) userMap.get(JsonKey.USER_ID);
     if (StringUtils.isEmpty(userId)) {
-      logger.info(context, "UserBulkUploadBackgroundJobActor:callCreateUser: User ID is null !");
-      setTaskStatus(
-          task,
-          ProjectUtil.BulkProcessStatus.FAILED,
-          ResponseCode.internalError.getErrorMessage(),
-          user,
-          JsonKey.CREATE);
+      userMap.put(JsonKey.CREATED_BY, uploadedBy);
+      userMap.put(JsonKey.ROOT_ORG_ID, organisationId);
+      return callCreateUser(userMap, task, orgName, context);
     } else {
-      user.put(JsonKey.ID, userId);
-      user.put(JsonKey.ORG_NAME, orgName);
-      setSuccessTaskStatus(task, ProjectUtil.BulkProcessStatus.COMPLETED, user, JsonKey.CREATE);
+      userMap.put(JsonKey.UPDATED_BY, uploadedBy);
+      return callUpdateUser(userMap, task, orgName, context);
     }
   }
 
   @SuppressWarnings("unchecked")
-  private void callUpdateUser(
-      Map<String, Object> user, BulkUploadProcessTask task, String orgName, RequestContext context)
-      throws JsonProcessingException {
+  private CompletionStage<Void> callCreateUser(
+      Map<String, Object> user,
+      BulkUploadProcessTask task,
+      String orgName,
+      RequestContext context) {
+    logger.info(context, "UserBulkUploadBackgroundJobActor: callCreateUser called");
+    return userClient
+        .createUserAsync(getActorRef(ActorOperations.CREATE_USER.getValue()), user, context)
+        .handle(
+            (userId, error) -> {
+              try {
+                if (null != error) {
+                  Throwable ex = ActorCall.unwrap(error);
+                  logger.error(
+                      context,
+                      "UserBulkUploadBackgroundJobActor:callCreateUser: Exception occurred with error message = "
+                          + ex.getMessage(),
+                      ex);
+                  setTaskStatus(
+                      task,
+                      ProjectUtil.BulkProcessStatus.FAILED,
+                      ex.getMessage(),
+                      user,
+                      JsonKey.CREATE);
+                } else if (StringUtils.isEmpty(userId)) {
+                  logger.info(
+                      context,
+                      "UserBulkUploadBackgroundJobActor:callCreateUser: User ID is null !");
+                  setTaskStatus(
+                      task,
+                      ProjectUtil.BulkProcessStatus.FAILED,
+                      ResponseCode.internalError.getErrorMessage(),
+                      user,
+                      JsonKey.CREATE);
+                } else {
+                  user.put(JsonKey.ID, userId);
+                  user.put(JsonKey.ORG_NAME, orgName);
+                  setSuccessTaskStatus(
+                      task, ProjectUtil.BulkProcessStatus.COMPLETED, user, JsonKey.CREATE);
+                }
+              } catch (JsonProcessingException e) {
+                throw new CompletionException(e);
+              }
+              return null;
+            });
+  }
+
+  @SuppressWarnings("unchecked")
+  private CompletionStage<Void> callUpdateUser(
+      Map<String, Object> user,
+      BulkUploadProcessTask task,
+      String orgName,
+      RequestContext context) {
     logger.info(context, "UserBulkUploadBackgroundJobActor: callUpdateUser called");
-    try {
-      user.put(JsonKey.ORG_NAME, orgName);
-      userClient.updateUser(getActorRef(ActorOperations.UPDATE_USER.getValue()), user, context);
-    } catch (Exception ex) {
-      logger.error(
-          context,
-          "UserBulkUploadBackgroundJobActor:callUpdateUser: Exception occurred with error message = "
-              + ex.getMessage(),
-          ex);
-      user.put(JsonKey.ERROR_MSG, ex.getMessage());
-      setTaskStatus(
-          task, ProjectUtil.BulkProcessStatus.FAILED, ex.getMessage(), user, JsonKey.UPDATE);
-    }
-    if (task.getStatus() != ProjectUtil.BulkProcessStatus.FAILED.getValue()) {
-      ObjectMapper mapper = new ObjectMapper();
-      task.setData(mapper.writeValueAsString(user));
-      setSuccessTaskStatus(task, ProjectUtil.BulkProcessStatus.COMPLETED, user, JsonKey.UPDATE);
-    }
+    user.put(JsonKey.ORG_NAME, orgName);
+    return userClient
+        .updateUserAsync(getActorRef(ActorOperations.UPDATE_USER.getValue()), user, context)
+        .handle(
+            (result, error) -> {
+              try {
+                if (null != error) {
+                  Throwable ex = ActorCall.unwrap(error);
+                  logger.error(
+                      context,
+                      "UserBulkUploadBackgroundJobActor:callUpdateUser: Exception occurred with error message = "
+                          + ex.getMessage(),
+                      ex);
+                  user.put(JsonKey.ERROR_MSG, ex.getMessage());
+                  setTaskStatus(
+                      task,
+                      ProjectUtil.BulkProcessStatus.FAILED,
+                      ex.getMessage(),
+                      user,
+                      JsonKey.UPDATE);
+                }
+                if (task.getStatus() != ProjectUtil.BulkProcessStatus.FAILED.getValue()) {
+                  ObjectMapper mapper = new ObjectMapper();
+                  task.setData(mapper.writeValueAsString(user));
+                  setSuccessTaskStatus(
+                      task, ProjectUtil.BulkProcessStatus.COMPLETED, user, JsonKey.UPDATE);
+                }
+              } catch (JsonProcessingException e) {
+                throw new CompletionException(e);
+              }
+              return null;
+            });
   }
 
-  private Organisation getOrgDetails(Map<String, Object> userMap, RequestContext context) {
+  private CompletionStage<Organisation> getOrgDetails(
+      Map<String, Object> userMap, RequestContext context) {
     if (StringUtils.isNotBlank((String) userMap.get(JsonKey.ORG_EXTERNAL_ID))) {
       Map<String, Object> filters = new HashMap<>();
       filters.put(
           JsonKey.EXTERNAL_ID, ((String) userMap.get(JsonKey.ORG_EXTERNAL_ID)).toLowerCase());
-      if (CollectionUtils.isNotEmpty(organisationClient.esSearchOrgByFilter(filters, context))) {
-        return organisationClient.esSearchOrgByFilter(filters, context).get(0);
-      }
-      return null;
+      return organisationClient
+          .esSearchOrgByFilterAsync(filters, context)
+          .thenApply(orgList -> CollectionUtils.isNotEmpty(orgList) ? orgList.get(0) : null);
     } else if (StringUtils.isNotBlank((String) userMap.get(JsonKey.ORG_ID))) {
-      return organisationClient.esGetOrgById((String) userMap.get(JsonKey.ORG_ID), context);
+      return organisationClient.esGetOrgByIdAsync((String) userMap.get(JsonKey.ORG_ID), context);
     }
-    return null;
+    return CompletableFuture.completedFuture(null);
   }
 
   @Override
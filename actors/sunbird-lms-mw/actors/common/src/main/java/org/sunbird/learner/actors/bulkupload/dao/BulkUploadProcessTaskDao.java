@@ -53,6 +53,17 @@ public interface BulkUploadProcessTaskDao {
   List<BulkUploadProcessTask> readByPrimaryKeys(
       Map<String, Object> compositeKey, RequestContext context);
 
+  /**
+   * Method to read only the given columns from database on basis of primary key.
+   *
+   * @param compositeKey Composite key.
+   * @param fields Columns to read.
+   * @param context
+   * @return List of records with only the given columns set.
+   */
+  List<BulkUploadProcessTask> readByPrimaryKeys(
+      Map<String, Object> compositeKey, List<String> fields, RequestContext context);
+
   /**
    * Method to perform the batch insert.
    *
@@ -73,6 +73,18 @@ public class BulkUploadProcessTaskDaoImpl implements BulkUploadProcessTaskDao {
   public List<BulkUploadProcessTask> readByPrimaryKeys(
       Map<String, Object> id, RequestContext context) {
     Response response = cassandraOperation.getRecordById(KEYSPACE_NAME, TABLE_NAME, id, context);
+    return toTasks(response);
+  }
+
+  @Override
+  public List<BulkUploadProcessTask> readByPrimaryKeys(
+      Map<String, Object> id, List<String> fields, RequestContext context) {
+    Response response =
+        cassandraOperation.getRecordById(KEYSPACE_NAME, TABLE_NAME, id, fields, context);
+    return toTasks(response);
+  }
+
+  private List<BulkUploadProcessTask> toTasks(Response response) {
     List<Map<String, Object>> list = (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
     if (CollectionUtils.isEmpty(list)) {
       return null;
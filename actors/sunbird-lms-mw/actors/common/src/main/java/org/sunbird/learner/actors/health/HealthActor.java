@@ -7,27 +7,42 @@ import java.util.List;
 import java.util.Map;
 import org.sunbird.actor.core.BaseActor;
 import org.sunbird.actor.router.ActorConfig;
-import org.sunbird.cassandra.CassandraOperation;
-import org.sunbird.common.ElasticSearchHelper;
-import org.sunbird.common.factory.EsClientFactory;
-import org.sunbird.common.inf.ElasticSearchService;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.ActorOperations;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.ProjectUtil;
 import org.sunbird.common.models.util.TelemetryEnvKey;
 import org.sunbird.common.request.Request;
-import org.sunbird.helper.ServiceFactory;
 import org.sunbird.learner.util.Util;
-import scala.concurrent.Future;
 
-/** @author Manzarul */
+/**
+ * Health check apis, cassandra and elastic search health is served from the last background probe
+ * of {@link HealthMonitor}.
+ *
+ * @author Manzarul
+ */
 @ActorConfig(
   tasks = {"healthCheck", "actor", "es", "cassandra"},
   asyncTasks = {},
   dispatcher = "health-check-dispatcher"
 )
 public class HealthActor extends BaseActor {
+  private HealthMonitor monitor;
+
+  public HealthActor() {}
+
+  HealthActor(HealthMonitor monitor) {
+    this.monitor = monitor;
+  }
+
+  @Override
+  public void preStart() throws Exception {
+    super.preStart();
+    // starts the background probes with the actor instead of on the first health check
+    if (null == monitor) {
+      monitor = HealthMonitor.getInstance();
+    }
+  }
 
   @Override
   public void onReceive(Request message) throws Throwable {
@@ -52,119 +67,54 @@ public class HealthActor extends BaseActor {
 
   /** */
   private void esHealthCheck() {
-    // check the elastic search
-    boolean isallHealthy = true;
-    Map<String, Object> finalResponseMap = new HashMap<>();
+    HealthMonitor.ComponentHealth esHealth = monitor.getEsHealth();
     List<Map<String, Object>> responseList = new ArrayList<>();
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.ACTOR_SERVICE, false, null));
-    try {
-      Future<Boolean> esResponseF = getEsConnection().healthCheck();
-      boolean esResponse = (boolean) ElasticSearchHelper.getResponseFromFuture(esResponseF);
-
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, esResponse, null));
-      isallHealthy = esResponse;
-    } catch (Exception e) {
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, true, e));
-      isallHealthy = false;
-      logger.error("Elastic search health Error == ", e);
-    }
-    finalResponseMap.put(JsonKey.CHECKS, responseList);
-    finalResponseMap.put(JsonKey.NAME, "ES health check api");
-    if (isallHealthy) {
-      finalResponseMap.put(JsonKey.Healthy, true);
-    } else {
-      finalResponseMap.put(JsonKey.Healthy, false);
-    }
-    Response response = new Response();
-    response.getResult().put(JsonKey.RESPONSE, finalResponseMap);
-    sender().tell(response, self());
+    responseList.add(esHealth.toCheckResponse(JsonKey.ES_SERVICE));
+    sendHealthResponse("ES health check api", responseList, esHealth.isHealthy());
   }
 
   /** */
   private void cassandraHealthCheck() {
-    Map<String, Object> finalResponseMap = new HashMap<>();
+    HealthMonitor.ComponentHealth cassandraHealth = monitor.getCassandraHealth();
     List<Map<String, Object>> responseList = new ArrayList<>();
-    boolean isallHealthy = false;
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.LEARNER_SERVICE, false, null));
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.ACTOR_SERVICE, false, null));
-    try {
-      Util.DbInfo orgTypeDbInfo = Util.dbInfoMap.get(JsonKey.ROLE);
-      getCassandraOperation()
-          .getAllRecords(orgTypeDbInfo.getKeySpace(), orgTypeDbInfo.getTableName(), null);
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.CASSANDRA_SERVICE, false, null));
-    } catch (Exception e) {
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.CASSANDRA_SERVICE, true, e));
-      isallHealthy = false;
-    }
-    finalResponseMap.put(JsonKey.CHECKS, responseList);
-    finalResponseMap.put(JsonKey.NAME, "cassandra health check api");
-    if (isallHealthy) {
-      finalResponseMap.put(JsonKey.Healthy, true);
-    } else {
-      finalResponseMap.put(JsonKey.Healthy, false);
-    }
-    Response response = new Response();
-    response.getResult().put(JsonKey.RESPONSE, finalResponseMap);
-    sender().tell(response, self());
+    responseList.add(cassandraHealth.toCheckResponse(JsonKey.CASSANDRA_SERVICE));
+    sendHealthResponse("cassandra health check api", responseList, cassandraHealth.isHealthy());
   }
 
   /** */
   private void actorhealthCheck() {
-    Map<String, Object> finalResponseMap = new HashMap<>();
     List<Map<String, Object>> responseList = new ArrayList<>();
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.LEARNER_SERVICE, false, null));
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.ACTOR_SERVICE, false, null));
-    finalResponseMap.put(JsonKey.CHECKS, responseList);
-    finalResponseMap.put(JsonKey.NAME, "Actor health check api");
-    finalResponseMap.put(JsonKey.Healthy, true);
-    Response response = new Response();
-    response.getResult().put(JsonKey.RESPONSE, finalResponseMap);
-    sender().tell(response, self());
+    sendHealthResponse("Actor health check api", responseList, true);
   }
 
   /** */
   private void checkAllComponentHealth() {
-    boolean isallHealthy = true;
-    Map<String, Object> finalResponseMap = new HashMap<>();
+    HealthMonitor.ComponentHealth cassandraHealth = monitor.getCassandraHealth();
+    HealthMonitor.ComponentHealth esHealth = monitor.getEsHealth();
     List<Map<String, Object>> responseList = new ArrayList<>();
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.LEARNER_SERVICE, false, null));
     responseList.add(ProjectUtil.createCheckResponse(JsonKey.ACTOR_SERVICE, false, null));
-    try {
-      Util.DbInfo orgTypeDbInfo = Util.dbInfoMap.get(JsonKey.ROLE);
-      getCassandraOperation()
-          .getAllRecords(orgTypeDbInfo.getKeySpace(), orgTypeDbInfo.getTableName(), null);
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.CASSANDRA_SERVICE, false, null));
-    } catch (Exception e) {
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.CASSANDRA_SERVICE, true, e));
-      isallHealthy = false;
-    }
-    // check the elastic search
-    try {
-      Future<Boolean> responseF = getEsConnection().healthCheck();
-      boolean response = (boolean) ElasticSearchHelper.getResponseFromFuture(responseF);
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, !response, null));
-      isallHealthy = response;
-    } catch (Exception e) {
-      responseList.add(ProjectUtil.createCheckResponse(JsonKey.ES_SERVICE, true, e));
-      isallHealthy = false;
-    }
+    responseList.add(cassandraHealth.toCheckResponse(JsonKey.CASSANDRA_SERVICE));
+    responseList.add(esHealth.toCheckResponse(JsonKey.ES_SERVICE));
+    sendHealthResponse(
+        "Complete health check api",
+        responseList,
+        cassandraHealth.isHealthy() && esHealth.isHealthy());
+  }
+
+  private void sendHealthResponse(
+      String name, List<Map<String, Object>> responseList, boolean isallHealthy) {
+    Map<String, Object> finalResponseMap = new HashMap<>();
     finalResponseMap.put(JsonKey.CHECKS, responseList);
-    finalResponseMap.put(JsonKey.NAME, "Complete health check api");
-    if (isallHealthy) {
-      finalResponseMap.put(JsonKey.Healthy, true);
-    } else {
-      finalResponseMap.put(JsonKey.Healthy, false);
-    }
+    finalResponseMap.put(JsonKey.NAME, name);
+    finalResponseMap.put(JsonKey.Healthy, isallHealthy);
     Response response = new Response();
     response.getResult().put(JsonKey.RESPONSE, finalResponseMap);
     sender().tell(response, self());
   }
-
-  public CassandraOperation getCassandraOperation() {
-    return ServiceFactory.getInstance();
-  }
-
-  public ElasticSearchService getEsConnection() {
-    return EsClientFactory.getInstance(JsonKey.REST);
-  }
 }
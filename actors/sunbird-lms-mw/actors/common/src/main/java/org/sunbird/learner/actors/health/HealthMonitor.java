@@ -0,0 +1,212 @@
+package org.sunbird.learner.actors.health;
+
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.common.ElasticSearchFutures;
+import org.sunbird.common.factory.EsClientFactory;
+import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.models.util.ProjectUtil;
+import org.sunbird.common.util.ExecutorUtil;
+import org.sunbird.helper.ServiceFactory;
+
+/**
+ * Probes cassandra and elastic search on a background schedule and keeps the outcome of the last
+ * probe of each, so that health checks are answered from the snapshot without calling either
+ * store. Cassandra is probed with a query on its system table and elastic search with a check of
+ * the user index. Each probe runs on its own thread and is given up after the configured timeout.
+ * A component is reported unhealthy until its first probe completes and once its last probe is
+ * older than a few probe intervals.
+ */
+public final class HealthMonitor {
+  private static LoggerUtil logger = new LoggerUtil(HealthMonitor.class);
+  private static final int DEFAULT_INTERVAL_SECONDS = 10;
+  private static final int DEFAULT_TIMEOUT_SECONDS = 5;
+  private static final int MAX_AGE_INTERVALS = 3;
+  private static volatile HealthMonitor instance;
+
+  private final Supplier<CassandraOperation> cassandraOperation;
+  private final Supplier<ElasticSearchService> esService;
+  private final long timeoutSeconds;
+  private final long maxAgeMillis;
+  private final LongSupplier clock;
+  private final ExecutorService probeExecutor;
+  private volatile ComponentHealth cassandraHealth;
+  private volatile ComponentHealth esHealth;
+
+  HealthMonitor(
+      Supplier<CassandraOperation> cassandraOperation,
+      Supplier<ElasticSearchService> esService,
+      long timeoutSeconds,
+      long intervalSeconds,
+      LongSupplier clock) {
+    this.cassandraOperation = cassandraOperation;
+    this.esService = esService;
+    this.timeoutSeconds = timeoutSeconds;
+    // a probe round takes up to one timeout per component on top of the interval
+    this.maxAgeMillis =
+        TimeUnit.SECONDS.toMillis(MAX_AGE_INTERVALS * intervalSeconds + 2 * timeoutSeconds);
+    this.clock = clock;
+    // a probe still hanging after its timeout keeps the thread, the next ones are rejected
+    this.probeExecutor =
+        ExecutorUtil.newBoundedPool("health-monitor-probe", 1, 1, ExecutorUtil.Rejection.ABORT);
+  }
+
+  /**
+   * Returns the monitor, the first call schedules the probes in the background. Until the first
+   * probe completes both components are reported unhealthy.
+   *
+   * @return HealthMonitor
+   */
+  public static HealthMonitor getInstance() {
+    if (null == instance) {
+      synchronized (HealthMonitor.class) {
+        if (null == instance) {
+          int intervalSeconds =
+              ExecutorUtil.getIntConfig(
+                  JsonKey.SUNBIRD_HEALTH_CHECK_INTERVAL, DEFAULT_INTERVAL_SECONDS);
+          HealthMonitor monitor =
+              new HealthMonitor(
+                  ServiceFactory::getInstance,
+                  () -> EsClientFactory.getInstance(JsonKey.REST),
+                  ExecutorUtil.getIntConfig(
+                      JsonKey.SUNBIRD_HEALTH_CHECK_TIMEOUT, DEFAULT_TIMEOUT_SECONDS),
+                  intervalSeconds,
+                  System::currentTimeMillis);
+          monitor.start(intervalSeconds);
+          instance = monitor;
+        }
+      }
+    }
+    return instance;
+  }
+
+  private void start(long intervalSeconds) {
+    ScheduledExecutorService scheduler = ExecutorUtil.newDaemonScheduler("health-monitor");
+    scheduler.scheduleWithFixedDelay(this::probe, 0, intervalSeconds, TimeUnit.SECONDS);
+  }
+
+  /** Probes both stores and replaces the snapshot. */
+  void probe() {
+    cassandraHealth =
+        probe(
+            "cassandra",
+            () -> {
+              cassandraOperation.get().checkConnection(JsonKey.SUNBIRD, null);
+              return true;
+            });
+    esHealth =
+        probe(
+            "elastic search",
+            () ->
+                ElasticSearchFutures.toCompletionStage(esService.get().healthCheck())
+                    .toCompletableFuture()
+                    .get());
+  }
+
+  private ComponentHealth probe(String component, Callable<Boolean> check) {
+    long startTime = clock.getAsLong();
+    Future<Boolean> result = null;
+    try {
+      result = probeExecutor.submit(check);
+      boolean healthy = result.get(timeoutSeconds, TimeUnit.SECONDS);
+      return new ComponentHealth(healthy, null, startTime, clock.getAsLong() - startTime);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return new ComponentHealth(false, e, startTime, clock.getAsLong() - startTime);
+    } catch (Exception e) {
+      Throwable cause = e;
+      while ((cause instanceof ExecutionException || cause instanceof CompletionException)
+          && null != cause.getCause()) {
+        cause = cause.getCause();
+      }
+      logger.error("HealthMonitor:probe: " + component + " health check failed", cause);
+      Exception error = cause instanceof Exception ? (Exception) cause : e;
+      return new ComponentHealth(false, error, startTime, clock.getAsLong() - startTime);
+    } finally {
+      if (null != result) {
+        // interrupts a probe which timed out
+        result.cancel(true);
+      }
+    }
+  }
+
+  /** @return Outcome of the last cassandra probe */
+  public ComponentHealth getCassandraHealth() {
+    return current(cassandraHealth);
+  }
+
+  /** @return Outcome of the last elastic search probe */
+  public ComponentHealth getEsHealth() {
+    return current(esHealth);
+  }
+
+  private ComponentHealth current(ComponentHealth health) {
+    long now = clock.getAsLong();
+    if (null == health) {
+      return new ComponentHealth(
+          false, new IllegalStateException("health is not probed yet"), now, 0);
+    }
+    if (now - health.checkedOn > maxAgeMillis) {
+      return new ComponentHealth(
+          false,
+          new IllegalStateException("last health probe is older than " + maxAgeMillis + " ms"),
+          health.checkedOn,
+          health.latency);
+    }
+    return health;
+  }
+
+  /** Outcome of a probe of one component. */
+  public static final class ComponentHealth {
+    private final boolean healthy;
+    private final Exception error;
+    private final long checkedOn;
+    private final long latency;
+
+    private ComponentHealth(boolean healthy, Exception error, long checkedOn, long latency) {
+      this.healthy = healthy;
+      this.error = error;
+      this.checkedOn = checkedOn;
+      this.latency = latency;
+    }
+
+    public boolean isHealthy() {
+      return healthy;
+    }
+
+    /** @return Time of the probe in epoch millis */
+    public long getCheckedOn() {
+      return checkedOn;
+    }
+
+    /** @return Time taken by the probe in millis */
+    public long getLatency() {
+      return latency;
+    }
+
+    /**
+     * Creates the check entry of the health response for the component.
+     *
+     * @param serviceName Name of the component
+     * @return Map<String, Object>
+     */
+    public Map<String, Object> toCheckResponse(String serviceName) {
+      Map<String, Object> checkResponse =
+          ProjectUtil.createCheckResponse(serviceName, !healthy, error);
+      checkResponse.put(JsonKey.CHECKED_ON, checkedOn);
+      checkResponse.put(JsonKey.LATENCY, latency);
+      return checkResponse;
+    }
+  }
+}
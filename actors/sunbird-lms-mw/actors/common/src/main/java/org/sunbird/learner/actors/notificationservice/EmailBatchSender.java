@@ -0,0 +1,261 @@
+package org.sunbird.learner.actors.notificationservice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.models.util.ProjectUtil;
+import org.sunbird.common.models.util.mail.SendEmail;
+import org.sunbird.common.models.util.mail.SendgridConnection;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.common.util.ExecutorUtil;
+
+/**
+ * Sends a mail to its recipients in batches, one message per batch with the recipients blind
+ * copied. The batches are sent in parallel on the transports of the SMTP transport pool, as many at
+ * a time as there are transports. At most MAX_QUEUED_BATCHES batches wait for a transport, once the
+ * queue is full the batches left are dropped and the send fails, so that the caller never waits for
+ * a transport.
+ */
+final class EmailBatchSender {
+  private static LoggerUtil logger = new LoggerUtil(EmailBatchSender.class);
+  private static final int DEFAULT_POOL_SIZE = 4;
+  private static final int DEFAULT_BATCH_SIZE = 50;
+  private static final long DEFAULT_CONNECTION_RESET_INTERVAL = 60000L;
+  private static final long BORROW_TIMEOUT_MILLIS = 60000L;
+  private static final int MAX_QUEUED_BATCHES = 200;
+  private static final long STATS_LOG_INTERVAL = 100;
+  private static volatile EmailBatchSender instance;
+
+  private final Session session;
+  private final SmtpTransportPool transportPool;
+  private final SendEmail sendEmail = new SendEmail();
+  private final String fromEmail;
+  private final int batchSize;
+  private final Executor executor;
+  private final AtomicLong batches = new AtomicLong();
+  private final AtomicLong failedBatches = new AtomicLong();
+  private final AtomicLong recipients = new AtomicLong();
+  private final AtomicLong failedRecipients = new AtomicLong();
+  private final AtomicLong droppedBatches = new AtomicLong();
+  private final AtomicLong droppedRecipients = new AtomicLong();
+  private final AtomicLong batchTimeMillis = new AtomicLong();
+
+  /**
+   * @param session Mail session
+   * @param transportPool Transports the batches are sent on
+   * @param fromEmail Sender address
+   * @param batchSize Maximum number of recipients of a message
+   * @param executor Executor sending the batches
+   */
+  EmailBatchSender(
+      Session session,
+      SmtpTransportPool transportPool,
+      String fromEmail,
+      int batchSize,
+      Executor executor) {
+    this.session = session;
+    this.transportPool = transportPool;
+    this.fromEmail = fromEmail;
+    this.batchSize = batchSize;
+    this.executor = executor;
+  }
+
+  static EmailBatchSender getInstance() {
+    if (null == instance) {
+      synchronized (EmailBatchSender.class) {
+        if (null == instance) {
+          int poolSize =
+              ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_EMAIL_SMTP_POOL_SIZE, DEFAULT_POOL_SIZE);
+          int batchSize =
+              ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_EMAIL_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+          String resetInterval = ProjectUtil.getConfigValue("sendgrid_connection_reset_interval");
+          long maxAge =
+              StringUtils.isNumeric(resetInterval)
+                  ? Long.parseLong(resetInterval)
+                  : DEFAULT_CONNECTION_RESET_INTERVAL;
+          logger.info("EmailBatchSender: poolSize = " + poolSize + ", batchSize = " + batchSize);
+          SendgridConnection connection = new SendgridConnection();
+          Session session = connection.createSession();
+          instance =
+              new EmailBatchSender(
+                  session,
+                  new SmtpTransportPool(
+                      connection::connect, poolSize, maxAge, BORROW_TIMEOUT_MILLIS),
+                  System.getenv(JsonKey.EMAIL_SERVER_FROM),
+                  batchSize,
+                  ExecutorUtil.newBoundedPool(
+                      "email-batch-sender",
+                      poolSize,
+                      MAX_QUEUED_BATCHES,
+                      ExecutorUtil.Rejection.ABORT));
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * @param emails Recipient addresses
+   * @param subject Subject
+   * @param body Html body
+   * @param context Request context
+   * @return Completed with the number of failed batches once every batch is sent or failed
+   * @throws ProjectCommonException If the queue is full, the batches already queued are still sent
+   */
+  CompletableFuture<Integer> send(
+      List<String> emails, String subject, String body, RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    List<CompletableFuture<Void>> sends = new ArrayList<>();
+    AtomicInteger failed = new AtomicInteger();
+    for (int from = 0; from < emails.size(); from += batchSize) {
+      List<String> batch =
+          new ArrayList<>(emails.subList(from, Math.min(from + batchSize, emails.size())));
+      try {
+        sends.add(
+            CompletableFuture.runAsync(
+                () -> {
+                  if (!sendBatch(batch, subject, body, context)) {
+                    failed.incrementAndGet();
+                  }
+                },
+                executor));
+      } catch (RejectedExecutionException e) {
+        int dropped = emails.size() - from;
+        droppedBatches.addAndGet((dropped + batchSize - 1) / batchSize);
+        droppedRecipients.addAndGet(dropped);
+        logger.info(
+            context,
+            "EmailBatchSender:send: queue full, "
+                + dropped
+                + " of "
+                + emails.size()
+                + " recipients dropped, "
+                + getStats());
+        throw new ProjectCommonException(
+            ResponseCode.serviceUnAvailable.getErrorCode(),
+            ResponseCode.serviceUnAvailable.getErrorMessage(),
+            ResponseCode.SERVICE_UNAVAILABLE.getResponseCode());
+      }
+    }
+    return CompletableFuture.allOf(sends.toArray(new CompletableFuture[0]))
+        .thenApply(
+            done -> {
+              logger.info(
+                  context,
+                  "EmailBatchSender:send: "
+                      + emails.size()
+                      + " recipients in "
+                      + sends.size()
+                      + " batches, "
+                      + failed.get()
+                      + " failed, in "
+                      + (System.currentTimeMillis() - startTime)
+                      + " ms");
+              return failed.get();
+            });
+  }
+
+  private boolean sendBatch(
+      List<String> batch, String subject, String body, RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    boolean sent = false;
+    try {
+      SmtpTransportPool.PooledTransport pooled = transportPool.borrow();
+      try {
+        sent =
+            sendEmail.send(
+                fromEmail,
+                batch.toArray(new String[batch.size()]),
+                subject,
+                body,
+                session,
+                pooled.getTransport());
+      } finally {
+        transportPool.release(pooled);
+      }
+    } catch (MessagingException | RuntimeException e) {
+      logger.error(
+          context,
+          "EmailBatchSender:sendBatch: Exception occurred with message = " + e.getMessage(),
+          e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    long elapsed = System.currentTimeMillis() - startTime;
+    batchTimeMillis.addAndGet(elapsed);
+    recipients.addAndGet(batch.size());
+    if (!sent) {
+      failedBatches.incrementAndGet();
+      failedRecipients.addAndGet(batch.size());
+    }
+    logger.debug(
+        context,
+        "EmailBatchSender:sendBatch: "
+            + batch.size()
+            + " recipients "
+            + (sent ? "sent" : "failed")
+            + " in "
+            + elapsed
+            + " ms");
+    if (batches.incrementAndGet() % STATS_LOG_INTERVAL == 0) {
+      logger.info("EmailBatchSender: " + getStats());
+    }
+    return sent;
+  }
+
+  long getBatchCount() {
+    return batches.get();
+  }
+
+  long getFailedBatchCount() {
+    return failedBatches.get();
+  }
+
+  long getFailedRecipientCount() {
+    return failedRecipients.get();
+  }
+
+  long getDroppedBatchCount() {
+    return droppedBatches.get();
+  }
+
+  long getDroppedRecipientCount() {
+    return droppedRecipients.get();
+  }
+
+  /** @return Average time in millis taken to send a batch */
+  long getAverageBatchTime() {
+    long count = batches.get();
+    return count == 0 ? 0 : batchTimeMillis.get() / count;
+  }
+
+  String getStats() {
+    return "batches = "
+        + getBatchCount()
+        + ", failedBatches = "
+        + getFailedBatchCount()
+        + ", recipients = "
+        + recipients.get()
+        + ", failedRecipients = "
+        + getFailedRecipientCount()
+        + ", droppedBatches = "
+        + getDroppedBatchCount()
+        + ", droppedRecipients = "
+        + getDroppedRecipientCount()
+        + ", averageBatchTime = "
+        + getAverageBatchTime()
+        + " ms, transports: "
+        + transportPool.getStats();
+  }
+}
@@ -1,6 +1,5 @@
 package org.sunbird.learner.actors.notificationservice;
 
-import java.io.StringWriter;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -11,7 +10,6 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.StringUtils;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.Velocity;
 import org.sunbird.actor.background.BackgroundOperations;
 import org.sunbird.actor.core.BaseActor;
 import org.sunbird.actor.router.ActorConfig;
@@ -25,8 +23,6 @@ import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.ProjectUtil;
 import org.sunbird.common.models.util.ProjectUtil.EsType;
 import org.sunbird.common.models.util.datasecurity.DecryptionService;
-import org.sunbird.common.models.util.mail.SendEmail;
-import org.sunbird.common.models.util.mail.SendgridConnection;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.request.RequestContext;
 import org.sunbird.common.responsecode.ResponseCode;
@@ -50,17 +46,10 @@ public class EmailServiceActor extends BaseActor {
       org.sunbird.common.models.util.datasecurity.impl.ServiceFactory.getDecryptionServiceInstance(
           null);
   private ElasticSearchService esService = EsClientFactory.getInstance(JsonKey.REST);
-  private SendgridConnection connection = new SendgridConnection();
-  private String resetInterval = ProjectUtil.getConfigValue("sendgrid_connection_reset_interval");
-  private volatile long timer;
+  private static EmailTemplateCache templateCache = new EmailTemplateCache();
 
   @Override
   public void onReceive(Request request) throws Throwable {
-    if (null == connection.getTransport()) {
-      connection.createConnection();
-      // set timer value
-      timer = System.currentTimeMillis();
-    }
     if (request.getOperation().equalsIgnoreCase(BackgroundOperations.emailService.name())) {
       sendMail(request);
     } else {
@@ -156,41 +145,24 @@ public class EmailServiceActor extends BaseActor {
       List<String> emails,
       String template,
       RequestContext requestContext) {
+    EmailBatchSender sender;
+    String body;
     try {
-      SendEmail sendEmail = new SendEmail();
-      Velocity.init();
       VelocityContext context = ProjectUtil.getContext(request);
-      StringWriter writer = new StringWriter();
-      Velocity.evaluate(context, writer, "SimpleVelocity", template);
-      long interval = 60000L;
-      if (StringUtils.isNotBlank(resetInterval)) {
-        interval = Long.parseLong(resetInterval);
-      }
-      if (null == connection.getTransport()
-          || ((System.currentTimeMillis()) - timer >= interval)
-          || (!connection.getTransport().isConnected())) {
-        resetConnection();
-      }
-      sendEmail.send(
-          emails.toArray(new String[emails.size()]),
-          (String) request.get(JsonKey.SUBJECT),
-          context,
-          writer,
-          connection.getSession(),
-          connection.getTransport());
+      body =
+          templateCache.render(
+              (String) request.get(JsonKey.EMAIL_TEMPLATE_TYPE), template, context);
+      sender = EmailBatchSender.getInstance();
     } catch (Exception e) {
       logger.error(
           requestContext,
           "EmailServiceActor:sendMail: Exception occurred with message = " + e.getMessage(),
           e);
+      return;
     }
-  }
-
-  private void resetConnection() {
-    logger.info("SMTP Transport client connection is closed or timed out. Create new connection.");
-    connection.createConnection();
-    // set timer value
-    timer = System.currentTimeMillis();
+    // sent in the background, the outcome of each batch is logged and counted, the request fails
+    // if the batches do not fit in the queue of the sender
+    sender.send(emails, (String) request.get(JsonKey.SUBJECT), body, requestContext);
   }
 
   /**
@@ -0,0 +1,119 @@
+package org.sunbird.learner.actors.notificationservice;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.velocity.Template;
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.exception.ParseErrorException;
+import org.apache.velocity.exception.VelocityException;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.apache.velocity.runtime.parser.ParseException;
+import org.apache.velocity.runtime.parser.node.SimpleNode;
+import org.sunbird.common.models.util.LoggerUtil;
+
+/**
+ * Email templates parsed once and merged with the context of each mail. Templates are cached by
+ * name and parsed again when the template stored under the name changes. A template sent without a
+ * name is cached by its hash. The least recently used template is dropped once the cache is full.
+ */
+final class EmailTemplateCache {
+  private static LoggerUtil logger = new LoggerUtil(EmailTemplateCache.class);
+  private static final int MAX_TEMPLATES = 256;
+
+  private final RuntimeInstance runtime = new RuntimeInstance();
+  private final Map<String, CompiledTemplate> templates =
+      new LinkedHashMap<String, CompiledTemplate>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompiledTemplate> eldest) {
+          return size() > MAX_TEMPLATES;
+        }
+      };
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong compiles = new AtomicLong();
+
+  EmailTemplateCache() {
+    try {
+      runtime.init();
+    } catch (Exception e) {
+      logger.error("EmailTemplateCache: Exception occurred while initialising velocity", e);
+    }
+  }
+
+  /**
+   * @param templateName Template name
+   * @param template Template
+   * @param context Values of the template variables
+   * @return Merged template
+   */
+  String render(String templateName, String template, VelocityContext context) {
+    String key = null == templateName ? "hash:" + template.hashCode() : templateName;
+    CompiledTemplate compiled;
+    synchronized (templates) {
+      compiled = templates.get(key);
+    }
+    if (null != compiled
+        && compiled.hash == template.hashCode()
+        && compiled.source.equals(template)) {
+      hits.incrementAndGet();
+    } else {
+      compiled = compile(key, template);
+      synchronized (templates) {
+        templates.put(key, compiled);
+      }
+    }
+    StringWriter writer = new StringWriter();
+    try {
+      compiled.template.merge(context, writer);
+    } catch (IOException e) {
+      throw new VelocityException(
+          "Email template " + key + " could not be merged: " + e.getMessage());
+    }
+    return writer.toString();
+  }
+
+  private CompiledTemplate compile(String templateName, String source) {
+    try {
+      SimpleNode node = runtime.parse(new StringReader(source), templateName);
+      Template template = new Template();
+      template.setName(templateName);
+      template.setRuntimeServices(runtime);
+      template.setData(node);
+      template.initDocument();
+      compiles.incrementAndGet();
+      return new CompiledTemplate(source, template);
+    } catch (ParseException e) {
+      throw new ParseErrorException(
+          "Email template " + templateName + " could not be parsed: " + e.getMessage());
+    }
+  }
+
+  int size() {
+    synchronized (templates) {
+      return templates.size();
+    }
+  }
+
+  long getHitCount() {
+    return hits.get();
+  }
+
+  long getCompileCount() {
+    return compiles.get();
+  }
+
+  private static final class CompiledTemplate {
+    private final String source;
+    private final int hash;
+    private final Template template;
+
+    private CompiledTemplate(String source, Template template) {
+      this.source = source;
+      this.hash = source.hashCode();
+      this.template = template;
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package org.sunbird.learner.actors.notificationservice;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import org.sunbird.common.models.util.LoggerUtil;
+
+/**
+ * Bounded pool of connections to the SMTP server. A connection is checked before it is handed out,
+ * and replaced if the server dropped it or if it is older than the maximum age, so that a borrowed
+ * transport is connected. At most the pool size transports are in use at a time, further borrowers
+ * wait for one to be released.
+ */
+final class SmtpTransportPool {
+  private static LoggerUtil logger = new LoggerUtil(SmtpTransportPool.class);
+
+  /** Opens a new connection to the SMTP server. */
+  interface Connector {
+    Transport connect() throws MessagingException;
+  }
+
+  private final Connector connector;
+  private final long maxAgeMillis;
+  private final long borrowTimeoutMillis;
+  private final Semaphore permits;
+  private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+  private final AtomicLong connects = new AtomicLong();
+  private final AtomicLong connectFailures = new AtomicLong();
+  private final AtomicLong discarded = new AtomicLong();
+
+  /**
+   * @param connector Opens connections
+   * @param size Maximum number of transports in use at a time
+   * @param maxAgeMillis Time after which a connection is replaced
+   * @param borrowTimeoutMillis Maximum time to wait for a transport
+   */
+  SmtpTransportPool(Connector connector, int size, long maxAgeMillis, long borrowTimeoutMillis) {
+    this.connector = connector;
+    this.maxAgeMillis = maxAgeMillis;
+    this.borrowTimeoutMillis = borrowTimeoutMillis;
+    this.permits = new Semaphore(size, true);
+  }
+
+  /**
+   * @return Connected transport, to be given back with {@link #release(PooledTransport)}
+   * @throws MessagingException if no transport is released in time or the connection fails
+   * @throws InterruptedException if interrupted while waiting for a transport
+   */
+  PooledTransport borrow() throws MessagingException, InterruptedException {
+    if (!permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS)) {
+      throw new MessagingException(
+          "No SMTP transport released within " + borrowTimeoutMillis + " ms");
+    }
+    try {
+      PooledTransport pooled;
+      while (null != (pooled = idle.pollFirst())) {
+        if (isHealthy(pooled)) {
+          return pooled;
+        }
+        discard(pooled);
+      }
+      return connect();
+    } catch (MessagingException | RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  /** @param pooled Transport borrowed from this pool */
+  void release(PooledTransport pooled) {
+    idle.offerFirst(pooled);
+    permits.release();
+  }
+
+  private PooledTransport connect() throws MessagingException {
+    try {
+      PooledTransport pooled = new PooledTransport(connector.connect());
+      connects.incrementAndGet();
+      return pooled;
+    } catch (MessagingException | RuntimeException e) {
+      connectFailures.incrementAndGet();
+      throw e;
+    }
+  }
+
+  // SMTP transports check the connection with a NOOP command
+  private boolean isHealthy(PooledTransport pooled) {
+    if (System.currentTimeMillis() - pooled.connectedAt >= maxAgeMillis) {
+      return false;
+    }
+    try {
+      return pooled.transport.isConnected();
+    } catch (RuntimeException e) {
+      return false;
+    }
+  }
+
+  private void discard(PooledTransport pooled) {
+    discarded.incrementAndGet();
+    try {
+      pooled.transport.close();
+    } catch (MessagingException e) {
+      logger.info("SmtpTransportPool:discard: Error closing transport " + e.getMessage());
+    }
+  }
+
+  int idleCount() {
+    return idle.size();
+  }
+
+  long getConnectCount() {
+    return connects.get();
+  }
+
+  long getConnectFailureCount() {
+    return connectFailures.get();
+  }
+
+  long getDiscardedCount() {
+    return discarded.get();
+  }
+
+  String getStats() {
+    return "idle = "
+        + idleCount()
+        + ", connects = "
+        + getConnectCount()
+        + ", connectFailures = "
+        + getConnectFailureCount()
+        + ", discarded = "
+        + getDiscardedCount();
+  }
+
+  static final class PooledTransport {
+    private final Transport transport;
+    private final long connectedAt = System.currentTimeMillis();
+
+    private PooledTransport(Transport transport) {
+      this.transport = transport;
+    }
+
+    Transport getTransport() {
+      return transport;
+    }
+  }
+}
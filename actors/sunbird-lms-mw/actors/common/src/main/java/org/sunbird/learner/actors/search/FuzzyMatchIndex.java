@@ -0,0 +1,139 @@
+package org.sunbird.learner.actors.search;
+
+import com.intuit.fuzzymatcher.component.MatchService;
+import com.intuit.fuzzymatcher.domain.Document;
+import com.intuit.fuzzymatcher.domain.Element;
+import com.intuit.fuzzymatcher.domain.ElementType;
+import com.intuit.fuzzymatcher.domain.Match;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.sunbird.common.models.util.LoggerUtil;
+
+/**
+ * Candidates of a fuzzy search prepared once, to be matched against any number of name tokens with
+ * the same outcome as {@link FuzzyMatcher#matchDoc(String, Map)}. Each distinct word of the
+ * candidate values is encoded and turned into a match document once, however many candidates and
+ * tokens it is matched for. Words are grouped by their first letter, which the fuzzy matcher never
+ * matches across, so a token is only scored against the words starting with its own first letter.
+ * Not thread safe, an index is meant to serve a single search.
+ */
+final class FuzzyMatchIndex {
+  private static LoggerUtil logger = new LoggerUtil(FuzzyMatchIndex.class);
+  private static final String ENCODING = "UTF-8";
+  private static final String NAME_TO_BE_MATCHED_ID = "-1";
+
+  private final float threshold;
+  private final List<Set<String>> idsByWord = new ArrayList<>();
+  private final Map<String, List<Document>> documentsBySignature = new HashMap<>();
+  private final Map<String, List<String>> matchesByToken = new HashMap<>();
+
+  /**
+   * @param attributesValueMap Value to match of each candidate, by candidate id
+   * @param threshold Minimum score of a match
+   */
+  FuzzyMatchIndex(Map<String, String> attributesValueMap, float threshold) {
+    this.threshold = threshold;
+    Map<String, Set<String>> idsByEncodedWord = new LinkedHashMap<>();
+    attributesValueMap.forEach(
+        (id, value) -> {
+          if (null == value) {
+            return;
+          }
+          for (String attribute : value.split(" ")) {
+            String encodedWord = encode(attribute.trim());
+            if (null != encodedWord) {
+              idsByEncodedWord.computeIfAbsent(encodedWord, word -> new LinkedHashSet<>()).add(id);
+            }
+          }
+        });
+    idsByEncodedWord.forEach(
+        (encodedWord, ids) -> {
+          Document document =
+              new Document.Builder(String.valueOf(idsByWord.size()))
+                  .addElement(
+                      new Element.Builder()
+                          .setType(ElementType.TEXT)
+                          .setValue(encodedWord)
+                          .createElement())
+                  .createDocument();
+          idsByWord.add(ids);
+          documentsBySignature
+              .computeIfAbsent(signature(encodedWord), signature -> new ArrayList<>())
+              .add(document);
+        });
+    logger.info(
+        String.format(
+            "%s:%s:%s candidates indexed as %s distinct words",
+            "FuzzyMatchIndex", "FuzzyMatchIndex", attributesValueMap.size(), idsByWord.size()));
+  }
+
+  /**
+   * @param nameToBeMatched Name token
+   * @return Ids of the candidates having a word which matches the token
+   */
+  List<String> match(String nameToBeMatched) {
+    List<String> matchedIds = matchesByToken.get(nameToBeMatched);
+    if (null != matchedIds) {
+      return matchedIds;
+    }
+    Set<String> ids = new LinkedHashSet<>();
+    String encodedName = encode(nameToBeMatched);
+    List<Document> candidates =
+        null == encodedName ? null : documentsBySignature.get(signature(encodedName));
+    if (null != candidates) {
+      Document doc =
+          new Document.Builder(NAME_TO_BE_MATCHED_ID)
+              .addElement(
+                  new Element.Builder()
+                      .setType(ElementType.TEXT)
+                      .setValue(encodedName)
+                      .createElement())
+              .setThreshold(threshold)
+              .createDocument();
+      Map<Document, List<Match<Document>>> matches =
+          new MatchService().applyMatch(doc, candidates);
+      for (List<Match<Document>> matchList : matches.values()) {
+        for (Match<Document> match : matchList) {
+          ids.addAll(idsByWord.get(Integer.parseInt(match.getMatchedWith().getKey())));
+        }
+      }
+    }
+    matchedIds = Collections.unmodifiableList(new ArrayList<>(ids));
+    matchesByToken.put(nameToBeMatched, matchedIds);
+    return matchedIds;
+  }
+
+  /** @return Number of distinct words of the candidates */
+  int size() {
+    return idsByWord.size();
+  }
+
+  // the fuzzy matcher drops everything but letters and digits and ignores case before comparing
+  // words, or their soundex codes, so words it matches always start with the same letter
+  static String signature(String encodedWord) {
+    for (int i = 0; i < encodedWord.length(); i++) {
+      char c = encodedWord.charAt(i);
+      if (Character.isLetter(c)) {
+        return String.valueOf(Character.toLowerCase(c));
+      }
+    }
+    return "";
+  }
+
+  private static String encode(String value) {
+    try {
+      return URLEncoder.encode(value, ENCODING);
+    } catch (UnsupportedEncodingException e) {
+      logger.error("FuzzyMatchIndex:encode: Error occured during encoding of data ", e);
+      return null;
+    }
+  }
+}
@@ -96,7 +96,7 @@ public class FuzzyMatcher {
     return docList;
   }
 
-  private static float getFuzzyThreshold() {
+  static float getFuzzyThreshold() {
     String threshold =
         PropertiesCache.getInstance().readProperty(JsonKey.SUNBIRD_FUZZY_SEARCH_THRESHOLD);
     logger.info(
@@ -25,16 +25,17 @@ public class FuzzySearchManager {
 
   protected List<Map<String, Object>> startFuzzySearch() {
     HashSet<String> resultSet = new HashSet<>();
+    float threshold = FuzzyMatcher.getFuzzyThreshold();
     fuzzySearchMap
         .entrySet()
         .forEach(
             map -> {
               validateKeyInFuzzyMap(map.getKey());
+              FuzzyMatchIndex index =
+                  new FuzzyMatchIndex(getFuzzyAttributeFromMap(map.getKey()), threshold);
               String[] splittedName = map.getValue().toString().split(" ");
               for (int i = 0; i < splittedName.length; i++) {
-                resultSet.addAll(
-                    FuzzyMatcher.matchDoc(
-                        splittedName[i].trim(), getFuzzyAttributeFromMap(map.getKey())));
+                resultSet.addAll(index.match(splittedName[i].trim()));
               }
             });
     logger.info(
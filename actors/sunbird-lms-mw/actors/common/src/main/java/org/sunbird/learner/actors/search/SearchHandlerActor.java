@@ -1,9 +1,11 @@
 package org.sunbird.learner.actors.search;
 
-import akka.dispatch.Mapper;
-import akka.pattern.Patterns;
+import akka.dispatch.Futures;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
@@ -12,7 +14,7 @@ import org.sunbird.actor.core.BaseActor;
 import org.sunbird.actor.router.ActorConfig;
 import org.sunbird.actorutil.org.OrganisationClient;
 import org.sunbird.actorutil.org.impl.OrganisationClientImpl;
-import org.sunbird.common.ElasticSearchHelper;
+import org.sunbird.common.ElasticSearchFutures;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
@@ -29,7 +31,6 @@ import org.sunbird.learner.util.Util;
 import org.sunbird.models.organisation.OrgTypeEnum;
 import org.sunbird.models.organisation.Organisation;
 import org.sunbird.telemetry.util.TelemetryWriter;
-import scala.concurrent.Future;
 
 /**
  * This class will handle search operation for all different type of index and types
@@ -116,11 +117,37 @@ public class SearchHandlerActor extends BaseActor {
     extractOrFilter(searchQueryMap);
     SearchDTO searchDto = Util.createSearchDto(searchQueryMap);
     searchDto.setExcludedFields(Arrays.asList(ProjectUtil.excludes));
-    Future<Map<String, Object>> resultF =
-        esService.search(searchDto, filterObjectType, request.getRequestContext());
-    Map<String, Object> result =
-        (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
-    Response response = new Response();
+    Executor executor = getContext().dispatcher();
+    CompletionStage<Map<String, Object>> resultStage =
+        ElasticSearchFutures.toCompletionStage(
+                esService.search(searchDto, filterObjectType, request.getRequestContext()))
+            .thenApplyAsync(
+                result ->
+                    processUserSearchResult(request, searchQueryMap, filterObjectType, result),
+                executor)
+            .thenCompose(
+                result ->
+                    updateUserDetailsWithOrgName(request, filterObjectType, result, executor));
+    pipeToSender(
+        resultStage.thenApply(
+            result -> {
+              Response response = new Response();
+              response.put(JsonKey.RESPONSE, result);
+              return response;
+            }),
+        request);
+    resultStage.thenAcceptAsync(
+        result ->
+            generateSearchTelemetryEvent(searchDto, filterObjectType, result, request.getContext()),
+        executor);
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> processUserSearchResult(
+      Request request,
+      Map<String, Object> searchQueryMap,
+      String filterObjectType,
+      Map<String, Object> result) {
     // this fuzzy search Logic
     if (((List<Map<String, Object>>) result.get(JsonKey.CONTENT)).size() != 0
         && isFuzzySearchRequired(searchQueryMap)) {
@@ -182,12 +209,8 @@ public class SearchHandlerActor extends BaseActor {
           Util.getUserDefaultValue().keySet().stream().forEach(key -> userMap.remove(key));
         }
       }
-      String requestedFields = (String) request.getContext().get(JsonKey.FIELDS);
-      updateUserDetailsWithOrgName(requestedFields, userMapList, request.getRequestContext());
     }
-    response.put(JsonKey.RESPONSE, result);
-    sender().tell(response, self());
-    generateSearchTelemetryEvent(searchDto, filterObjectType, result, request.getContext());
+    return result;
   }
 
   private void handleOrgSearchAsyncRequest(
@@ -209,66 +232,65 @@ public class SearchHandlerActor extends BaseActor {
       }
     }
     SearchDTO searchDto = Util.createSearchDto(searchQueryMap);
-    Future<Map<String, Object>> futureResponse =
-        esService.search(searchDto, indexType, request.getRequestContext());
-    Future<Response> response =
-        futureResponse.map(
-            new Mapper<Map<String, Object>, Response>() {
-              @Override
-              public Response apply(Map<String, Object> responseMap) {
-                logger.info(
-                    request.getRequestContext(),
-                    "SearchHandlerActor:handleOrgSearchAsyncRequest org search call ");
-                Response response = new Response();
-                Map<String, Object> orgDefaultFieldValue = new HashMap<>(Util.getOrgDefaultValue());
-                getDefaultValues(orgDefaultFieldValue, fields);
-                List<Map<String, Object>> contents =
-                    (List<Map<String, Object>>) responseMap.get(JsonKey.CONTENT);
-                contents
-                    .stream()
-                    .forEach(
-                        org -> {
-                          if (request
-                              .getOperation()
-                              .equalsIgnoreCase(ActorOperations.ORG_SEARCH_V2.getValue())) {
-                            Util.getOrgDefaultValue()
-                                .keySet()
-                                .stream()
-                                .forEach(key -> org.remove(key));
-                            org.remove(JsonKey.LOCATION_IDS);
-                          } else {
-                            // Put all default value for backward compatibility
-                            org.putAll(orgDefaultFieldValue);
-                            org.put(JsonKey.IS_ROOT_ORG, org.get(JsonKey.IS_TENANT));
-                          }
-                          if ((CollectionUtils.isNotEmpty(fields)
-                                  && fields.contains(JsonKey.HASHTAGID))
-                              || (CollectionUtils.isEmpty(fields))) {
-                            org.put(JsonKey.HASHTAGID, org.get(JsonKey.ID));
-                          }
-                          if (null != org.get(JsonKey.ORGANISATION_TYPE)) {
-                            int orgType = (int) org.get(JsonKey.ORGANISATION_TYPE);
-                            boolean isSchool =
-                                (orgType
-                                        == OrgTypeEnum.getValueByType(OrgTypeEnum.SCHOOL.getType()))
-                                    ? true
-                                    : false;
-                            org.put(JsonKey.IS_SCHOOL, isSchool);
-                          }
-                        });
-                response.put(JsonKey.RESPONSE, responseMap);
-                return response;
+    CompletionStage<Response> response =
+        ElasticSearchFutures.toCompletionStage(
+                esService.search(searchDto, indexType, request.getRequestContext()))
+            .thenApplyAsync(
+                responseMap -> toOrgSearchResponse(request, fields, responseMap),
+                getContext().dispatcher());
+    pipeToSender(response, request);
+    response.thenAccept(
+        searchResponse -> {
+          Request telemetryReq = new Request();
+          telemetryReq.getRequest().put("context", request.getContext());
+          telemetryReq.getRequest().put("searchFResponse", Futures.successful(searchResponse));
+          telemetryReq.getRequest().put("indexType", indexType);
+          telemetryReq.getRequest().put("searchDto", searchDto);
+          telemetryReq.setOperation("generateSearchTelemetry");
+          tellToAnother(telemetryReq);
+        });
+  }
+
+  @SuppressWarnings("unchecked")
+  private Response toOrgSearchResponse(
+      Request request, List<String> fields, Map<String, Object> responseMap) {
+    logger.info(
+        request.getRequestContext(),
+        "SearchHandlerActor:handleOrgSearchAsyncRequest org search call ");
+    Response response = new Response();
+    Map<String, Object> orgDefaultFieldValue = new HashMap<>(Util.getOrgDefaultValue());
+    getDefaultValues(orgDefaultFieldValue, fields);
+    List<Map<String, Object>> contents =
+        (List<Map<String, Object>>) responseMap.get(JsonKey.CONTENT);
+    contents
+        .stream()
+        .forEach(
+            org -> {
+              if (request
+                  .getOperation()
+                  .equalsIgnoreCase(ActorOperations.ORG_SEARCH_V2.getValue())) {
+                Util.getOrgDefaultValue().keySet().stream().forEach(key -> org.remove(key));
+                org.remove(JsonKey.LOCATION_IDS);
+              } else {
+                // Put all default value for backward compatibility
+                org.putAll(orgDefaultFieldValue);
+                org.put(JsonKey.IS_ROOT_ORG, org.get(JsonKey.IS_TENANT));
               }
-            },
-            getContext().dispatcher());
-    Patterns.pipe(response, getContext().dispatcher()).to(sender());
-    Request telemetryReq = new Request();
-    telemetryReq.getRequest().put("context", request.getContext());
-    telemetryReq.getRequest().put("searchFResponse", response);
-    telemetryReq.getRequest().put("indexType", indexType);
-    telemetryReq.getRequest().put("searchDto", searchDto);
-    telemetryReq.setOperation("generateSearchTelemetry");
-    tellToAnother(telemetryReq);
+              if ((CollectionUtils.isNotEmpty(fields) && fields.contains(JsonKey.HASHTAGID))
+                  || (CollectionUtils.isEmpty(fields))) {
+                org.put(JsonKey.HASHTAGID, org.get(JsonKey.ID));
+              }
+              if (null != org.get(JsonKey.ORGANISATION_TYPE)) {
+                int orgType = (int) org.get(JsonKey.ORGANISATION_TYPE);
+                boolean isSchool =
+                    (orgType == OrgTypeEnum.getValueByType(OrgTypeEnum.SCHOOL.getType()))
+                        ? true
+                        : false;
+                org.put(JsonKey.IS_SCHOOL, isSchool);
+              }
+            });
+    response.put(JsonKey.RESPONSE, responseMap);
+    return response;
   }
 
   private void getDefaultValues(Map<String, Object> orgDefaultFieldValue, List<String> fields) {
@@ -283,76 +305,93 @@ public class SearchHandlerActor extends BaseActor {
     }
   }
 
+  private CompletionStage<Map<String, Object>> updateUserDetailsWithOrgName(
+      Request request, String filterObjectType, Map<String, Object> result, Executor executor) {
+    if (!EsType.user.getTypeName().equalsIgnoreCase(filterObjectType)) {
+      return CompletableFuture.completedFuture(result);
+    }
+    String requestedFields = (String) request.getContext().get(JsonKey.FIELDS);
+    List<Map<String, Object>> userMapList = (List<Map<String, Object>>) result.get(JsonKey.CONTENT);
+    return updateUserDetailsWithOrgName(
+            requestedFields, userMapList, request.getRequestContext(), executor)
+        .thenApply(done -> result);
+  }
+
   @SuppressWarnings("unchecked")
-  private void updateUserDetailsWithOrgName(
-      String requestedFields, List<Map<String, Object>> userMapList, RequestContext context) {
-    Map<String, Organisation> orgMap = null;
-    if (StringUtils.isNotBlank(requestedFields)) {
-      try {
-        List<String> fields = Arrays.asList(requestedFields.toLowerCase().split(","));
-        List<String> filteredRequestedFields = new ArrayList<>();
-        List<String> supportedFields = Arrays.asList(JsonKey.ID, JsonKey.ORG_NAME);
-        fields
-            .stream()
-            .forEach(
-                rField -> {
-                  for (String sField : supportedFields) {
-                    if (sField.equalsIgnoreCase(rField)) {
-                      filteredRequestedFields.add(sField);
-                      break;
-                    }
-                  }
-                });
-        if (filteredRequestedFields.isEmpty()) {
-          return;
-        }
-        if (!filteredRequestedFields.contains(JsonKey.ID)) {
-          filteredRequestedFields.add(JsonKey.ID);
-        }
-        orgMap = fetchOrgDetails(userMapList, filteredRequestedFields, context);
-        if (fields.contains(JsonKey.ORG_NAME.toLowerCase())) {
-          Map<String, Organisation> filteredOrg = new HashMap<>(orgMap);
-          userMapList
-              .stream()
-              .forEach(
-                  userMap -> {
-                    String rootOrgId = (String) userMap.get(JsonKey.ROOT_ORG_ID);
-                    if (StringUtils.isNotBlank(rootOrgId)) {
-                      Organisation org = filteredOrg.get(rootOrgId);
-                      if (null != org) {
-                        userMap.put(JsonKey.ROOT_ORG_NAME, org.getOrgName());
-                      }
-                    }
-                    List<Map<String, Object>> userOrgList =
-                        (List<Map<String, Object>>) userMap.get(JsonKey.ORGANISATIONS);
-                    if (CollectionUtils.isNotEmpty(userOrgList)) {
-                      userOrgList
-                          .stream()
-                          .forEach(
-                              userOrg -> {
-                                String userOrgId = (String) userOrg.get(JsonKey.ORGANISATION_ID);
-                                if (StringUtils.isNotBlank(userOrgId)) {
-                                  Organisation org = filteredOrg.get(userOrgId);
-                                  if (null != org) {
-                                    userOrg.put(JsonKey.ORG_NAME, org.getOrgName());
-                                  }
-                                }
-                              });
-                    }
-                  });
-        }
-      } catch (Exception ex) {
-        logger.error(
-            context,
-            "SearchHandlerActor:updateUserDetailsWithOrgName: Exception occurred with error message = "
-                + ex.getMessage(),
-            ex);
-      }
+  private CompletionStage<Void> updateUserDetailsWithOrgName(
+      String requestedFields,
+      List<Map<String, Object>> userMapList,
+      RequestContext context,
+      Executor executor) {
+    if (StringUtils.isBlank(requestedFields)) {
+      return CompletableFuture.completedFuture(null);
     }
+    List<String> fields = Arrays.asList(requestedFields.toLowerCase().split(","));
+    List<String> filteredRequestedFields = new ArrayList<>();
+    List<String> supportedFields = Arrays.asList(JsonKey.ID, JsonKey.ORG_NAME);
+    fields
+        .stream()
+        .forEach(
+            rField -> {
+              for (String sField : supportedFields) {
+                if (sField.equalsIgnoreCase(rField)) {
+                  filteredRequestedFields.add(sField);
+                  break;
+                }
+              }
+            });
+    if (filteredRequestedFields.isEmpty() || !fields.contains(JsonKey.ORG_NAME.toLowerCase())) {
+      return CompletableFuture.completedFuture(null);
+    }
+    if (!filteredRequestedFields.contains(JsonKey.ID)) {
+      filteredRequestedFields.add(JsonKey.ID);
+    }
+    return fetchOrgDetails(userMapList, filteredRequestedFields, context)
+        .thenAcceptAsync(
+            orgMap ->
+                userMapList
+                    .stream()
+                    .forEach(
+                        userMap -> {
+                          String rootOrgId = (String) userMap.get(JsonKey.ROOT_ORG_ID);
+                          if (StringUtils.isNotBlank(rootOrgId)) {
+                            Organisation org = orgMap.get(rootOrgId);
+                            if (null != org) {
+                              userMap.put(JsonKey.ROOT_ORG_NAME, org.getOrgName());
+                            }
+                          }
+                          List<Map<String, Object>> userOrgList =
+                              (List<Map<String, Object>>) userMap.get(JsonKey.ORGANISATIONS);
+                          if (CollectionUtils.isNotEmpty(userOrgList)) {
+                            userOrgList
+                                .stream()
+                                .forEach(
+                                    userOrg -> {
+                                      String userOrgId =
+                                          (String) userOrg.get(JsonKey.ORGANISATION_ID);
+                                      if (StringUtils.isNotBlank(userOrgId)) {
+                                        Organisation org = orgMap.get(userOrgId);
+                                        if (null != org) {
+                                          userOrg.put(JsonKey.ORG_NAME, org.getOrgName());
+                                        }
+                                      }
+                                    });
+                          }
+                        }),
+            executor)
+        .exceptionally(
+            ex -> {
+              logger.error(
+                  context,
+                  "SearchHandlerActor:updateUserDetailsWithOrgName: Exception occurred with error message = "
+                      + ex.getMessage(),
+                  ex);
+              return null;
+            });
   }
 
   @SuppressWarnings("unchecked")
-  private Map<String, Organisation> fetchOrgDetails(
+  private CompletionStage<Map<String, Organisation>> fetchOrgDetails(
       List<Map<String, Object>> userMapList,
       List<String> filteredRequestedFileds,
       RequestContext context) {
@@ -381,16 +420,19 @@ public class SearchHandlerActor extends BaseActor {
             });
 
     List<String> orgIds = new ArrayList<>(orgIdList);
-    List<Organisation> organisations =
-        orgClient.esSearchOrgByIds(orgIds, filteredRequestedFileds, context);
-    Map<String, Organisation> orgMap = new HashMap<>();
-    organisations
-        .stream()
-        .forEach(
-            org -> {
-              orgMap.put(org.getId(), org);
+    return orgClient
+        .esSearchOrgByIdsAsync(orgIds, filteredRequestedFileds, context)
+        .thenApply(
+            organisations -> {
+              Map<String, Organisation> orgMap = new HashMap<>();
+              organisations
+                  .stream()
+                  .forEach(
+                      org -> {
+                        orgMap.put(org.getId(), org);
+                      });
+              return orgMap;
             });
-    return orgMap;
   }
 
   private void generateSearchTelemetryEvent(
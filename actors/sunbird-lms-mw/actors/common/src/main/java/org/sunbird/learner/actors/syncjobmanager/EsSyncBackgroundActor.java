@@ -1,19 +1,22 @@
 package org.sunbird.learner.actors.syncjobmanager;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.text.MessageFormat;
+import com.google.common.collect.Iterators;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Stream;
 import org.apache.commons.collections.CollectionUtils;
-import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.core.BaseActor;
 import org.sunbird.actor.router.ActorConfig;
 import org.sunbird.cassandra.CassandraOperation;
-import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
@@ -27,9 +30,11 @@ import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.learner.util.Util;
 import org.sunbird.learner.util.Util.DbInfo;
-import scala.concurrent.Future;
 
-/** Background sync of data between Cassandra and Elastic Search. */
+/**
+ * Background sync of data between Cassandra and Elastic Search. Either the given object ids or,
+ * when syncAll is set, the whole table is synced through {@link EsSyncPipeline}.
+ */
 @ActorConfig(
   tasks = {},
   asyncTasks = {"backgroundSync"}
@@ -69,142 +74,131 @@ public class EsSyncBackgroundActor extends BaseActor {
           ResponseCode.invalidObjectType.getErrorMessage(),
           ResponseCode.CLIENT_ERROR.getResponseCode());
     }
-    Response finalResponse = new Response();
-    if (JsonKey.USER.equals(objectType)) {
-      handleUserSyncRequest(objectIds, finalResponse, message.getRequestContext());
+    CompletionStage<Response> syncResponse;
+    if (CollectionUtils.isNotEmpty(objectIds)) {
+      syncResponse = handleSyncByIds(objectIds, objectType, dbInfo, message.getRequestContext());
+    } else if (Boolean.TRUE.equals(dataMap.get(JsonKey.SYNC_ALL))) {
+      syncResponse = handleSyncAll(objectType, dbInfo, message.getRequestContext());
     } else {
-      handleOrgAndLocationSync(objectIds, objectType, finalResponse, message.getRequestContext());
+      syncResponse = CompletableFuture.completedFuture(new Response());
+    }
+    CompletionStage<Response> finalResponse =
+        syncResponse.thenApply(
+            response -> {
+              long stopTime = System.currentTimeMillis();
+              long elapsedTime = stopTime - startTime;
+              logger.info(
+                  message.getRequestContext(),
+                  "EsSyncBackgroundActor:sync: Total time taken to sync for type = "
+                      + objectType
+                      + " is "
+                      + elapsedTime
+                      + " ms");
+              response.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
+              return response;
+            });
+    if (StringUtils.isNotBlank(operationType) && JsonKey.SYNC.equalsIgnoreCase(operationType)) {
+      pipeToSender(finalResponse, message);
     }
-    long stopTime = System.currentTimeMillis();
-    long elapsedTime = stopTime - startTime;
+  }
 
+  /**
+   * Syncs the given ids. Users are read one by one while building their documents, organisations
+   * and locations are read from cassandra one page of ids at a time.
+   */
+  private CompletionStage<Response> handleSyncByIds(
+      List<Object> objectIds, String objectType, DbInfo dbInfo, RequestContext context) {
     logger.info(
-        message.getRequestContext(),
-        "EsSyncBackgroundActor:sync: Total time taken to sync for type = "
+        context,
+        "EsSyncBackgroundActor:handleSyncByIds: sync of type = "
             + objectType
-            + " is "
-            + elapsedTime
-            + " ms");
-    if (StringUtils.isNotBlank(operationType) && JsonKey.SYNC.equalsIgnoreCase(operationType)) {
-      finalResponse.put(JsonKey.RESPONSE, JsonKey.SUCCESS);
-      sender().tell(finalResponse, self());
+            + " for "
+            + objectIds.size()
+            + " ids started");
+    Iterator<List<Object>> idPages =
+        Iterators.partition(objectIds.iterator(), EsSyncPipeline.getPageSize());
+    Iterator<List<Map<String, Object>>> pages;
+    if (JsonKey.USER.equals(objectType)) {
+      pages = Iterators.transform(idPages, EsSyncBackgroundActor::toIdRecords);
+    } else {
+      pages = Iterators.transform(idPages, ids -> readRecords(dbInfo, ids, context));
     }
+    return createPipeline(objectType, context)
+        .runAsync(pages, true)
+        .thenApply(result -> toResponse(objectType, result));
   }
 
-  private void handleOrgAndLocationSync(
-      List<Object> objectIds,
-      String objectType,
-      Response finalResponse,
-      RequestContext requestContext) {
-    if (CollectionUtils.isNotEmpty(objectIds)) {
-      String requestLogMsg =
-          MessageFormat.format(
-              "type = {0} and IDs = {1}", objectType, Arrays.toString(objectIds.toArray()));
-      logger.info(
-          requestContext,
-          "EsSyncBackgroundActor:handleOrgAndLocationSync: Fetching data for "
-              + requestLogMsg
-              + " started");
-      Map<String, Object> responseMap = new HashMap<>();
-      Util.DbInfo dbInfo = getDbInfoObj(objectType);
-      Response response =
-          cassandraOperation.getRecordsByProperty(
-              dbInfo.getKeySpace(), dbInfo.getTableName(), JsonKey.ID, objectIds, requestContext);
-      List<Map<String, Object>> responseList =
-          (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
-      logger.info(
-          requestContext,
-          "EsSyncBackgroundActor:handleOrgAndLocationSync: Fetching data for "
-              + requestLogMsg
-              + " completed");
-      if (CollectionUtils.isNotEmpty(responseList)) {
-        for (Map<String, Object> map : responseList) {
-          String objectId = (String) map.get(JsonKey.ID);
-          try {
-            logger.info(
-                requestContext,
-                "EsSyncBackgroundActor:handleOrgAndLocationSync for objectType :"
-                    + objectType
-                    + " for id : "
-                    + map.get(JsonKey.ID));
-            String esResponse = "";
-            if (objectType.equals(JsonKey.ORGANISATION)) {
-              esResponse =
-                  saveDataToEs(
-                      getType(objectType),
-                      objectId,
-                      getOrgDetails(map, requestContext),
-                      requestContext);
-            } else if (objectType.equalsIgnoreCase(JsonKey.LOCATION)) {
-              esResponse = saveDataToEs(getType(objectType), objectId, map, requestContext);
-            }
-            if (StringUtils.isNotBlank(esResponse) && (esResponse).equalsIgnoreCase(objectId)) {
-              responseMap.put(
-                  objectId, ((objectId).equalsIgnoreCase((String) map.get(JsonKey.ID))));
-            }
-          } catch (Exception ex) {
-            logger.error(
-                requestContext,
-                "Exception occurred while making sync call for "
-                    + objectType
-                    + ", id : "
-                    + objectId,
-                ex);
-            responseMap.put(objectId, false);
-          }
-        }
-      } else {
-        logger.info(
-            requestContext,
-            "EsSyncBackgroundActor:handleOrgAndLocationSync invalid Ids " + objectIds);
-      }
-      finalResponse.getResult().put(JsonKey.ES_SYNC_RESPONSE, responseMap);
+  /** Syncs every record of the table, reading the table page by page. */
+  private CompletionStage<Response> handleSyncAll(
+      String objectType, DbInfo dbInfo, RequestContext context) {
+    logger.info(
+        context, "EsSyncBackgroundActor:handleSyncAll: full sync of type = " + objectType);
+    int pageSize = EsSyncPipeline.getPageSize();
+    List<String> fields =
+        JsonKey.USER.equals(objectType)
+            ? Collections.singletonList(JsonKey.ID)
+            : Collections.emptyList();
+    Stream<Map<String, Object>> records =
+        cassandraOperation.streamAllRecords(
+            dbInfo.getKeySpace(), dbInfo.getTableName(), fields, pageSize, context);
+    return createPipeline(objectType, context)
+        .runAsync(Iterators.partition(records.iterator(), pageSize), false)
+        .whenComplete((result, ex) -> records.close())
+        .thenApply(result -> toResponse(objectType, result));
+  }
+
+  private EsSyncPipeline createPipeline(String objectType, RequestContext context) {
+    Function<Map<String, Object>, Map<String, Object>> transformer;
+    if (JsonKey.USER.equals(objectType)) {
+      transformer = record -> Util.getUserDetails((String) record.get(JsonKey.ID), context);
+    } else if (JsonKey.ORGANISATION.equals(objectType)) {
+      transformer = record -> getOrgDetails(record, context);
+    } else {
+      transformer = Function.identity();
     }
+    return EsSyncPipeline.create(esService, getType(objectType), transformer, context);
   }
 
-  private void handleUserSyncRequest(
-      List<Object> objectIds, Response finalResponse, RequestContext context) {
-    if (CollectionUtils.isNotEmpty(objectIds)) {
-      Map<String, Object> esResponse = new HashMap<>();
-      for (Object userId : objectIds) {
-        try {
-          logger.info(
-              context,
-              "EsSyncBackgroundActor:handleUserSyncRequest: Trigger sync of user details to ES");
-          Map<String, Object> userDetails = Util.getUserDetails((String) userId, context);
-          if (MapUtils.isNotEmpty(userDetails)) {
-            logger.info(
-                context,
-                "EsSyncBackgroundActor:handleUserSyncRequest user rootOrgId :"
-                    + userDetails.get(JsonKey.ROOT_ORG_ID)
-                    + ", userId : "
-                    + userDetails.get(JsonKey.ID));
-            String response =
-                saveDataToEs(
-                    ProjectUtil.EsType.user.getTypeName(), (String) userId, userDetails, context);
-            if (StringUtils.isNotBlank(response) && ((String) userId).equalsIgnoreCase(response)) {
-              esResponse.put((String) userId, (((String) userId).equalsIgnoreCase(response)));
-            }
-          } else {
-            logger.info(
-                context, "EsSyncBackgroundActor:handleUserSyncRequest invalid userId " + userId);
-          }
-        } catch (Exception ex) {
-          logger.error(
-              context,
-              "Exception occurred while making sync call for user with id : " + userId,
-              ex);
-          finalResponse.put((String) userId, false);
-        }
-      }
-      finalResponse.getResult().put(JsonKey.ES_SYNC_RESPONSE, esResponse);
+  private List<Map<String, Object>> readRecords(
+      DbInfo dbInfo, List<Object> ids, RequestContext context) {
+    Response response =
+        cassandraOperation.getRecordsByProperty(
+            dbInfo.getKeySpace(), dbInfo.getTableName(), JsonKey.ID, ids, context);
+    List<Map<String, Object>> records = (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
+    if (CollectionUtils.isEmpty(records)) {
+      logger.info(context, "EsSyncBackgroundActor:readRecords invalid Ids " + ids);
+      return Collections.emptyList();
     }
+    return records;
   }
 
-  private String saveDataToEs(
-      String esType, String id, Map<String, Object> data, RequestContext context) {
-    Future<String> responseF = esService.save(esType, id, data, context);
-    return (String) ElasticSearchHelper.getResponseFromFuture(responseF);
+  private static List<Map<String, Object>> toIdRecords(List<Object> ids) {
+    List<Map<String, Object>> records = new ArrayList<>(ids.size());
+    for (Object id : ids) {
+      Map<String, Object> record = new HashMap<>();
+      record.put(JsonKey.ID, id);
+      records.add(record);
+    }
+    return records;
+  }
+
+  /**
+   * Builds the response the way it was reported before the pipeline, failed users are put next to
+   * esSyncResponse while failed organisations and locations are put into it.
+   */
+  private static Response toResponse(String objectType, EsSyncPipeline.SyncResult result) {
+    Response response = new Response();
+    Map<String, Object> esSyncResponse = new HashMap<>();
+    for (String id : result.getIndexedIds()) {
+      esSyncResponse.put(id, true);
+    }
+    Map<String, Object> failed =
+        JsonKey.USER.equals(objectType) ? response.getResult() : esSyncResponse;
+    for (String id : result.getFailedIds()) {
+      failed.put(id, false);
+    }
+    response.getResult().put(JsonKey.ES_SYNC_RESPONSE, esSyncResponse);
+    return response;
   }
 
   private Map<String, Object> getOrgDetails(Map<String, Object> orgMap, RequestContext context) {
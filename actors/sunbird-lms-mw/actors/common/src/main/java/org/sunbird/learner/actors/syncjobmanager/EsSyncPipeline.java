@@ -0,0 +1,368 @@
+package org.sunbird.learner.actors.syncjobmanager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections.MapUtils;
+import org.sunbird.common.ElasticSearchFutures;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.common.util.ExecutorUtil;
+
+/**
+ * Syncs records into an elastic search index. Records are read page by page, transformed into
+ * documents in parallel and written with bulk requests bounded by document count and size. Only a
+ * configured number of bulk requests are kept in flight, reading and transforming wait until one
+ * of them completes. Documents of a failed bulk request are retried, documents still failing after
+ * the last retry are reported as failed ids. Syncs run on a shared bounded pool and transform
+ * their documents on a second shared bounded pool, work beyond the capacity of either pool is run
+ * by the submitting thread.
+ */
+class EsSyncPipeline {
+  private static LoggerUtil logger = new LoggerUtil(EsSyncPipeline.class);
+  private static final int DEFAULT_PAGE_SIZE = 500;
+  private static final int DEFAULT_BULK_SIZE = 500;
+  private static final int DEFAULT_BULK_BYTES = 5 * 1024 * 1024;
+  private static final int DEFAULT_MAX_IN_FLIGHT = 4;
+  private static final int DEFAULT_PARALLELISM = 4;
+  private static final int DEFAULT_RETRY_COUNT = 3;
+  private static final int DEFAULT_MAX_CONCURRENT_SYNCS = 2;
+  private static final int RUNNER_QUEUE_SIZE = 100;
+  private static final int WORKER_QUEUE_SIZE = 1000;
+  private static final long RETRY_DELAY_MILLIS = 1000;
+  private static final ExecutorService runners =
+      ExecutorUtil.newBoundedPool(
+          "es-sync-runner",
+          ExecutorUtil.getIntConfig(
+              JsonKey.SUNBIRD_ES_SYNC_MAX_CONCURRENT_SYNCS, DEFAULT_MAX_CONCURRENT_SYNCS),
+          RUNNER_QUEUE_SIZE,
+          ExecutorUtil.Rejection.CALLER_RUNS);
+  private static final ExecutorService workers =
+      ExecutorUtil.newBoundedPool(
+          "es-sync-worker",
+          ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_ES_SYNC_PARALLELISM, DEFAULT_PARALLELISM),
+          WORKER_QUEUE_SIZE,
+          ExecutorUtil.Rejection.CALLER_RUNS);
+
+  private final ElasticSearchService esService;
+  private final String index;
+  private final Function<Map<String, Object>, Map<String, Object>> transformer;
+  private final RequestContext context;
+  private final int bulkSize;
+  private final long bulkBytes;
+  private final int maxInFlight;
+  private final int retryCount;
+  private final Executor runner;
+  private final ExecutorService transformPool;
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  EsSyncPipeline(
+      ElasticSearchService esService,
+      String index,
+      Function<Map<String, Object>, Map<String, Object>> transformer,
+      RequestContext context,
+      int bulkSize,
+      long bulkBytes,
+      int maxInFlight,
+      int retryCount,
+      Executor runner,
+      ExecutorService transformPool) {
+    this.esService = esService;
+    this.index = index;
+    this.transformer = transformer;
+    this.context = context;
+    this.bulkSize = bulkSize;
+    this.bulkBytes = bulkBytes;
+    this.maxInFlight = maxInFlight;
+    this.retryCount = retryCount;
+    this.runner = runner;
+    this.transformPool = transformPool;
+  }
+
+  /** Creates a pipeline with the batching and concurrency limits read from configuration. */
+  static EsSyncPipeline create(
+      ElasticSearchService esService,
+      String index,
+      Function<Map<String, Object>, Map<String, Object>> transformer,
+      RequestContext context) {
+    return new EsSyncPipeline(
+        esService,
+        index,
+        transformer,
+        context,
+        ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_ES_SYNC_BULK_SIZE, DEFAULT_BULK_SIZE),
+        ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_ES_SYNC_BULK_BYTES, DEFAULT_BULK_BYTES),
+        ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_ES_SYNC_MAX_IN_FLIGHT, DEFAULT_MAX_IN_FLIGHT),
+        ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_ES_SYNC_RETRY_COUNT, DEFAULT_RETRY_COUNT),
+        runners,
+        workers);
+  }
+
+  /** @return Number of records to be read from cassandra per page */
+  static int getPageSize() {
+    return ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_ES_SYNC_PAGE_SIZE, DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Runs the pipeline on the shared sync pool so that the caller is not blocked for the duration
+   * of the sync, or on the calling thread if the pool is saturated.
+   *
+   * @param pages Pages of records to be synced, read lazily
+   * @param trackIndexedIds Whether ids of indexed documents are to be kept in the result
+   * @return Stage completing with the result once every bulk request has completed
+   */
+  CompletionStage<SyncResult> runAsync(
+      Iterator<List<Map<String, Object>>> pages, boolean trackIndexedIds) {
+    return CompletableFuture.supplyAsync(() -> run(pages, trackIndexedIds), runner);
+  }
+
+  /**
+   * Runs the pipeline on the calling thread.
+   *
+   * @param pages Pages of records to be synced, read lazily
+   * @param trackIndexedIds Whether ids of indexed documents are to be kept in the result
+   * @return Result once every bulk request has completed
+   */
+  SyncResult run(Iterator<List<Map<String, Object>>> pages, boolean trackIndexedIds) {
+    long startTime = System.currentTimeMillis();
+    SyncResult result = new SyncResult(trackIndexedIds);
+    Semaphore inFlight = new Semaphore(maxInFlight);
+    List<Future<Map<String, Object>>> documents = new ArrayList<>();
+    try {
+      List<Map<String, Object>> batch = new ArrayList<>();
+      long batchBytes = 0;
+      while (pages.hasNext()) {
+        List<Map<String, Object>> page = pages.next();
+        documents = new ArrayList<>(page.size());
+        for (Map<String, Object> record : page) {
+          documents.add(transformPool.submit(() -> transformer.apply(record)));
+        }
+        for (int i = 0; i < page.size(); i++) {
+          String id = (String) page.get(i).get(JsonKey.ID);
+          Map<String, Object> document = transform(id, documents.get(i), result);
+          if (MapUtils.isEmpty(document)) {
+            continue;
+          }
+          document.putIfAbsent(JsonKey.ID, id);
+          long documentBytes = estimateSize(document);
+          if (!batch.isEmpty()
+              && (batch.size() >= bulkSize || batchBytes + documentBytes > bulkBytes)) {
+            submit(batch, inFlight, result);
+            batch = new ArrayList<>();
+            batchBytes = 0;
+          }
+          batch.add(document);
+          batchBytes += documentBytes;
+        }
+      }
+      if (!batch.isEmpty()) {
+        submit(batch, inFlight, result);
+      }
+      // every permit is back once the last bulk request has completed
+      inFlight.acquire(maxInFlight);
+      inFlight.release(maxInFlight);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.error(context, "EsSyncPipeline:run: sync of index " + index + " interrupted", e);
+      throw new ProjectCommonException(
+          ResponseCode.SERVER_ERROR.getErrorCode(),
+          ResponseCode.SERVER_ERROR.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      // drops the transforms of an interrupted sync still waiting in the shared pool
+      documents.forEach(document -> document.cancel(true));
+    }
+    result.setElapsedTime(System.currentTimeMillis() - startTime);
+    logger.info(
+        context,
+        "EsSyncPipeline:run: synced "
+            + result.getIndexedCount()
+            + " documents to index "
+            + index
+            + " in "
+            + result.getElapsedTime()
+            + " ms ("
+            + result.getDocsPerSecond()
+            + " docs/sec), failed ids = "
+            + result.getFailedIds());
+    return result;
+  }
+
+  private Map<String, Object> transform(
+      String id, Future<Map<String, Object>> document, SyncResult result)
+      throws InterruptedException {
+    try {
+      Map<String, Object> transformed = document.get();
+      if (MapUtils.isEmpty(transformed)) {
+        logger.info(context, "EsSyncPipeline:transform: no data to sync for id " + id);
+      }
+      return transformed;
+    } catch (ExecutionException e) {
+      logger.error(
+          context, "EsSyncPipeline:transform: failed to prepare document for id " + id, e);
+      result.addFailedIds(Collections.singletonList(id));
+      return null;
+    }
+  }
+
+  private long estimateSize(Map<String, Object> document) {
+    try {
+      return mapper.writeValueAsBytes(document).length;
+    } catch (JsonProcessingException e) {
+      return 0;
+    }
+  }
+
+  private void submit(List<Map<String, Object>> batch, Semaphore inFlight, SyncResult result)
+      throws InterruptedException {
+    inFlight.acquire();
+    bulkIndex(batch, 0)
+        .whenComplete(
+            (failedIds, error) -> {
+              try {
+                result.addIndexed(batch, null == error ? failedIds : ids(batch));
+              } finally {
+                inFlight.release();
+              }
+            });
+  }
+
+  /** Indexes the batch and retries the failed documents, completes with the ids still failed. */
+  private CompletionStage<List<String>> bulkIndex(List<Map<String, Object>> batch, int attempt) {
+    CompletionStage<List<String>> response;
+    try {
+      response = ElasticSearchFutures.toCompletionStage(esService.bulkIndex(index, batch, context));
+    } catch (Exception e) {
+      CompletableFuture<List<String>> failed = new CompletableFuture<>();
+      failed.completeExceptionally(e);
+      response = failed;
+    }
+    return response
+        .handle(
+            (failedIds, error) -> {
+              List<Map<String, Object>> retryBatch;
+              if (null != error) {
+                logger.error(
+                    context, "EsSyncPipeline:bulkIndex: bulk request to " + index + " failed", error);
+                retryBatch = batch;
+              } else if (CollectionUtils.isEmpty(failedIds)) {
+                return CompletableFuture.completedFuture(Collections.<String>emptyList());
+              } else {
+                retryBatch = documents(batch, failedIds);
+              }
+              if (attempt >= retryCount) {
+                return CompletableFuture.completedFuture(ids(retryBatch));
+              }
+              logger.info(
+                  context,
+                  "EsSyncPipeline:bulkIndex: retrying "
+                      + retryBatch.size()
+                      + " documents, attempt "
+                      + (attempt + 1));
+              return CompletableFuture.runAsync(
+                      () -> {},
+                      CompletableFuture.delayedExecutor(
+                          RETRY_DELAY_MILLIS * (attempt + 1), TimeUnit.MILLISECONDS))
+                  .thenCompose(delayed -> bulkIndex(retryBatch, attempt + 1));
+            })
+        .thenCompose(Function.identity());
+  }
+
+  private static List<Map<String, Object>> documents(
+      List<Map<String, Object>> batch, List<String> ids) {
+    Set<String> idSet = new HashSet<>(ids);
+    List<Map<String, Object>> documents = new ArrayList<>();
+    for (Map<String, Object> document : batch) {
+      if (idSet.contains(document.get(JsonKey.ID))) {
+        documents.add(document);
+      }
+    }
+    return documents;
+  }
+
+  private static List<String> ids(List<Map<String, Object>> batch) {
+    List<String> ids = new ArrayList<>(batch.size());
+    for (Map<String, Object> document : batch) {
+      ids.add((String) document.get(JsonKey.ID));
+    }
+    return ids;
+  }
+
+  /** Outcome of a sync run. */
+  static class SyncResult {
+    private final AtomicLong indexedCount = new AtomicLong();
+    private final Set<String> failedIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> indexedIds;
+    private volatile long elapsedTime;
+
+    SyncResult(boolean trackIndexedIds) {
+      indexedIds = trackIndexedIds ? ConcurrentHashMap.newKeySet() : null;
+    }
+
+    private void addIndexed(List<Map<String, Object>> batch, List<String> batchFailedIds) {
+      Set<String> failed = new HashSet<>(batchFailedIds);
+      for (Map<String, Object> document : batch) {
+        String id = (String) document.get(JsonKey.ID);
+        if (failed.contains(id)) {
+          failedIds.add(id);
+        } else {
+          indexedCount.incrementAndGet();
+          if (null != indexedIds) {
+            indexedIds.add(id);
+          }
+        }
+      }
+    }
+
+    private void addFailedIds(List<String> ids) {
+      failedIds.addAll(ids);
+    }
+
+    private void setElapsedTime(long elapsedTime) {
+      this.elapsedTime = elapsedTime;
+    }
+
+    long getIndexedCount() {
+      return indexedCount.get();
+    }
+
+    Set<String> getFailedIds() {
+      return failedIds;
+    }
+
+    /** @return Ids of the indexed documents, empty unless tracking of indexed ids was requested */
+    Set<String> getIndexedIds() {
+      return null == indexedIds ? Collections.emptySet() : indexedIds;
+    }
+
+    long getElapsedTime() {
+      return elapsedTime;
+    }
+
+    long getDocsPerSecond() {
+      return elapsedTime > 0 ? indexedCount.get() * 1000 / elapsedTime : indexedCount.get();
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.sunbird.learner.organisation.dao;
 
 import java.util.Map;
+import org.sunbird.common.models.response.Response;
 import org.sunbird.common.request.RequestContext;
 
 public interface OrgDao {
@@ -9,4 +10,14 @@ public interface OrgDao {
 
   Map<String, Object> getOrgByExternalId(
       String externalId, String provider, RequestContext context);
+
+  /**
+   * Updates the organisation and drops its cached copy on this node and, when an invalidation topic
+   * is configured, on the other nodes.
+   *
+   * @param orgMap Organisation fields to update, with the organisation id
+   * @param context
+   * @return Response of the update
+   */
+  Response updateOrg(Map<String, Object> orgMap, RequestContext context);
 }
@@ -0,0 +1,235 @@
+package org.sunbird.learner.organisation.dao.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.util.ExecutorUtil;
+
+/**
+ * Bounded in-process cache of organisations read by id. An entry is served for a fixed time after
+ * it is loaded and is dropped earlier when the organisation is updated. The least recently used
+ * entry makes room for a new one once the cache is full. Callers get a copy of the cached
+ * organisation, so that fields they add to it do not leak into later reads.
+ */
+final class OrgCache {
+  private static LoggerUtil logger = new LoggerUtil(OrgCache.class);
+  private static final int DEFAULT_MAX_SIZE = 1000;
+  private static final int DEFAULT_TTL_SECONDS = 300;
+  private static final long STATS_LOG_INTERVAL = 10000;
+
+  // access ordered, guarded by itself together with the invalidations
+  private final Map<String, CachedOrg> entries;
+  // generation of the last invalidation of recently invalidated organisations, oldest first
+  private final Map<String, Long> invalidations;
+  private final int maxSize;
+  private final long ttlMillis;
+  private final AtomicLong generation = new AtomicLong();
+  // loads started before this generation may have missed a forgotten invalidation
+  private long forgottenGeneration;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong invalidationCount = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong servedAgeMillis = new AtomicLong();
+
+  /**
+   * @param maxSize Maximum number of cached organisations, 0 disables the cache
+   * @param ttlMillis Time an organisation is served after it is loaded, 0 disables the cache
+   */
+  OrgCache(int maxSize, long ttlMillis) {
+    this.maxSize = maxSize;
+    this.ttlMillis = ttlMillis;
+    this.entries =
+        new LinkedHashMap<String, CachedOrg>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, CachedOrg> eldest) {
+            if (size() > maxSize) {
+              evictions.incrementAndGet();
+              return true;
+            }
+            return false;
+          }
+        };
+    this.invalidations =
+        new LinkedHashMap<String, Long>() {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            if (size() > Math.max(maxSize, 1)) {
+              forgottenGeneration = eldest.getValue();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  static OrgCache create() {
+    // 0 disables the cache
+    int maxSize = ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_ORG_CACHE_SIZE, DEFAULT_MAX_SIZE, 0);
+    int ttlSeconds =
+        ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_ORG_CACHE_TTL, DEFAULT_TTL_SECONDS, 0);
+    logger.info("OrgCache: maxSize = " + maxSize + ", ttl = " + ttlSeconds + " seconds");
+    return new OrgCache(maxSize, TimeUnit.SECONDS.toMillis(ttlSeconds));
+  }
+
+  /**
+   * Marks the start of a load, to be passed to put once the organisation is read.
+   *
+   * @return Current generation of the cache
+   */
+  long generation() {
+    return generation.get();
+  }
+
+  /**
+   * @param orgId Organisation id
+   * @return Copy of the cached organisation, or null if it is not cached or has expired
+   */
+  Map<String, Object> get(String orgId) {
+    long now = System.currentTimeMillis();
+    CachedOrg entry;
+    synchronized (entries) {
+      entry = entries.get(orgId);
+      if (null != entry && now - entry.loadedAt >= ttlMillis) {
+        entries.remove(orgId);
+        entry = null;
+      }
+    }
+    long lookups;
+    if (null == entry) {
+      lookups = misses.incrementAndGet() + hits.get();
+    } else {
+      lookups = hits.incrementAndGet() + misses.get();
+      servedAgeMillis.addAndGet(now - entry.loadedAt);
+    }
+    if (lookups % STATS_LOG_INTERVAL == 0) {
+      logger.info("OrgCache: " + getStats());
+    }
+    return null == entry ? null : copy(entry.org);
+  }
+
+  /**
+   * Caches a copy of the organisation, dropping the least recently used one if the cache is full.
+   * Nothing is cached if the organisation was invalidated since the load started, as the
+   * organisation read may already be outdated.
+   *
+   * @param orgId Organisation id
+   * @param org Organisation read from the database
+   * @param loadGeneration Generation of the cache when the load started
+   */
+  void put(String orgId, Map<String, Object> org, long loadGeneration) {
+    if (maxSize <= 0 || ttlMillis <= 0) {
+      return;
+    }
+    CachedOrg entry = new CachedOrg(copy(org), System.currentTimeMillis());
+    synchronized (entries) {
+      Long invalidatedGeneration = invalidations.get(orgId);
+      if ((null != invalidatedGeneration && invalidatedGeneration > loadGeneration)
+          || forgottenGeneration > loadGeneration) {
+        return;
+      }
+      entries.put(orgId, entry);
+    }
+  }
+
+  /**
+   * Drops the cached organisation.
+   *
+   * @param orgId Organisation id
+   */
+  void invalidate(String orgId) {
+    synchronized (entries) {
+      invalidations.remove(orgId);
+      invalidations.put(orgId, generation.incrementAndGet());
+      entries.remove(orgId);
+    }
+    invalidationCount.incrementAndGet();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T copy(T value) {
+    if (value instanceof Map) {
+      Map<Object, Object> copy = new HashMap<>();
+      ((Map<Object, Object>) value).forEach((k, v) -> copy.put(k, copy(v)));
+      return (T) copy;
+    }
+    if (value instanceof List) {
+      List<Object> copy = new ArrayList<>();
+      for (Object item : (List<Object>) value) {
+        copy.add(copy(item));
+      }
+      return (T) copy;
+    }
+    return value;
+  }
+
+  int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  long getHitCount() {
+    return hits.get();
+  }
+
+  long getMissCount() {
+    return misses.get();
+  }
+
+  long getInvalidationCount() {
+    return invalidationCount.get();
+  }
+
+  long getEvictionCount() {
+    return evictions.get();
+  }
+
+  /** @return Average age in millis of the organisations served from the cache */
+  long getAverageServedAge() {
+    long hitCount = hits.get();
+    return hitCount == 0 ? 0 : servedAgeMillis.get() / hitCount;
+  }
+
+  String getStats() {
+    long hitCount = hits.get();
+    long total = hitCount + misses.get();
+    return "size = "
+        + size()
+        + ", hits = "
+        + hitCount
+        + ", misses = "
+        + misses.get()
+        + ", hitRate = "
+        + (total == 0 ? 0 : hitCount * 100 / total)
+        + "%, invalidations = "
+        + getInvalidationCount()
+        + ", evictions = "
+        + getEvictionCount()
+        + ", averageServedAge = "
+        + getAverageServedAge()
+        + " ms";
+  }
+
+  void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  private static final class CachedOrg {
+    private final Map<String, Object> org;
+    private final long loadedAt;
+
+    private CachedOrg(Map<String, Object> org, long loadedAt) {
+      this.org = org;
+      this.loadedAt = loadedAt;
+    }
+  }
+}
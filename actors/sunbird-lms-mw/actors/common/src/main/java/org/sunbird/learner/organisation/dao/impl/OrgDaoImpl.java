@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.common.models.response.Response;
@@ -15,6 +16,7 @@ import org.sunbird.common.request.RequestContext;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.learner.organisation.dao.OrgDao;
 import org.sunbird.learner.organisation.external.identity.service.OrgExternalService;
+import org.sunbird.learner.util.CacheInvalidator;
 import org.sunbird.learner.util.Util;
 
 public class OrgDaoImpl implements OrgDao {
@@ -23,6 +25,14 @@ public class OrgDaoImpl implements OrgDao {
   private CassandraOperation cassandraOperation = ServiceFactory.getInstance();
   private OrgExternalService orgExternalService = new OrgExternalService();
   private static OrgDao orgDao = null;
+  private static final ObjectMapper mapper = new ObjectMapper();
+  private static final OrgCache orgCache = OrgCache.create();
+  private static final CacheInvalidator cacheInvalidator =
+      CacheInvalidator.create("org-cache", JsonKey.SUNBIRD_ORG_CACHE_INVALIDATION_TOPIC);
+
+  static {
+    cacheInvalidator.start(orgCache::invalidate);
+  }
 
   public static OrgDao getInstance() {
     if (orgDao == null) {
@@ -33,32 +43,76 @@ public class OrgDaoImpl implements OrgDao {
 
   @Override
   public Map<String, Object> getOrgById(String orgId, RequestContext context) {
+    if (StringUtils.isBlank(orgId)) {
+      return Collections.emptyMap();
+    }
+    // invalidations of the other nodes are missed while they are not read
+    if (cacheInvalidator.isEnabled() && !cacheInvalidator.isRunning()) {
+      return readOrgById(orgId, context);
+    }
+    Map<String, Object> cachedOrg = orgCache.get(orgId);
+    if (null != cachedOrg) {
+      return cachedOrg;
+    }
+    long generation = orgCache.generation();
+    Map<String, Object> orgMap = readOrgById(orgId, context);
+    if (MapUtils.isNotEmpty(orgMap)) {
+      orgCache.put(orgId, orgMap, generation);
+    }
+    return orgMap;
+  }
+
+  @Override
+  public Response updateOrg(Map<String, Object> orgMap, RequestContext context) {
+    Util.DbInfo orgDb = Util.dbInfoMap.get(JsonKey.ORG_DB);
+    try {
+      return cassandraOperation.updateRecord(
+          orgDb.getKeySpace(), orgDb.getTableName(), orgMap, context);
+    } finally {
+      // a failed update may still have been written
+      invalidateOrgCache((String) orgMap.get(JsonKey.ID), context);
+    }
+  }
+
+  private void invalidateOrgCache(String orgId, RequestContext context) {
     if (StringUtils.isNotBlank(orgId)) {
-      Util.DbInfo orgDb = Util.dbInfoMap.get(JsonKey.ORG_DB);
-      Response response =
-          cassandraOperation.getRecordById(
-              orgDb.getKeySpace(), orgDb.getTableName(), orgId, context);
-      List<Map<String, Object>> responseList =
-          (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
-      if (CollectionUtils.isNotEmpty(responseList)) {
-        Map<String, Object> orgMap = responseList.get(0);
-        String orgLocation = (String) orgMap.get(JsonKey.ORG_LOCATION);
-        List orgLocationList = new ArrayList<>();
-        if (StringUtils.isNotBlank(orgLocation)) {
-          try {
-            ObjectMapper mapper = new ObjectMapper();
-            orgLocationList = mapper.readValue(orgLocation, List.class);
-          } catch (Exception e) {
-            logger.info(
-                context,
-                "Exception occurred while converting orgLocation to List<Map<String,String>>.");
-          }
+      orgCache.invalidate(orgId);
+      cacheInvalidator.publish(orgId);
+      logger.info(
+          context,
+          "OrgDaoImpl:invalidateOrgCache: org cache "
+              + orgCache.getStats()
+              + ", invalidations read = "
+              + cacheInvalidator.isRunning()
+              + ", invalidation read failures = "
+              + cacheInvalidator.getFailureCount());
+    }
+  }
+
+  private Map<String, Object> readOrgById(String orgId, RequestContext context) {
+    Util.DbInfo orgDb = Util.dbInfoMap.get(JsonKey.ORG_DB);
+    Response response =
+        cassandraOperation.getRecordById(
+            orgDb.getKeySpace(), orgDb.getTableName(), orgId, context);
+    List<Map<String, Object>> responseList =
+        (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
+    if (CollectionUtils.isNotEmpty(responseList)) {
+      Map<String, Object> orgMap = responseList.get(0);
+      String orgLocation = (String) orgMap.get(JsonKey.ORG_LOCATION);
+      List orgLocationList = new ArrayList<>();
+      if (StringUtils.isNotBlank(orgLocation)) {
+        try {
+          orgLocationList = mapper.readValue(orgLocation, List.class);
+        } catch (Exception e) {
+          logger.info(
+              context,
+              "Exception occurred while converting orgLocation to List<Map<String,String>>.");
         }
-        orgMap.put(JsonKey.ORG_LOCATION, orgLocationList);
-        orgMap.put(JsonKey.HASHTAGID, orgMap.get(JsonKey.ID));
-        orgMap.remove(JsonKey.CONTACT_DETAILS);
-        return orgMap;
       }
+      orgMap.put(JsonKey.ORG_LOCATION, orgLocationList);
+      orgMap.put(JsonKey.HASHTAGID, orgMap.get(JsonKey.ID));
+      orgMap.remove(JsonKey.CONTACT_DETAILS);
+      return orgMap;
     }
     return Collections.emptyMap();
   }
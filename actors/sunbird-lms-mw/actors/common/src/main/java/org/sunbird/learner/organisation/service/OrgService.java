@@ -1,6 +1,7 @@
 package org.sunbird.learner.organisation.service;
 
 import java.util.Map;
+import org.sunbird.common.models.response.Response;
 import org.sunbird.common.request.RequestContext;
 
 public interface OrgService {
@@ -9,4 +10,6 @@ public interface OrgService {
 
   Map<String, Object> getOrgByExternalIdAndProvider(
       String externalId, String provider, RequestContext context);
+
+  Response updateOrg(Map<String, Object> orgMap, RequestContext context);
 }
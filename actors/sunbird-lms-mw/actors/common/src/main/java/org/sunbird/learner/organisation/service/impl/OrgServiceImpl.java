@@ -1,6 +1,7 @@
 package org.sunbird.learner.organisation.service.impl;
 
 import java.util.Map;
+import org.sunbird.common.models.response.Response;
 import org.sunbird.common.request.RequestContext;
 import org.sunbird.learner.organisation.dao.OrgDao;
 import org.sunbird.learner.organisation.dao.impl.OrgDaoImpl;
@@ -28,4 +29,9 @@ public class OrgServiceImpl implements OrgService {
       String externalId, String provider, RequestContext context) {
     return orgDao.getOrgByExternalId(externalId, provider, context);
   }
+
+  @Override
+  public Response updateOrg(Map<String, Object> orgMap, RequestContext context) {
+    return orgDao.updateOrg(orgMap, context);
+  }
 }
@@ -0,0 +1,172 @@
+package org.sunbird.learner.util;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.models.util.ProjectUtil;
+import org.sunbird.kafka.client.KafkaClient;
+
+/**
+ * Propagates invalidations of a node-local cache to the other nodes through a kafka topic. Every
+ * node reads the topic in a consumer group of its own, named after the cache and the host (the pod
+ * name in a cluster), so that each invalidation reaches all of them and a restarted node keeps its
+ * group. Nothing is published or read when no topic is configured. The reader reconnects with a
+ * growing delay after a failure and resumes from the last offset of its group, while it is not
+ * reading the node cannot rely on its cached entries.
+ */
+public final class CacheInvalidator {
+  private static LoggerUtil logger = new LoggerUtil(CacheInvalidator.class);
+  private static final long POLL_TIMEOUT_MILLIS = 1000;
+  private static final long MIN_RETRY_DELAY_MILLIS = 1000;
+  private static final long MAX_RETRY_DELAY_MILLIS = 60000;
+  private static final String HOSTNAME = "HOSTNAME";
+  private static final String LOCALHOST = "localhost";
+
+  private final String name;
+  private final String topic;
+  private final String groupId;
+  private volatile boolean running;
+  private final AtomicLong failures = new AtomicLong();
+
+  CacheInvalidator(String name, String topic) {
+    this.name = name;
+    this.topic = topic;
+    this.groupId = name + "-" + getHostName();
+  }
+
+  private static String getHostName() {
+    String hostName = System.getenv(HOSTNAME);
+    if (StringUtils.isNotBlank(hostName)) {
+      return hostName;
+    }
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      logger.error("CacheInvalidator:getHostName: host name not found", e);
+      return LOCALHOST;
+    }
+  }
+
+  /**
+   * @param name Name of the cache, used for the reading thread and the consumer group
+   * @param topicKey Config key of the topic, no topic disables the invalidation
+   * @return CacheInvalidator
+   */
+  public static CacheInvalidator create(String name, String topicKey) {
+    return new CacheInvalidator(name, ProjectUtil.getConfigValue(topicKey));
+  }
+
+  public boolean isEnabled() {
+    return StringUtils.isNotBlank(topic);
+  }
+
+  /** @return true if invalidations of the other nodes are being read */
+  public boolean isRunning() {
+    return running;
+  }
+
+  public long getFailureCount() {
+    return failures.get();
+  }
+
+  /**
+   * Tells the other nodes to drop the entry. A failure is only logged, the other nodes then serve
+   * the entry until it expires.
+   *
+   * @param key Key of the cached entry
+   */
+  public void publish(String key) {
+    if (!isEnabled()) {
+      return;
+    }
+    try {
+      KafkaClient.send(key, key, topic);
+    } catch (Exception e) {
+      logger.error(
+          "CacheInvalidator:publish: failed to publish invalidation of " + name + " " + key, e);
+    }
+  }
+
+  /**
+   * Starts the thread reading invalidations published by the nodes.
+   *
+   * @param listener Called with the key of each invalidated entry
+   */
+  public void start(Consumer<String> listener) {
+    if (!isEnabled()) {
+      return;
+    }
+    Thread thread = new Thread(() -> consume(listener), name + "-invalidator");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private void consume(Consumer<String> listener) {
+    long retryDelay = MIN_RETRY_DELAY_MILLIS;
+    while (!Thread.currentThread().isInterrupted()) {
+      try (KafkaConsumer<String, String> consumer = new KafkaConsumer<>(getProperties())) {
+        consumer.subscribe(Collections.singletonList(topic));
+        while (!Thread.currentThread().isInterrupted()) {
+          ConsumerRecords<String, String> records = consumer.poll(POLL_TIMEOUT_MILLIS);
+          if (!running) {
+            running = true;
+            logger.info("CacheInvalidator:consume: reading " + name + " invalidations");
+          }
+          retryDelay = MIN_RETRY_DELAY_MILLIS;
+          for (ConsumerRecord<String, String> record : records) {
+            invalidate(listener, record.value());
+          }
+        }
+      } catch (Exception e) {
+        running = false;
+        failures.incrementAndGet();
+        logger.error(
+            "CacheInvalidator:consume: not reading "
+                + name
+                + " invalidations, retrying in "
+                + retryDelay
+                + " ms",
+            e);
+      }
+      running = false;
+      try {
+        Thread.sleep(retryDelay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MILLIS);
+    }
+  }
+
+  private void invalidate(Consumer<String> listener, String key) {
+    if (StringUtils.isBlank(key)) {
+      return;
+    }
+    try {
+      listener.accept(key);
+    } catch (Exception e) {
+      logger.error("CacheInvalidator:invalidate: failed to invalidate " + name + " " + key, e);
+    }
+  }
+
+  private Properties getProperties() {
+    Properties props = new Properties();
+    props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, ProjectUtil.getConfigValue("kafka_urls"));
+    // the same group across reconnects, so that invalidations published meanwhile are read
+    props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+    props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+    props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+    props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+    return props;
+  }
+}
@@ -4,12 +4,18 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.background.BackgroundOperations;
 import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.common.ElasticSearchFutures;
 import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.factory.EsClientFactory;
@@ -626,13 +632,49 @@ public final class Util {
     }
   }
 
-  @SuppressWarnings("unchecked")
+  /**
+   * @param userId User id
+   * @param context
+   * @return Details of the user to save in elastic search, null if the user is not found
+   */
   public static Map<String, Object> getUserDetails(String userId, RequestContext context) {
+    Map<String, Object> userDetails = readUserDetails(userId, context);
+    if (null != userDetails) {
+      userDetails.put(JsonKey.ORGANISATIONS, getUserOrgDetails(userId, context));
+      addUserProfileDetails(userDetails, context);
+    }
+    return userDetails;
+  }
+
+  /**
+   * Non blocking variant of {@link #getUserDetails(String, RequestContext)}, the organisations of
+   * the user are read from elastic search without waiting for them on the calling thread.
+   *
+   * @param userId User id
+   * @param context
+   * @return Details of the user to save in elastic search, null if the user is not found
+   */
+  public static CompletionStage<Map<String, Object>> getUserDetailsAsync(
+      String userId, RequestContext context) {
+    Map<String, Object> userDetails = readUserDetails(userId, context);
+    if (null == userDetails) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return getUserOrgDetailsAsync(userId, context)
+        .thenApply(
+            userOrganisations -> {
+              userDetails.put(JsonKey.ORGANISATIONS, userOrganisations);
+              addUserProfileDetails(userDetails, context);
+              return userDetails;
+            });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> readUserDetails(String userId, RequestContext context) {
     logger.info(context, "get user profile method call started user Id : " + userId);
     Util.DbInfo userDbInfo = Util.dbInfoMap.get(JsonKey.USER_DB);
     Response response = null;
     List<Map<String, Object>> userList = null;
-    Map<String, Object> userDetails = null;
     try {
       response =
           cassandraOperation.getRecordById(
@@ -643,61 +685,60 @@ public final class Util {
     } catch (Exception e) {
       logger.error(context, e.getMessage(), e);
     }
-    String username = "";
-    if (CollectionUtils.isNotEmpty(userList)) {
-      userDetails = userList.get(0);
-      username = (String) userDetails.get(JsonKey.USERNAME);
-      logger.info(context, "Util:getUserDetails: userId = " + userId);
-      userDetails.put(JsonKey.ORGANISATIONS, getUserOrgDetails(userId, context));
-      Map<String, Object> orgMap =
-          getOrgDetails((String) userDetails.get(JsonKey.ROOT_ORG_ID), context);
-      if (!MapUtils.isEmpty(orgMap)) {
-        userDetails.put(JsonKey.ROOT_ORG_NAME, orgMap.get(JsonKey.ORG_NAME));
-      } else {
-        userDetails.put(JsonKey.ROOT_ORG_NAME, "");
-      }
-      // store alltncaccepted as Map Object in ES
-      Map<String, Object> allTncAccepted =
-          (Map<String, Object>) userDetails.get(JsonKey.ALL_TNC_ACCEPTED);
-      if (MapUtils.isNotEmpty(allTncAccepted)) {
-        convertTncJsonStringToMapObject(allTncAccepted);
-      }
-      // save masked email and phone number
-      addMaskEmailAndPhone(userDetails);
-      userDetails.remove(JsonKey.PASSWORD);
-      addEmailAndPhone(userDetails);
-      checkEmailAndPhoneVerified(userDetails);
-      List<Map<String, String>> userLocList = new ArrayList<>();
-      String profLocation = (String) userDetails.get(JsonKey.PROFILE_LOCATION);
-      if (StringUtils.isNotBlank(profLocation)) {
-        try {
-          userLocList = mapper.readValue(profLocation, List.class);
-        } catch (Exception e) {
-          logger.info(
-              context,
-              "Exception occurred while converting profileLocation to List<Map<String,String>>.");
-        }
-      }
-      userDetails.put(JsonKey.PROFILE_LOCATION, userLocList);
-      Map<String, Object> userTypeDetail = new HashMap<>();
-      String profUserType = (String) userDetails.get(JsonKey.PROFILE_USERTYPE);
-      if (StringUtils.isNotBlank(profUserType)) {
-        try {
-          userTypeDetail = mapper.readValue(profUserType, Map.class);
-        } catch (Exception e) {
-          logger.info(
-              context,
-              "Exception occurred while converting profileUserType to Map<String,String>.");
-        }
-      }
-      userDetails.put(JsonKey.PROFILE_USERTYPE, userTypeDetail);
-    } else {
+    if (CollectionUtils.isEmpty(userList)) {
       logger.info(
           context,
           "Util:getUserProfile: User data not available to save in ES for userId : " + userId);
+      return null;
     }
-    userDetails.put(JsonKey.USERNAME, username);
-    return userDetails;
+    logger.info(context, "Util:getUserDetails: userId = " + userId);
+    return userList.get(0);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void addUserProfileDetails(
+      Map<String, Object> userDetails, RequestContext context) {
+    Map<String, Object> orgMap =
+        getOrgDetails((String) userDetails.get(JsonKey.ROOT_ORG_ID), context);
+    if (!MapUtils.isEmpty(orgMap)) {
+      userDetails.put(JsonKey.ROOT_ORG_NAME, orgMap.get(JsonKey.ORG_NAME));
+    } else {
+      userDetails.put(JsonKey.ROOT_ORG_NAME, "");
+    }
+    // store alltncaccepted as Map Object in ES
+    Map<String, Object> allTncAccepted =
+        (Map<String, Object>) userDetails.get(JsonKey.ALL_TNC_ACCEPTED);
+    if (MapUtils.isNotEmpty(allTncAccepted)) {
+      convertTncJsonStringToMapObject(allTncAccepted);
+    }
+    // save masked email and phone number
+    addMaskEmailAndPhone(userDetails);
+    userDetails.remove(JsonKey.PASSWORD);
+    addEmailAndPhone(userDetails);
+    checkEmailAndPhoneVerified(userDetails);
+    List<Map<String, String>> userLocList = new ArrayList<>();
+    String profLocation = (String) userDetails.get(JsonKey.PROFILE_LOCATION);
+    if (StringUtils.isNotBlank(profLocation)) {
+      try {
+        userLocList = mapper.readValue(profLocation, List.class);
+      } catch (Exception e) {
+        logger.info(
+            context,
+            "Exception occurred while converting profileLocation to List<Map<String,String>>.");
+      }
+    }
+    userDetails.put(JsonKey.PROFILE_LOCATION, userLocList);
+    Map<String, Object> userTypeDetail = new HashMap<>();
+    String profUserType = (String) userDetails.get(JsonKey.PROFILE_USERTYPE);
+    if (StringUtils.isNotBlank(profUserType)) {
+      try {
+        userTypeDetail = mapper.readValue(profUserType, Map.class);
+      } catch (Exception e) {
+        logger.info(
+            context, "Exception occurred while converting profileUserType to Map<String,String>.");
+      }
+    }
+    userDetails.put(JsonKey.PROFILE_USERTYPE, userTypeDetail);
   }
 
   // Convert Json String tnc format to object to store in Elastic
@@ -786,9 +827,46 @@ public final class Util {
     }
   }
 
+  /**
+   * Waits for the organisation names as long as elastic search reads are waited for.
+   *
+   * @param userId User id
+   * @param context
+   * @return Organisations of the user, empty if they cannot be read
+   * @throws ProjectCommonException operationTimeout if elastic search does not answer in time
+   */
   public static List<Map<String, Object>> getUserOrgDetails(String userId, RequestContext context) {
-    List<Map<String, Object>> userOrgDataList = new ArrayList<>();
-    List<Map<String, Object>> userOrganisations = new ArrayList<>();
+    try {
+      return getUserOrgDetailsAsync(userId, context)
+          .toCompletableFuture()
+          .get(ElasticSearchHelper.timeout.duration().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      logger.error(context, "Util:getUserOrgDetails: organisation names timed out", e);
+      throw new ProjectCommonException(
+          ResponseCode.operationTimeout.getErrorCode(),
+          ResponseCode.operationTimeout.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    } catch (ExecutionException e) {
+      logger.error(context, "Util:getUserOrgDetails: " + e.getMessage(), e.getCause());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return new ArrayList<>();
+  }
+
+  /**
+   * Reads the active organisations of the user and adds the organisation names from elastic search,
+   * without waiting for elastic search on the calling thread.
+   *
+   * @param userId User id
+   * @param context
+   * @return Organisations of the user, empty if they cannot be read
+   */
+  @SuppressWarnings("unchecked")
+  public static CompletionStage<List<Map<String, Object>>> getUserOrgDetailsAsync(
+      String userId, RequestContext context) {
+    List<Map<String, Object>> userOrgList = new ArrayList<>();
+    CompletionStage<Map<String, Map<String, Object>>> orgInfoMapF;
     try {
       List<String> ids = new ArrayList<>();
       ids.add(userId);
@@ -800,8 +878,8 @@ public final class Util {
               ids,
               JsonKey.USER_ID,
               context);
-      List<Map<String, Object>> userOrgList = new ArrayList<>();
-      userOrgDataList = (List<Map<String, Object>>) result.get(JsonKey.RESPONSE);
+      List<Map<String, Object>> userOrgDataList =
+          (List<Map<String, Object>>) result.get(JsonKey.RESPONSE);
       userOrgDataList
           .stream()
           .forEach(
@@ -811,33 +889,41 @@ public final class Util {
                   userOrgList.add(dataMap);
                 }
               });
-      if (CollectionUtils.isNotEmpty(userOrgList)) {
-        List<String> organisationIds =
-            userOrgList
-                .stream()
-                .map(m -> (String) m.get(JsonKey.ORGANISATION_ID))
-                .distinct()
-                .collect(Collectors.toList());
-        List<String> fields = Arrays.asList(JsonKey.ORG_NAME, JsonKey.ID);
-
-        Future<Map<String, Map<String, Object>>> orgInfoMapF =
-            esService.getEsResultByListOfIds(
-                organisationIds, fields, EsType.organisation.getTypeName(), context);
-        Map<String, Map<String, Object>> orgInfoMap =
-            (Map<String, Map<String, Object>>)
-                ElasticSearchHelper.getResponseFromFuture(orgInfoMapF);
-
-        for (Map<String, Object> userOrg : userOrgList) {
-          Map<String, Object> esOrgMap = orgInfoMap.get(userOrg.get(JsonKey.ORGANISATION_ID));
-          esOrgMap.remove(JsonKey.ID);
-          userOrg.putAll(esOrgMap);
-          userOrganisations.add(userOrg);
-        }
+      if (CollectionUtils.isEmpty(userOrgList)) {
+        return CompletableFuture.completedFuture(new ArrayList<>());
       }
+      List<String> organisationIds =
+          userOrgList
+              .stream()
+              .map(m -> (String) m.get(JsonKey.ORGANISATION_ID))
+              .distinct()
+              .collect(Collectors.toList());
+      List<String> fields = Arrays.asList(JsonKey.ORG_NAME, JsonKey.ID);
+      orgInfoMapF =
+          ElasticSearchFutures.toCompletionStage(
+              esService.getEsResultByListOfIds(
+                  organisationIds, fields, EsType.organisation.getTypeName(), context));
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
+      return CompletableFuture.completedFuture(new ArrayList<>());
     }
-    return userOrganisations;
+    return orgInfoMapF
+        .thenApply(
+            orgInfoMap -> {
+              List<Map<String, Object>> userOrganisations = new ArrayList<>();
+              for (Map<String, Object> userOrg : userOrgList) {
+                Map<String, Object> esOrgMap = orgInfoMap.get(userOrg.get(JsonKey.ORGANISATION_ID));
+                esOrgMap.remove(JsonKey.ID);
+                userOrg.putAll(esOrgMap);
+                userOrganisations.add(userOrg);
+              }
+              return userOrganisations;
+            })
+        .exceptionally(
+            e -> {
+              logger.error(e.getMessage(), e);
+              return new ArrayList<>();
+            });
   }
 
   public static Request sendOnboardingMail(Map<String, Object> emailTemplateMap) {
@@ -33,6 +33,14 @@ public class RateLimit {
     this.ttl = ttl;
   }
 
+  public RateLimit(String key, String unit, Integer limit, Integer count, int ttl) {
+    this.key = key;
+    this.unit = unit;
+    this.limit = limit;
+    this.count = count;
+    this.ttl = ttl;
+  }
+
   public String getKey() {
     return key;
   }
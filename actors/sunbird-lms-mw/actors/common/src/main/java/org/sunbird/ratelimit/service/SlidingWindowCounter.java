@@ -0,0 +1,551 @@
+package org.sunbird.ratelimit.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections.MapUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.models.util.ProjectUtil;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.util.ExecutorUtil;
+import org.sunbird.ratelimit.dao.RateLimitDao;
+import org.sunbird.ratelimit.dao.RateLimitDaoImpl;
+import org.sunbird.ratelimit.limiter.RateLimit;
+import org.sunbird.ratelimit.limiter.RateLimiter;
+
+/**
+ * Node local sliding windows of the requests accepted per key, deciding whether a request is within
+ * the rate limits without waiting for Cassandra. The limits are enforced per node, not across the
+ * cluster: each node counts the requests it accepted, plus the stored counts it last read.
+ *
+ * <p>A key not seen before, or whose stored rate limits are older than the refresh interval, is
+ * decided with what this node holds and its stored rate limits are read in the background, so that
+ * the counts of earlier runs and of other nodes apply to the following requests. The requests
+ * accepted by this node are added to the stored counts read last and written in the background,
+ * without reading the rows again. Rows written by another node in the meantime are overwritten, so
+ * the stored counts carry the requests over restarts and give a best effort view of the other
+ * nodes, not a cluster wide count. A key is not read while it is written and not written while it
+ * is read, so a read never misses requests this node has written.
+ *
+ * <p>The check and record of a request are atomic per key, under one of a fixed set of striped
+ * locks. Idle keys are dropped, and beyond the maximum number of keys the least recently used ones
+ * are dropped, the written ones first.
+ */
+final class SlidingWindowCounter {
+  private static LoggerUtil logger = new LoggerUtil(SlidingWindowCounter.class);
+  private static final int STRIPES = 64;
+  private static final long DEFAULT_FLUSH_INTERVAL = 1000L;
+  private static final long DEFAULT_REFRESH_INTERVAL = 10000L;
+  private static final int DEFAULT_MAX_KEYS = 100000;
+  private static final int DEFAULT_POOL_SIZE = 4;
+  private static final int QUEUE_SIZE = 10000;
+  private static final long EVICTION_INTERVAL = 60000L;
+  private static final long STATS_LOG_INTERVAL = 1000;
+  private static volatile SlidingWindowCounter instance;
+
+  private final RateLimitDao rateLimitDao;
+  private final LongSupplier clock;
+  private final long refreshInterval;
+  private final int maxKeys;
+  private final Executor executor;
+  private final Object[] locks = new Object[STRIPES];
+  private final Map<String, Windows> windowsByKey = new ConcurrentHashMap<>();
+  private final Set<String> dirtyKeys = ConcurrentHashMap.newKeySet();
+  private final AtomicLong decisions = new AtomicLong();
+  private final AtomicLong rejections = new AtomicLong();
+  private final AtomicLong seeds = new AtomicLong();
+  private final AtomicLong loads = new AtomicLong();
+  private final AtomicLong loadFailures = new AtomicLong();
+  private final AtomicLong flushedKeys = new AtomicLong();
+  private final AtomicLong flushFailures = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+  private long lastEvictionTime;
+
+  /**
+   * @param rateLimitDao Store the windows are read from and written to
+   * @param clock Current time in millis
+   */
+  SlidingWindowCounter(RateLimitDao rateLimitDao, LongSupplier clock) {
+    this(rateLimitDao, clock, DEFAULT_REFRESH_INTERVAL);
+  }
+
+  /**
+   * Reads and writes the store on the calling thread.
+   *
+   * @param rateLimitDao Store the windows are read from and written to
+   * @param clock Current time in millis
+   * @param refreshInterval Age in millis after which the stored rate limits of a key are read again
+   */
+  SlidingWindowCounter(RateLimitDao rateLimitDao, LongSupplier clock, long refreshInterval) {
+    this(rateLimitDao, clock, refreshInterval, DEFAULT_MAX_KEYS, Runnable::run);
+  }
+
+  /**
+   * @param rateLimitDao Store the windows are read from and written to
+   * @param clock Current time in millis
+   * @param refreshInterval Age in millis after which the stored rate limits of a key are read again
+   * @param maxKeys Number of keys kept beyond which the least recently used ones are dropped
+   * @param executor Runs the reads and writes of the store
+   */
+  SlidingWindowCounter(
+      RateLimitDao rateLimitDao,
+      LongSupplier clock,
+      long refreshInterval,
+      int maxKeys,
+      Executor executor) {
+    this.rateLimitDao = rateLimitDao;
+    this.clock = clock;
+    this.refreshInterval = refreshInterval;
+    this.maxKeys = maxKeys;
+    this.executor = executor;
+    for (int i = 0; i < STRIPES; i++) {
+      locks[i] = new Object();
+    }
+    this.lastEvictionTime = clock.getAsLong();
+  }
+
+  static SlidingWindowCounter getInstance() {
+    if (null == instance) {
+      synchronized (SlidingWindowCounter.class) {
+        if (null == instance) {
+          long flushInterval =
+              getInterval(JsonKey.SUNBIRD_RATE_LIMIT_FLUSH_INTERVAL, DEFAULT_FLUSH_INTERVAL);
+          long refreshInterval =
+              getInterval(JsonKey.SUNBIRD_RATE_LIMIT_REFRESH_INTERVAL, DEFAULT_REFRESH_INTERVAL);
+          int maxKeys =
+              ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_RATE_LIMIT_MAX_KEYS, DEFAULT_MAX_KEYS);
+          int poolSize =
+              ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_RATE_LIMIT_POOL_SIZE, DEFAULT_POOL_SIZE);
+          SlidingWindowCounter counter =
+              new SlidingWindowCounter(
+                  RateLimitDaoImpl.getInstance(),
+                  System::currentTimeMillis,
+                  refreshInterval,
+                  maxKeys,
+                  ExecutorUtil.newBoundedPool(
+                      "rate-limit", poolSize, QUEUE_SIZE, ExecutorUtil.Rejection.ABORT));
+          ScheduledExecutorService flushScheduler =
+              ExecutorUtil.newDaemonScheduler("rate-limit-flush");
+          flushScheduler.scheduleWithFixedDelay(
+              counter::flush, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+          logger.info(
+              "SlidingWindowCounter: flushInterval = "
+                  + flushInterval
+                  + " ms, refreshInterval = "
+                  + refreshInterval
+                  + " ms, maxKeys = "
+                  + maxKeys);
+          instance = counter;
+        }
+      }
+    }
+    return instance;
+  }
+
+  private static long getInterval(String key, long defaultInterval) {
+    String interval = ProjectUtil.getConfigValue(key);
+    return StringUtils.isNumeric(interval) && Long.parseLong(interval) > 0
+        ? Long.parseLong(interval)
+        : defaultInterval;
+  }
+
+  /**
+   * Records a request for the key if it is within every rate limit. Does not wait for Cassandra,
+   * the stored rate limits of a new or stale key are read after the request is decided.
+   *
+   * @param key Key (e.g. phone number, email address)
+   * @param rateLimiters Rate limits of the key
+   * @param context Request context
+   * @return Name of the rate limit the request would exceed, null if the request is accepted
+   */
+  String acquire(String key, RateLimiter[] rateLimiters, RequestContext context) {
+    long now = clock.getAsLong();
+    String exceeded;
+    Windows load = null;
+    synchronized (getLock(key)) {
+      Windows windows = windowsByKey.get(key);
+      if (null == windows) {
+        windows = new Windows();
+        windowsByKey.put(key, windows);
+        seeds.incrementAndGet();
+      }
+      exceeded = windows.acquire(rateLimiters, now);
+      windows.lastAccessTime = now;
+      if (!windows.loading
+          && !windows.flushing
+          && (!windows.loaded || windows.lastLoadTime <= now - refreshInterval)) {
+        windows.loading = true;
+        load = windows;
+      }
+    }
+    if (null == exceeded) {
+      dirtyKeys.add(key);
+    } else {
+      rejections.incrementAndGet();
+    }
+    if (null != load) {
+      load(key, load, context);
+    }
+    if (decisions.incrementAndGet() % STATS_LOG_INTERVAL == 0) {
+      logger.info("SlidingWindowCounter: " + getStats());
+    }
+    return exceeded;
+  }
+
+  private void load(String key, Windows windows, RequestContext context) {
+    long readTime = clock.getAsLong();
+    try {
+      executor.execute(
+          () -> {
+            List<RateLimit> storedRateLimits = null;
+            try {
+              storedRateLimits = toRateLimits(rateLimitDao.getRateLimits(key, context));
+              loads.incrementAndGet();
+            } catch (Exception e) {
+              loadFailures.incrementAndGet();
+              logger.error(
+                  context, "SlidingWindowCounter:load: Exception occurred for key = " + key, e);
+            }
+            synchronized (getLock(key)) {
+              windows.loaded(storedRateLimits, readTime);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // read again by the next request of the key
+      loadFailures.incrementAndGet();
+      synchronized (getLock(key)) {
+        windows.loading = false;
+      }
+    }
+  }
+
+  /**
+   * Adds the requests accepted since the last flush to the stored counts read last, and writes
+   * them in the background. A key whose stored rate limits could not be read is written with the
+   * requests of this node. Keys whose stored rate limits are being read are written by a later
+   * flush, as is a key whose write fails or does not fit in the queue. Also drops the idle keys,
+   * and the keys beyond the maximum.
+   */
+  void flush() {
+    try {
+      long now = clock.getAsLong();
+      for (String key : new ArrayList<>(dirtyKeys)) {
+        dirtyKeys.remove(key);
+        Windows windows;
+        Flush flush;
+        synchronized (getLock(key)) {
+          windows = windowsByKey.get(key);
+          if (null == windows) {
+            continue;
+          }
+          if (windows.loading || windows.flushing) {
+            dirtyKeys.add(key);
+            continue;
+          }
+          flush = windows.toFlush(key, now);
+          windows.flushing = true;
+        }
+        write(key, windows, flush, now);
+      }
+      evict(now);
+    } catch (Exception e) {
+      logger.error("SlidingWindowCounter:flush: Exception occurred " + e.getMessage(), e);
+    }
+  }
+
+  private void write(String key, Windows windows, Flush flush, long now) {
+    if (CollectionUtils.isEmpty(flush.rateLimits)) {
+      synchronized (getLock(key)) {
+        windows.flushed(flush, now);
+      }
+      return;
+    }
+    try {
+      executor.execute(
+          () -> {
+            try {
+              rateLimitDao.insertRateLimits(flush.rateLimits, null);
+              flushedKeys.incrementAndGet();
+              synchronized (getLock(key)) {
+                windows.flushed(flush, now);
+              }
+            } catch (Exception e) {
+              flushFailed(key, windows);
+              logger.error("SlidingWindowCounter:flush: Exception occurred for key = " + key, e);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      flushFailed(key, windows);
+    }
+  }
+
+  private void flushFailed(String key, Windows windows) {
+    flushFailures.incrementAndGet();
+    synchronized (getLock(key)) {
+      windows.flushing = false;
+    }
+    dirtyKeys.add(key);
+  }
+
+  private synchronized void evict(long now) {
+    if (now - lastEvictionTime >= EVICTION_INTERVAL) {
+      lastEvictionTime = now;
+      Iterator<Map.Entry<String, Windows>> entries = windowsByKey.entrySet().iterator();
+      while (entries.hasNext()) {
+        Map.Entry<String, Windows> entry = entries.next();
+        synchronized (getLock(entry.getKey())) {
+          if (entry.getValue().isIdle(now) && !dirtyKeys.contains(entry.getKey())) {
+            entries.remove();
+          }
+        }
+      }
+    }
+    int excess = windowsByKey.size() - maxKeys;
+    if (excess <= 0) {
+      return;
+    }
+    // written keys first, as a dropped key that was not written loses the requests of this node
+    List<Map.Entry<String, Windows>> candidates = new ArrayList<>(windowsByKey.entrySet());
+    candidates.sort(
+        Comparator.comparing(
+                (Map.Entry<String, Windows> entry) -> dirtyKeys.contains(entry.getKey()))
+            .thenComparingLong(entry -> entry.getValue().lastAccessTime));
+    for (Map.Entry<String, Windows> entry : candidates) {
+      if (excess <= 0) {
+        break;
+      }
+      synchronized (getLock(entry.getKey())) {
+        Windows windows = entry.getValue();
+        if (!windows.loading
+            && !windows.flushing
+            && windowsByKey.remove(entry.getKey(), windows)) {
+          dirtyKeys.remove(entry.getKey());
+          evictions.incrementAndGet();
+          excess--;
+        }
+      }
+    }
+  }
+
+  private Object getLock(String key) {
+    return locks[(key.hashCode() & Integer.MAX_VALUE) % STRIPES];
+  }
+
+  private static List<RateLimit> toRateLimits(List<Map<String, Object>> storedRates) {
+    List<RateLimit> rateLimits = new ArrayList<>();
+    if (CollectionUtils.isEmpty(storedRates)) {
+      return rateLimits;
+    }
+    for (Map<String, Object> rate : storedRates) {
+      if (MapUtils.isNotEmpty(rate)) {
+        rateLimits.add(new RateLimit(null, rate));
+      }
+    }
+    return rateLimits;
+  }
+
+  int size() {
+    return windowsByKey.size();
+  }
+
+  String getStats() {
+    return "keys = "
+        + size()
+        + ", decisions = "
+        + decisions.get()
+        + ", rejections = "
+        + rejections.get()
+        + ", seeds = "
+        + seeds.get()
+        + ", loads = "
+        + loads.get()
+        + ", loadFailures = "
+        + loadFailures.get()
+        + ", flushedKeys = "
+        + flushedKeys.get()
+        + ", flushFailures = "
+        + flushFailures.get()
+        + ", evictions = "
+        + evictions.get();
+  }
+
+  /** Rate limits written by a flush and the unflushed requests they include. */
+  private static final class Flush {
+    private final List<RateLimit> rateLimits;
+    private final int requestCount;
+    private final long lastRequestTime;
+
+    private Flush(List<RateLimit> rateLimits, int requestCount, long lastRequestTime) {
+      this.rateLimits = rateLimits;
+      this.requestCount = requestCount;
+      this.lastRequestTime = lastRequestTime;
+    }
+  }
+
+  /**
+   * Stored rate limits of a key, the requests accepted on this node since they were last written
+   * and the limits they are checked against. Guarded by its stripe.
+   */
+  private static final class Windows {
+    // times of the requests accepted and not yet flushed, oldest first
+    private final Deque<Long> requestTimes = new ArrayDeque<>();
+    private final Map<String, Integer> limitByUnit = new HashMap<>();
+    private final Map<String, Integer> windowByUnit = new HashMap<>();
+    // requests in the stored row of a unit, as last read or written, and the time the row expires
+    private final Map<String, Integer> storedCountByUnit = new HashMap<>();
+    private final Map<String, Long> storedExpiryByUnit = new HashMap<>();
+    private boolean loaded;
+    private long lastLoadTime;
+    // the stored rows are being read or written, only one of them at a time
+    private boolean loading;
+    private boolean flushing;
+    private volatile long lastAccessTime;
+    private long longestWindow;
+
+    /** Replaces the stored counts with the rate limits read from Cassandra. */
+    private void loaded(List<RateLimit> storedRateLimits, long readTime) {
+      loading = false;
+      if (null == storedRateLimits) {
+        return;
+      }
+      storedCountByUnit.clear();
+      storedExpiryByUnit.clear();
+      for (RateLimit rateLimit : storedRateLimits) {
+        store(rateLimit, readTime);
+        // a limit read from Cassandra holds until its row expires, as the stored row did
+        limitByUnit.put(rateLimit.getUnit(), rateLimit.getLimit());
+      }
+      loaded = true;
+      lastLoadTime = readTime;
+    }
+
+    private void store(RateLimit rateLimit, long now) {
+      storedCountByUnit.put(rateLimit.getUnit(), rateLimit.getCount());
+      storedExpiryByUnit.put(
+          rateLimit.getUnit(), now + TimeUnit.SECONDS.toMillis(rateLimit.getTTL()));
+    }
+
+    private String acquire(RateLimiter[] rateLimiters, long now) {
+      for (RateLimiter rateLimiter : rateLimiters) {
+        windowByUnit.put(rateLimiter.name(), rateLimiter.getTTL());
+        longestWindow = Math.max(longestWindow, TimeUnit.SECONDS.toMillis(rateLimiter.getTTL()));
+      }
+      while (!requestTimes.isEmpty() && requestTimes.peekFirst() <= now - longestWindow) {
+        requestTimes.pollFirst();
+      }
+      for (RateLimiter rateLimiter : rateLimiters) {
+        Integer configuredLimit = rateLimiter.getRateLimit();
+        if (null == configuredLimit) {
+          continue;
+        }
+        int count = getStoredCount(rateLimiter.name(), now) + count(rateLimiter.getTTL(), now);
+        Integer limit = limitByUnit.get(rateLimiter.name());
+        if (null == limit || count == 0) {
+          limit = configuredLimit;
+          limitByUnit.put(rateLimiter.name(), limit);
+        }
+        if (count >= limit) {
+          return rateLimiter.name();
+        }
+      }
+      requestTimes.addLast(now);
+      return null;
+    }
+
+    private int getStoredCount(String unit, long now) {
+      Long expiry = storedExpiryByUnit.get(unit);
+      return null == expiry || expiry <= now ? 0 : storedCountByUnit.get(unit);
+    }
+
+    private int count(int windowSeconds, long now) {
+      long windowStart = now - TimeUnit.SECONDS.toMillis(windowSeconds);
+      int count = 0;
+      Iterator<Long> times = requestTimes.descendingIterator();
+      while (times.hasNext() && times.next() > windowStart) {
+        count++;
+      }
+      return count;
+    }
+
+    /**
+     * The unflushed requests of each window added to the stored count of its row. A row keeps its
+     * TTL, a new row expires when the oldest request of the window leaves it.
+     */
+    private Flush toFlush(String key, long now) {
+      List<RateLimit> rateLimits = new ArrayList<>();
+      for (Map.Entry<String, Integer> entry : windowByUnit.entrySet()) {
+        int count = count(entry.getValue(), now);
+        Integer limit = limitByUnit.get(entry.getKey());
+        if (null == limit || count == 0) {
+          continue;
+        }
+        int storedCount = getStoredCount(entry.getKey(), now);
+        if (storedCount > 0) {
+          long expiry = storedExpiryByUnit.get(entry.getKey()) - now;
+          int ttl = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(expiry + 999));
+          rateLimits.add(new RateLimit(key, entry.getKey(), limit, storedCount + count, ttl));
+          continue;
+        }
+        long windowStart = now - TimeUnit.SECONDS.toMillis(entry.getValue());
+        long oldest = now;
+        for (long time : requestTimes) {
+          if (time > windowStart) {
+            oldest = time;
+            break;
+          }
+        }
+        long expiry = oldest + TimeUnit.SECONDS.toMillis(entry.getValue()) - now;
+        int ttl = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(expiry + 999));
+        rateLimits.add(new RateLimit(key, entry.getKey(), limit, count, ttl));
+      }
+      long lastRequestTime = requestTimes.isEmpty() ? now : requestTimes.peekLast();
+      return new Flush(rateLimits, requestTimes.size(), lastRequestTime);
+    }
+
+    /** The flushed requests are now part of the stored counts. */
+    private void flushed(Flush flush, long now) {
+      flushing = false;
+      int remaining = flush.requestCount;
+      while (remaining > 0
+          && !requestTimes.isEmpty()
+          && requestTimes.peekFirst() <= flush.lastRequestTime) {
+        requestTimes.pollFirst();
+        remaining--;
+      }
+      for (RateLimit rateLimit : flush.rateLimits) {
+        store(rateLimit, now);
+      }
+    }
+
+    private boolean isIdle(long now) {
+      if (loading || flushing) {
+        return false;
+      }
+      if (!requestTimes.isEmpty() && requestTimes.peekLast() > now - longestWindow) {
+        return false;
+      }
+      for (Long expiry : storedExpiryByUnit.values()) {
+        if (expiry > now) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
@@ -9,6 +9,9 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -52,25 +55,29 @@ public class LocationRequestValidator extends BaseLocationRequestValidator {
    * @return List of location id.
    */
   public List<String> getValidatedLocationIds(ActorRef actorRef, List<String> codeList) {
-    Set<String> locationIds = null;
-    List<String> codes = new ArrayList<>(codeList);
     List<Location> locationList = locationClient.getLocationsByCodes(actorRef, codeList, null);
-    List<String> locationIdList = new ArrayList<>();
-    if (CollectionUtils.isNotEmpty(locationList)) {
-      if (locationList.size() != codes.size()) {
-        List<String> resCodeList =
-            locationList.stream().map(Location::getCode).collect(Collectors.toList());
-        List<String> invalidCodeList =
-            codes.stream().filter(s -> !resCodeList.contains(s)).collect(Collectors.toList());
-        throwInvalidParameterValueException(invalidCodeList, JsonKey.LOCATION_CODE);
-      } else {
-        locationIds = getValidatedLocationSet(actorRef, locationList);
-      }
-    } else {
-      throwInvalidParameterValueException(codeList, JsonKey.LOCATION_CODE);
-    }
-    locationIdList.addAll(locationIds);
-    return locationIdList;
+    validateRequestedLocations(locationList, codeList, Location::getCode, JsonKey.LOCATION_CODE);
+    return new ArrayList<>(getValidatedLocationSet(actorRef, locationList));
+  }
+
+  /**
+   * Non blocking counterpart of {@link #getValidatedLocationIds(ActorRef, List)}.
+   *
+   * @param actorRef Actor reference.
+   * @param codeList List of location code.
+   * @return Stage completing with the list of location id.
+   */
+  public CompletionStage<List<String>> getValidatedLocationIdsAsync(
+      ActorRef actorRef, List<String> codeList) {
+    return locationClient
+        .getLocationsByCodesAsync(actorRef, codeList, null)
+        .thenCompose(
+            locationList -> {
+              validateRequestedLocations(
+                  locationList, codeList, Location::getCode, JsonKey.LOCATION_CODE);
+              return getValidatedLocationSetAsync(actorRef, locationList);
+            })
+        .thenApply(ArrayList::new);
   }
 
   /**
@@ -81,26 +88,45 @@ public class LocationRequestValidator extends BaseLocationRequestValidator {
    * @return List of locationIds.
    */
   public List<String> getHierarchyLocationIds(ActorRef actorRef, List<String> locationIdsList) {
-    Set<String> locationIds = null;
-    List<String> codes = new ArrayList<>(locationIdsList);
     List<Location> locationList = locationClient.getLocationByIds(actorRef, locationIdsList, null);
-    List<String> locationIdList = new ArrayList<>();
-    if (CollectionUtils.isNotEmpty(locationList)) {
-      if (locationList.size() != codes.size()) {
-        List<String> resCodeList =
-            locationList.stream().map(Location::getId).collect(Collectors.toList());
-        List<String> invalidIdsList =
-            codes.stream().filter(s -> !resCodeList.contains(s)).collect(Collectors.toList());
-        throwInvalidParameterValueException(invalidIdsList, JsonKey.LOCATION_IDS);
-      } else {
-        locationIds = getValidatedLocationSet(actorRef, locationList);
-      }
-    } else {
-      throwInvalidParameterValueException(locationIdsList, JsonKey.LOCATION_IDS);
-    }
+    validateRequestedLocations(
+        locationList, locationIdsList, Location::getId, JsonKey.LOCATION_IDS);
+    return new ArrayList<>(getValidatedLocationSet(actorRef, locationList));
+  }
 
-    locationIdList.addAll(locationIds);
-    return locationIdList;
+  /**
+   * Non blocking counterpart of {@link #getHierarchyLocationIds(ActorRef, List)}.
+   *
+   * @param actorRef Actor reference.
+   * @return Stage completing with the list of locationIds.
+   */
+  public CompletionStage<List<String>> getHierarchyLocationIdsAsync(
+      ActorRef actorRef, List<String> locationIdsList) {
+    return locationClient
+        .getLocationByIdsAsync(actorRef, locationIdsList, null)
+        .thenCompose(
+            locationList -> {
+              validateRequestedLocations(
+                  locationList, locationIdsList, Location::getId, JsonKey.LOCATION_IDS);
+              return getValidatedLocationSetAsync(actorRef, locationList);
+            })
+        .thenApply(ArrayList::new);
+  }
+
+  private void validateRequestedLocations(
+      List<Location> locationList,
+      List<String> requestedList,
+      Function<Location, String> key,
+      String attributeName) {
+    if (CollectionUtils.isEmpty(locationList)) {
+      throwInvalidParameterValueException(requestedList, attributeName);
+    }
+    if (locationList.size() != requestedList.size()) {
+      List<String> resList = locationList.stream().map(key).collect(Collectors.toList());
+      List<String> invalidList =
+          requestedList.stream().filter(s -> !resList.contains(s)).collect(Collectors.toList());
+      throwInvalidParameterValueException(invalidList, attributeName);
+    }
   }
 
   private void throwInvalidParameterValueException(List<String> invalidList, String attributeName) {
@@ -121,35 +147,56 @@ public class LocationRequestValidator extends BaseLocationRequestValidator {
   public Set<String> getValidatedLocationSet(ActorRef actorRef, List<Location> locationList) {
     Set<Location> locationSet = new HashSet<>();
     for (Location requestedLocation : locationList) {
-      Set<Location> parentLocnSet = getParentLocations(actorRef, requestedLocation);
-      if (CollectionUtils.sizeIsEmpty(locationSet)) {
-        locationSet.addAll(parentLocnSet);
-      } else {
-        for (Location currentLocation : parentLocnSet) {
-          String type = currentLocation.getType();
-          locationSet
-              .stream()
-              .forEach(
-                  location -> {
-                    if (type.equalsIgnoreCase(location.getType())
-                        && !(currentLocation.getId().equals(location.getId()))) {
-                      throw new ProjectCommonException(
-                          ResponseCode.conflictingOrgLocations.getErrorCode(),
-                          ProjectUtil.formatMessage(
-                              ResponseCode.conflictingOrgLocations.getErrorMessage(),
-                              requestedLocation.getCode(),
-                              location.getCode(),
-                              type),
-                          ResponseCode.CLIENT_ERROR.getResponseCode());
-                    }
-                  });
-          locationSet.add(currentLocation);
-        }
-      }
+      addParentLocations(
+          locationSet, requestedLocation, getParentLocations(actorRef, requestedLocation));
     }
     return locationSet.stream().map(Location::getId).collect(Collectors.toSet());
   }
 
+  private CompletionStage<Set<String>> getValidatedLocationSetAsync(
+      ActorRef actorRef, List<Location> locationList) {
+    Set<Location> locationSet = new HashSet<>();
+    CompletionStage<Void> stage = CompletableFuture.completedFuture(null);
+    for (Location requestedLocation : locationList) {
+      stage =
+          stage
+              .thenCompose(v -> getParentLocationsAsync(actorRef, requestedLocation))
+              .thenAccept(
+                  parentLocnSet ->
+                      addParentLocations(locationSet, requestedLocation, parentLocnSet));
+    }
+    return stage.thenApply(
+        v -> locationSet.stream().map(Location::getId).collect(Collectors.toSet()));
+  }
+
+  private void addParentLocations(
+      Set<Location> locationSet, Location requestedLocation, Set<Location> parentLocnSet) {
+    if (CollectionUtils.sizeIsEmpty(locationSet)) {
+      locationSet.addAll(parentLocnSet);
+    } else {
+      for (Location currentLocation : parentLocnSet) {
+        String type = currentLocation.getType();
+        locationSet
+            .stream()
+            .forEach(
+                location -> {
+                  if (type.equalsIgnoreCase(location.getType())
+                      && !(currentLocation.getId().equals(location.getId()))) {
+                    throw new ProjectCommonException(
+                        ResponseCode.conflictingOrgLocations.getErrorCode(),
+                        ProjectUtil.formatMessage(
+                            ResponseCode.conflictingOrgLocations.getErrorMessage(),
+                            requestedLocation.getCode(),
+                            location.getCode(),
+                            type),
+                        ResponseCode.CLIENT_ERROR.getResponseCode());
+                  }
+                });
+        locationSet.add(currentLocation);
+      }
+    }
+  }
+
   private Set<Location> getParentLocations(ActorRef actorRef, Location locationObj) {
     Set<Location> locationSet = new LinkedHashSet<>();
     Location location = locationObj;
@@ -157,10 +204,9 @@ public class LocationRequestValidator extends BaseLocationRequestValidator {
     locationSet.add(location);
     while (count > 0) {
       Location parent = null;
-      if (getOrder(location.getType()) == 0 && StringUtils.isNotEmpty(location.getId())) {
-        parent = locationClient.getLocationById(actorRef, location.getId(), null);
-      } else if (StringUtils.isNotEmpty(location.getParentId())) {
-        parent = locationClient.getLocationById(actorRef, location.getParentId(), null);
+      String parentId = getParentLookupId(location);
+      if (null != parentId) {
+        parent = locationClient.getLocationById(actorRef, parentId, null);
       }
       if (null != parent) {
         locationSet.add(parent);
@@ -171,6 +217,41 @@ public class LocationRequestValidator extends BaseLocationRequestValidator {
     return locationSet;
   }
 
+  private CompletionStage<Set<Location>> getParentLocationsAsync(
+      ActorRef actorRef, Location location) {
+    Set<Location> locationSet = new LinkedHashSet<>();
+    locationSet.add(location);
+    return addParentLocationsAsync(actorRef, location, getOrder(location.getType()), locationSet);
+  }
+
+  private CompletionStage<Set<Location>> addParentLocationsAsync(
+      ActorRef actorRef, Location location, int count, Set<Location> locationSet) {
+    String parentId = getParentLookupId(location);
+    // a lookup that found nothing would find nothing again, so the walk ends there
+    if (count <= 0 || null == parentId) {
+      return CompletableFuture.completedFuture(locationSet);
+    }
+    return locationClient
+        .getLocationByIdAsync(actorRef, parentId, null)
+        .thenCompose(
+            parent -> {
+              if (null == parent) {
+                return CompletableFuture.completedFuture(locationSet);
+              }
+              locationSet.add(parent);
+              return addParentLocationsAsync(actorRef, parent, count - 1, locationSet);
+            });
+  }
+
+  private String getParentLookupId(Location location) {
+    if (getOrder(location.getType()) == 0 && StringUtils.isNotEmpty(location.getId())) {
+      return location.getId();
+    } else if (StringUtils.isNotEmpty(location.getParentId())) {
+      return location.getParentId();
+    }
+    return null;
+  }
+
   public int getOrder(String type) {
     return orderMap.get(type);
   }
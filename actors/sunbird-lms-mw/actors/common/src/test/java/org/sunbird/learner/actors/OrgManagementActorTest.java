@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -462,6 +463,7 @@ public class OrgManagementActorTest {
         .thenReturn(locList);
     when(locationClient.getLocationByIds(Mockito.any(), Mockito.anyList(), Mockito.any()))
         .thenReturn(getLocationLists());
+    mockAsyncLocationLookups(locationClient, client, locationRequestValidator, locList);
     Map<String, Object> req = getRequestDataForOrgCreate(basicRequestData);
     req.put(JsonKey.HASHTAGID, "orgId");
     req.put(JsonKey.IS_TENANT, true);
@@ -501,6 +503,7 @@ public class OrgManagementActorTest {
         .thenReturn(locList);
     when(locationClient.getLocationByIds(Mockito.any(), Mockito.anyList(), Mockito.any()))
         .thenReturn(getLocationLists());
+    mockAsyncLocationLookups(locationClient, client, locationRequestValidator, locList);
     Map<String, Object> req = getRequestDataForOrgCreate(basicRequestData);
     req.put(JsonKey.HASHTAGID, "orgId");
     req.put(JsonKey.IS_TENANT, true);
@@ -543,6 +546,7 @@ public class OrgManagementActorTest {
         .thenReturn(locList);
     when(locationClient.getLocationByIds(Mockito.any(), Mockito.anyList(), Mockito.any()))
         .thenReturn(getLocationLists());
+    mockAsyncLocationLookups(locationClient, client, locationRequestValidator, locList);
     Map<String, Object> req = getRequestDataForOrgCreate(basicRequestData);
     req.put(JsonKey.HASHTAGID, "orgId");
     req.put(JsonKey.IS_TENANT, true);
@@ -557,6 +561,26 @@ public class OrgManagementActorTest {
     assertTrue(result);
   }
 
+  // the asynchronous lookups answer the same way the blocking ones do
+  private void mockAsyncLocationLookups(
+      LocationClient locationClient,
+      LocationClient client,
+      LocationRequestValidator locationRequestValidator,
+      List<String> locList) {
+    when(locationRequestValidator.getHierarchyLocationIdsAsync(Mockito.any(), Mockito.anyList()))
+        .thenReturn(CompletableFuture.completedFuture(locList));
+    when(locationRequestValidator.getValidatedLocationIdsAsync(Mockito.any(), Mockito.anyList()))
+        .thenReturn(CompletableFuture.completedFuture(new ArrayList<>()));
+    when(locationClient.getLocationByIdsAsync(Mockito.any(), Mockito.anyList(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(getLocationLists()));
+    when(client.getLocationsByCodesAsync(Mockito.any(), Mockito.anyList(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(new ArrayList<>()));
+    when(client.getLocationByIdsAsync(Mockito.any(), Mockito.anyList(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(new ArrayList<>()));
+    when(client.getLocationByIdAsync(Mockito.any(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(null));
+  }
+
   public List<Location> getLocationLists() {
     List<Location> locations = new ArrayList<>();
     Location location = new Location();
@@ -32,6 +32,7 @@ import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.ActorOperations;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.request.Request;
+import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.learner.actors.search.SearchHandlerActor;
 import scala.concurrent.Promise;
@@ -220,6 +221,43 @@ public class SearchHandlerActorTest {
     Assert.assertTrue(null != res.get(JsonKey.RESPONSE));
   }
 
+  @Test
+  public void searchUserFailureSentAsException() {
+    PowerMockito.mockStatic(EsClientFactory.class);
+    ElasticSearchService esService = mock(ElasticSearchRestHighImpl.class);
+    when(EsClientFactory.getInstance(Mockito.anyString())).thenReturn(esService);
+    Promise<Map<String, Object>> promise = Futures.promise();
+    promise.failure(
+        new ProjectCommonException(
+            ResponseCode.internalError.getErrorCode(),
+            ResponseCode.internalError.getErrorMessage(),
+            ResponseCode.SERVER_ERROR.getResponseCode()));
+    when(esService.search(Mockito.any(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(promise.future());
+
+    PowerMockito.mockStatic(SunbirdMWService.class);
+    SunbirdMWService.tellToBGRouter(Mockito.any(), Mockito.any());
+    PowerMockito.mockStatic(BaseMWService.class);
+    BaseMWService.getRemoteRouter(Mockito.anyString());
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+
+    Request reqObj = new Request();
+    reqObj.setOperation(ActorOperations.USER_SEARCH_V2.getValue());
+    HashMap<String, Object> innerMap = new HashMap<>();
+    innerMap.put(JsonKey.QUERY, "");
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.ROOT_ORG_ID, "ORG_001");
+    innerMap.put(JsonKey.FILTERS, filters);
+    innerMap.put(JsonKey.LIMIT, 1);
+    reqObj.setContext(new HashMap<>());
+    reqObj.setRequest(innerMap);
+    subject.tell(reqObj, probe.getRef());
+    ProjectCommonException ex =
+        probe.expectMsgClass(duration("10 second"), ProjectCommonException.class);
+    Assert.assertEquals(ResponseCode.internalError.getErrorCode(), ex.getCode());
+  }
+
   @Test
   public void searchUserWithObjectTypeAsOrg() {
     PowerMockito.mockStatic(EsClientFactory.class);
@@ -0,0 +1,68 @@
+package org.sunbird.learner.actors.bulkupload;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.sunbird.learner.actors.bulkupload.model.BulkUploadProcessTask;
+
+public class BaseBulkUploadBackgroundJobActorTest {
+
+  @Test
+  public void testTasksWithoutSharedKeysAreSeparateGroups() {
+    List<BulkUploadProcessTask> tasks = tasks("a@x.com", "b@x.com", "c@x.com");
+
+    List<List<BulkUploadProcessTask>> groups =
+        BaseBulkUploadBackgroundJobActor.groupByKeys(tasks, this::keysOf);
+
+    assertEquals(3, groups.size());
+  }
+
+  @Test
+  public void testTasksSharingKeyAreGroupedInOrder() {
+    List<BulkUploadProcessTask> tasks = tasks("a@x.com", "b@x.com", "a@x.com", "c@x.com");
+
+    List<List<BulkUploadProcessTask>> groups =
+        BaseBulkUploadBackgroundJobActor.groupByKeys(tasks, this::keysOf);
+
+    assertEquals(3, groups.size());
+    assertEquals(Arrays.asList(1, 3), sequenceIds(groups.get(0)));
+    assertEquals(Arrays.asList(2), sequenceIds(groups.get(1)));
+    assertEquals(Arrays.asList(4), sequenceIds(groups.get(2)));
+  }
+
+  @Test
+  public void testTasksLinkedThroughAnotherTaskAreGrouped() {
+    // the second row shares its email with the first one and its phone with the third one
+    List<BulkUploadProcessTask> tasks = tasks("a@x.com 111", "a@x.com 222", "b@x.com 222");
+
+    List<List<BulkUploadProcessTask>> groups =
+        BaseBulkUploadBackgroundJobActor.groupByKeys(tasks, this::keysOf);
+
+    assertEquals(1, groups.size());
+    assertEquals(Arrays.asList(1, 2, 3), sequenceIds(groups.get(0)));
+  }
+
+  private List<BulkUploadProcessTask> tasks(String... data) {
+    List<BulkUploadProcessTask> tasks = new ArrayList<>();
+    for (int i = 0; i < data.length; i++) {
+      BulkUploadProcessTask task = new BulkUploadProcessTask();
+      task.setSequenceId(i + 1);
+      task.setData(data[i]);
+      tasks.add(task);
+    }
+    return tasks;
+  }
+
+  private Collection<String> keysOf(BulkUploadProcessTask task) {
+    return Arrays.asList(task.getData().split(" "));
+  }
+
+  private List<Integer> sequenceIds(List<BulkUploadProcessTask> group) {
+    return group.stream().map(BulkUploadProcessTask::getSequenceId).collect(Collectors.toList());
+  }
+}
@@ -28,9 +28,11 @@ import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.sunbird.cassandraimpl.CassandraOperationImpl;
+import org.sunbird.common.Constants;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.ActorOperations;
+import org.sunbird.common.models.util.BulkUploadJsonKey;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.ProjectUtil;
 import org.sunbird.common.request.Request;
@@ -203,6 +205,106 @@ public class BulkUploadManagementActorTest {
     }
   }
 
+  @Test
+  public void testBulkUploadGetStatusAssemblesResultsFromTasks() {
+    Response response = getCassandraRecordByIdForBulkUploadResponse();
+    ((List<Map<String, Object>>) response.get(JsonKey.RESPONSE)).get(0).put(JsonKey.TASK_COUNT, 2);
+    when(cassandraOperation.getRecordById(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyList(),
+            Mockito.any()))
+        .thenReturn(response);
+    when(cassandraOperation.getRecordById(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyMap(),
+            Mockito.anyList(),
+            Mockito.any()))
+        .thenReturn(getCassandraRecordByIdForBulkUploadTaskResponse());
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    Request reqObj = new Request();
+    reqObj.setOperation(ActorOperations.GET_BULK_OP_STATUS.getValue());
+    reqObj.getRequest().put(JsonKey.PROCESS_ID, PROCESS_ID);
+    subject.tell(reqObj, probe.getRef());
+    Response res = probe.expectMsgClass(duration("10 second"), Response.class);
+    Map<String, Object> map = ((List<Map<String, Object>>) res.get(JsonKey.RESPONSE)).get(0);
+    Assert.assertEquals(1, ((List<Map>) map.get(JsonKey.SUCCESS_RESULT)).size());
+    Assert.assertEquals(1, ((List<Map>) map.get(JsonKey.FAILURE_RESULT)).size());
+    Assert.assertFalse(map.containsKey(JsonKey.TASK_COUNT));
+  }
+
+  @Test
+  public void testBulkUploadGetStatusReadsOnlyRequestedPage() {
+    Response response = getCassandraRecordByIdForBulkUploadResponse();
+    ((List<Map<String, Object>>) response.get(JsonKey.RESPONSE)).get(0).put(JsonKey.TASK_COUNT, 10);
+    when(cassandraOperation.getRecordById(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyList(),
+            Mockito.any()))
+        .thenReturn(response);
+    when(cassandraOperation.getRecordById(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyMap(),
+            Mockito.anyList(),
+            Mockito.any()))
+        .thenReturn(getCassandraRecordByIdForBulkUploadTaskResponse());
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    Request reqObj = new Request();
+    reqObj.setOperation(ActorOperations.GET_BULK_OP_STATUS.getValue());
+    reqObj.getRequest().put(JsonKey.PROCESS_ID, PROCESS_ID);
+    reqObj.getRequest().put(JsonKey.OFFSET, "4");
+    reqObj.getRequest().put(JsonKey.LIMIT, "3");
+    subject.tell(reqObj, probe.getRef());
+    Response res = probe.expectMsgClass(duration("10 second"), Response.class);
+    Map<String, Object> map = ((List<Map<String, Object>>) res.get(JsonKey.RESPONSE)).get(0);
+    Assert.assertEquals(4, map.get(JsonKey.OFFSET));
+    Assert.assertEquals(3, map.get(JsonKey.LIMIT));
+    Assert.assertEquals(10, map.get(JsonKey.COUNT));
+    Mockito.verify(cassandraOperation, Mockito.times(1))
+        .getRecordById(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.<Map<String, Object>>argThat(
+                query -> {
+                  Map<String, Object> range =
+                      (Map<String, Object>) query.get(BulkUploadJsonKey.SEQUENCE_ID);
+                  return Integer.valueOf(4).equals(range.get(Constants.GT))
+                      && Integer.valueOf(7).equals(range.get(Constants.LTE));
+                }),
+            Mockito.anyList(),
+            Mockito.any());
+  }
+
+  @Test
+  public void testBulkUploadGetStatusWithInvalidLimit() {
+    Response response = getCassandraRecordByIdForBulkUploadResponse();
+    ((List<Map<String, Object>>) response.get(JsonKey.RESPONSE)).get(0).put(JsonKey.TASK_COUNT, 2);
+    when(cassandraOperation.getRecordById(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyList(),
+            Mockito.any()))
+        .thenReturn(response);
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    Request reqObj = new Request();
+    reqObj.setOperation(ActorOperations.GET_BULK_OP_STATUS.getValue());
+    reqObj.getRequest().put(JsonKey.PROCESS_ID, PROCESS_ID);
+    reqObj.getRequest().put(JsonKey.LIMIT, "0");
+    subject.tell(reqObj, probe.getRef());
+    ProjectCommonException res =
+        probe.expectMsgClass(duration("10 second"), ProjectCommonException.class);
+    Assert.assertEquals(ResponseCode.invalidParameterValue.getErrorCode(), res.getCode());
+  }
+
   @Ignore
   public void testUserBulkUploadCreateUserSuccess() {
     TestKit probe = new TestKit(system);
@@ -348,6 +450,21 @@ public class BulkUploadManagementActorTest {
     return response;
   }
 
+  private Response getCassandraRecordByIdForBulkUploadTaskResponse() {
+    Response response = new Response();
+    List<Map<String, Object>> list = new ArrayList<>();
+    Map<String, Object> successTask = new HashMap<>();
+    successTask.put(JsonKey.STATUS, ProjectUtil.BulkProcessStatus.COMPLETED.getValue());
+    successTask.put(JsonKey.SUCCESS_RESULT, "{\"orgName\":\"org1\"}");
+    list.add(successTask);
+    Map<String, Object> failureTask = new HashMap<>();
+    failureTask.put(JsonKey.STATUS, ProjectUtil.BulkProcessStatus.FAILED.getValue());
+    failureTask.put(JsonKey.FAILURE_RESULT, "{\"orgName\":\"org2\"}");
+    list.add(failureTask);
+    response.put(JsonKey.RESPONSE, list);
+    return response;
+  }
+
   private Response getCassandraRecordByIdForOrgResponse() {
     Response response = new Response();
     List<Map<String, Object>> list = new ArrayList<>();
@@ -0,0 +1,36 @@
+package org.sunbird.learner.actors.bulkupload;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class BulkUploadWorkerPoolTest {
+
+  @Test
+  public void testSingleProcessGetsWorkersPerProcess() {
+    BulkUploadWorkerPool workerPool = new BulkUploadWorkerPool(4, 16);
+    workerPool.register("tenant1");
+    assertEquals(4, workerPool.getWorkers("tenant1"));
+  }
+
+  @Test
+  public void testTenantsShareMaxWorkers() {
+    BulkUploadWorkerPool workerPool = new BulkUploadWorkerPool(8, 8);
+    workerPool.register("tenant1");
+    workerPool.register("tenant1");
+    workerPool.register("tenant2");
+    assertEquals(2, workerPool.getWorkers("tenant1"));
+    assertEquals(4, workerPool.getWorkers("tenant2"));
+    workerPool.unregister("tenant2");
+    assertEquals(4, workerPool.getWorkers("tenant1"));
+  }
+
+  @Test
+  public void testEveryProcessGetsAtLeastOneWorker() {
+    BulkUploadWorkerPool workerPool = new BulkUploadWorkerPool(4, 2);
+    workerPool.register("tenant1");
+    workerPool.register("tenant2");
+    workerPool.register("tenant3");
+    assertEquals(1, workerPool.getWorkers("tenant3"));
+  }
+}
@@ -0,0 +1,186 @@
+package org.sunbird.learner.actors.health;
+
+import static akka.testkit.JavaTestKit.duration;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import akka.dispatch.Futures;
+import akka.testkit.javadsl.TestKit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.cassandraimpl.CassandraOperationImpl;
+import org.sunbird.common.CassandraUtil;
+import org.sunbird.common.ElasticSearchHelper;
+import org.sunbird.common.ElasticSearchRestHighImpl;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.factory.EsClientFactory;
+import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.models.util.ActorOperations;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.request.Request;
+import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.helper.ServiceFactory;
+import org.sunbird.learner.util.Util;
+import scala.concurrent.Promise;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({
+  CassandraOperationImpl.class,
+  ServiceFactory.class,
+  CassandraOperation.class,
+  CassandraUtil.class,
+  Util.class,
+  EsClientFactory.class,
+  ElasticSearchService.class,
+  ElasticSearchHelper.class,
+  ElasticSearchRestHighImpl.class
+})
+@PowerMockIgnore({
+  "javax.management.*",
+  "javax.net.ssl.*",
+  "javax.security.*",
+  "jdk.internal.reflect.*",
+  "javax.crypto.*"
+})
+public class HealthActorTest {
+
+  private static ActorSystem system;
+  private CassandraOperation cassandraOperation;
+  private ElasticSearchService esService;
+  private AtomicLong clock;
+  private HealthMonitor monitor;
+
+  @BeforeClass
+  public static void setUp() {
+    system = ActorSystem.create("system");
+  }
+
+  @Before
+  public void beforeEachTest() {
+    cassandraOperation = PowerMockito.mock(CassandraOperation.class);
+    esService = PowerMockito.mock(ElasticSearchService.class);
+    PowerMockito.mockStatic(ServiceFactory.class);
+    when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
+    PowerMockito.mockStatic(EsClientFactory.class);
+    when(EsClientFactory.getInstance(JsonKey.REST)).thenReturn(esService);
+    clock = new AtomicLong(System.currentTimeMillis());
+    monitor = new HealthMonitor(() -> cassandraOperation, () -> esService, 1, 10, clock::get);
+  }
+
+  @Test
+  public void getHealthCheck() {
+    mockCassandraHealth();
+    mockEsHealth();
+    monitor.probe();
+    Map<String, Object> result = checkHealth(ActorOperations.HEALTH_CHECK);
+    Assert.assertEquals(true, result.get(JsonKey.Healthy));
+    Assert.assertEquals(4, ((List) result.get(JsonKey.CHECKS)).size());
+  }
+
+  @Test
+  public void getACTORHealthCheck() {
+    Map<String, Object> result = checkHealth(ActorOperations.ACTOR);
+    Assert.assertEquals(true, result.get(JsonKey.Healthy));
+    Mockito.verifyZeroInteractions(cassandraOperation, esService);
+  }
+
+  @Test
+  public void getESHealthCheck() {
+    mockCassandraHealth();
+    mockEsHealth();
+    monitor.probe();
+    Map<String, Object> result = checkHealth(ActorOperations.ES);
+    Assert.assertEquals(true, result.get(JsonKey.Healthy));
+  }
+
+  @Test
+  public void getCASSANDRAHealthCheck() {
+    mockCassandraHealth();
+    mockEsHealth();
+    monitor.probe();
+    Map<String, Object> result = checkHealth(ActorOperations.CASSANDRA);
+    Assert.assertEquals(true, result.get(JsonKey.Healthy));
+    Mockito.verify(cassandraOperation).checkConnection(JsonKey.SUNBIRD, null);
+    Mockito.verify(cassandraOperation, Mockito.never())
+        .getAllRecords(Mockito.anyString(), Mockito.anyString(), Mockito.any());
+  }
+
+  @Test
+  public void getHealthCheckServedFromSnapshot() {
+    mockCassandraHealth();
+    mockEsHealth();
+    monitor.probe();
+    Mockito.clearInvocations(cassandraOperation, esService);
+    checkHealth(ActorOperations.HEALTH_CHECK);
+    Mockito.verifyZeroInteractions(cassandraOperation, esService);
+  }
+
+  @Test
+  public void getCASSANDRAHealthCheckWhenCassandraFails() {
+    when(cassandraOperation.checkConnection(Mockito.anyString(), Mockito.any()))
+        .thenThrow(
+            new ProjectCommonException(
+                ResponseCode.SERVER_ERROR.getErrorCode(),
+                ResponseCode.SERVER_ERROR.getErrorMessage(),
+                ResponseCode.SERVER_ERROR.getResponseCode()));
+    mockEsHealth();
+    monitor.probe();
+    Assert.assertEquals(false, checkHealth(ActorOperations.CASSANDRA).get(JsonKey.Healthy));
+    Assert.assertEquals(false, checkHealth(ActorOperations.HEALTH_CHECK).get(JsonKey.Healthy));
+    Assert.assertEquals(true, checkHealth(ActorOperations.ES).get(JsonKey.Healthy));
+  }
+
+  @Test
+  public void getHealthCheckWhenSnapshotIsStale() {
+    mockCassandraHealth();
+    mockEsHealth();
+    monitor.probe();
+    // max age is three intervals of 10 seconds plus a timeout of 1 second per component
+    clock.addAndGet(32001);
+    Assert.assertEquals(false, checkHealth(ActorOperations.HEALTH_CHECK).get(JsonKey.Healthy));
+    Assert.assertEquals(false, checkHealth(ActorOperations.CASSANDRA).get(JsonKey.Healthy));
+    Assert.assertEquals(false, checkHealth(ActorOperations.ES).get(JsonKey.Healthy));
+  }
+
+  @Test
+  public void getHealthCheckBeforeFirstProbe() {
+    Assert.assertEquals(false, checkHealth(ActorOperations.HEALTH_CHECK).get(JsonKey.Healthy));
+  }
+
+  private Map<String, Object> checkHealth(ActorOperations operation) {
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(Props.create(HealthActor.class, monitor));
+    Request reqObj = new Request();
+    reqObj.setOperation(operation.getValue());
+    subject.tell(reqObj, probe.getRef());
+    Response res = probe.expectMsgClass(duration("200 second"), Response.class);
+    Assert.assertTrue(null != res.get(JsonKey.RESPONSE));
+    return (Map<String, Object>) res.get(JsonKey.RESPONSE);
+  }
+
+  private void mockCassandraHealth() {
+    when(cassandraOperation.checkConnection(Mockito.anyString(), Mockito.any()))
+        .thenReturn(new Response());
+  }
+
+  private void mockEsHealth() {
+    Promise<Boolean> promise = Futures.promise();
+    promise.success(true);
+    when(esService.healthCheck()).thenReturn(promise.future());
+  }
+}
@@ -0,0 +1,135 @@
+package org.sunbird.learner.actors.health;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import akka.dispatch.Futures;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.responsecode.ResponseCode;
+import scala.concurrent.Promise;
+
+public class HealthMonitorTest {
+  private CassandraOperation cassandraOperation;
+  private ElasticSearchService esService;
+  private AtomicLong clock;
+  private HealthMonitor monitor;
+
+  @Before
+  public void beforeEachTest() {
+    cassandraOperation = Mockito.mock(CassandraOperation.class);
+    esService = Mockito.mock(ElasticSearchService.class);
+    clock = new AtomicLong(System.currentTimeMillis());
+    monitor = new HealthMonitor(() -> cassandraOperation, () -> esService, 1, 10, clock::get);
+  }
+
+  @Test
+  public void testProbeHealthy() {
+    Mockito.when(cassandraOperation.checkConnection(Mockito.anyString(), Mockito.any()))
+        .thenReturn(new Response());
+    mockEsHealth(true);
+    monitor.probe();
+    assertTrue(monitor.getCassandraHealth().isHealthy());
+    assertTrue(monitor.getEsHealth().isHealthy());
+    Map<String, Object> check = monitor.getEsHealth().toCheckResponse(JsonKey.ES_SERVICE);
+    assertEquals(true, check.get(JsonKey.Healthy));
+    assertTrue(check.containsKey(JsonKey.CHECKED_ON));
+    assertTrue(check.containsKey(JsonKey.LATENCY));
+  }
+
+  @Test
+  public void testProbeCassandraFailure() {
+    Mockito.when(cassandraOperation.checkConnection(Mockito.anyString(), Mockito.any()))
+        .thenThrow(
+            new ProjectCommonException(
+                ResponseCode.SERVER_ERROR.getErrorCode(),
+                ResponseCode.SERVER_ERROR.getErrorMessage(),
+                ResponseCode.SERVER_ERROR.getResponseCode()));
+    mockEsHealth(true);
+    monitor.probe();
+    assertFalse(monitor.getCassandraHealth().isHealthy());
+    assertTrue(monitor.getEsHealth().isHealthy());
+    Map<String, Object> check =
+        monitor.getCassandraHealth().toCheckResponse(JsonKey.CASSANDRA_SERVICE);
+    assertEquals(false, check.get(JsonKey.Healthy));
+  }
+
+  @Test
+  public void testProbeEsFailure() {
+    Promise<Boolean> promise = Futures.promise();
+    promise.failure(new Exception("connection refused"));
+    Mockito.when(esService.healthCheck()).thenReturn(promise.future());
+    monitor.probe();
+    assertFalse(monitor.getEsHealth().isHealthy());
+    assertEquals(
+        "connection refused",
+        monitor.getEsHealth().toCheckResponse(JsonKey.ES_SERVICE).get(JsonKey.ERRORMSG));
+  }
+
+  @Test
+  public void testProbeEsTimeout() {
+    Promise<Boolean> promise = Futures.promise();
+    Mockito.when(esService.healthCheck()).thenReturn(promise.future());
+    monitor.probe();
+    assertFalse(monitor.getEsHealth().isHealthy());
+  }
+
+  @Test
+  public void testProbeCassandraTimeout() {
+    Mockito.when(cassandraOperation.checkConnection(Mockito.anyString(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(60000);
+              return new Response();
+            });
+    mockEsHealth(true);
+    monitor.probe();
+    assertFalse(monitor.getCassandraHealth().isHealthy());
+    assertTrue(monitor.getEsHealth().isHealthy());
+  }
+
+  @Test
+  public void testUnhealthyBeforeFirstProbe() {
+    assertFalse(monitor.getCassandraHealth().isHealthy());
+    assertFalse(monitor.getEsHealth().isHealthy());
+    Mockito.verifyZeroInteractions(cassandraOperation, esService);
+  }
+
+  @Test
+  public void testUnhealthyOnceProbeIsStale() {
+    Mockito.when(cassandraOperation.checkConnection(Mockito.anyString(), Mockito.any()))
+        .thenReturn(new Response());
+    mockEsHealth(true);
+    monitor.probe();
+    long checkedOn = monitor.getEsHealth().getCheckedOn();
+    // max age is three intervals of 10 seconds plus a timeout of 1 second per component
+    clock.addAndGet(32000);
+    assertTrue(monitor.getEsHealth().isHealthy());
+    clock.addAndGet(1);
+    assertFalse(monitor.getCassandraHealth().isHealthy());
+    assertFalse(monitor.getEsHealth().isHealthy());
+    assertEquals(checkedOn, monitor.getEsHealth().getCheckedOn());
+  }
+
+  @Test
+  public void testProbeIndexMissing() {
+    mockEsHealth(false);
+    monitor.probe();
+    assertFalse(monitor.getEsHealth().isHealthy());
+  }
+
+  private void mockEsHealth(boolean healthy) {
+    Promise<Boolean> promise = Futures.promise();
+    promise.success(healthy);
+    Mockito.when(esService.healthCheck()).thenReturn(promise.future());
+  }
+}
@@ -0,0 +1,186 @@
+package org.sunbird.learner.actors.notificationservice;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.icegreen.greenmail.store.StoredMessage;
+import com.icegreen.greenmail.user.GreenMailUser;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.common.util.ExecutorUtil;
+
+public class EmailBatchSenderTest {
+  private static final String FROM_EMAIL = "noreply@sunbird.org";
+
+  private GreenMail greenMail;
+  private Session session;
+  private ExecutorService executor;
+
+  @Before
+  public void setUp() {
+    greenMail = new GreenMail(ServerSetupTest.SMTP);
+    greenMail.start();
+    Properties props = new Properties();
+    props.put("mail.smtp.host", "localhost");
+    props.put("mail.smtp.port", String.valueOf(ServerSetupTest.SMTP.getPort()));
+    session = Session.getInstance(props);
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+    greenMail.stop();
+  }
+
+  @Test
+  public void testSendDeliversEveryBatch() throws Exception {
+    SmtpTransportPool pool = new SmtpTransportPool(this::connect, 2, 60000, 10000);
+    EmailBatchSender sender = new EmailBatchSender(session, pool, FROM_EMAIL, 3, executor);
+    List<String> emails = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      emails.add("user" + i + "@domain" + i + ".org");
+    }
+    int failed = sender.send(emails, "Welcome", "<p>Hello</p>", null).get(10, TimeUnit.SECONDS);
+    assertEquals(0, failed);
+    for (String email : emails) {
+      List<StoredMessage> messages = awaitInbox(email, 1);
+      assertEquals(1, messages.size());
+      MimeMessage message = messages.get(0).getMimeMessage();
+      assertEquals("Welcome", message.getSubject());
+      assertEquals("<p>Hello</p>", GreenMailUtil.getBody(message));
+    }
+    assertEquals(3, sender.getBatchCount());
+    assertTrue(pool.getConnectCount() <= 2);
+  }
+
+  @Test
+  public void testTransportsReusedAcrossSends() throws Exception {
+    SmtpTransportPool pool = new SmtpTransportPool(this::connect, 1, 60000, 10000);
+    EmailBatchSender sender = new EmailBatchSender(session, pool, FROM_EMAIL, 2, executor);
+    List<String> emails = Arrays.asList("user1@sunbird.org", "user2@sunbird.org");
+    sender.send(emails, "First", "<p>Hello</p>", null).get(10, TimeUnit.SECONDS);
+    sender.send(emails, "Second", "<p>Hello</p>", null).get(10, TimeUnit.SECONDS);
+    assertEquals(2, awaitInbox("user1@sunbird.org", 2).size());
+    assertEquals(1, pool.getConnectCount());
+  }
+
+  @Test
+  public void testBatchesBeyondQueueDropped() throws Exception {
+    CountDownLatch connected = new CountDownLatch(1);
+    ThreadPoolExecutor boundedExecutor =
+        ExecutorUtil.newBoundedPool("email-batch-sender", 1, 1, ExecutorUtil.Rejection.ABORT);
+    try {
+      SmtpTransportPool pool =
+          new SmtpTransportPool(
+              () -> {
+                try {
+                  connected.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                return connect();
+              },
+              2,
+              60000,
+              10000);
+      EmailBatchSender sender =
+          new EmailBatchSender(session, pool, FROM_EMAIL, 1, boundedExecutor);
+      List<String> emails = new ArrayList<>();
+      for (int i = 0; i < 6; i++) {
+        emails.add("user" + i + "@sunbird.org");
+      }
+      // the first batch waits for its connection, the second one in the queue
+      try {
+        sender.send(emails, "Welcome", "<p>Hello</p>", null);
+        fail();
+      } catch (ProjectCommonException e) {
+        assertEquals(ResponseCode.SERVICE_UNAVAILABLE.getResponseCode(), e.getResponseCode());
+      }
+      assertEquals(4, sender.getDroppedBatchCount());
+      assertEquals(4, sender.getDroppedRecipientCount());
+      connected.countDown();
+      assertEquals(1, awaitInbox("user0@sunbird.org", 1).size());
+      assertEquals(1, awaitInbox("user1@sunbird.org", 1).size());
+      assertEquals(0, awaitInbox("user2@sunbird.org", 0).size());
+    } finally {
+      boundedExecutor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testDisconnectedTransportReplaced() throws Exception {
+    SmtpTransportPool pool = new SmtpTransportPool(this::connect, 1, 60000, 10000);
+    SmtpTransportPool.PooledTransport pooled = pool.borrow();
+    pooled.getTransport().close();
+    pool.release(pooled);
+    pooled = pool.borrow();
+    assertTrue(pooled.getTransport().isConnected());
+    pool.release(pooled);
+    assertEquals(2, pool.getConnectCount());
+    assertEquals(1, pool.getDiscardedCount());
+  }
+
+  @Test
+  public void testFailedConnectionsCountedAsFailedBatches() throws Exception {
+    SmtpTransportPool pool =
+        new SmtpTransportPool(
+            () -> {
+              throw new MessagingException("Connection refused");
+            },
+            2,
+            60000,
+            10000);
+    EmailBatchSender sender = new EmailBatchSender(session, pool, FROM_EMAIL, 2, executor);
+    List<String> emails =
+        Arrays.asList("user1@sunbird.org", "user2@sunbird.org", "user3@sunbird.org");
+    int failed = sender.send(emails, "Welcome", "<p>Hello</p>", null).get(10, TimeUnit.SECONDS);
+    assertEquals(2, failed);
+    assertEquals(3, sender.getFailedRecipientCount());
+    assertEquals(2, pool.getConnectFailureCount());
+    assertEquals(0, greenMail.getReceivedMessages().length);
+  }
+
+  // GreenMail acknowledges a message before it is stored in the inboxes of its recipients
+  private List<StoredMessage> awaitInbox(String email, int count) throws Exception {
+    long deadline = System.currentTimeMillis() + 10000;
+    while (true) {
+      GreenMailUser user = greenMail.getManagers().getUserManager().getUserByEmail(email);
+      List<StoredMessage> messages =
+          null == user
+              ? Collections.emptyList()
+              : greenMail.getManagers().getImapHostManager().getInbox(user).getMessages();
+      if (messages.size() >= count || System.currentTimeMillis() > deadline) {
+        return messages;
+      }
+      Thread.sleep(10);
+    }
+  }
+
+  private Transport connect() throws MessagingException {
+    Transport transport = session.getTransport("smtp");
+    transport.connect();
+    return transport;
+  }
+}
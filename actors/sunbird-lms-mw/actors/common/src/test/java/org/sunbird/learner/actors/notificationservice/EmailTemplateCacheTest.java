@@ -0,0 +1,50 @@
+package org.sunbird.learner.actors.notificationservice;
+
+import static org.junit.Assert.assertEquals;
+
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.exception.ParseErrorException;
+import org.junit.Test;
+
+public class EmailTemplateCacheTest {
+
+  @Test
+  public void testTemplateParsedOnce() {
+    EmailTemplateCache cache = new EmailTemplateCache();
+    assertEquals("Hello Sunbird", cache.render("welcome", "Hello $name", context("Sunbird")));
+    assertEquals("Hello Learner", cache.render("welcome", "Hello $name", context("Learner")));
+    assertEquals(1, cache.getCompileCount());
+    assertEquals(1, cache.getHitCount());
+  }
+
+  @Test
+  public void testChangedTemplateParsedAgain() {
+    EmailTemplateCache cache = new EmailTemplateCache();
+    cache.render("welcome", "Hello $name", context("Sunbird"));
+    assertEquals("Welcome Sunbird", cache.render("welcome", "Welcome $name", context("Sunbird")));
+    assertEquals(2, cache.getCompileCount());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void testTemplatesWithoutNameCachedByContent() {
+    EmailTemplateCache cache = new EmailTemplateCache();
+    for (int i = 0; i < 3; i++) {
+      assertEquals("Hello Sunbird", cache.render(null, "Hello $name", context("Sunbird")));
+      assertEquals("Welcome Sunbird", cache.render(null, "Welcome $name", context("Sunbird")));
+    }
+    assertEquals(2, cache.getCompileCount());
+    assertEquals(2, cache.size());
+  }
+
+  @Test(expected = ParseErrorException.class)
+  public void testInvalidTemplate() {
+    new EmailTemplateCache().render("welcome", "#if($name", context("Sunbird"));
+  }
+
+  private VelocityContext context(String name) {
+    VelocityContext context = new VelocityContext();
+    context.put("name", name);
+    return context;
+  }
+}
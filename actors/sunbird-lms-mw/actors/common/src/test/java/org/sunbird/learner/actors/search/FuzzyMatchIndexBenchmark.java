@@ -0,0 +1,72 @@
+package org.sunbird.learner.actors.search;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares a fuzzy search of a two word name with FuzzyMatcher.matchDoc against FuzzyMatchIndex,
+ * including the building of the index, over search results of several sizes. Run with the main
+ * method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FuzzyMatchIndexBenchmark {
+  private static final String[] NAME = {"Ramesh", "Kumar"};
+
+  @Param({"100", "1000", "10000"})
+  private int documents;
+
+  private Map<String, String> attributesValueMap;
+  private float threshold;
+
+  @Setup
+  public void setup() {
+    attributesValueMap = FuzzyMatchIndexTest.generateCandidates(documents, new Random(42));
+    threshold = FuzzyMatcher.getFuzzyThreshold();
+  }
+
+  @Benchmark
+  public Set<String> fuzzyMatcher() {
+    Set<String> resultSet = new HashSet<>();
+    for (String token : NAME) {
+      resultSet.addAll(FuzzyMatcher.matchDoc(token, attributesValueMap));
+    }
+    return resultSet;
+  }
+
+  @Benchmark
+  public Set<String> fuzzyMatchIndex() {
+    Set<String> resultSet = new HashSet<>();
+    FuzzyMatchIndex index = new FuzzyMatchIndex(attributesValueMap, threshold);
+    for (String token : NAME) {
+      resultSet.addAll(index.match(token));
+    }
+    return resultSet;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(FuzzyMatchIndexBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
@@ -0,0 +1,72 @@
+package org.sunbird.learner.actors.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+public class FuzzyMatchIndexTest {
+  private static final List<String> NAMES =
+      Arrays.asList(
+          "Ramesh", "Rames", "Ramesh", "Rajesh", "Suresh", "Suresh", "Sureshh", "Smith", "Smyth",
+          "Schmidt", "Amit", "Amith", "Ankit", "Kumar", "Kumaar", "Kumari", "Jose", "José",
+          "O'Neil", "ONeil", "anna-marie", "Priya", "priya", "Pria", "Mohammed", "Muhammad",
+          "Deepak", "Dipak", "Lakshmi", "Laxmi", "Xavier", "Zubin", "1st", "", "  ", "&Co");
+  private static final List<String> QUERIES =
+      Arrays.asList(
+          "Ramesh", "ramesh", "Suresh", "Smith", "Schmit", "Amit", "Kumar", "Jose", "José",
+          "O'Neil", "anna-marie", "Priya", "Mohamed", "Dipak", "Laxmi", "Unknown", "1st", "",
+          "&Co", "z");
+
+  @Test
+  public void testMatchesSameAsFuzzyMatcher() {
+    Map<String, String> attributesValueMap = generateCandidates(500, new Random(42));
+    FuzzyMatchIndex index =
+        new FuzzyMatchIndex(attributesValueMap, FuzzyMatcher.getFuzzyThreshold());
+    for (String query : QUERIES) {
+      assertEquals(
+          query,
+          new HashSet<>(FuzzyMatcher.matchDoc(query, attributesValueMap)),
+          new HashSet<>(index.match(query)));
+    }
+  }
+
+  @Test
+  public void testWordsIndexedOnce() {
+    Map<String, String> attributesValueMap = new HashMap<>();
+    attributesValueMap.put("1", "Ramesh Kumar");
+    attributesValueMap.put("2", "Suresh Kumar");
+    attributesValueMap.put("3", null);
+    FuzzyMatchIndex index = new FuzzyMatchIndex(attributesValueMap, 0.5f);
+    assertEquals(3, index.size());
+    assertEquals(new HashSet<>(Arrays.asList("1", "2")), new HashSet<>(index.match("Kumar")));
+    assertTrue(index.match("Zubin").isEmpty());
+  }
+
+  @Test
+  public void testSignatureIsFirstLetter() {
+    assertEquals("o", FuzzyMatchIndex.signature("O%27Neil"));
+    assertEquals("c", FuzzyMatchIndex.signature("%26Co"));
+    assertEquals("s", FuzzyMatchIndex.signature("1st"));
+    assertEquals("", FuzzyMatchIndex.signature("123"));
+  }
+
+  static Map<String, String> generateCandidates(int count, Random random) {
+    Map<String, String> attributesValueMap = new HashMap<>();
+    for (int i = 0; i < count; i++) {
+      StringBuilder name = new StringBuilder(NAMES.get(random.nextInt(NAMES.size())));
+      for (int words = random.nextInt(3); words > 0; words--) {
+        name.append(random.nextInt(5) == 0 ? "  " : " ");
+        name.append(NAMES.get(random.nextInt(NAMES.size())));
+      }
+      attributesValueMap.put("user" + i, name.toString());
+    }
+    return attributesValueMap;
+  }
+}
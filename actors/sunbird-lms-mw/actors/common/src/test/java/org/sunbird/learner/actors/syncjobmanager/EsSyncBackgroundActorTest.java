@@ -11,6 +11,7 @@ import akka.actor.Props;
 import akka.dispatch.Futures;
 import akka.testkit.javadsl.TestKit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -77,6 +78,10 @@ public class EsSyncBackgroundActorTest {
 
     when(esService.bulkInsert(Mockito.anyString(), Mockito.anyList(), Mockito.any()))
         .thenReturn(promise.future());
+    Promise<List<String>> bulkIndexPromise = Futures.promise();
+    bulkIndexPromise.success(new ArrayList<>());
+    when(esService.bulkIndex(Mockito.anyString(), Mockito.anyList(), Mockito.any()))
+        .thenReturn(bulkIndexPromise.future());
   }
 
   @Test
@@ -195,6 +200,36 @@ public class EsSyncBackgroundActorTest {
     Assert.assertTrue(null != res && res.getResponseCode() == ResponseCode.OK);
   }
 
+  @Test
+  public void testSyncUserFailureReportedNextToEsSyncResponse() {
+    when(Util.getUserDetails(Mockito.eq("failedUser"), Mockito.any()))
+        .thenThrow(
+            new ProjectCommonException(
+                ResponseCode.SERVER_ERROR.getErrorCode(),
+                ResponseCode.SERVER_ERROR.getErrorMessage(),
+                ResponseCode.SERVER_ERROR.getResponseCode()));
+    Map<String, Object> user = new HashMap<>();
+    user.put(JsonKey.FIRST_NAME, "firstName");
+    when(Util.getUserDetails(Mockito.eq("syncedUser"), Mockito.any())).thenReturn(user);
+    TestKit probe = new TestKit(system);
+    ActorRef subject = system.actorOf(props);
+    Request reqObj = new Request();
+    reqObj.setOperation(ActorOperations.BACKGROUND_SYNC.getValue());
+    Map<String, Object> reqMap = new HashMap<>();
+    reqMap.put(JsonKey.OBJECT_IDS, new ArrayList<>(Arrays.asList("failedUser", "syncedUser")));
+    reqMap.put(JsonKey.OBJECT_TYPE, JsonKey.USER);
+    reqMap.put(JsonKey.OPERATION_TYPE, JsonKey.SYNC);
+    reqObj.getRequest().put(JsonKey.DATA, reqMap);
+    subject.tell(reqObj, probe.getRef());
+    Response res = probe.expectMsgClass(duration("10 second"), Response.class);
+    // clients read failed users from the result itself and synced ones from esSyncResponse
+    Map<String, Object> esSyncResponse =
+        (Map<String, Object>) res.getResult().get(JsonKey.ES_SYNC_RESPONSE);
+    Assert.assertEquals(false, res.getResult().get("failedUser"));
+    Assert.assertFalse(esSyncResponse.containsKey("failedUser"));
+    Assert.assertEquals(true, esSyncResponse.get("syncedUser"));
+  }
+
   @Test
   public void testSyncOrgFailure2() {
     when(cassandraOperation.getRecordsByProperty(
@@ -0,0 +1,192 @@
+package org.sunbird.learner.actors.syncjobmanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import akka.dispatch.Futures;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.sunbird.common.inf.ElasticSearchService;
+import org.sunbird.common.models.util.JsonKey;
+import scala.concurrent.Future;
+import scala.concurrent.Promise;
+
+public class EsSyncPipelineTest {
+  private static final ExecutorService workers = Executors.newFixedThreadPool(2);
+  private ElasticSearchService esService;
+  private AtomicInteger runs;
+  private Executor runner;
+
+  @Before
+  public void beforeEachTest() {
+    esService = Mockito.mock(ElasticSearchService.class);
+    runs = new AtomicInteger();
+    runner =
+        command -> {
+          runs.incrementAndGet();
+          workers.execute(command);
+        };
+  }
+
+  @Test
+  public void testRunAsyncRunsOnGivenExecutor() throws Exception {
+    Mockito.when(esService.bulkIndex(Mockito.anyString(), Mockito.anyList(), Mockito.any()))
+        .thenAnswer(invocation -> completed(new ArrayList<>()));
+    EsSyncPipeline pipeline = createPipeline(Function.identity(), 2, 0);
+    EsSyncPipeline.SyncResult first =
+        pipeline.runAsync(pages(4, 2), false).toCompletableFuture().get(10, TimeUnit.SECONDS);
+    EsSyncPipeline.SyncResult second =
+        pipeline.runAsync(pages(6, 2), false).toCompletableFuture().get(10, TimeUnit.SECONDS);
+    assertEquals(4, first.getIndexedCount());
+    assertEquals(6, second.getIndexedCount());
+    assertEquals(2, runs.get());
+  }
+
+  @Test
+  public void testRunBatchesByBulkSize() {
+    List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    Mockito.when(esService.bulkIndex(Mockito.anyString(), Mockito.anyList(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              batchSizes.add(((List) invocation.getArguments()[1]).size());
+              return completed(new ArrayList<>());
+            });
+    EsSyncPipeline.SyncResult result =
+        createPipeline(Function.identity(), 2, 0).run(pages(5, 3), true);
+    assertEquals(5, result.getIndexedCount());
+    assertEquals(5, result.getIndexedIds().size());
+    assertTrue(result.getFailedIds().isEmpty());
+    assertEquals(Arrays.asList(2, 2, 1), batchSizes);
+  }
+
+  @Test
+  public void testRunRetriesFailedIds() {
+    AtomicInteger calls = new AtomicInteger();
+    Mockito.when(esService.bulkIndex(Mockito.anyString(), Mockito.anyList(), Mockito.any()))
+        .thenAnswer(
+            invocation ->
+                completed(
+                    calls.incrementAndGet() == 1
+                        ? Collections.singletonList("id1")
+                        : new ArrayList<>()));
+    EsSyncPipeline.SyncResult result =
+        createPipeline(Function.identity(), 10, 1).run(pages(3, 3), true);
+    assertEquals(2, calls.get());
+    assertEquals(3, result.getIndexedCount());
+    assertTrue(result.getFailedIds().isEmpty());
+  }
+
+  @Test
+  public void testRunReportsFailedIdsAfterRetries() {
+    Mockito.when(esService.bulkIndex(Mockito.anyString(), Mockito.anyList(), Mockito.any()))
+        .thenAnswer(invocation -> completed(Collections.singletonList("id1")));
+    EsSyncPipeline.SyncResult result =
+        createPipeline(Function.identity(), 10, 1).run(pages(3, 3), true);
+    Mockito.verify(esService, Mockito.times(2))
+        .bulkIndex(Mockito.anyString(), Mockito.anyList(), Mockito.any());
+    assertEquals(2, result.getIndexedCount());
+    assertEquals(Collections.singleton("id1"), result.getFailedIds());
+    assertEquals(new HashSet<>(Arrays.asList("id0", "id2")), result.getIndexedIds());
+  }
+
+  @Test
+  public void testRunReportsTransformFailure() {
+    Mockito.when(esService.bulkIndex(Mockito.anyString(), Mockito.anyList(), Mockito.any()))
+        .thenAnswer(invocation -> completed(new ArrayList<>()));
+    Function<Map<String, Object>, Map<String, Object>> transformer =
+        record -> {
+          if ("id1".equals(record.get(JsonKey.ID))) {
+            throw new IllegalStateException("invalid record");
+          }
+          return record;
+        };
+    EsSyncPipeline.SyncResult result = createPipeline(transformer, 10, 0).run(pages(3, 3), false);
+    assertEquals(2, result.getIndexedCount());
+    assertEquals(Collections.singleton("id1"), result.getFailedIds());
+    assertTrue(result.getIndexedIds().isEmpty());
+  }
+
+  @Test
+  public void testRunBoundsInFlightRequests() {
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    Mockito.when(esService.bulkIndex(Mockito.anyString(), Mockito.anyList(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+              Promise<List<String>> promise = Futures.promise();
+              new Thread(
+                      () -> {
+                        try {
+                          Thread.sleep(20);
+                        } catch (InterruptedException e) {
+                          Thread.currentThread().interrupt();
+                        }
+                        inFlight.decrementAndGet();
+                        promise.success(new ArrayList<>());
+                      })
+                  .start();
+              return promise.future();
+            });
+    EsSyncPipeline pipeline =
+        new EsSyncPipeline(
+            esService, "user", Function.identity(), null, 1, Long.MAX_VALUE, 2, 0, runner, workers);
+    EsSyncPipeline.SyncResult result = pipeline.run(pages(10, 4), false);
+    assertEquals(10, result.getIndexedCount());
+    assertTrue(maxInFlight.get() <= 2);
+  }
+
+  private EsSyncPipeline createPipeline(
+      Function<Map<String, Object>, Map<String, Object>> transformer,
+      int bulkSize,
+      int retryCount) {
+    return new EsSyncPipeline(
+        esService,
+        "user",
+        transformer,
+        null,
+        bulkSize,
+        Long.MAX_VALUE,
+        2,
+        retryCount,
+        runner,
+        workers);
+  }
+
+  private static Iterator<List<Map<String, Object>>> pages(int count, int pageSize) {
+    List<List<Map<String, Object>>> pages = new ArrayList<>();
+    List<Map<String, Object>> page = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      if (page.size() == pageSize) {
+        pages.add(page);
+        page = new ArrayList<>();
+      }
+      Map<String, Object> record = new HashMap<>();
+      record.put(JsonKey.ID, "id" + i);
+      page.add(record);
+    }
+    pages.add(page);
+    return pages.iterator();
+  }
+
+  private static Future<List<String>> completed(List<String> failedIds) {
+    Promise<List<String>> promise = Futures.promise();
+    promise.success(failedIds);
+    return promise.future();
+  }
+}
@@ -0,0 +1,115 @@
+package org.sunbird.learner.organisation.dao.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.sunbird.common.models.util.JsonKey;
+
+public class OrgCacheTest {
+
+  @Test
+  public void testGetReturnsCachedOrg() {
+    OrgCache cache = new OrgCache(10, 60000);
+    assertNull(cache.get("org1"));
+    cache.put("org1", org("org1"), cache.generation());
+    assertEquals("org1", cache.get("org1").get(JsonKey.ID));
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  public void testGetReturnsCopy() {
+    OrgCache cache = new OrgCache(10, 60000);
+    cache.put("org1", org("org1"), cache.generation());
+    Map<String, Object> cachedOrg = cache.get("org1");
+    cachedOrg.put(JsonKey.ORG_NAME, "changed");
+    ((List<String>) cachedOrg.get(JsonKey.ORG_LOCATION)).clear();
+    Map<String, Object> org = cache.get("org1");
+    assertEquals("name", org.get(JsonKey.ORG_NAME));
+    assertEquals(1, ((List<String>) org.get(JsonKey.ORG_LOCATION)).size());
+  }
+
+  @Test
+  public void testGetDropsExpiredOrg() throws Exception {
+    OrgCache cache = new OrgCache(10, 1);
+    cache.put("org1", org("org1"), cache.generation());
+    Thread.sleep(10);
+    assertNull(cache.get("org1"));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testInvalidateDropsOrg() {
+    OrgCache cache = new OrgCache(10, 60000);
+    cache.put("org1", org("org1"), cache.generation());
+    cache.invalidate("org1");
+    assertNull(cache.get("org1"));
+    assertEquals(1, cache.getInvalidationCount());
+  }
+
+  @Test
+  public void testPutSkipsOrgLoadedBeforeInvalidation() {
+    OrgCache cache = new OrgCache(10, 60000);
+    long generation = cache.generation();
+    cache.invalidate("org1");
+    cache.put("org1", org("org1"), generation);
+    assertNull(cache.get("org1"));
+  }
+
+  @Test
+  public void testPutKeepsOrgInvalidatedBeforeLoad() {
+    OrgCache cache = new OrgCache(10, 60000);
+    cache.invalidate("org1");
+    cache.put("org1", org("org1"), cache.generation());
+    assertEquals("org1", cache.get("org1").get(JsonKey.ID));
+  }
+
+  @Test
+  public void testPutIgnoresInvalidationOfOtherOrg() {
+    OrgCache cache = new OrgCache(10, 60000);
+    long generation = cache.generation();
+    cache.invalidate("org2");
+    cache.put("org1", org("org1"), generation);
+    assertEquals("org1", cache.get("org1").get(JsonKey.ID));
+  }
+
+  @Test
+  public void testPutSkipsOrgWhoseInvalidationWasForgotten() {
+    OrgCache cache = new OrgCache(2, 60000);
+    long generation = cache.generation();
+    cache.invalidate("org1");
+    cache.invalidate("org2");
+    cache.invalidate("org3");
+    cache.put("org1", org("org1"), generation);
+    assertNull(cache.get("org1"));
+  }
+
+  @Test
+  public void testPutEvictsLeastRecentlyUsedOrgWhenFull() {
+    OrgCache cache = new OrgCache(2, 60000);
+    cache.put("org1", org("org1"), cache.generation());
+    cache.put("org2", org("org2"), cache.generation());
+    cache.get("org1");
+    cache.put("org3", org("org3"), cache.generation());
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    assertNull(cache.get("org2"));
+    assertEquals("org1", cache.get("org1").get(JsonKey.ID));
+    assertEquals("org3", cache.get("org3").get(JsonKey.ID));
+  }
+
+  private static Map<String, Object> org(String id) {
+    List<String> locations = new ArrayList<>();
+    locations.add("location1");
+    Map<String, Object> org = new HashMap<>();
+    org.put(JsonKey.ID, id);
+    org.put(JsonKey.ORG_NAME, "name");
+    org.put(JsonKey.ORG_LOCATION, locations);
+    return org;
+  }
+}
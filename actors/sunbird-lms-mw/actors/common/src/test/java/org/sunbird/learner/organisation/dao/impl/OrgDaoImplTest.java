@@ -1,13 +1,14 @@
 package org.sunbird.learner.organisation.dao.impl;
 
+import static org.junit.Assert.assertEquals;
+import static org.powermock.api.mockito.PowerMockito.mock;
 import static org.powermock.api.mockito.PowerMockito.when;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.junit.Assert;
-import org.junit.BeforeClass;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -15,27 +16,15 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
-import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.cassandraimpl.CassandraOperationImpl;
-import org.sunbird.common.CassandraUtil;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.request.RequestContext;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.learner.organisation.dao.OrgDao;
-import org.sunbird.learner.organisation.external.identity.service.OrgExternalService;
-import org.sunbird.learner.util.Util;
-import org.sunbird.models.organisation.OrgTypeEnum;
 
 @RunWith(PowerMockRunner.class)
-@PrepareForTest({
-  CassandraOperationImpl.class,
-  ServiceFactory.class,
-  CassandraOperation.class,
-  CassandraUtil.class,
-  OrgExternalService.class,
-  Util.class
-})
+@PrepareForTest({ServiceFactory.class})
 @PowerMockIgnore({
   "javax.management.*",
   "javax.net.ssl.*",
@@ -45,121 +34,65 @@ import org.sunbird.models.organisation.OrgTypeEnum;
 })
 public class OrgDaoImplTest {
 
-  private static CassandraOperation cassandraOperation;
-  private static OrgExternalService orgExternalService = null;
+  private CassandraOperationImpl cassandraOperation;
+  private OrgDao orgDao;
 
-  @BeforeClass
-  public static void setUp() throws Exception {
-    PowerMockito.mockStatic(Util.class);
-    orgExternalService = PowerMockito.mock(OrgExternalService.class);
-    PowerMockito.whenNew(OrgExternalService.class).withNoArguments().thenReturn(orgExternalService);
-    cassandraOperation = PowerMockito.mock(CassandraOperation.class);
+  @Before
+  public void setUp() {
     PowerMockito.mockStatic(ServiceFactory.class);
+    cassandraOperation = mock(CassandraOperationImpl.class);
     when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
+    when(cassandraOperation.getRecordById(
+            Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(orgResponse("name"))
+        .thenReturn(orgResponse("updated name"));
+    when(cassandraOperation.updateRecord(
+            Mockito.anyString(), Mockito.anyString(), Mockito.anyMap(), Mockito.any()))
+        .thenReturn(new Response());
+    orgDao = new OrgDaoImpl();
   }
 
   @Test
-  public void testGetOrgById() {
-    try {
-      Response response = new Response();
-      List<Map<String, Object>> orgList = new ArrayList<>();
-      Map<String, Object> map = new HashMap<>();
-      map.put(JsonKey.CONTACT_DETAILS, "contact");
-      map.put(JsonKey.ID, "contact");
-      map.put(JsonKey.ORG_TYPE, OrgTypeEnum.BOARD.getValue());
-      map.put(
-          JsonKey.ORG_LOCATION,
-          "[{\"id\":\"1\",\"type\":\"state\"},{\"id\":\"2\",\"type\":\"district\"}]");
-      orgList.add(map);
-      response.put(JsonKey.RESPONSE, orgList);
-      when(cassandraOperation.getRecordById(
-              Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any()))
-          .thenReturn(response);
-      OrgDao orgDao = OrgDaoImpl.getInstance();
-      Map<String, Object> resp = orgDao.getOrgById("1234567890", null);
-      Assert.assertNotNull(resp);
-
-    } catch (Exception e) {
-      Assert.assertNotNull(e);
-    }
-  }
-
-  @Test
-  public void testGetOrgByIdWithEmptyResponse() {
-    try {
-      Response response = new Response();
-      List<Map<String, Object>> orgList = new ArrayList<>();
-      response.put(JsonKey.RESPONSE, orgList);
-      when(cassandraOperation.getRecordById(
-              Mockito.anyString(),
-              Mockito.anyString(),
-              Mockito.anyString(),
-              Mockito.any(RequestContext.class)))
-          .thenReturn(response);
-      OrgDao orgDao = OrgDaoImpl.getInstance();
-      Map<String, Object> resp = orgDao.getOrgById("1234567890", null);
-      Assert.assertNotNull(resp);
-
-    } catch (Exception e) {
-      Assert.assertNotNull(e);
-    }
+  public void testUpdateOrgDropsCachedOrg() {
+    String orgId = "updatedOrg";
+    assertEquals("name", orgDao.getOrgById(orgId, new RequestContext()).get(JsonKey.ORG_NAME));
+    assertEquals("name", orgDao.getOrgById(orgId, new RequestContext()).get(JsonKey.ORG_NAME));
+    Map<String, Object> orgMap = new HashMap<>();
+    orgMap.put(JsonKey.ID, orgId);
+    orgMap.put(JsonKey.ORG_NAME, "updated name");
+    orgDao.updateOrg(orgMap, new RequestContext());
+    assertEquals(
+        "updated name", orgDao.getOrgById(orgId, new RequestContext()).get(JsonKey.ORG_NAME));
+    Mockito.verify(cassandraOperation, Mockito.times(2))
+        .getRecordById(
+            Mockito.anyString(), Mockito.anyString(), Mockito.eq(orgId), Mockito.any());
   }
 
   @Test
-  public void testGetOrgByExternalId() {
+  public void testUpdateOrgDropsCachedOrgWhenUpdateFails() {
+    String orgId = "failedOrg";
+    when(cassandraOperation.updateRecord(
+            Mockito.anyString(), Mockito.anyString(), Mockito.anyMap(), Mockito.any()))
+        .thenThrow(new RuntimeException("write timeout"));
+    orgDao.getOrgById(orgId, new RequestContext());
+    Map<String, Object> orgMap = new HashMap<>();
+    orgMap.put(JsonKey.ID, orgId);
     try {
-      Response response = new Response();
-      List<Map<String, Object>> orgList = new ArrayList<>();
-      Map<String, Object> map = new HashMap<>();
-      map.put(JsonKey.CONTACT_DETAILS, "contact");
-      map.put(JsonKey.ID, "contact");
-      orgList.add(map);
-      response.put(JsonKey.RESPONSE, orgList);
-      when(cassandraOperation.getRecordById(
-              Mockito.anyString(),
-              Mockito.anyString(),
-              Mockito.anyString(),
-              Mockito.any(RequestContext.class)))
-          .thenReturn(response);
-
-      PowerMockito.when(
-              orgExternalService.getOrgIdFromOrgExternalIdAndProvider(
-                  Mockito.anyString(), Mockito.anyString(), Mockito.any(RequestContext.class)))
-          .thenReturn("");
-      OrgDao orgDao = OrgDaoImpl.getInstance();
-      Map<String, Object> resp = orgDao.getOrgByExternalId("1234567890", "provider", null);
-      Assert.assertNotNull(resp);
-
-    } catch (Exception e) {
-      Assert.assertNotNull(e);
+      orgDao.updateOrg(orgMap, new RequestContext());
+    } catch (RuntimeException e) {
+      assertEquals("write timeout", e.getMessage());
     }
+    assertEquals(
+        "updated name", orgDao.getOrgById(orgId, new RequestContext()).get(JsonKey.ORG_NAME));
   }
 
-  @Test
-  public void testGetOrgByExternalIdWithEmptyResponse() {
-    try {
-      cassandraOperation = PowerMockito.mock(CassandraOperation.class);
-      PowerMockito.mockStatic(ServiceFactory.class);
-      when(ServiceFactory.getInstance()).thenReturn(cassandraOperation);
-      Response response = new Response();
-      List<Map<String, Object>> orgList = new ArrayList<>();
-      response.put(JsonKey.RESPONSE, orgList);
-      when(cassandraOperation.getRecordById(
-              Mockito.anyString(),
-              Mockito.anyString(),
-              Mockito.anyString(),
-              Mockito.any(RequestContext.class)))
-          .thenReturn(response);
-      PowerMockito.when(
-              orgExternalService.getOrgIdFromOrgExternalIdAndProvider(
-                  Mockito.anyString(), Mockito.anyString(), Mockito.any(RequestContext.class)))
-          .thenReturn("");
-      OrgDao orgDao = OrgDaoImpl.getInstance();
-      Map<String, Object> resp = orgDao.getOrgByExternalId("1234567890", "provider", null);
-      Assert.assertNotNull(resp);
-
-    } catch (Exception e) {
-      Assert.assertNotNull(e);
-    }
+  private static Response orgResponse(String name) {
+    Map<String, Object> org = new HashMap<>();
+    org.put(JsonKey.ORG_NAME, name);
+    List<Map<String, Object>> orgs = new ArrayList<>();
+    orgs.add(org);
+    Response response = new Response();
+    response.put(JsonKey.RESPONSE, orgs);
+    return response;
   }
 }
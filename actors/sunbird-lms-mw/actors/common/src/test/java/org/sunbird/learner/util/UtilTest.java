@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -17,6 +18,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
 import org.sunbird.cassandraimpl.CassandraOperationImpl;
 import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.ElasticSearchRestHighImpl;
@@ -89,6 +91,41 @@ public class UtilTest {
     Assert.assertNotNull(res);
   }
 
+  @Test
+  public void testGetUserOrgDetailsAsyncAddsOrgName() {
+    Whitebox.setInternalState(Util.class, "cassandraOperation", cassandraOperationImpl);
+    Whitebox.setInternalState(Util.class, "esService", esService);
+    Response response = new Response();
+    List<Map<String, Object>> responseList = new ArrayList<>();
+    Map<String, Object> userOrg = new HashMap<>();
+    userOrg.put(JsonKey.IS_DELETED, false);
+    userOrg.put(JsonKey.USER_ID, "123-456-789");
+    userOrg.put(JsonKey.ORGANISATION_ID, "1234567890");
+    responseList.add(userOrg);
+    response.getResult().put(JsonKey.RESPONSE, responseList);
+    when(cassandraOperationImpl.getRecordsByPrimaryKeys(
+            Mockito.anyString(),
+            Mockito.anyString(),
+            Mockito.anyList(),
+            Mockito.anyString(),
+            Mockito.any()))
+        .thenReturn(response);
+    Map<String, Object> org = new HashMap<>();
+    org.put(JsonKey.ID, "1234567890");
+    org.put(JsonKey.ORG_NAME, "orgName");
+    Map<String, Map<String, Object>> orgs = new HashMap<>();
+    orgs.put("1234567890", org);
+    Promise<Map<String, Map<String, Object>>> promise = Futures.promise();
+    when(esService.getEsResultByListOfIds(
+            Mockito.anyList(), Mockito.anyList(), Mockito.anyString(), Mockito.any()))
+        .thenReturn(promise.future());
+    CompletableFuture<List<Map<String, Object>>> userOrgs =
+        Util.getUserOrgDetailsAsync("123-456-789", null).toCompletableFuture();
+    Assert.assertFalse(userOrgs.isDone());
+    promise.success(orgs);
+    Assert.assertEquals("orgName", userOrgs.join().get(0).get(JsonKey.ORG_NAME));
+  }
+
   @Test
   public void testRegisterChannel() {
     Map<String, Object> map = new HashMap<>();
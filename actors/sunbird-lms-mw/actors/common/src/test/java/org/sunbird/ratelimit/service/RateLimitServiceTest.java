@@ -7,6 +7,8 @@ import static org.mockito.Matchers.anyList;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -17,7 +19,6 @@ import org.apache.commons.collections.CollectionUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
@@ -44,7 +45,9 @@ public class RateLimitServiceTest {
   private static final String KEY = "9999888898";
   private static final int HOUR_LIMIT = 10;
 
-  @InjectMocks private RateLimitService rateLimitService = new RateLimitServiceImpl();
+  private RateLimitService rateLimitService;
+
+  private SlidingWindowCounter slidingWindowCounter;
 
   @Mock private RateLimitDao rateLimitdDao;
 
@@ -56,6 +59,8 @@ public class RateLimitServiceTest {
   public void beforeEachTest() {
     MockitoAnnotations.initMocks(this);
     doNothing().when(rateLimitdDao).insertRateLimits(anyList(), Mockito.any());
+    slidingWindowCounter = new SlidingWindowCounter(rateLimitdDao, System::currentTimeMillis);
+    rateLimitService = new RateLimitServiceImpl(slidingWindowCounter);
   }
 
   @Test
@@ -66,6 +71,8 @@ public class RateLimitServiceTest {
     countsByRateLimiter.put(hourRateLimiter.name(), 6);
     assertRateLimitsOnInsert(countsByRateLimiter);
     rateLimitService.throttleByKey(KEY, new RateLimiter[] {hourRateLimiter}, null);
+    slidingWindowCounter.flush();
+    verify(rateLimitdDao).insertRateLimits(anyList(), Mockito.any());
   }
 
   @Test
@@ -75,6 +82,8 @@ public class RateLimitServiceTest {
     countsByRateLimiter.put(hourRateLimiter.name(), 1);
     assertRateLimitsOnInsert(countsByRateLimiter);
     rateLimitService.throttleByKey(KEY, new RateLimiter[] {hourRateLimiter}, null);
+    slidingWindowCounter.flush();
+    verify(rateLimitdDao).insertRateLimits(anyList(), Mockito.any());
   }
 
   @Test
@@ -86,12 +95,31 @@ public class RateLimitServiceTest {
     countsByRateLimiter.put(dayRateLimiter.name(), 1);
     assertRateLimitsOnInsert(countsByRateLimiter);
     rateLimitService.throttleByKey(KEY, new RateLimiter[] {hourRateLimiter, dayRateLimiter}, null);
+    slidingWindowCounter.flush();
+    verify(rateLimitdDao).insertRateLimits(anyList(), Mockito.any());
+  }
+
+  @Test
+  public void testThrottleByKeyReadsStoredRatesOnceForNewKey() {
+    when(rateLimitdDao.getRateLimits(anyString(), Mockito.any()))
+        .thenReturn(getRateLimitRecords(5));
+    Map<String, Integer> countsByRateLimiter = new HashMap<>();
+    countsByRateLimiter.put(hourRateLimiter.name(), 8);
+    assertRateLimitsOnInsert(countsByRateLimiter);
+    for (int i = 0; i < 3; i++) {
+      rateLimitService.throttleByKey(KEY, new RateLimiter[] {hourRateLimiter}, null);
+    }
+    slidingWindowCounter.flush();
+    verify(rateLimitdDao, times(1)).getRateLimits(anyString(), Mockito.any());
+    verify(rateLimitdDao, times(1)).insertRateLimits(anyList(), Mockito.any());
   }
 
   @Test(expected = ProjectCommonException.class)
   public void testThrottleByKeyFailure() {
     when(rateLimitdDao.getRateLimits(anyString(), Mockito.any()))
         .thenReturn(getRateLimitRecords(HOUR_LIMIT));
+    // the first request of a new key is decided before its stored rates are read
+    rateLimitService.throttleByKey(KEY, new RateLimiter[] {hourRateLimiter}, null);
     try {
       rateLimitService.throttleByKey(KEY, new RateLimiter[] {hourRateLimiter}, null);
     } catch (ProjectCommonException e) {
@@ -0,0 +1,120 @@
+package org.sunbird.ratelimit.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.util.ExecutorUtil;
+import org.sunbird.ratelimit.dao.RateLimitDao;
+import org.sunbird.ratelimit.limiter.RateLimiter;
+
+/**
+ * Throttle decisions per second of SlidingWindowCounter, from one thread and from eight threads,
+ * over one key (all threads contending for one stripe) up to many keys. Once a key reaches its
+ * limit the decisions are rejections, which cost as much as acceptances. Warm keys are read from
+ * the store once, cold keys after every decision as a key not seen within the refresh interval is,
+ * with each read taking the given round trip on a pool of its own. The reads are not waited for, so
+ * cold keys cost about as much as warm ones. Run with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlidingWindowCounterBenchmark {
+  private static final RateLimiter[] RATE_LIMITERS = {
+    SlidingWindowCounterTest.TestRateLimiter.MINUTE, SlidingWindowCounterTest.TestRateLimiter.DAY
+  };
+
+  @Param({"1", "1000", "100000"})
+  private int keys;
+
+  @Param({"0", "500"})
+  private int roundTripMicros;
+
+  private String[] keyNames;
+  private SlidingWindowCounter counter;
+  private SlidingWindowCounter coldCounter;
+  private ThreadPoolExecutor pool;
+
+  @Setup
+  public void setup() {
+    RateLimitDao rateLimitDao =
+        new SlidingWindowCounterTest.InMemoryRateLimitDao() {
+          @Override
+          public List<Map<String, Object>> getRateLimits(String key, RequestContext context) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(roundTripMicros));
+            return super.getRateLimits(key, context);
+          }
+        };
+    pool = ExecutorUtil.newBoundedPool("rate-limit", 4, 10000, ExecutorUtil.Rejection.ABORT);
+    counter =
+        new SlidingWindowCounter(rateLimitDao, System::currentTimeMillis, 10000L, keys, pool);
+    coldCounter = new SlidingWindowCounter(rateLimitDao, System::currentTimeMillis, 0L, keys, pool);
+    keyNames = new String[keys];
+    for (int i = 0; i < keys; i++) {
+      keyNames[i] = String.valueOf(9000000000L + i);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdownNow();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String acquire() {
+    return counter.acquire(nextKey(), RATE_LIMITERS, null);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String acquireContended() {
+    return counter.acquire(nextKey(), RATE_LIMITERS, null);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public String acquireColdKey() {
+    return coldCounter.acquire(nextKey(), RATE_LIMITERS, null);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public String acquireColdKeyContended() {
+    return coldCounter.acquire(nextKey(), RATE_LIMITERS, null);
+  }
+
+  private String nextKey() {
+    return keyNames[ThreadLocalRandom.current().nextInt(keys)];
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(SlidingWindowCounterBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,399 @@
+package org.sunbird.ratelimit.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import org.junit.Test;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.ratelimit.dao.RateLimitDao;
+import org.sunbird.ratelimit.limiter.RateLimit;
+import org.sunbird.ratelimit.limiter.RateLimiter;
+
+public class SlidingWindowCounterTest {
+  private static final String KEY = "9999888898";
+  private static final RateLimiter[] RATE_LIMITERS = {TestRateLimiter.MINUTE, TestRateLimiter.DAY};
+  private static final String EXPIRY = "expiry";
+
+  @Test
+  public void testLimitsHoldUnderContention() throws Exception {
+    InMemoryRateLimitDao rateLimitDao = new InMemoryRateLimitDao();
+    SlidingWindowCounter counter =
+        new SlidingWindowCounter(rateLimitDao, System::currentTimeMillis);
+    int threads = 16;
+    int keys = 50;
+    Map<String, AtomicInteger> acceptedByKey = new ConcurrentHashMap<>();
+    for (int i = 0; i < keys; i++) {
+      acceptedByKey.put(String.valueOf(9000000000L + i), new AtomicInteger());
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicBoolean done = new AtomicBoolean();
+    try {
+      List<Future<?>> requests = new ArrayList<>();
+      for (int t = 0; t < threads; t++) {
+        requests.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  for (int round = 0; round < 20; round++) {
+                    for (Map.Entry<String, AtomicInteger> entry : acceptedByKey.entrySet()) {
+                      if (null == counter.acquire(entry.getKey(), RATE_LIMITERS, null)) {
+                        entry.getValue().incrementAndGet();
+                      }
+                    }
+                  }
+                  return null;
+                }));
+      }
+      Future<?> flusher =
+          executor.submit(
+              () -> {
+                while (!done.get()) {
+                  counter.flush();
+                }
+              });
+      start.countDown();
+      for (Future<?> request : requests) {
+        request.get(30, TimeUnit.SECONDS);
+      }
+      done.set(true);
+      flusher.get(30, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+    counter.flush();
+    int limit = TestRateLimiter.MINUTE.getRateLimit();
+    for (Map.Entry<String, AtomicInteger> entry : acceptedByKey.entrySet()) {
+      assertEquals(entry.getKey(), limit, entry.getValue().get());
+      RateLimit written = rateLimitDao.getWritten(entry.getKey(), TestRateLimiter.MINUTE);
+      assertEquals(limit, (int) written.getCount());
+    }
+    assertEquals(keys, counter.size());
+  }
+
+  @Test
+  public void testWindowSlides() {
+    AtomicLong clock = new AtomicLong(1000000L);
+    SlidingWindowCounter counter = new SlidingWindowCounter(new InMemoryRateLimitDao(), clock::get);
+    for (int i = 0; i < 5; i++) {
+      assertNull(counter.acquire(KEY, RATE_LIMITERS, null));
+      clock.addAndGet(10000L);
+    }
+    assertEquals("MINUTE", counter.acquire(KEY, RATE_LIMITERS, null));
+    // the first request leaves the minute window
+    clock.addAndGet(10001L);
+    assertNull(counter.acquire(KEY, RATE_LIMITERS, null));
+    assertEquals("MINUTE", counter.acquire(KEY, RATE_LIMITERS, null));
+    // the minute window is empty, the day window still holds 6 requests
+    clock.addAndGet(TimeUnit.MINUTES.toMillis(1));
+    assertEquals("DAY", counter.acquire(KEY, RATE_LIMITERS, null));
+  }
+
+  @Test
+  public void testSeededFromStoredRates() {
+    AtomicLong clock = new AtomicLong(1000000L);
+    InMemoryRateLimitDao rateLimitDao = new InMemoryRateLimitDao(clock::get);
+    // 4 requests in a minute window that started 20 seconds ago
+    rateLimitDao.store(KEY, TestRateLimiter.MINUTE, 4, 40);
+    SlidingWindowCounter counter = new SlidingWindowCounter(rateLimitDao, clock::get);
+    assertNull(counter.acquire(KEY, RATE_LIMITERS, null));
+    assertEquals("MINUTE", counter.acquire(KEY, RATE_LIMITERS, null));
+    clock.addAndGet(TimeUnit.SECONDS.toMillis(40));
+    assertNull(counter.acquire(KEY, RATE_LIMITERS, null));
+    counter.flush();
+    RateLimit written = rateLimitDao.getWritten(KEY, TestRateLimiter.MINUTE);
+    assertEquals(2, (int) written.getCount());
+    assertEquals(20, (int) written.getTTL());
+    // no day row was stored, the new one holds the requests of this node
+    assertEquals(2, (int) rateLimitDao.getWritten(KEY, TestRateLimiter.DAY).getCount());
+  }
+
+  @Test
+  public void testColdKeyReadsRequestsOfOtherNodes() {
+    AtomicLong clock = new AtomicLong(1000000L);
+    InMemoryRateLimitDao rateLimitDao = new InMemoryRateLimitDao(clock::get);
+    SlidingWindowCounter node1 = new SlidingWindowCounter(rateLimitDao, clock::get, 5000L);
+    SlidingWindowCounter node2 = new SlidingWindowCounter(rateLimitDao, clock::get, 5000L);
+    for (int i = 0; i < 3; i++) {
+      assertNull(node1.acquire(KEY, RATE_LIMITERS, null));
+    }
+    node1.flush();
+    // node2 decides its first request alone, then reads the 3 requests of node1
+    assertNull(node2.acquire(KEY, RATE_LIMITERS, null));
+    assertNull(node2.acquire(KEY, RATE_LIMITERS, null));
+    assertEquals("MINUTE", node2.acquire(KEY, RATE_LIMITERS, null));
+    node2.flush();
+    assertEquals(5, (int) rateLimitDao.getWritten(KEY, TestRateLimiter.MINUTE).getCount());
+  }
+
+  @Test
+  public void testLimitsEnforcedPerNode() {
+    AtomicLong clock = new AtomicLong(1000000L);
+    InMemoryRateLimitDao rateLimitDao = new InMemoryRateLimitDao(clock::get);
+    SlidingWindowCounter node1 = new SlidingWindowCounter(rateLimitDao, clock::get, 5000L);
+    SlidingWindowCounter node2 = new SlidingWindowCounter(rateLimitDao, clock::get, 5000L);
+    for (int i = 0; i < 3; i++) {
+      assertNull(node1.acquire(KEY, RATE_LIMITERS, null));
+      assertNull(node2.acquire(KEY, RATE_LIMITERS, null));
+    }
+    node1.flush();
+    node2.flush();
+    // node2 read the rows before node1 wrote them, so its write replaces them
+    assertEquals(3, (int) rateLimitDao.getWritten(KEY, TestRateLimiter.MINUTE).getCount());
+    assertNull(node1.acquire(KEY, RATE_LIMITERS, null));
+    assertNull(node1.acquire(KEY, RATE_LIMITERS, null));
+    assertEquals("MINUTE", node1.acquire(KEY, RATE_LIMITERS, null));
+  }
+
+  @Test
+  public void testStoredRatesReadAgainAfterRefreshInterval() {
+    AtomicLong clock = new AtomicLong(1000000L);
+    InMemoryRateLimitDao rateLimitDao = new InMemoryRateLimitDao(clock::get);
+    SlidingWindowCounter counter = new SlidingWindowCounter(rateLimitDao, clock::get, 5000L);
+    assertNull(counter.acquire(KEY, RATE_LIMITERS, null));
+    // another node reaches the limit
+    rateLimitDao.store(KEY, TestRateLimiter.MINUTE, 5, 60);
+    clock.addAndGet(4999L);
+    assertNull(counter.acquire(KEY, RATE_LIMITERS, null));
+    assertEquals(1, rateLimitDao.reads.get());
+    clock.addAndGet(1L);
+    // decided before the stored rates are read again
+    assertNull(counter.acquire(KEY, RATE_LIMITERS, null));
+    assertEquals(2, rateLimitDao.reads.get());
+    assertEquals("MINUTE", counter.acquire(KEY, RATE_LIMITERS, null));
+  }
+
+  @Test
+  public void testColdKeyDecidedBeforeStoredRatesRead() {
+    AtomicLong clock = new AtomicLong(1000000L);
+    InMemoryRateLimitDao rateLimitDao = new InMemoryRateLimitDao(clock::get);
+    rateLimitDao.store(KEY, TestRateLimiter.MINUTE, 5, 60);
+    Deque<Runnable> tasks = new ArrayDeque<>();
+    SlidingWindowCounter counter =
+        new SlidingWindowCounter(rateLimitDao, clock::get, 5000L, 100, tasks::add);
+    assertNull(counter.acquire(KEY, RATE_LIMITERS, null));
+    assertNull(counter.acquire(KEY, RATE_LIMITERS, null));
+    assertEquals(0, rateLimitDao.reads.get());
+    // the key is not written while its stored rates are read
+    counter.flush();
+    assertEquals(1, tasks.size());
+    tasks.poll().run();
+    assertEquals(1, rateLimitDao.reads.get());
+    assertEquals("MINUTE", counter.acquire(KEY, RATE_LIMITERS, null));
+    counter.flush();
+    tasks.poll().run();
+    assertEquals(7, (int) rateLimitDao.getWritten(KEY, TestRateLimiter.MINUTE).getCount());
+  }
+
+  @Test
+  public void testFlushWritesWithoutReading() {
+    AtomicLong clock = new AtomicLong(1000000L);
+    InMemoryRateLimitDao rateLimitDao = new InMemoryRateLimitDao(clock::get);
+    SlidingWindowCounter counter = new SlidingWindowCounter(rateLimitDao, clock::get, 5000L);
+    for (int round = 0; round < 3; round++) {
+      assertNull(counter.acquire(KEY, RATE_LIMITERS, null));
+      counter.flush();
+    }
+    assertEquals(1, rateLimitDao.reads.get());
+    assertEquals(3, rateLimitDao.inserts.get());
+    assertEquals(3, (int) rateLimitDao.getWritten(KEY, TestRateLimiter.MINUTE).getCount());
+  }
+
+  @Test
+  public void testKeyNotReadWhileWritten() {
+    AtomicLong clock = new AtomicLong(1000000L);
+    AtomicReference<SlidingWindowCounter> counterRef = new AtomicReference<>();
+    InMemoryRateLimitDao rateLimitDao =
+        new InMemoryRateLimitDao(clock::get) {
+          @Override
+          public void insertRateLimits(List<RateLimit> rateLimits, RequestContext context) {
+            // a request of the stale key arrives before the write completes
+            clock.addAndGet(200L);
+            assertNull(counterRef.get().acquire(KEY, RATE_LIMITERS, null));
+            super.insertRateLimits(rateLimits, context);
+          }
+        };
+    SlidingWindowCounter counter = new SlidingWindowCounter(rateLimitDao, clock::get, 100L);
+    counterRef.set(counter);
+    for (int i = 0; i < 3; i++) {
+      assertNull(counter.acquire(KEY, RATE_LIMITERS, null));
+    }
+    counter.flush();
+    assertEquals(1, rateLimitDao.reads.get());
+    assertEquals(3, (int) rateLimitDao.getWritten(KEY, TestRateLimiter.MINUTE).getCount());
+    // the 3 written requests and the one accepted during the write are counted
+    assertNull(counter.acquire(KEY, RATE_LIMITERS, null));
+    assertEquals("MINUTE", counter.acquire(KEY, RATE_LIMITERS, null));
+  }
+
+  @Test
+  public void testFailedFlushRetried() {
+    InMemoryRateLimitDao rateLimitDao = new InMemoryRateLimitDao();
+    SlidingWindowCounter counter =
+        new SlidingWindowCounter(rateLimitDao, System::currentTimeMillis);
+    assertNull(counter.acquire(KEY, RATE_LIMITERS, null));
+    rateLimitDao.failInserts.set(true);
+    counter.flush();
+    assertTrue(rateLimitDao.written.isEmpty());
+    rateLimitDao.failInserts.set(false);
+    counter.flush();
+    assertEquals(1, (int) rateLimitDao.getWritten(KEY, TestRateLimiter.MINUTE).getCount());
+  }
+
+  @Test
+  public void testRejectedFlushRetried() {
+    InMemoryRateLimitDao rateLimitDao = new InMemoryRateLimitDao();
+    AtomicBoolean reject = new AtomicBoolean();
+    SlidingWindowCounter counter =
+        new SlidingWindowCounter(
+            rateLimitDao,
+            System::currentTimeMillis,
+            10000L,
+            100,
+            task -> {
+              if (reject.get()) {
+                throw new RejectedExecutionException("queue is full");
+              }
+              task.run();
+            });
+    assertNull(counter.acquire(KEY, RATE_LIMITERS, null));
+    reject.set(true);
+    counter.flush();
+    assertTrue(rateLimitDao.written.isEmpty());
+    reject.set(false);
+    counter.flush();
+    assertEquals(1, (int) rateLimitDao.getWritten(KEY, TestRateLimiter.MINUTE).getCount());
+  }
+
+  @Test
+  public void testKeysBeyondMaxKeysDropped() {
+    AtomicLong clock = new AtomicLong(1000000L);
+    InMemoryRateLimitDao rateLimitDao = new InMemoryRateLimitDao(clock::get);
+    SlidingWindowCounter counter =
+        new SlidingWindowCounter(rateLimitDao, clock::get, 10000L, 10, Runnable::run);
+    for (int i = 0; i < 30; i++) {
+      assertNull(counter.acquire(String.valueOf(9000000000L + i), RATE_LIMITERS, null));
+      clock.incrementAndGet();
+    }
+    counter.flush();
+    assertEquals(10, counter.size());
+    // every key was written before it was dropped, so a dropped key reads its requests again
+    for (int i = 0; i < 4; i++) {
+      assertNull(counter.acquire("9000000000", RATE_LIMITERS, null));
+    }
+    assertEquals("MINUTE", counter.acquire("9000000000", RATE_LIMITERS, null));
+  }
+
+  enum TestRateLimiter implements RateLimiter {
+    MINUTE(5, 60),
+    DAY(6, 86400);
+
+    private int limit;
+    private int ttl;
+
+    TestRateLimiter(int limit, int ttl) {
+      this.limit = limit;
+      this.ttl = ttl;
+    }
+
+    @Override
+    public Integer getRateLimit() {
+      return limit;
+    }
+
+    @Override
+    public int getTTL() {
+      return ttl;
+    }
+  }
+
+  /** Rate limit table whose rows expire with their TTL, as Cassandra rows do. */
+  static class InMemoryRateLimitDao implements RateLimitDao {
+    private final Map<String, Map<String, Map<String, Object>>> stored = new ConcurrentHashMap<>();
+    private final Map<String, RateLimit> written = new ConcurrentHashMap<>();
+    private final AtomicBoolean failInserts = new AtomicBoolean();
+    private final AtomicInteger reads = new AtomicInteger();
+    private final AtomicInteger inserts = new AtomicInteger();
+    private final LongSupplier clock;
+
+    InMemoryRateLimitDao() {
+      this(System::currentTimeMillis);
+    }
+
+    InMemoryRateLimitDao(LongSupplier clock) {
+      this.clock = clock;
+    }
+
+    @Override
+    public void insertRateLimits(List<RateLimit> rateLimits, RequestContext context) {
+      if (failInserts.get()) {
+        throw new IllegalStateException("Cassandra unavailable");
+      }
+      inserts.incrementAndGet();
+      for (RateLimit rateLimit : rateLimits) {
+        written.put(rateLimit.getKey() + ":" + rateLimit.getUnit(), rateLimit);
+        store(
+            rateLimit.getKey(),
+            rateLimit.getUnit(),
+            rateLimit.getLimit(),
+            rateLimit.getCount(),
+            rateLimit.getTTL());
+      }
+    }
+
+    @Override
+    public List<Map<String, Object>> getRateLimits(String key, RequestContext context) {
+      reads.incrementAndGet();
+      long now = clock.getAsLong();
+      List<Map<String, Object>> rates = new ArrayList<>();
+      for (Map<String, Object> row : stored.getOrDefault(key, new HashMap<>()).values()) {
+        long remaining = (long) row.get(EXPIRY) - now;
+        if (remaining > 0) {
+          Map<String, Object> rate = new HashMap<>(row);
+          rate.remove(EXPIRY);
+          rate.put(JsonKey.TTL, (int) TimeUnit.MILLISECONDS.toSeconds(remaining + 999));
+          rates.add(rate);
+        }
+      }
+      return rates;
+    }
+
+    void store(String key, TestRateLimiter rateLimiter, int count, int ttl) {
+      store(key, rateLimiter.name(), rateLimiter.getRateLimit(), count, ttl);
+    }
+
+    private void store(String key, String unit, int limit, int count, int ttl) {
+      Map<String, Object> row = new HashMap<>();
+      row.put(JsonKey.KEY, key);
+      row.put(JsonKey.RATE_LIMIT_UNIT, unit);
+      row.put(JsonKey.RATE, limit);
+      row.put(JsonKey.COUNT, count);
+      row.put(EXPIRY, clock.getAsLong() + TimeUnit.SECONDS.toMillis(ttl));
+      stored.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(unit, row);
+    }
+
+    RateLimit getWritten(String key, TestRateLimiter rateLimiter) {
+      return written.get(key + ":" + rateLimiter.name());
+    }
+  }
+}
@@ -17,6 +17,7 @@ import org.sunbird.learner.util.DataCacheHandler;
 import org.sunbird.learner.util.Util;
 import org.sunbird.location.dao.LocationDao;
 import org.sunbird.location.dao.impl.LocationDaoFactory;
+import org.sunbird.location.util.LocationIndex;
 import org.sunbird.location.util.LocationRequestValidator;
 import org.sunbird.models.location.Location;
 import org.sunbird.models.location.apirequest.UpsertLocationRequest;
@@ -40,6 +41,13 @@ public class LocationActor extends BaseLocationActor {
 
   private LocationDao locationDao = LocationDaoFactory.getInstance();
 
+  @Override
+  public void preStart() throws Exception {
+    super.preStart();
+    // starts loading the location index with the actor instead of on the first lookup
+    LocationIndex.getInstance();
+  }
+
   @Override
   public void onReceive(Request request) throws Throwable {
     Util.initializeContext(request, TelemetryEnvKey.LOCATION);
@@ -85,6 +93,7 @@ public class LocationActor extends BaseLocationActor {
       locationRequest.setId(id);
       Location location = mapper.convertValue(locationRequest, Location.class);
       Response response = locationDao.create(location, request.getRequestContext());
+      LocationIndex.getInstance().refresh(id, request.getRequestContext());
       sender().tell(response, self());
       logger.info(request.getRequestContext(), "Insert location data to ES");
       saveDataToES(
@@ -105,6 +114,7 @@ public class LocationActor extends BaseLocationActor {
       validateUpsertLocnReq(locationRequest, JsonKey.UPDATE);
       Location location = mapper.convertValue(locationRequest, Location.class);
       Response response = locationDao.update(location, request.getRequestContext());
+      LocationIndex.getInstance().refresh(location.getId(), request.getRequestContext());
       sender().tell(response, self());
       logger.info(request.getRequestContext(), "Update location data to ES");
       saveDataToES(
@@ -142,6 +152,7 @@ public class LocationActor extends BaseLocationActor {
       String locationId = (String) request.getRequest().get(JsonKey.LOCATION_ID);
       LocationRequestValidator.isLocationHasChild(locationId);
       Response response = locationDao.delete(locationId, request.getRequestContext());
+      LocationIndex.getInstance().refresh(locationId, request.getRequestContext());
       sender().tell(response, self());
       logger.info(request.getRequestContext(), "Delete location data from ES");
       deleteDataFromES(locationId, request.getRequestContext());
@@ -189,7 +200,7 @@ public class LocationActor extends BaseLocationActor {
       List<String> codeList, RequestContext context) {
     Set<String> locationIds = null;
     List<String> codes = new ArrayList<>(codeList);
-    List<Location> locationList = getSearchResult(JsonKey.CODE, codeList, context);
+    List<Location> locationList = LocationIndex.getInstance().getLocationsByCode(codeList, context);
     List<String> locationIdList = new ArrayList<>();
     if (CollectionUtils.isNotEmpty(locationList)) {
       if (locationList.size() != codes.size()) {
@@ -208,32 +219,6 @@ public class LocationActor extends BaseLocationActor {
     return locationIdList;
   }
 
-  private List<Location> getSearchResult(String param, Object value, RequestContext context) {
-    Map<String, Object> filters = new HashMap<>();
-    Map<String, Object> searchRequestMap = new HashMap<>();
-    filters.put(param, value);
-    searchRequestMap.put(JsonKey.FILTERS, filters);
-    Response response = searchLocation(searchRequestMap, context);
-    if (response != null) {
-      List<Map<String, Object>> responseList =
-          (List<Map<String, Object>>) response.getResult().get(JsonKey.RESPONSE);
-      ObjectMapper mapper = new ObjectMapper();
-      return responseList
-          .stream()
-          .map(s -> mapper.convertValue(s, Location.class))
-          .collect(Collectors.toList());
-    } else {
-      return new ArrayList<>();
-    }
-  }
-
-  private Location getLocation(String locationId, RequestContext context) {
-    List<Location> locations = getSearchResult(JsonKey.ID, locationId, context);
-    if (locations.isEmpty()) return null;
-
-    return locations.get(0);
-  }
-
   private void throwInvalidParameterValueException(List<String> codeList) {
     throw new ProjectCommonException(
         ResponseCode.invalidParameterValue.getErrorCode(),
@@ -246,7 +231,8 @@ public class LocationActor extends BaseLocationActor {
       List<Location> locationList, RequestContext context) {
     Map<String, Location> locationSet = new HashMap<>();
     for (Location requestedLocation : locationList) {
-      Set<Location> parentLocnSet = getParentLocations(requestedLocation, context);
+      Set<Location> parentLocnSet =
+          LocationIndex.getInstance().getParentLocations(requestedLocation, context);
       for (Location currentLocation : parentLocnSet) {
         String type = currentLocation.getType();
         Location location = locationSet.get(type);
@@ -269,27 +255,6 @@ public class LocationActor extends BaseLocationActor {
     return locationSet.values().stream().map(Location::getId).collect(Collectors.toSet());
   }
 
-  private Set<Location> getParentLocations(Location locationObj, RequestContext context) {
-    Set<Location> locationSet = new LinkedHashSet<>();
-    Location location = locationObj;
-    int count = getOrder(location.getType());
-    locationSet.add(location);
-    while (count > 0) {
-      Location parent = null;
-      if (getOrder(location.getType()) == 0 && StringUtils.isNotEmpty(location.getId())) {
-        parent = getLocation(location.getId(), context);
-      } else if (StringUtils.isNotEmpty(location.getParentId())) {
-        parent = getLocation(location.getParentId(), context);
-      }
-      if (null != parent) {
-        locationSet.add(parent);
-        location = parent;
-      }
-      count--;
-    }
-    return locationSet;
-  }
-
   public int getOrder(String type) {
     return DataCacheHandler.getLocationOrderMap().get(type);
   }
@@ -42,6 +42,12 @@ public interface LocationDao {
    */
   Response read(String locationId, RequestContext context);
 
+  /**
+   * @param context
+   * @return response Response with all locations
+   */
+  Response readAll(RequestContext context);
+
   /**
    * @param queryMap
    * @param context
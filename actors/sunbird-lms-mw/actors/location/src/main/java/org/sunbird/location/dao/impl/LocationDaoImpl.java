@@ -81,6 +81,11 @@ public class LocationDaoImpl implements LocationDao {
         KEYSPACE_NAME, LOCATION_TABLE_NAME, locationId, context);
   }
 
+  @Override
+  public Response readAll(RequestContext context) {
+    return cassandraOperation.getAllRecords(KEYSPACE_NAME, LOCATION_TABLE_NAME, context);
+  }
+
   @Override
   public Response getRecordByProperty(Map<String, Object> queryMap, RequestContext context) {
     Map<String, Object> searchQueryMap = new HashMap<>();
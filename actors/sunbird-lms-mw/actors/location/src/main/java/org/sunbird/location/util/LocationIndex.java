@@ -0,0 +1,329 @@
+package org.sunbird.location.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.util.ExecutorUtil;
+import org.sunbird.learner.util.CacheInvalidator;
+import org.sunbird.learner.util.DataCacheHandler;
+import org.sunbird.location.dao.LocationDao;
+import org.sunbird.location.dao.impl.LocationDaoFactory;
+import org.sunbird.models.location.Location;
+
+/**
+ * Node-local index of the location tree. All locations are loaded in the background and kept by id
+ * and by code, so that codes and parent chains are resolved in memory instead of with a search per
+ * code and per level. Locations created, updated or deleted through this node are refreshed right
+ * away and the other nodes are told to refresh them through the invalidation topic. Changes whose
+ * invalidation is missed are picked up by the periodic reload, and a location missing from the
+ * index, e.g. before the first load completes, is searched for and added to it.
+ */
+public final class LocationIndex {
+  private static LoggerUtil logger = new LoggerUtil(LocationIndex.class);
+  private static final int DEFAULT_REFRESH_INTERVAL_SECONDS = 300;
+  private static volatile LocationIndex instance;
+
+  private final Supplier<LocationDao> locationDao;
+  private final Consumer<String> invalidationPublisher;
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private volatile Snapshot snapshot = new Snapshot();
+  private long modifications;
+
+  LocationIndex(Supplier<LocationDao> locationDao) {
+    this(locationDao, locationId -> {});
+  }
+
+  LocationIndex(Supplier<LocationDao> locationDao, Consumer<String> invalidationPublisher) {
+    this.locationDao = locationDao;
+    this.invalidationPublisher = invalidationPublisher;
+  }
+
+  /**
+   * Returns the index, the first call starts reading invalidations and schedules the reloads, the
+   * first one right away. It does not wait for the locations to be loaded.
+   *
+   * @return LocationIndex
+   */
+  public static LocationIndex getInstance() {
+    if (null == instance) {
+      synchronized (LocationIndex.class) {
+        if (null == instance) {
+          CacheInvalidator invalidator =
+              CacheInvalidator.create(
+                  "location-index", JsonKey.SUNBIRD_LOCATION_INDEX_INVALIDATION_TOPIC);
+          LocationIndex index =
+              new LocationIndex(LocationDaoFactory::getInstance, invalidator::publish);
+          invalidator.start(locationId -> index.reread(locationId, null));
+          index.scheduleReload(getRefreshInterval());
+          instance = index;
+        }
+      }
+    }
+    return instance;
+  }
+
+  private static int getRefreshInterval() {
+    return ExecutorUtil.getIntConfig(
+        JsonKey.SUNBIRD_LOCATION_INDEX_REFRESH_INTERVAL, DEFAULT_REFRESH_INTERVAL_SECONDS);
+  }
+
+  private void scheduleReload(long intervalSeconds) {
+    ScheduledExecutorService scheduler = ExecutorUtil.newDaemonScheduler("location-index");
+    scheduler.scheduleWithFixedDelay(
+        this::reload, 0, intervalSeconds, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Replaces the index with all locations read from the database. The loaded locations are
+   * discarded if a location was refreshed while they were read, the next reload then replaces the
+   * index.
+   */
+  void reload() {
+    long startTime = System.currentTimeMillis();
+    long loadModifications;
+    synchronized (this) {
+      loadModifications = modifications;
+    }
+    try {
+      Response response = locationDao.get().readAll(null);
+      List<Map<String, Object>> records =
+          null == response ? null : (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
+      if (null == records) {
+        logger.info("LocationIndex:reload: no locations read, index not replaced");
+        return;
+      }
+      Snapshot loaded = new Snapshot();
+      for (Map<String, Object> record : records) {
+        loaded.put(mapper.convertValue(record, Location.class));
+      }
+      synchronized (this) {
+        if (loadModifications != modifications) {
+          logger.info(
+              "LocationIndex:reload: locations refreshed during reload, index not replaced");
+          return;
+        }
+        snapshot = loaded;
+      }
+      logger.info(
+          "LocationIndex:reload: loaded "
+              + records.size()
+              + " locations in "
+              + (System.currentTimeMillis() - startTime)
+              + " ms, "
+              + getStats());
+    } catch (Exception e) {
+      logger.error("LocationIndex:reload: failed to load locations", e);
+    }
+  }
+
+  /**
+   * Re-reads the location from the database after it is created, updated or deleted, and tells the
+   * other nodes to re-read it as well. A location which is not found any more is dropped from the
+   * index.
+   *
+   * @param locationId Location id
+   * @param context
+   */
+  public void refresh(String locationId, RequestContext context) {
+    if (StringUtils.isBlank(locationId)) {
+      return;
+    }
+    reread(locationId, context);
+    invalidationPublisher.accept(locationId);
+  }
+
+  void reread(String locationId, RequestContext context) {
+    Location location = null;
+    try {
+      Response response = locationDao.get().read(locationId, context);
+      List<Map<String, Object>> records =
+          null == response ? null : (List<Map<String, Object>>) response.get(JsonKey.RESPONSE);
+      if (CollectionUtils.isNotEmpty(records)) {
+        location = mapper.convertValue(records.get(0), Location.class);
+      }
+    } catch (Exception e) {
+      logger.error(context, "LocationIndex:refresh: failed to read location " + locationId, e);
+    }
+    synchronized (this) {
+      modifications++;
+      snapshot.remove(locationId);
+      if (null != location) {
+        snapshot.put(location);
+      }
+    }
+  }
+
+  /**
+   * @param locationId Location id
+   * @param context
+   * @return Copy of the location with the id, searched for if it is not in the index, or null if
+   *     not found
+   */
+  public Location getLocation(String locationId, RequestContext context) {
+    Location location = snapshot.byId.get(locationId);
+    if (null != location) {
+      hits.incrementAndGet();
+      return copy(location);
+    }
+    misses.incrementAndGet();
+    List<Location> locations = search(JsonKey.ID, locationId, context);
+    return locations.isEmpty() ? null : locations.get(0);
+  }
+
+  /**
+   * @param codes Location codes
+   * @param context
+   * @return Copies of the locations with the distinct codes, the ones which are not in the index
+   *     are searched for. Codes without a location are left out, and a repeated code gives one
+   *     location.
+   */
+  public List<Location> getLocationsByCode(List<String> codes, RequestContext context) {
+    Snapshot current = snapshot;
+    List<Location> locations = new ArrayList<>();
+    List<String> missingCodes = new ArrayList<>();
+    for (String code : new LinkedHashSet<>(codes)) {
+      String locationId = current.idByCode.get(code);
+      Location location = null == locationId ? null : current.byId.get(locationId);
+      if (null == location) {
+        missingCodes.add(code);
+      } else {
+        locations.add(copy(location));
+      }
+    }
+    hits.addAndGet(locations.size());
+    if (!missingCodes.isEmpty()) {
+      misses.addAndGet(missingCodes.size());
+      locations.addAll(search(JsonKey.CODE, missingCodes, context));
+    }
+    return locations;
+  }
+
+  /**
+   * Resolves the chain from the location up to the top level location.
+   *
+   * @param locationObj Location
+   * @param context
+   * @return Location followed by copies of its parents, nearest first
+   */
+  public Set<Location> getParentLocations(Location locationObj, RequestContext context) {
+    Set<Location> locationSet = new LinkedHashSet<>();
+    Location location = locationObj;
+    int count = getOrder(location.getType());
+    locationSet.add(location);
+    while (count > 0) {
+      Location parent = null;
+      if (getOrder(location.getType()) == 0 && StringUtils.isNotEmpty(location.getId())) {
+        parent = getLocation(location.getId(), context);
+      } else if (StringUtils.isNotEmpty(location.getParentId())) {
+        parent = getLocation(location.getParentId(), context);
+      }
+      if (null != parent) {
+        locationSet.add(parent);
+        location = parent;
+      }
+      count--;
+    }
+    return locationSet;
+  }
+
+  // the indexed locations are shared between requests, so callers only ever get copies of them
+  private static Location copy(Location location) {
+    Location copy = new Location();
+    copy.setId(location.getId());
+    copy.setCode(location.getCode());
+    copy.setName(location.getName());
+    copy.setType(location.getType());
+    copy.setParentId(location.getParentId());
+    return copy;
+  }
+
+  private int getOrder(String type) {
+    return DataCacheHandler.getLocationOrderMap().get(type);
+  }
+
+  private List<Location> search(String param, Object value, RequestContext context) {
+    Map<String, Object> filters = new HashMap<>();
+    Map<String, Object> searchRequestMap = new HashMap<>();
+    filters.put(param, value);
+    searchRequestMap.put(JsonKey.FILTERS, filters);
+    Response response = locationDao.get().search(searchRequestMap, context);
+    List<Location> locations = new ArrayList<>();
+    if (null != response) {
+      List<Map<String, Object>> responseList =
+          (List<Map<String, Object>>) response.getResult().get(JsonKey.RESPONSE);
+      for (Map<String, Object> record : responseList) {
+        Location location = mapper.convertValue(record, Location.class);
+        snapshot.putIfAbsent(location);
+        locations.add(copy(location));
+      }
+    }
+    return locations;
+  }
+
+  /** @return Number of locations in the index */
+  public int size() {
+    return snapshot.byId.size();
+  }
+
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  public String getStats() {
+    return "size = " + size() + ", hits = " + getHitCount() + ", misses = " + getMissCount();
+  }
+
+  private static final class Snapshot {
+    private final Map<String, Location> byId = new ConcurrentHashMap<>();
+    private final Map<String, String> idByCode = new ConcurrentHashMap<>();
+
+    private void put(Location location) {
+      if (null == location || StringUtils.isBlank(location.getId())) {
+        return;
+      }
+      remove(location.getId());
+      byId.put(location.getId(), location);
+      if (StringUtils.isNotBlank(location.getCode())) {
+        idByCode.put(location.getCode(), location.getId());
+      }
+    }
+
+    // search results may lag behind the database, so they never replace a refreshed location
+    private void putIfAbsent(Location location) {
+      if (null != location
+          && StringUtils.isNotBlank(location.getId())
+          && !byId.containsKey(location.getId())) {
+        put(location);
+      }
+    }
+
+    private void remove(String locationId) {
+      Location location = byId.remove(locationId);
+      if (null != location && StringUtils.isNotBlank(location.getCode())) {
+        idByCode.remove(location.getCode(), locationId);
+      }
+    }
+  }
+}
@@ -0,0 +1,180 @@
+package org.sunbird.location.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.powermock.api.mockito.PowerMockito.mock;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.learner.util.DataCacheHandler;
+import org.sunbird.location.dao.LocationDao;
+import org.sunbird.models.location.Location;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({DataCacheHandler.class})
+@PowerMockIgnore({
+  "javax.management.*",
+  "javax.net.ssl.*",
+  "javax.security.*",
+  "jdk.internal.reflect.*",
+  "javax.crypto.*"
+})
+public class LocationIndexTest {
+
+  private LocationDao locationDao;
+  private LocationIndex locationIndex;
+
+  @Before
+  public void setUp() {
+    PowerMockito.mockStatic(DataCacheHandler.class);
+    Map<String, Integer> orderMap = new HashMap<>();
+    orderMap.put("state", 0);
+    orderMap.put("district", 1);
+    orderMap.put("block", 2);
+    when(DataCacheHandler.getLocationOrderMap()).thenReturn(orderMap);
+    locationDao = mock(LocationDao.class);
+    when(locationDao.readAll(Mockito.any()))
+        .thenReturn(
+            response(
+                location("id1", "code1", "state", null),
+                location("id2", "code2", "district", "id1"),
+                location("id3", "code3", "block", "id2")));
+    locationIndex = new LocationIndex(() -> locationDao);
+    locationIndex.reload();
+  }
+
+  @Test
+  public void testGetParentLocationsFromIndex() {
+    Location block = locationIndex.getLocation("id3", new RequestContext());
+    List<String> chain =
+        locationIndex
+            .getParentLocations(block, new RequestContext())
+            .stream()
+            .map(Location::getId)
+            .collect(Collectors.toList());
+    assertEquals(Arrays.asList("id3", "id2", "id1"), chain);
+    assertEquals(3, locationIndex.getHitCount());
+    Mockito.verify(locationDao, Mockito.never()).search(Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  public void testGetLocationsByCodeSearchesMissingCodes() {
+    when(locationDao.search(Mockito.any(), Mockito.any()))
+        .thenReturn(response(location("id4", "code4", "state", null)));
+    List<Location> locations =
+        locationIndex.getLocationsByCode(Arrays.asList("code2", "code4"), new RequestContext());
+    assertEquals(2, locations.size());
+    assertEquals(1, locationIndex.getMissCount());
+    assertEquals(4, locationIndex.size());
+    assertEquals("id4", locationIndex.getLocation("id4", new RequestContext()).getId());
+  }
+
+  @Test
+  public void testGetLocationsByCodeReturnsRepeatedCodeOnce() {
+    List<Location> locations =
+        locationIndex.getLocationsByCode(
+            Arrays.asList("code2", "code3", "code2"), new RequestContext());
+    assertEquals(2, locations.size());
+    assertEquals(2, locationIndex.getHitCount());
+  }
+
+  @Test
+  public void testChangingReturnedLocationDoesNotChangeIndex() {
+    locationIndex.getLocation("id2", new RequestContext()).setParentId("id9");
+    locationIndex
+        .getLocationsByCode(Arrays.asList("code2"), new RequestContext())
+        .get(0)
+        .setCode("code9");
+    Location district = locationIndex.getLocation("id2", new RequestContext());
+    assertEquals("id1", district.getParentId());
+    assertEquals("code2", district.getCode());
+  }
+
+  @Test
+  public void testGetLocationsByCodeSearchesBeforeFirstLoad() {
+    LocationIndex index = new LocationIndex(() -> locationDao);
+    when(locationDao.search(Mockito.any(), Mockito.any()))
+        .thenReturn(response(location("id2", "code2", "district", "id1")));
+    List<Location> locations =
+        index.getLocationsByCode(Arrays.asList("code2"), new RequestContext());
+    assertEquals("id2", locations.get(0).getId());
+    assertEquals(1, index.getMissCount());
+    assertEquals(1, index.size());
+  }
+
+  @Test
+  public void testRefreshPublishesInvalidation() {
+    List<String> published = new ArrayList<>();
+    LocationIndex index = new LocationIndex(() -> locationDao, published::add);
+    when(locationDao.read(Mockito.eq("id3"), Mockito.any()))
+        .thenReturn(response(location("id3", "code3", "block", "id2")));
+    index.refresh("id3", new RequestContext());
+    assertEquals(Arrays.asList("id3"), published);
+    assertEquals("id3", index.getLocation("id3", new RequestContext()).getId());
+  }
+
+  @Test
+  public void testRereadDoesNotPublishInvalidation() {
+    List<String> published = new ArrayList<>();
+    LocationIndex index = new LocationIndex(() -> locationDao, published::add);
+    when(locationDao.read(Mockito.eq("id3"), Mockito.any()))
+        .thenReturn(response(location("id3", "code3", "block", "id2")));
+    index.reread("id3", null);
+    assertEquals(0, published.size());
+    assertEquals(1, index.size());
+  }
+
+  @Test
+  public void testRefreshReplacesUpdatedLocation() {
+    when(locationDao.read(Mockito.eq("id3"), Mockito.any()))
+        .thenReturn(response(location("id3", "code5", "block", "id2")));
+    locationIndex.refresh("id3", new RequestContext());
+    List<Location> locations =
+        locationIndex.getLocationsByCode(Arrays.asList("code5"), new RequestContext());
+    assertEquals("id3", locations.get(0).getId());
+    assertEquals(0, locationIndex.getMissCount());
+  }
+
+  @Test
+  public void testRefreshDropsDeletedLocation() {
+    when(locationDao.read(Mockito.eq("id3"), Mockito.any())).thenReturn(response());
+    when(locationDao.search(Mockito.any(), Mockito.any())).thenReturn(response());
+    locationIndex.refresh("id3", new RequestContext());
+    assertEquals(2, locationIndex.size());
+    assertNull(locationIndex.getLocation("id3", new RequestContext()));
+  }
+
+  private static Map<String, Object> location(
+      String id, String code, String type, String parentId) {
+    Map<String, Object> location = new HashMap<>();
+    location.put(JsonKey.ID, id);
+    location.put(JsonKey.CODE, code);
+    location.put(JsonKey.TYPE, type);
+    if (null != parentId) {
+      location.put(JsonKey.PARENT_ID, parentId);
+    }
+    return location;
+  }
+
+  private static Response response(Map<String, Object>... locations) {
+    Response response = new Response();
+    response.put(JsonKey.RESPONSE, new ArrayList<>(Arrays.asList(locations)));
+    return response;
+  }
+}
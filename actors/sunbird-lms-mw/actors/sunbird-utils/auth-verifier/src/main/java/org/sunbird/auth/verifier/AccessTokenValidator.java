@@ -13,7 +13,27 @@ public class AccessTokenValidator {
   private static LoggerUtil logger = new LoggerUtil(AccessTokenValidator.class);
   private static ObjectMapper mapper = new ObjectMapper();
 
+  private static VerifiedTokenCache tokenCache = VerifiedTokenCache.create();
+
   private static Map<String, Object> validateToken(String token) throws JsonProcessingException {
+    String cacheKey = VerifiedTokenCache.key(token);
+    Map<String, Object> cachedClaims = tokenCache.get(cacheKey);
+    if (null != cachedClaims) {
+      return cachedClaims;
+    }
+    long startTime = System.nanoTime();
+    Map<String, Object> tokenBody = verifyToken(token);
+    tokenCache.recordVerification(System.nanoTime() - startTime);
+    if (null == tokenBody) {
+      tokenCache.putInvalid(cacheKey);
+      return Collections.EMPTY_MAP;
+    }
+    tokenCache.putValid(cacheKey, tokenBody, (Integer) tokenBody.get("exp"));
+    return tokenBody;
+  }
+
+  /** @return Claims of the token, null if the signature is invalid or the token has expired */
+  private static Map<String, Object> verifyToken(String token) throws JsonProcessingException {
     String[] tokenElements = token.split("\\.");
     String header = tokenElements[0];
     String body = tokenElements[1];
@@ -33,11 +53,16 @@ public class AccessTokenValidator {
           mapper.readValue(new String(decodeFromBase64(body)), Map.class);
       boolean isExp = isExpired((Integer) tokenBody.get("exp"));
       if (isExp) {
-        return Collections.EMPTY_MAP;
+        return null;
       }
       return tokenBody;
     }
-    return Collections.EMPTY_MAP;
+    return null;
+  }
+
+  /** Clears the cache of verified tokens. */
+  static void clearTokenCache() {
+    tokenCache.clear();
   }
 
   /**
@@ -0,0 +1,213 @@
+package org.sunbird.auth.verifier;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.commons.lang3.StringUtils;
+import org.keycloak.common.util.Time;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.models.util.PropertiesCache;
+
+/**
+ * Cache of verified access tokens keyed on the SHA-256 digest of the token. Claims of a valid token
+ * are kept until the token expires, invalid tokens are remembered for a short window, so that a
+ * token sent again is not parsed and RSA verified on every request.
+ *
+ * <p>Lookups do not take a lock, so concurrent requests do not queue on the cache. Once the cache
+ * grows beyond its size, one thread drops the expired tokens and the least recently used tenth of
+ * the cache, while the other threads carry on.
+ */
+class VerifiedTokenCache {
+  private static LoggerUtil logger = new LoggerUtil(VerifiedTokenCache.class);
+  private static final int DEFAULT_MAX_SIZE = 10000;
+  private static final int DEFAULT_NEGATIVE_TTL_SECONDS = 30;
+  private static final long STATS_LOG_INTERVAL = 10000;
+
+  private final Map<String, CachedToken> entries = new ConcurrentHashMap<>();
+  // orders the lookups, the token with the lowest value is the least recently used
+  private final AtomicLong accessClock = new AtomicLong();
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final int maxSize;
+  private final int negativeTtlSeconds;
+  private final AtomicLong evictions = new AtomicLong();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong verifications = new AtomicLong();
+  private final AtomicLong verificationNanos = new AtomicLong();
+
+  VerifiedTokenCache(int maxSize, int negativeTtlSeconds) {
+    this.maxSize = maxSize;
+    this.negativeTtlSeconds = negativeTtlSeconds;
+  }
+
+  /** Creates a cache with the size and negative result window read from configuration. */
+  static VerifiedTokenCache create() {
+    PropertiesCache propertiesCache = PropertiesCache.getInstance();
+    return new VerifiedTokenCache(
+        getIntProperty(propertiesCache, JsonKey.ACCESS_TOKEN_CACHE_SIZE, DEFAULT_MAX_SIZE),
+        getIntProperty(
+            propertiesCache,
+            JsonKey.ACCESS_TOKEN_NEGATIVE_CACHE_TTL,
+            DEFAULT_NEGATIVE_TTL_SECONDS));
+  }
+
+  private static int getIntProperty(PropertiesCache propertiesCache, String key, int defaultValue) {
+    String value = propertiesCache.readProperty(key);
+    return StringUtils.isNumeric(value) ? Integer.parseInt(value) : defaultValue;
+  }
+
+  /**
+   * Returns the cached claims of the token.
+   *
+   * @param key Digest of the token, see {@link #key(String)}
+   * @return Claims of a valid token, empty map for an invalid token or null if the token is not
+   *     cached or its entry has expired
+   */
+  Map<String, Object> get(String key) {
+    CachedToken entry = entries.get(key);
+    if (null != entry && Time.currentTime() > entry.expiresAt) {
+      entries.remove(key, entry);
+      entry = null;
+    }
+    if (null != entry) {
+      entry.lastAccess = accessClock.incrementAndGet();
+    }
+    long lookups;
+    if (null != entry) {
+      lookups = hits.incrementAndGet() + misses.get();
+    } else {
+      lookups = misses.incrementAndGet() + hits.get();
+    }
+    if (lookups % STATS_LOG_INTERVAL == 0) {
+      logger.info("VerifiedTokenCache: " + getStats());
+    }
+    return null == entry ? null : entry.claims;
+  }
+
+  /** Caches the claims of a verified token until the given expiry time in seconds. */
+  void putValid(String key, Map<String, Object> claims, int expiresAt) {
+    put(key, new CachedToken(Collections.unmodifiableMap(claims), expiresAt));
+  }
+
+  /** Caches a token failing verification for the negative result window. */
+  void putInvalid(String key) {
+    if (negativeTtlSeconds > 0) {
+      put(key, new CachedToken(Collections.emptyMap(), Time.currentTime() + negativeTtlSeconds));
+    }
+  }
+
+  private void put(String key, CachedToken entry) {
+    if (maxSize <= 0) {
+      return;
+    }
+    entry.lastAccess = accessClock.incrementAndGet();
+    entries.put(key, entry);
+    if (entries.size() > maxSize) {
+      evict();
+    }
+  }
+
+  private void evict() {
+    // one thread evicts, the others do not wait for it
+    if (!evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      int now = Time.currentTime();
+      entries.entrySet().removeIf(e -> now > e.getValue().expiresAt);
+      int excess = entries.size() - maxSize;
+      if (excess <= 0) {
+        return;
+      }
+      List<Map.Entry<String, CachedToken>> candidates = new ArrayList<>(entries.entrySet());
+      candidates.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+      int count = Math.min(candidates.size(), Math.max(excess, maxSize / 10));
+      for (int i = 0; i < count; i++) {
+        Map.Entry<String, CachedToken> candidate = candidates.get(i);
+        if (entries.remove(candidate.getKey(), candidate.getValue())) {
+          evictions.incrementAndGet();
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  /** Records the time taken by a full parse and signature verification of a token. */
+  void recordVerification(long nanos) {
+    verifications.incrementAndGet();
+    verificationNanos.addAndGet(nanos);
+  }
+
+  void clear() {
+    entries.clear();
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  long getHitCount() {
+    return hits.get();
+  }
+
+  long getMissCount() {
+    return misses.get();
+  }
+
+  long getEvictionCount() {
+    return evictions.get();
+  }
+
+  String getStats() {
+    long hitCount = hits.get();
+    long lookups = hitCount + misses.get();
+    long verificationCount = verifications.get();
+    return "size = "
+        + size()
+        + ", hit rate = "
+        + (lookups == 0 ? 0 : hitCount * 100 / lookups)
+        + "%, evictions = "
+        + evictions.get()
+        + ", verifications = "
+        + verificationCount
+        + ", average verification time = "
+        + (verificationCount == 0
+            ? 0
+            : TimeUnit.NANOSECONDS.toMicros(verificationNanos.get() / verificationCount))
+        + " micros";
+  }
+
+  /** @return Base64 encoded SHA-256 digest of the token */
+  static String key(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return Base64.getEncoder()
+          .encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static class CachedToken {
+    private final Map<String, Object> claims;
+    private final int expiresAt;
+    private volatile long lastAccess;
+
+    private CachedToken(Map<String, Object> claims, int expiresAt) {
+      this.claims = claims;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -8,6 +8,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.security.PublicKey;
 import java.util.HashMap;
 import java.util.Map;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.keycloak.common.util.Time;
@@ -26,6 +27,14 @@ import org.powermock.modules.junit4.PowerMockRunner;
   "jdk.internal.reflect.*"
 })
 public class AccessTokenValidatorTest {
+  private static final String TOKEN =
+      "eyJhbGciOiJSUzI1NiIsInR5cCIgOiAiSldUIiwia2lkIiA6ICI5emhhVnZDbl81OEtheHpldHBzYXNZQ2lEallkemJIX3U2LV93SDk4SEc0In0.eyJqdGkiOiI5ZmQzNzgzYy01YjZmLTQ3OWQtYmMzYy0yZWEzOGUzZmRmYzgiLCJleHAiOjE1MDUxMTQyNDYsIm5iZiI6MCwiaWF0IjoxNTA1MTEzNjQ2LCJpc3MiOiJodHRwOi8vbG9jYWxob3N0OjgwODAvYXV0aC9yZWFsbXMvbWFzdGVyIiwiYXVkIjoic2VjdXJpdHktYWRtaW4tY29uc29sZSIsInN1YiI6ImIzYTZkMTY4LWJjZmQtNDE2MS1hYzVmLTljZjYyODIyNzlmMyIsInR5cCI6IkJlYXJlciIsImF6cCI6InNlY3VyaXR5LWFkbWluLWNvbnNvbGUiLCJub25jZSI6ImMxOGVlMDM2LTAyMWItNGVlZC04NWVhLTc0MjMyYzg2ZmI4ZSIsImF1dGhfdGltZSI6MTUwNTExMzY0Niwic2Vzc2lvbl9zdGF0ZSI6ImRiZTU2NDlmLTY4MDktNDA3NS05Njk5LTVhYjIyNWMwZTkyMiIsImFjciI6IjEiLCJhbGxvd2VkLW9yaWdpbnMiOltdLCJyZXNvdXJjZV9hY2Nlc3MiOnt9LCJuYW1lIjoiTWFuemFydWwgaGFxdWUiLCJwcmVmZXJyZWRfdXNlcm5hbWUiOiJ0ZXN0MTIzNDU2NyIsImdpdmVuX25hbWUiOiJNYW56YXJ1bCBoYXF1ZSIsImVtYWlsIjoidGVzdDEyM0B0LmNvbSJ9.Xdjqe16MSkiR94g-Uj_pVZ2L3gnIdKpkJ6aB82W_w_c3yEmx1mXYBdkxe4zMz3ks4OX_PWwSFEbJECHcnujUwF6Ula0xtXTfuESB9hFyiWHtVAhuh5UlCCwPnsihv5EqK6u-Qzo0aa6qZOiQK3Zo7FLpnPUDxn4yHyo3mRZUiWf76KTl8PhSMoXoWxcR2vGW0b-cPixILTZPV0xXUZoozCui70QnvTgOJDWqr7y80EWDkS4Ptn-QM3q2nJlw63mZreOG3XTdraOlcKIP5vFK992dyyHlYGqWVzigortS9Ah4cprFVuLlX8mu1cQvqHBtW-0Dq_JlcTMaztEnqvJ6XA";
+
+  @Before
+  public void beforeEachTest() {
+    AccessTokenValidator.clearTokenCache();
+  }
+
   @Test
   public void verifyUserAccessToken() throws JsonProcessingException {
     PowerMockito.mockStatic(CryptoUtil.class);
@@ -172,4 +181,47 @@ public class AccessTokenValidatorTest {
       assertNotNull(e);
     }
   }
+
+  @Test
+  public void verifyUserAccessTokenFromCache() throws JsonProcessingException {
+    mockVerification(true, Time.currentTime() + 3600);
+    String userId = AccessTokenValidator.verifyUserToken(TOKEN);
+    String cachedUserId = AccessTokenValidator.verifyUserToken(TOKEN);
+    assertNotNull(userId);
+    assertEquals(userId, cachedUserId);
+    PowerMockito.verifyStatic(CryptoUtil.class, Mockito.times(1));
+    CryptoUtil.verifyRSASign(Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  public void verifyUserAccessTokenInvalidTokenFromCache() throws JsonProcessingException {
+    mockVerification(false, Time.currentTime() + 3600);
+    AccessTokenValidator.verifyUserToken(TOKEN);
+    String userId = AccessTokenValidator.verifyUserToken(TOKEN);
+    assertEquals("Unauthorized", userId);
+    PowerMockito.verifyStatic(CryptoUtil.class, Mockito.times(1));
+    CryptoUtil.verifyRSASign(Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any());
+  }
+
+  private void mockVerification(boolean isValid, int expTime) throws JsonProcessingException {
+    PowerMockito.mockStatic(CryptoUtil.class);
+    PowerMockito.mockStatic(Base64Util.class);
+    PowerMockito.mockStatic(KeyManager.class);
+    KeyData keyData = PowerMockito.mock(KeyData.class);
+    Mockito.when(KeyManager.getPublicKey(Mockito.anyString())).thenReturn(keyData);
+    PublicKey publicKey = PowerMockito.mock(PublicKey.class);
+    Mockito.when(keyData.getPublicKey()).thenReturn(publicKey);
+    Map<String, Object> payload = new HashMap<>();
+    payload.put("exp", expTime);
+    payload.put("iss", "nullrealms/null");
+    payload.put("kid", "kid");
+    payload.put("sub", "f:ca00376d-395f-aee687d7c8ad:10cca27c-2a13-443c-9e2b-c7d9589c1f5f");
+    ObjectMapper mapper = new ObjectMapper();
+    Mockito.when(Base64Util.decode(Mockito.any(String.class), Mockito.anyInt()))
+        .thenReturn(mapper.writeValueAsString(payload).getBytes());
+    Mockito.when(
+            CryptoUtil.verifyRSASign(
+                Mockito.anyString(), Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(isValid);
+  }
 }
@@ -0,0 +1,115 @@
+package org.sunbird.auth.verifier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.keycloak.common.util.Time;
+
+public class VerifiedTokenCacheTest {
+
+  @Test
+  public void testGetValidToken() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(10, 30);
+    Map<String, Object> claims = new HashMap<>();
+    claims.put("sub", "userId");
+    cache.putValid("token", claims, Time.currentTime() + 60);
+    assertEquals("userId", cache.get("token").get("sub"));
+    assertEquals(1, cache.getHitCount());
+  }
+
+  @Test
+  public void testGetExpiredToken() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(10, 30);
+    cache.putValid("token", new HashMap<>(), Time.currentTime() - 1);
+    assertNull(cache.get("token"));
+    assertEquals(0, cache.size());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  public void testGetInvalidToken() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(10, 30);
+    cache.putInvalid("token");
+    assertTrue(cache.get("token").isEmpty());
+  }
+
+  @Test
+  public void testPutInvalidTokenWithoutNegativeCaching() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(10, 0);
+    cache.putInvalid("token");
+    assertNull(cache.get("token"));
+  }
+
+  @Test
+  public void testPutBeyondMaxSizeEvictsLeastRecentlyUsedToken() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(2, 30);
+    cache.putValid("token1", new HashMap<>(), Time.currentTime() + 60);
+    cache.putValid("token2", new HashMap<>(), Time.currentTime() + 60);
+    cache.get("token1");
+    cache.putValid("token3", new HashMap<>(), Time.currentTime() + 60);
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    assertNull(cache.get("token2"));
+    assertNotNull(cache.get("token1"));
+    assertNotNull(cache.get("token3"));
+  }
+
+  @Test
+  public void testPutBeyondMaxSizeDropsExpiredTokensFirst() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(2, 30);
+    cache.putValid("token1", new HashMap<>(), Time.currentTime() + 60);
+    cache.putValid("token2", new HashMap<>(), Time.currentTime() - 1);
+    cache.putValid("token3", new HashMap<>(), Time.currentTime() + 60);
+    assertEquals(2, cache.size());
+    assertEquals(0, cache.getEvictionCount());
+    assertNotNull(cache.get("token1"));
+  }
+
+  @Test
+  public void testConcurrentPutsKeepCacheBounded() throws Exception {
+    VerifiedTokenCache cache = new VerifiedTokenCache(100, 30);
+    List<Thread> threads = new ArrayList<>();
+    for (int t = 0; t < 4; t++) {
+      int thread = t;
+      threads.add(
+          new Thread(
+              () -> {
+                for (int i = 0; i < 1000; i++) {
+                  String key = "token" + thread + "_" + i;
+                  cache.putValid(key, new HashMap<>(), Time.currentTime() + 60);
+                  cache.get(key);
+                }
+              }));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    cache.putValid("last", new HashMap<>(), Time.currentTime() + 60);
+    assertTrue(cache.size() <= 100);
+    assertNotNull(cache.get("last"));
+  }
+
+  @Test
+  public void testPutWithoutMaxSizeCachesNothing() {
+    VerifiedTokenCache cache = new VerifiedTokenCache(0, 30);
+    cache.putValid("token", new HashMap<>(), Time.currentTime() + 60);
+    assertNull(cache.get("token"));
+  }
+
+  @Test
+  public void testKeyIsDigestOfToken() {
+    assertEquals(VerifiedTokenCache.key("a.b.c"), VerifiedTokenCache.key("a.b.c"));
+    assertNotEquals(VerifiedTokenCache.key("a.b.c"), VerifiedTokenCache.key("a.b.d"));
+  }
+}
@@ -0,0 +1,158 @@
+package org.sunbird.cassandra;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.request.RequestContext;
+
+/**
+ * @desc Non blocking twin of {@link CassandraOperation}. Every method returns as soon as the query
+ *     is handed over to the driver, the returned stage completes with the same {@link Response}
+ *     the synchronous method would return or exceptionally with a ProjectCommonException.
+ */
+public interface CassandraAsyncOperation {
+
+  /**
+   * @desc This method is used to insert record in cassandra db
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @param context
+   * @return CompletionStage<Response>
+   */
+  CompletionStage<Response> insertRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context);
+
+  /**
+   * @desc This method is used to insert/update record in cassandra db
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @param context
+   * @return CompletionStage<Response>
+   */
+  CompletionStage<Response> upsertRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context);
+
+  /**
+   * @desc This method is used to update record in cassandra db
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @param compositeKey Column map for composite primary key
+   * @param context
+   * @return CompletionStage<Response>
+   */
+  CompletionStage<Response> updateRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      Map<String, Object> compositeKey,
+      RequestContext context);
+
+  /**
+   * @desc This method is used to delete record in cassandra db by their primary key(identifier)
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param identifier String
+   * @param context
+   * @return CompletionStage<Response>
+   */
+  CompletionStage<Response> deleteRecordAsync(
+      String keyspaceName, String tableName, String identifier, RequestContext context);
+
+  /**
+   * @desc This method is used to fetch record based on primary key
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param key Primary key
+   * @param fields List of columns to be returned, all columns if empty
+   * @param context
+   * @return CompletionStage<Response>
+   */
+  CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      String key,
+      List<String> fields,
+      RequestContext context);
+
+  /**
+   * @desc This method is used to fetch record based on composite primary key
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param key Column map for composite primary key
+   * @param fields List of columns to be returned, all columns if empty
+   * @param context
+   * @return CompletionStage<Response>
+   */
+  CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> key,
+      List<String> fields,
+      RequestContext context);
+
+  /**
+   * @desc This method is used to fetch records based on the given properties
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param propertyMap Map of column name and value, list values are applied as IN clause
+   * @param fields List of columns to be returned, all columns if empty
+   * @param context
+   * @return CompletionStage<Response>
+   */
+  CompletionStage<Response> getRecordsByPropertiesAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      List<String> fields,
+      RequestContext context);
+
+  /**
+   * @desc This method is used to fetch records for the given primary keys
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param primaryKeys List of primary key values
+   * @param primaryKeyColumnName Primary key column name, id if blank
+   * @param context
+   * @return CompletionStage<Response>
+   */
+  CompletionStage<Response> getRecordsByPrimaryKeysAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> primaryKeys,
+      String primaryKeyColumnName,
+      RequestContext context);
+
+  /**
+   * @desc This method is used to insert all the records in a single batch
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param records List of records to be inserted
+   * @param context
+   * @return CompletionStage<Response>
+   */
+  CompletionStage<Response> batchInsertAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> records,
+      RequestContext context);
+
+  /**
+   * @desc This method is used to fetch records matching the filters
+   * @param keyspace Keyspace name
+   * @param table Table name
+   * @param filters Column and value map for filtering
+   * @param fields List of columns to be returned in each record
+   * @param context
+   * @return CompletionStage<Response>
+   */
+  CompletionStage<Response> getRecordsAsync(
+      String keyspace,
+      String table,
+      Map<String, Object> filters,
+      List<String> fields,
+      RequestContext context);
+}
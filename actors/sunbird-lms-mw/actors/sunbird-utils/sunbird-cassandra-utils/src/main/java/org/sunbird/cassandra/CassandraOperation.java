@@ -5,6 +5,8 @@ import com.datastax.driver.core.ResultSet;
 import com.google.common.util.concurrent.FutureCallback;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.request.RequestContext;
 
@@ -12,7 +14,7 @@ import org.sunbird.common.request.RequestContext;
  * @desc this interface will hold functions for cassandra db interaction
  * @author Amit Kumar
  */
-public interface CassandraOperation {
+public interface CassandraOperation extends CassandraAsyncOperation {
 
   /**
    * @desc This method is used to insert/update record in cassandra db (if primary key exist in
@@ -40,6 +42,43 @@ public interface CassandraOperation {
   public Response insertRecord(
       String keyspaceName, String tableName, Map<String, Object> request, RequestContext context);
 
+  /**
+   * @desc This method is used to insert record in cassandra db as a lightweight transaction, only
+   *     if no record with the same primary key exists
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @param ttl Time to live after which inserted record will be auto deleted, unless it is written
+   *     again without ttl
+   * @param context
+   * @return boolean true if the record is inserted, false if a record with the same primary key
+   *     exists
+   */
+  public boolean insertRecordIfNotExists(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      int ttl,
+      RequestContext context);
+
+  /**
+   * @desc This method is used to update record in cassandra db as a lightweight transaction, only
+   *     if the updated columns are null. A record which does not exist, or whose ttl expired, is
+   *     written as well. The updated columns are written without ttl.
+   * @param keyspaceName Keyspace name
+   * @param tableName Table name
+   * @param request Map<String,Object>(i.e map of column name and their value)
+   * @param compositeKey Column map for composite primary key
+   * @param context
+   * @return boolean true if the record is updated, false if one of the columns has a value
+   */
+  public boolean updateRecordIfNull(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      Map<String, Object> compositeKey,
+      RequestContext context);
+
   /**
    * @desc This method is used to update record in cassandra db
    * @param keyspaceName Keyspace name
@@ -189,6 +228,56 @@ public interface CassandraOperation {
   public Response getAllRecords(
       String keyspaceName, String tableName, List<String> fields, RequestContext context);
 
+  /**
+   * @desc This method is used to check the connection to the cluster with a query on the system
+   *     table of the coordinator node (i.e SELECT now() FROM system.local), no table data is read
+   * @param keyspaceName String (data base keyspace name) the session of which is used
+   * @param context
+   * @return Response Response
+   */
+  public Response checkConnection(String keyspaceName, RequestContext context);
+
+  /**
+   * @desc This method is used to read all records of a table page by page. Rows are fetched from
+   *     the cluster lazily while the stream is consumed, so only about one page is held in memory
+   *     at a time. Callers must not collect the stream for large tables.
+   * @param keyspaceName String (data base keyspace name)
+   * @param tableName String
+   * @param fields List of columns to be returned in each record, all columns if empty
+   * @param pageSize Number of rows fetched per round trip, configured scanPageSize if not positive
+   * @param context
+   * @return Stream of records
+   */
+  Stream<Map<String, Object>> streamAllRecords(
+      String keyspaceName,
+      String tableName,
+      List<String> fields,
+      int pageSize,
+      RequestContext context);
+
+  /**
+   * @desc This method is used to scan a full table by splitting the token ring into ranges and
+   *     reading the ranges in parallel, page by page. Meant for background jobs, the call returns
+   *     once every row has been handed to the consumer. The ranges are read on a scan pool shared
+   *     by all scans and the consumer is invoked concurrently from its threads. Throws a
+   *     ProjectCommonException if the table does not exist or a range cannot be read.
+   * @param keyspaceName String (data base keyspace name)
+   * @param tableName String
+   * @param fields List of columns to be returned in each record, all columns if empty
+   * @param pageSize Number of rows fetched per round trip, configured scanPageSize if not positive
+   * @param parallelism Maximum number of token ranges read concurrently
+   * @param rowConsumer Consumer invoked for each record
+   * @param context
+   */
+  void scanAllRecords(
+      String keyspaceName,
+      String tableName,
+      List<String> fields,
+      int pageSize,
+      int parallelism,
+      Consumer<Map<String, Object>> rowConsumer,
+      RequestContext context);
+
   /**
    * Method to update the record on basis of composite primary key.
    *
@@ -1,16 +1,16 @@
 package org.sunbird.cassandraimpl;
 
 import com.datastax.driver.core.ResultSet;
-import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Update;
 import com.google.common.util.concurrent.FutureCallback;
-import com.google.common.util.concurrent.Futures;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.sunbird.common.CassandraUtil;
@@ -35,24 +35,7 @@ public class CassandraDACImpl extends CassandraOperationImpl {
     Session session = connectionManager.getSession(keySpace);
     Select select = null;
     try {
-      if (CollectionUtils.isNotEmpty(fields)) {
-        select = QueryBuilder.select((String[]) fields.toArray()).from(keySpace, table);
-      } else {
-        select = QueryBuilder.select().all().from(keySpace, table);
-      }
-
-      if (MapUtils.isNotEmpty(filters)) {
-        Select.Where where = select.where();
-        for (Map.Entry<String, Object> filter : filters.entrySet()) {
-          Object value = filter.getValue();
-          if (value instanceof List) {
-            where = where.and(QueryBuilder.in(filter.getKey(), ((List) filter.getValue())));
-          } else {
-            where = where.and(QueryBuilder.eq(filter.getKey(), filter.getValue()));
-          }
-        }
-      }
-
+      select = buildSelect(keySpace, table, filters, fields);
       ResultSet results = null;
       results = session.execute(select);
       response = CassandraUtil.createResponse(results);
@@ -70,6 +53,27 @@ public class CassandraDACImpl extends CassandraOperationImpl {
     return response;
   }
 
+  @Override
+  public CompletionStage<Response> getRecordsAsync(
+      String keySpace,
+      String table,
+      Map<String, Object> filters,
+      List<String> fields,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    Select select = buildSelect(keySpace, table, filters, fields);
+    return executeAsync(
+        "getRecordsAsync",
+        keySpace,
+        table,
+        select,
+        select.getQueryString(),
+        startTime,
+        CassandraUtil::createResponse,
+        ResponseCode.SERVER_ERROR,
+        context);
+  }
+
   public void applyOperationOnRecordsAsync(
       String keySpace,
       String table,
@@ -78,40 +82,52 @@ public class CassandraDACImpl extends CassandraOperationImpl {
       FutureCallback<ResultSet> callback,
       RequestContext context) {
     long startTime = System.currentTimeMillis();
-    Session session = connectionManager.getSession(keySpace);
-    Select select = null;
-    try {
-      if (CollectionUtils.isNotEmpty(fields)) {
-        select = QueryBuilder.select((String[]) fields.toArray()).from(keySpace, table);
-      } else {
-        select = QueryBuilder.select().all().from(keySpace, table);
-      }
+    Select select = buildSelect(keySpace, table, filters, fields);
+    // callbacks iterate over the whole result, keep only a page of it in memory at a time
+    select.setFetchSize(getScanPageSize(0));
+    executeAsync(
+            "applyOperationOnRecordsAsync",
+            keySpace,
+            table,
+            select,
+            select.getQueryString(),
+            startTime,
+            Function.identity(),
+            ResponseCode.SERVER_ERROR,
+            context)
+        // the result is already handed over to the shared executor by executeAsync
+        .whenComplete(
+            (resultSet, error) -> {
+              if (null != error) {
+                callback.onFailure(
+                    error instanceof CompletionException ? error.getCause() : error);
+              } else {
+                callback.onSuccess(resultSet);
+              }
+            });
+  }
 
-      if (MapUtils.isNotEmpty(filters)) {
-        Select.Where where = select.where();
-        for (Map.Entry<String, Object> filter : filters.entrySet()) {
-          Object value = filter.getValue();
-          if (value instanceof List) {
-            where = where.and(QueryBuilder.in(filter.getKey(), ((List) filter.getValue())));
-          } else {
-            where = where.and(QueryBuilder.eq(filter.getKey(), filter.getValue()));
-          }
+  private Select buildSelect(
+      String keySpace, String table, Map<String, Object> filters, List<String> fields) {
+    Select select;
+    if (CollectionUtils.isNotEmpty(fields)) {
+      select = QueryBuilder.select((String[]) fields.toArray()).from(keySpace, table);
+    } else {
+      select = QueryBuilder.select().all().from(keySpace, table);
+    }
+
+    if (MapUtils.isNotEmpty(filters)) {
+      Select.Where where = select.where();
+      for (Map.Entry<String, Object> filter : filters.entrySet()) {
+        Object value = filter.getValue();
+        if (value instanceof List) {
+          where = where.and(QueryBuilder.in(filter.getKey(), ((List) filter.getValue())));
+        } else {
+          where = where.and(QueryBuilder.eq(filter.getKey(), filter.getValue()));
         }
       }
-      ResultSetFuture future = session.executeAsync(select);
-      Futures.addCallback(future, callback, Executors.newFixedThreadPool(1));
-    } catch (Exception e) {
-      logger.error(context, Constants.EXCEPTION_MSG_FETCH + table + " : " + e.getMessage(), e);
-      throw new ProjectCommonException(
-          ResponseCode.SERVER_ERROR.getErrorCode(),
-          ResponseCode.SERVER_ERROR.getErrorMessage(),
-          ResponseCode.SERVER_ERROR.getResponseCode());
-    } finally {
-      if (null != select) {
-        logQueryElapseTime(
-            "applyOperationOnRecordsAsync", startTime, select.getQueryString(), context);
-      }
     }
+    return select;
   }
 
   public Response updateAddMapRecord(
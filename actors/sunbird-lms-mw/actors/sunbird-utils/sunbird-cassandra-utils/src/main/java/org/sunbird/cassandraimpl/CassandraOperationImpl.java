@@ -4,10 +4,17 @@ import static com.datastax.driver.core.querybuilder.QueryBuilder.eq;
 
 import com.datastax.driver.core.BatchStatement;
 import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.Token;
+import com.datastax.driver.core.TokenRange;
 import com.datastax.driver.core.exceptions.NoHostAvailableException;
 import com.datastax.driver.core.exceptions.QueryExecutionException;
 import com.datastax.driver.core.exceptions.QueryValidationException;
@@ -21,34 +28,91 @@ import com.datastax.driver.core.querybuilder.Select.Selection;
 import com.datastax.driver.core.querybuilder.Select.Where;
 import com.datastax.driver.core.querybuilder.Update;
 import com.datastax.driver.core.querybuilder.Update.Assignments;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.sunbird.cassandra.CassandraOperation;
 import org.sunbird.common.CassandraUtil;
+import org.sunbird.common.ColumnMapping;
 import org.sunbird.common.Constants;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.models.util.PropertiesCache;
 import org.sunbird.common.request.RequestContext;
 import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.helper.CassandraAsyncExecutor;
 import org.sunbird.helper.CassandraConnectionManager;
 import org.sunbird.helper.CassandraConnectionMngrFactory;
+import org.sunbird.helper.CassandraScanExecutor;
+import org.sunbird.helper.PreparedStatementCache;
 
 /** This class will hold functions for cassandra db interaction */
 public abstract class CassandraOperationImpl implements CassandraOperation {
 
+  private static final int DEFAULT_PREPARED_STATEMENT_CACHE_SIZE = 500;
+  private static final int DEFAULT_SCAN_PAGE_SIZE = 500;
+
   protected CassandraConnectionManager connectionManager;
+  protected PreparedStatementCache preparedStatementCache;
   private LoggerUtil logger = new LoggerUtil(CassandraOperationImpl.class);
 
   public CassandraOperationImpl() {
     connectionManager = CassandraConnectionMngrFactory.getInstance();
+    preparedStatementCache = new PreparedStatementCache(getPreparedStatementCacheSize());
+  }
+
+  private static int getPreparedStatementCacheSize() {
+    return getIntProperty(
+        Constants.PREPARED_STATEMENT_CACHE_SIZE, DEFAULT_PREPARED_STATEMENT_CACHE_SIZE);
+  }
+
+  protected static int getScanPageSize(int pageSize) {
+    if (pageSize > 0) {
+      return pageSize;
+    }
+    return getIntProperty(Constants.SCAN_PAGE_SIZE, DEFAULT_SCAN_PAGE_SIZE);
+  }
+
+  private static int getIntProperty(String key, int defaultValue) {
+    String value = PropertiesCache.getInstance().readProperty(key);
+    if (StringUtils.isNumeric(value)) {
+      return Integer.parseInt(value);
+    }
+    return defaultValue;
+  }
+
+  public PreparedStatementCache getPreparedStatementCache() {
+    return preparedStatementCache;
+  }
+
+  private PreparedStatement prepare(String keyspaceName, String query) {
+    return preparedStatementCache.getOrPrepare(
+        connectionManager.getSession(keyspaceName), keyspaceName, query);
   }
 
   @Override
@@ -57,12 +121,14 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     long startTime = System.currentTimeMillis();
     logger.debug(context, "Cassandra Service insertRecord method started at ==" + startTime);
     Response response = new Response();
-    String query = CassandraUtil.getPreparedStatement(keyspaceName, tableName, request);
+    // Sorted columns make the generated query identical for the same column set
+    Map<String, Object> record = new TreeMap<>(request);
+    String query = CassandraUtil.getPreparedStatement(keyspaceName, tableName, record);
     try {
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(query);
+      PreparedStatement statement = prepare(keyspaceName, query);
       BoundStatement boundStatement = new BoundStatement(statement);
-      Iterator<Object> iterator = request.values().iterator();
-      Object[] array = new Object[request.keySet().size()];
+      Iterator<Object> iterator = record.values().iterator();
+      Object[] array = new Object[record.keySet().size()];
       int i = 0;
       while (iterator.hasNext()) {
         array[i++] = iterator.next();
@@ -95,6 +161,72 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     return response;
   }
 
+  @Override
+  public boolean insertRecordIfNotExists(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      int ttl,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    logger.debug(
+        context, "Cassandra Service insertRecordIfNotExists method started at ==" + startTime);
+    Map<String, Object> record = new TreeMap<>(request);
+    String query =
+        StringUtils.removeEnd(
+                CassandraUtil.getPreparedStatement(keyspaceName, tableName, record), ";")
+            + Constants.IF_NOT_EXISTS_USING_TTL;
+    try {
+      PreparedStatement statement = prepare(keyspaceName, query);
+      List<Object> values = new ArrayList<>(record.values());
+      values.add(ttl);
+      ResultSet resultSet =
+          connectionManager.getSession(keyspaceName).execute(statement.bind(values.toArray()));
+      return resultSet.wasApplied();
+    } catch (Exception e) {
+      logger.error(
+          context,
+          "Exception occured while inserting record to " + tableName + " : " + e.getMessage(),
+          e);
+      throw new ProjectCommonException(
+          ResponseCode.dbInsertionError.getErrorCode(),
+          ResponseCode.dbInsertionError.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      logQueryElapseTime("insertRecordIfNotExists", startTime, query, context);
+    }
+  }
+
+  @Override
+  public boolean updateRecordIfNull(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      Map<String, Object> compositeKey,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    logger.debug(context, "Cassandra Service updateRecordIfNull method started at ==" + startTime);
+    Update update = QueryBuilder.update(keyspaceName, tableName);
+    Assignments assignments = update.with();
+    request.forEach((column, value) -> assignments.and(QueryBuilder.set(column, value)));
+    Update.Where where = update.where();
+    compositeKey.forEach((column, value) -> where.and(eq(column, value)));
+    Update.Conditions conditions = update.onlyIf();
+    request.keySet().forEach(column -> conditions.and(eq(column, null)));
+    try {
+      ResultSet resultSet = connectionManager.getSession(keyspaceName).execute(update);
+      return resultSet.wasApplied();
+    } catch (Exception e) {
+      logger.error(context, Constants.EXCEPTION_MSG_UPDATE + tableName + " : " + e.getMessage(), e);
+      throw new ProjectCommonException(
+          ResponseCode.dbUpdateError.getErrorCode(),
+          ResponseCode.dbUpdateError.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      logQueryElapseTime("updateRecordIfNull", startTime, update.getQueryString(), context);
+    }
+  }
+
   @Override
   public Response updateRecord(
       String keyspaceName, String tableName, Map<String, Object> request, RequestContext context) {
@@ -103,7 +235,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     Response response = new Response();
     String query = CassandraUtil.getUpdateQueryStatement(keyspaceName, tableName, request);
     try {
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(query);
+      PreparedStatement statement = prepare(keyspaceName, query);
       Object[] array = new Object[request.size()];
       int i = 0;
       String str = "";
@@ -279,7 +411,7 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     String selectQuery = null;
     try {
       selectQuery = CassandraUtil.getSelectStatement(keyspaceName, tableName, properties);
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(selectQuery);
+      PreparedStatement statement = prepare(keyspaceName, selectQuery);
       BoundStatement boundStatement = new BoundStatement(statement);
       ResultSet results =
           connectionManager.getSession(keyspaceName).execute(boundStatement.bind(id));
@@ -343,6 +475,26 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     return getAllRecords(keyspaceName, tableName, null, context);
   }
 
+  @Override
+  public Response checkConnection(String keyspaceName, RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    Select selectQuery = QueryBuilder.select().fcall("now").from("system", "local");
+    try {
+      connectionManager.getSession(keyspaceName).execute(selectQuery);
+      Response response = new Response();
+      response.put(Constants.RESPONSE, Constants.SUCCESS);
+      return response;
+    } catch (Exception e) {
+      logger.error(context, "Cassandra Service checkConnection failed : " + e.getMessage(), e);
+      throw new ProjectCommonException(
+          ResponseCode.SERVER_ERROR.getErrorCode(),
+          ResponseCode.SERVER_ERROR.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      logQueryElapseTime("checkConnection", startTime, selectQuery.getQueryString(), context);
+    }
+  }
+
   @Override
   public Response getAllRecords(
       String keyspaceName, String tableName, List<String> fields, RequestContext context) {
@@ -375,6 +527,153 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     return response;
   }
 
+  @Override
+  public Stream<Map<String, Object>> streamAllRecords(
+      String keyspaceName,
+      String tableName,
+      List<String> fields,
+      int pageSize,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    logger.debug(context, "Cassandra Service streamAllRecords method started at ==" + startTime);
+    int fetchSize = getScanPageSize(pageSize);
+    Select selectQuery = selectBuilder(fields).from(keyspaceName, tableName);
+    selectQuery.setFetchSize(fetchSize);
+    ResultSet results;
+    try {
+      results = connectionManager.getSession(keyspaceName).execute(selectQuery);
+    } catch (Exception e) {
+      logger.error(context, Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getMessage(), e);
+      throw new ProjectCommonException(
+          ResponseCode.SERVER_ERROR.getErrorCode(),
+          ResponseCode.SERVER_ERROR.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    } finally {
+      logQueryElapseTime("streamAllRecords", startTime, selectQuery.getQueryString(), context);
+    }
+    return streamRows(results, fetchSize);
+  }
+
+  private Stream<Map<String, Object>> streamRows(ResultSet results, int fetchSize) {
+    ColumnMapping columnMapping = CassandraUtil.getColumnMapping(results.getColumnDefinitions());
+    int prefetchThreshold = Math.max(1, fetchSize / 4);
+    return StreamSupport.stream(results.spliterator(), false)
+        .map(
+            row -> {
+              // request the next page in the background before the current one is exhausted
+              if (results.getAvailableWithoutFetching() == prefetchThreshold
+                  && !results.isFullyFetched()) {
+                results.fetchMoreResults();
+              }
+              return columnMapping.decode(row);
+            });
+  }
+
+  @Override
+  public void scanAllRecords(
+      String keyspaceName,
+      String tableName,
+      List<String> fields,
+      int pageSize,
+      int parallelism,
+      Consumer<Map<String, Object>> rowConsumer,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    logger.info(context, "Cassandra Service scanAllRecords method started at ==" + startTime);
+    Session session = connectionManager.getSession(keyspaceName);
+    Metadata metadata = session.getCluster().getMetadata();
+    KeyspaceMetadata keyspace = metadata.getKeyspace(keyspaceName);
+    TableMetadata table = null == keyspace ? null : keyspace.getTable(tableName);
+    if (null == table) {
+      String message = "Table " + keyspaceName + "." + tableName + " not found";
+      logger.info(context, "Cassandra Service scanAllRecords: " + message);
+      ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR, message);
+    }
+    String tokenColumn =
+        QueryBuilder.token(
+            table
+                .getPartitionKey()
+                .stream()
+                .map(ColumnMetadata::getName)
+                .toArray(String[]::new));
+    int fetchSize = getScanPageSize(pageSize);
+    Queue<TokenRange> ranges = new ConcurrentLinkedQueue<>();
+    for (TokenRange range : metadata.getTokenRanges()) {
+      ranges.addAll(range.unwrap());
+    }
+    AtomicLong rowCount = new AtomicLong();
+    List<Future<?>> futures = new ArrayList<>();
+    try {
+      // each worker reads ranges one after the other until none are left, so a scan occupies at
+      // most parallelism threads of the shared pool
+      int workerCount = Math.min(Math.max(1, parallelism), ranges.size());
+      for (int i = 0; i < workerCount; i++) {
+        futures.add(
+            CassandraScanExecutor.getExecutor()
+                .submit(
+                    () -> {
+                      TokenRange range;
+                      while (null != (range = ranges.poll())) {
+                        Select select =
+                            selectRange(fields, keyspaceName, tableName, tokenColumn, range);
+                        select.setFetchSize(fetchSize);
+                        streamRows(session.execute(select), fetchSize)
+                            .forEach(
+                                row -> {
+                                  rowConsumer.accept(row);
+                                  rowCount.incrementAndGet();
+                                });
+                      }
+                    }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      logger.error(context, "Cassandra scanAllRecords interrupted for " + tableName, e);
+      ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
+    } catch (ExecutionException e) {
+      logger.error(
+          context,
+          Constants.EXCEPTION_MSG_FETCH + tableName + " : " + e.getCause().getMessage(),
+          e.getCause());
+      ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
+    } finally {
+      // stops the other workers of a failed or interrupted scan
+      ranges.clear();
+      futures.forEach(future -> future.cancel(true));
+      logger.info(
+          context,
+          "Cassandra Service scanAllRecords scanned "
+              + rowCount.get()
+              + " rows of "
+              + tableName
+              + " in "
+              + (System.currentTimeMillis() - startTime)
+              + " ms");
+    }
+  }
+
+  private Select selectRange(
+      List<String> fields,
+      String keyspaceName,
+      String tableName,
+      String tokenColumn,
+      TokenRange range) {
+    Select select = selectBuilder(fields).from(keyspaceName, tableName);
+    Token start = range.getStart();
+    Token end = range.getEnd();
+    if (!start.equals(end)) {
+      Where where = select.where(QueryBuilder.gt(tokenColumn, start.getValue()));
+      // the range ending at the minimum token has no upper bound
+      if (end.compareTo(start) > 0) {
+        where.and(QueryBuilder.lte(tokenColumn, end.getValue()));
+      }
+    }
+    return select;
+  }
+
   @Override
   public Response upsertRecord(
       String keyspaceName, String tableName, Map<String, Object> request, RequestContext context) {
@@ -383,11 +682,12 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     Response response = new Response();
     String query = "";
     try {
-      query = CassandraUtil.getPreparedStatement(keyspaceName, tableName, request);
-      PreparedStatement statement = connectionManager.getSession(keyspaceName).prepare(query);
+      Map<String, Object> record = new TreeMap<>(request);
+      query = CassandraUtil.getPreparedStatement(keyspaceName, tableName, record);
+      PreparedStatement statement = prepare(keyspaceName, query);
       BoundStatement boundStatement = new BoundStatement(statement);
-      Iterator<Object> iterator = request.values().iterator();
-      Object[] array = new Object[request.keySet().size()];
+      Iterator<Object> iterator = record.values().iterator();
+      Object[] array = new Object[record.keySet().size()];
       int i = 0;
       while (iterator.hasNext()) {
         array[i++] = iterator.next();
@@ -1335,4 +1635,361 @@ public abstract class CassandraOperationImpl implements CassandraOperation {
     }
     return response;
   }
+
+  @Override
+  public CompletionStage<Response> insertRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context) {
+    return writeRecordAsync(
+        "insertRecordAsync",
+        keyspaceName,
+        tableName,
+        request,
+        ResponseCode.dbInsertionError,
+        context);
+  }
+
+  @Override
+  public CompletionStage<Response> upsertRecordAsync(
+      String keyspaceName, String tableName, Map<String, Object> request, RequestContext context) {
+    return writeRecordAsync(
+        "upsertRecordAsync", keyspaceName, tableName, request, ResponseCode.SERVER_ERROR, context);
+  }
+
+  private CompletionStage<Response> writeRecordAsync(
+      String operation,
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      ResponseCode errorCode,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    Map<String, Object> record = new TreeMap<>(request);
+    String query = CassandraUtil.getPreparedStatement(keyspaceName, tableName, record);
+    CompletionStage<PreparedStatement> prepared;
+    try {
+      prepared =
+          preparedStatementCache.getOrPrepareAsync(
+              connectionManager.getSession(keyspaceName), keyspaceName, query);
+    } catch (Exception e) {
+      return failedStage(operation, tableName, e, errorCode, context);
+    }
+    // on a cache miss the statement is bound and submitted once the driver has prepared it
+    return prepared
+        .thenCompose(
+            statement ->
+                executeAsync(
+                    operation,
+                    keyspaceName,
+                    tableName,
+                    statement.bind(record.values().toArray()),
+                    query,
+                    startTime,
+                    results -> successResponse(),
+                    errorCode,
+                    context))
+        .handle(
+            (result, error) -> {
+              if (null != error) {
+                throw new CompletionException(
+                    toProjectCommonException(operation, tableName, error, errorCode, context));
+              }
+              return result;
+            });
+  }
+
+  @Override
+  public CompletionStage<Response> updateRecordAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> request,
+      Map<String, Object> compositeKey,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    Update update = QueryBuilder.update(keyspaceName, tableName);
+    Assignments assignments = update.with();
+    Update.Where where = update.where();
+    request.forEach((key, value) -> assignments.and(QueryBuilder.set(key, value)));
+    compositeKey.forEach((key, value) -> where.and(eq(key, value)));
+    return executeAsync(
+        "updateRecordAsync",
+        keyspaceName,
+        tableName,
+        where,
+        where.getQueryString(),
+        startTime,
+        results -> successResponse(),
+        ResponseCode.dbUpdateError,
+        context);
+  }
+
+  @Override
+  public CompletionStage<Response> deleteRecordAsync(
+      String keyspaceName, String tableName, String identifier, RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    Delete.Where delete =
+        QueryBuilder.delete()
+            .from(keyspaceName, tableName)
+            .where(eq(Constants.IDENTIFIER, identifier));
+    return executeAsync(
+        "deleteRecordAsync",
+        keyspaceName,
+        tableName,
+        delete,
+        delete.getQueryString(),
+        startTime,
+        results -> successResponse(),
+        ResponseCode.SERVER_ERROR,
+        context);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      String key,
+      List<String> fields,
+      RequestContext context) {
+    if (StringUtils.isBlank(key)) {
+      logger.info(context, "primary key is empty or null");
+      return failedStage(ResponseCode.SERVER_ERROR);
+    }
+    Map<String, Object> primaryKey = new TreeMap<>();
+    primaryKey.put(Constants.IDENTIFIER, key);
+    return getRecordByIdAsync(keyspaceName, tableName, primaryKey, fields, context);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordByIdAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> key,
+      List<String> fields,
+      RequestContext context) {
+    if (MapUtils.isEmpty(key)) {
+      logger.info(context, "primary composite key is empty or null");
+      return failedStage(ResponseCode.SERVER_ERROR);
+    }
+    long startTime = System.currentTimeMillis();
+    Where selectWhere = selectBuilder(fields).from(keyspaceName, tableName).where();
+    key.forEach((column, value) -> CassandraUtil.createQuery(column, value, selectWhere));
+    return executeAsync(
+        "getRecordByIdAsync",
+        keyspaceName,
+        tableName,
+        selectWhere,
+        selectWhere.getQueryString(),
+        startTime,
+        CassandraUtil::createResponse,
+        ResponseCode.SERVER_ERROR,
+        context);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordsByPropertiesAsync(
+      String keyspaceName,
+      String tableName,
+      Map<String, Object> propertyMap,
+      List<String> fields,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    Select selectQuery = selectBuilder(fields).from(keyspaceName, tableName);
+    if (MapUtils.isNotEmpty(propertyMap)) {
+      Where selectWhere = selectQuery.where();
+      for (Entry<String, Object> entry : propertyMap.entrySet()) {
+        if (entry.getValue() instanceof List) {
+          List<Object> list = (List) entry.getValue();
+          selectWhere.and(QueryBuilder.in(entry.getKey(), list.toArray(new Object[list.size()])));
+        } else {
+          selectWhere.and(eq(entry.getKey(), entry.getValue()));
+        }
+      }
+    }
+    return executeAsync(
+        "getRecordsByPropertiesAsync",
+        keyspaceName,
+        tableName,
+        selectQuery,
+        selectQuery.getQueryString(),
+        startTime,
+        CassandraUtil::createResponse,
+        ResponseCode.SERVER_ERROR,
+        context);
+  }
+
+  @Override
+  public CompletionStage<Response> getRecordsByPrimaryKeysAsync(
+      String keyspaceName,
+      String tableName,
+      List<String> primaryKeys,
+      String primaryKeyColumnName,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    String column = StringUtils.isBlank(primaryKeyColumnName) ? JsonKey.ID : primaryKeyColumnName;
+    Select selectQuery = QueryBuilder.select().all().from(keyspaceName, tableName);
+    selectQuery.where(QueryBuilder.in(column, primaryKeys.toArray(new Object[primaryKeys.size()])));
+    return executeAsync(
+        "getRecordsByPrimaryKeysAsync",
+        keyspaceName,
+        tableName,
+        selectQuery,
+        selectQuery.getQueryString(),
+        startTime,
+        CassandraUtil::createResponse,
+        ResponseCode.SERVER_ERROR,
+        context);
+  }
+
+  @Override
+  public CompletionStage<Response> batchInsertAsync(
+      String keyspaceName,
+      String tableName,
+      List<Map<String, Object>> records,
+      RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    BatchStatement batchStatement = new BatchStatement();
+    for (Map<String, Object> record : records) {
+      batchStatement.add(createInsertStatement(keyspaceName, tableName, record));
+    }
+    return executeAsync(
+        "batchInsertAsync",
+        keyspaceName,
+        tableName,
+        batchStatement,
+        batchStatement.getStatements().toString(),
+        startTime,
+        results -> successResponse(),
+        ResponseCode.SERVER_ERROR,
+        context);
+  }
+
+  /**
+   * Executes the statement without blocking the caller. The driver future is completed on the
+   * driver I/O thread, the result set is mapped to the caller's type on the shared {@link
+   * CassandraAsyncExecutor} since iterating over it may fetch further pages. When the executor has
+   * no room left the statement is not issued and the stage fails with a server error, a callback
+   * rejected later fails the stage the same way instead of running on the I/O thread.
+   */
+  protected <T> CompletionStage<T> executeAsync(
+      String operation,
+      String keyspaceName,
+      String tableName,
+      Statement statement,
+      String query,
+      long startTime,
+      Function<ResultSet, T> mapper,
+      ResponseCode errorCode,
+      RequestContext context) {
+    if (!CassandraAsyncExecutor.tryAccept()) {
+      return failedStage(
+          operation,
+          tableName,
+          new RejectedExecutionException("cassandra async callback queue is full"),
+          ResponseCode.SERVER_ERROR,
+          context);
+    }
+    CompletableFuture<ResultSet> resultFuture = new CompletableFuture<>();
+    try {
+      ResultSetFuture future = connectionManager.getSession(keyspaceName).executeAsync(statement);
+      Futures.addCallback(
+          future,
+          new FutureCallback<ResultSet>() {
+            @Override
+            public void onSuccess(ResultSet result) {
+              resultFuture.complete(result);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+              resultFuture.completeExceptionally(t);
+            }
+          },
+          MoreExecutors.directExecutor());
+    } catch (Exception e) {
+      resultFuture.completeExceptionally(e);
+    }
+    return resultFuture
+        .thenApplyAsync(mapper, CassandraAsyncExecutor.getExecutor())
+        .handle(
+            (result, error) -> {
+              logQueryElapseTime(operation, startTime, query, context);
+              if (null != error) {
+                throw new CompletionException(
+                    toProjectCommonException(operation, tableName, error, errorCode, context));
+              }
+              return result;
+            });
+  }
+
+  private <T> CompletionStage<T> failedStage(
+      String operation,
+      String tableName,
+      Throwable error,
+      ResponseCode errorCode,
+      RequestContext context) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(
+        toProjectCommonException(operation, tableName, error, errorCode, context));
+    return future;
+  }
+
+  private <T> CompletionStage<T> failedStage(ResponseCode errorCode) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(
+        new ProjectCommonException(
+            errorCode.getErrorCode(),
+            errorCode.getErrorMessage(),
+            ResponseCode.SERVER_ERROR.getResponseCode()));
+    return future;
+  }
+
+  private ProjectCommonException toProjectCommonException(
+      String operation,
+      String tableName,
+      Throwable error,
+      ResponseCode errorCode,
+      RequestContext context) {
+    Throwable cause = error;
+    if (cause instanceof CompletionException && null != cause.getCause()) {
+      cause = cause.getCause();
+    }
+    if (cause instanceof ProjectCommonException) {
+      return (ProjectCommonException) cause;
+    }
+    logger.error(
+        context,
+        "CassandraOperationImpl:"
+            + operation
+            + ": Exception occurred for table "
+            + tableName
+            + " : "
+            + cause.getMessage(),
+        cause);
+    String message = cause.getMessage();
+    if (cause instanceof Exception
+        && null != message
+        && (message.contains(JsonKey.UNKNOWN_IDENTIFIER)
+            || message.contains(JsonKey.UNDEFINED_IDENTIFIER))) {
+      return new ProjectCommonException(
+          ResponseCode.invalidPropertyError.getErrorCode(),
+          CassandraUtil.processExceptionForUnknownIdentifier((Exception) cause),
+          ResponseCode.CLIENT_ERROR.getResponseCode());
+    }
+    return new ProjectCommonException(
+        errorCode.getErrorCode(),
+        errorCode.getErrorMessage(),
+        ResponseCode.SERVER_ERROR.getResponseCode());
+  }
+
+  private static Builder selectBuilder(List<String> fields) {
+    if (CollectionUtils.isNotEmpty(fields)) {
+      return QueryBuilder.select(fields.toArray(new String[fields.size()]));
+    }
+    return QueryBuilder.select().all();
+  }
+
+  private static Response successResponse() {
+    Response response = new Response();
+    response.put(Constants.RESPONSE, Constants.SUCCESS);
+    return response;
+  }
 }
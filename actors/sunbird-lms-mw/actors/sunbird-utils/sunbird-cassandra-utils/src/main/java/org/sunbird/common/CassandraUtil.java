@@ -1,5 +1,6 @@
 package org.sunbird.common;
 
+import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Row;
@@ -12,12 +13,11 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import org.sunbird.cassandraannotation.ClusteringKey;
 import org.sunbird.cassandraannotation.PartitioningKey;
 import org.sunbird.common.exception.ProjectCommonException;
@@ -38,6 +38,8 @@ public final class CassandraUtil {
   private static final CassandraPropertyReader propertiesCache =
       CassandraPropertyReader.getInstance();
   private static final String SERIAL_VERSION_UID = "serialVersionUID";
+  private static final int MAX_CACHED_COLUMN_MAPPINGS = 1000;
+  private static final Map<String, ColumnMapping> columnMappingCache = new ConcurrentHashMap<>();
 
   private CassandraUtil() {}
 
@@ -75,30 +77,50 @@ public final class CassandraUtil {
    */
   public static Response createResponse(ResultSet results) {
     Response response = new Response();
-    List<Map<String, Object>> responseList = new ArrayList<>();
-    Map<String, String> columnsMapping = fetchColumnsMapping(results);
-    Iterator<Row> rowIterator = results.iterator();
-    rowIterator.forEachRemaining(
-        row -> {
-          Map<String, Object> rowMap = new HashMap<>();
-          columnsMapping
-              .entrySet()
-              .stream()
-              .forEach(entry -> rowMap.put(entry.getKey(), row.getObject(entry.getValue())));
-          responseList.add(rowMap);
-        });
+    ColumnMapping columnMapping = getColumnMapping(results.getColumnDefinitions());
+    List<Map<String, Object>> responseList =
+        new ArrayList<>(results.getAvailableWithoutFetching());
+    for (Row row : results) {
+      responseList.add(columnMapping.decode(row));
+    }
     response.put(Constants.RESPONSE, responseList);
     return response;
   }
 
+  /**
+   * @desc This method is used to convert a row into map<propertyName,columnValue>
+   * @param row Row
+   * @param columnsMapping Map of property name and column name as returned by fetchColumnsMapping
+   * @return Map<String, Object>
+   */
+  public static Map<String, Object> createRowMap(Row row, Map<String, String> columnsMapping) {
+    Map<String, Object> rowMap = new HashMap<>((int) (columnsMapping.size() / 0.75f) + 1);
+    for (Map.Entry<String, String> entry : columnsMapping.entrySet()) {
+      rowMap.put(entry.getKey(), row.getObject(entry.getValue()));
+    }
+    return rowMap;
+  }
+
   public static Map<String, String> fetchColumnsMapping(ResultSet results) {
-    return results
-        .getColumnDefinitions()
-        .asList()
-        .stream()
-        .collect(
-            Collectors.toMap(
-                d -> propertiesCache.readProperty(d.getName()).trim(), d -> d.getName()));
+    return getColumnMapping(results.getColumnDefinitions()).getColumnsMapping();
+  }
+
+  /**
+   * @desc This method is used to get the column to property mapping of a column set, resolved once
+   *     per keyspace, table and columns.
+   * @param columnDefinitions ColumnDefinitions of a result set
+   * @return ColumnMapping
+   */
+  public static ColumnMapping getColumnMapping(ColumnDefinitions columnDefinitions) {
+    String key = ColumnMapping.key(columnDefinitions);
+    ColumnMapping columnMapping = columnMappingCache.get(key);
+    if (null == columnMapping) {
+      columnMapping = new ColumnMapping(columnDefinitions, propertiesCache);
+      if (columnMappingCache.size() < MAX_CACHED_COLUMN_MAPPINGS) {
+        columnMappingCache.putIfAbsent(key, columnMapping);
+      }
+    }
+    return columnMapping;
   }
 
   /**
@@ -114,7 +136,7 @@ public final class CassandraUtil {
     StringBuilder query =
         new StringBuilder(
             Constants.UPDATE + keyspaceName + Constants.DOT + tableName + Constants.SET);
-    Set<String> key = new HashSet<>(map.keySet());
+    Set<String> key = new TreeSet<>(map.keySet());
     key.remove(Constants.IDENTIFIER);
     query.append(String.join(" = ? ,", key));
     query.append(
@@ -0,0 +1,75 @@
+package org.sunbird.common;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.sunbird.common.models.util.CassandraPropertyReader;
+
+/**
+ * Mapping of the columns of a result set to response property names, resolved once per column set
+ * and reused to decode every row by column position.
+ */
+public final class ColumnMapping {
+
+  private final String[] propertyNames;
+  private final Map<String, String> columnsMapping;
+  private final int mapCapacity;
+
+  ColumnMapping(ColumnDefinitions columnDefinitions, CassandraPropertyReader propertyReader) {
+    List<ColumnDefinitions.Definition> definitions = columnDefinitions.asList();
+    propertyNames = new String[definitions.size()];
+    Map<String, String> mapping = new HashMap<>(capacity(definitions.size()));
+    for (int i = 0; i < propertyNames.length; i++) {
+      String columnName = definitions.get(i).getName();
+      String propertyName = propertyReader.readProperty(columnName).trim();
+      if (null != mapping.putIfAbsent(propertyName, columnName)) {
+        throw new IllegalStateException("Duplicate key " + propertyName);
+      }
+      propertyNames[i] = propertyName;
+    }
+    columnsMapping = Collections.unmodifiableMap(mapping);
+    mapCapacity = capacity(propertyNames.length);
+  }
+
+  /**
+   * Cache key of a column set, columns are identified by keyspace, table and name in result order.
+   */
+  static String key(ColumnDefinitions columnDefinitions) {
+    StringBuilder key = new StringBuilder();
+    for (ColumnDefinitions.Definition definition : columnDefinitions) {
+      key.append(definition.getKeyspace())
+          .append(Constants.DOT)
+          .append(definition.getTable())
+          .append(Constants.DOT)
+          .append(definition.getName())
+          .append(Constants.COMMA);
+    }
+    return key.toString();
+  }
+
+  private static int capacity(int size) {
+    return (int) (size / 0.75f) + 1;
+  }
+
+  /** @return Map of property name and column name */
+  public Map<String, String> getColumnsMapping() {
+    return columnsMapping;
+  }
+
+  /**
+   * Decodes a row of a result set having this column set into map<propertyName,columnValue>.
+   *
+   * @param row Row
+   * @return Map<String, Object>
+   */
+  public Map<String, Object> decode(Row row) {
+    Map<String, Object> rowMap = new HashMap<>(mapCapacity);
+    for (int i = 0; i < propertyNames.length; i++) {
+      rowMap.put(propertyNames[i], row.getObject(i));
+    }
+    return rowMap;
+  }
+}
@@ -17,6 +17,12 @@ public interface Constants {
   public static final String CONTACT_POINT = "contactPoint";
   public static final String PORT = "port";
   public static final String QUERY_LOGGER_THRESHOLD = "queryLoggerConstantThreshold";
+  public static final String PREPARED_STATEMENT_CACHE_SIZE = "preparedStatementCacheSize";
+  public static final String ASYNC_CALLBACK_POOL_SIZE = "asyncCallbackPoolSize";
+  public static final String ASYNC_CALLBACK_QUEUE_SIZE = "asyncCallbackQueueSize";
+  public static final String SCAN_PAGE_SIZE = "scanPageSize";
+  public static final String SCAN_POOL_SIZE = "scanPoolSize";
+  public static final String SCAN_QUEUE_SIZE = "scanQueueSize";
   public static final String CASSANDRA_PROPERTIES_FILE = "cassandra.config.properties";
 
   // CONSTANT
@@ -51,6 +57,7 @@ public interface Constants {
   public static final String IF_EXISTS = " IF EXISTS;";
   public static final String ALREADY_EXIST = "Record with this primary key already exist.";
   public static final String IF_NOT_EXISTS = " IF NOT EXISTS;";
+  public static final String IF_NOT_EXISTS_USING_TTL = " IF NOT EXISTS USING TTL ?;";
   public static final String EXCEPTION_MSG_FETCH = "Exception occurred while fetching record from ";
   public static final String EXCEPTION_MSG_UPSERT =
       "Exception occured while upserting record from ";
@@ -0,0 +1,68 @@
+package org.sunbird.helper;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import org.sunbird.common.Constants;
+import org.sunbird.common.util.ExecutorUtil;
+
+/**
+ * Shared executor on which results of asynchronous cassandra queries are processed. Callbacks can
+ * be heavy (row mapping, further DB / ES calls) so they must not run on the driver I/O threads, and
+ * a pool per call leaks threads. The pool and its queue are bounded. Callbacks are handed over from
+ * the driver I/O threads, so work beyond the queue capacity is never run by the submitting thread:
+ * it is counted as rejected and fails with a {@link RejectedExecutionException}. Callers apply
+ * back-pressure before issuing a query through {@link #tryAccept()}.
+ */
+public final class CassandraAsyncExecutor {
+  private static final int DEFAULT_POOL_SIZE = 4;
+  private static final int DEFAULT_QUEUE_SIZE = 10000;
+
+  private static final AtomicLong rejectedCount = new AtomicLong();
+  private static final ThreadPoolExecutor executor =
+      ExecutorUtil.newBoundedPool(
+          "cassandra-async-callback",
+          ExecutorUtil.getIntConfig(Constants.ASYNC_CALLBACK_POOL_SIZE, DEFAULT_POOL_SIZE),
+          ExecutorUtil.getIntConfig(Constants.ASYNC_CALLBACK_QUEUE_SIZE, DEFAULT_QUEUE_SIZE),
+          ExecutorUtil.Rejection.ABORT,
+          rejectedCount);
+
+  private CassandraAsyncExecutor() {}
+
+  public static Executor getExecutor() {
+    return executor;
+  }
+
+  /**
+   * Checks whether the callback of a new query can still be queued. A query whose callback would be
+   * rejected must not be issued at all, it is counted as rejected and {@code false} is returned.
+   */
+  public static boolean tryAccept() {
+    if (executor.getQueue().remainingCapacity() > 0) {
+      return true;
+    }
+    rejectedCount.incrementAndGet();
+    return false;
+  }
+
+  public static int getQueueDepth() {
+    return executor.getQueue().size();
+  }
+
+  public static int getActiveCount() {
+    return executor.getActiveCount();
+  }
+
+  public static int getPoolSize() {
+    return executor.getPoolSize();
+  }
+
+  public static long getCompletedTaskCount() {
+    return executor.getCompletedTaskCount();
+  }
+
+  public static long getRejectedCount() {
+    return rejectedCount.get();
+  }
+}
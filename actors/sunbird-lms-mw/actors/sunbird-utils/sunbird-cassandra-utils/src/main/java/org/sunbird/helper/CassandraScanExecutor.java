@@ -0,0 +1,41 @@
+package org.sunbird.helper;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import org.sunbird.common.Constants;
+import org.sunbird.common.util.ExecutorUtil;
+
+/**
+ * Shared executor on which full table scans read their token ranges. Scans block on the cluster
+ * for the whole table, so they get their own pool rather than the callback pool of the
+ * asynchronous queries. The pool is shared by all scans of the process and bounded, workers
+ * submitted beyond the queue capacity are run by the scanning thread and counted as rejected.
+ */
+public final class CassandraScanExecutor {
+  private static final int DEFAULT_POOL_SIZE = 4;
+  private static final int DEFAULT_QUEUE_SIZE = 100;
+
+  private static final AtomicLong rejectedCount = new AtomicLong();
+  private static final ThreadPoolExecutor executor =
+      ExecutorUtil.newBoundedPool(
+          "cassandra-scan",
+          ExecutorUtil.getIntConfig(Constants.SCAN_POOL_SIZE, DEFAULT_POOL_SIZE),
+          ExecutorUtil.getIntConfig(Constants.SCAN_QUEUE_SIZE, DEFAULT_QUEUE_SIZE),
+          ExecutorUtil.Rejection.CALLER_RUNS,
+          rejectedCount);
+
+  private CassandraScanExecutor() {}
+
+  public static ExecutorService getExecutor() {
+    return executor;
+  }
+
+  public static int getPoolSize() {
+    return executor.getPoolSize();
+  }
+
+  public static long getRejectedCount() {
+    return rejectedCount.get();
+  }
+}
@@ -0,0 +1,151 @@
+package org.sunbird.helper;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import org.sunbird.common.models.util.LoggerUtil;
+
+/**
+ * Bounded LRU cache of prepared statements keyed on keyspace and generated CQL. Preparing a query
+ * costs a round trip to the cluster, so write paths that generate the same CQL for the same column
+ * set should prepare it only once per node.
+ */
+public class PreparedStatementCache {
+  private static LoggerUtil logger = new LoggerUtil(PreparedStatementCache.class);
+  private static final String KEY_SEPARATOR = "|";
+
+  private final int maxSize;
+  private final Map<String, PreparedStatement> statements;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  public PreparedStatementCache(int maxSize) {
+    this.maxSize = maxSize;
+    this.statements =
+        new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+            if (size() > PreparedStatementCache.this.maxSize) {
+              evictionCount.incrementAndGet();
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * Returns the cached prepared statement for the query, preparing it on the given session on a
+   * miss. Failed prepares are not cached.
+   *
+   * @param session Cassandra session of the keyspace
+   * @param keyspaceName Keyspace name
+   * @param query CQL query to prepare
+   * @return PreparedStatement
+   */
+  public PreparedStatement getOrPrepare(Session session, String keyspaceName, String query) {
+    String key = keyspaceName + KEY_SEPARATOR + query;
+    PreparedStatement statement;
+    synchronized (statements) {
+      statement = statements.get(key);
+    }
+    if (null != statement) {
+      hitCount.incrementAndGet();
+      return statement;
+    }
+    missCount.incrementAndGet();
+    return cache(key, session.prepare(query));
+  }
+
+  /**
+   * Returns the cached prepared statement for the query, preparing it on the given session without
+   * blocking on a miss. The returned stage completes on the driver I/O thread when the statement is
+   * prepared, and at once on a hit. Failed prepares are not cached.
+   *
+   * @param session Cassandra session of the keyspace
+   * @param keyspaceName Keyspace name
+   * @param query CQL query to prepare
+   * @return CompletionStage of the PreparedStatement
+   */
+  public CompletionStage<PreparedStatement> getOrPrepareAsync(
+      Session session, String keyspaceName, String query) {
+    String key = keyspaceName + KEY_SEPARATOR + query;
+    CompletableFuture<PreparedStatement> future = new CompletableFuture<>();
+    PreparedStatement statement;
+    synchronized (statements) {
+      statement = statements.get(key);
+    }
+    if (null != statement) {
+      hitCount.incrementAndGet();
+      future.complete(statement);
+      return future;
+    }
+    missCount.incrementAndGet();
+    Futures.addCallback(
+        session.prepareAsync(query),
+        new FutureCallback<PreparedStatement>() {
+          @Override
+          public void onSuccess(PreparedStatement prepared) {
+            future.complete(cache(key, prepared));
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            future.completeExceptionally(t);
+          }
+        },
+        MoreExecutors.directExecutor());
+    return future;
+  }
+
+  private PreparedStatement cache(String key, PreparedStatement statement) {
+    synchronized (statements) {
+      PreparedStatement existing = statements.putIfAbsent(key, statement);
+      return null != existing ? existing : statement;
+    }
+  }
+
+  public void clear() {
+    synchronized (statements) {
+      statements.clear();
+    }
+  }
+
+  public int size() {
+    synchronized (statements) {
+      return statements.size();
+    }
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  public void logStats() {
+    logger.info(
+        "PreparedStatementCache: size = "
+            + size()
+            + ", hits = "
+            + getHitCount()
+            + ", misses = "
+            + getMissCount()
+            + ", evictions = "
+            + getEvictionCount());
+  }
+}
@@ -0,0 +1,220 @@
+package org.sunbird.cassandraimpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.FutureCallback;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.helper.CassandraAsyncExecutor;
+import org.sunbird.helper.CassandraConnectionManager;
+
+public class CassandraDACImplTest {
+
+  private static final int CALL_COUNT = 5000;
+
+  @Test
+  public void testApplyOperationOnRecordsAsyncKeepsThreadCountFlat() throws Exception {
+    CassandraDACImpl cassandraDAC = createCassandraDAC(Mockito.mock(ResultSet.class));
+    CountDownLatch latch = new CountDownLatch(CALL_COUNT);
+    AtomicInteger successCount = new AtomicInteger();
+    FutureCallback<ResultSet> callback =
+        new FutureCallback<ResultSet>() {
+          @Override
+          public void onSuccess(ResultSet result) {
+            successCount.incrementAndGet();
+            latch.countDown();
+          }
+
+          @Override
+          public void onFailure(Throwable t) {
+            latch.countDown();
+          }
+        };
+
+    int threadCountBefore = Thread.activeCount();
+    for (int i = 0; i < CALL_COUNT; i++) {
+      cassandraDAC.applyOperationOnRecordsAsync(
+          "sunbird", "shadow_user", getFilters(), null, callback, null);
+    }
+    assertTrue(latch.await(30, TimeUnit.SECONDS));
+    int threadCountAfter = Thread.activeCount();
+
+    assertEquals(CALL_COUNT, successCount.get());
+    assertTrue(
+        "thread count grew from " + threadCountBefore + " to " + threadCountAfter,
+        threadCountAfter - threadCountBefore <= CassandraAsyncExecutor.getPoolSize() + 2);
+  }
+
+  @Test
+  public void testApplyOperationOnRecordsAsyncFailsWithoutQueryWhenQueueIsFull() throws Exception {
+    ResultSet resultSet = Mockito.mock(ResultSet.class);
+    CassandraDACImpl cassandraDAC = createCassandraDAC(resultSet);
+    Session session = cassandraDAC.connectionManager.getSession("sunbird");
+    CountDownLatch release = fillExecutor();
+    try {
+      long rejectedCount = CassandraAsyncExecutor.getRejectedCount();
+      AtomicReference<ResultSet> received = new AtomicReference<>();
+      AtomicReference<Throwable> failure = new AtomicReference<>();
+      cassandraDAC.applyOperationOnRecordsAsync(
+          "sunbird",
+          "shadow_user",
+          getFilters(),
+          null,
+          new FutureCallback<ResultSet>() {
+            @Override
+            public void onSuccess(ResultSet result) {
+              received.set(result);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+              failure.set(t);
+            }
+          },
+          null);
+
+      // with every thread busy and the queue full the query is not issued at all
+      assertNull(received.get());
+      assertTrue(failure.get() instanceof ProjectCommonException);
+      Mockito.verify(session, Mockito.never()).executeAsync(Mockito.any(Statement.class));
+      assertTrue(CassandraAsyncExecutor.getRejectedCount() > rejectedCount);
+    } finally {
+      release.countDown();
+    }
+  }
+
+  @Test
+  public void testExecuteAsyncNeverMapsOnDriverThreadWhenQueueFillsUp() throws Exception {
+    ResultSet resultSet = Mockito.mock(ResultSet.class);
+    ResultSetFuture future = Mockito.mock(ResultSetFuture.class);
+    Mockito.when(future.get()).thenReturn(resultSet);
+    Mockito.when(future.isDone()).thenReturn(true);
+    AtomicReference<Runnable> listener = new AtomicReference<>();
+    AtomicReference<Executor> listenerExecutor = new AtomicReference<>();
+    Mockito.doAnswer(
+            invocation -> {
+              listener.set(invocation.getArgument(0));
+              listenerExecutor.set(invocation.getArgument(1));
+              return null;
+            })
+        .when(future)
+        .addListener(Mockito.any(Runnable.class), Mockito.any(Executor.class));
+    CassandraDACImpl cassandraDAC = createCassandraDAC(future);
+
+    AtomicReference<Thread> mapperThread = new AtomicReference<>();
+    CompletionStage<ResultSet> stage =
+        cassandraDAC.executeAsync(
+            "getRecordsAsync",
+            "sunbird",
+            "shadow_user",
+            Mockito.mock(Statement.class),
+            "select * from sunbird.shadow_user",
+            System.currentTimeMillis(),
+            result -> {
+              mapperThread.set(Thread.currentThread());
+              return result;
+            },
+            ResponseCode.SERVER_ERROR,
+            null);
+
+    // the query was accepted, the queue fills up before the driver completes it
+    CountDownLatch release = fillExecutor();
+    try {
+      long rejectedCount = CassandraAsyncExecutor.getRejectedCount();
+      Thread driverThread =
+          new Thread(() -> listenerExecutor.get().execute(listener.get()), "driver-io");
+      driverThread.start();
+      driverThread.join(TimeUnit.SECONDS.toMillis(10));
+
+      CompletableFuture<ResultSet> result = stage.toCompletableFuture();
+      assertTrue(result.isCompletedExceptionally());
+      try {
+        result.join();
+        fail();
+      } catch (CompletionException e) {
+        assertTrue(e.getCause() instanceof ProjectCommonException);
+      }
+      assertNotSame(driverThread, mapperThread.get());
+      assertTrue(CassandraAsyncExecutor.getRejectedCount() > rejectedCount);
+    } finally {
+      release.countDown();
+    }
+  }
+
+  /** Blocks every thread of the shared executor and fills its queue, until the latch is released. */
+  private CountDownLatch fillExecutor() throws InterruptedException {
+    ThreadPoolExecutor executor = (ThreadPoolExecutor) CassandraAsyncExecutor.getExecutor();
+    CountDownLatch release = new CountDownLatch(1);
+    for (int i = 0; i < executor.getMaximumPoolSize(); i++) {
+      executor.execute(
+          () -> {
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+    }
+    while (executor.getActiveCount() < executor.getMaximumPoolSize()) {
+      Thread.sleep(1);
+    }
+    while (executor.getQueue().remainingCapacity() > 0) {
+      executor.execute(() -> {});
+    }
+    return release;
+  }
+
+  private CassandraDACImpl createCassandraDAC(ResultSet resultSet) throws Exception {
+    ResultSetFuture future = Mockito.mock(ResultSetFuture.class);
+    Mockito.when(future.get()).thenReturn(resultSet);
+    Mockito.when(future.isDone()).thenReturn(true);
+    Mockito.doAnswer(
+            invocation -> {
+              Runnable listener = invocation.getArgument(0);
+              Executor executor = invocation.getArgument(1);
+              executor.execute(listener);
+              return null;
+            })
+        .when(future)
+        .addListener(Mockito.any(Runnable.class), Mockito.any(Executor.class));
+    return createCassandraDAC(future);
+  }
+
+  private CassandraDACImpl createCassandraDAC(ResultSetFuture future) {
+    Session session = Mockito.mock(Session.class);
+    Mockito.when(session.executeAsync(Mockito.any(Statement.class))).thenReturn(future);
+    CassandraConnectionManager connectionManager = Mockito.mock(CassandraConnectionManager.class);
+    Mockito.when(connectionManager.getSession(Mockito.anyString())).thenReturn(session);
+
+    CassandraDACImpl cassandraDAC = new CassandraDACImpl();
+    cassandraDAC.connectionManager = connectionManager;
+    return cassandraDAC;
+  }
+
+  private Map<String, Object> getFilters() {
+    Map<String, Object> filters = new HashMap<>();
+    filters.put("claimStatus", 0);
+    return filters;
+  }
+}
@@ -0,0 +1,258 @@
+package org.sunbird.cassandraimpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.InvalidQueryException;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.google.common.util.concurrent.AbstractFuture;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.sunbird.common.Constants;
+import org.sunbird.common.ResultSetFixture;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.helper.CassandraConnectionManager;
+
+public class CassandraOperationAsyncTest {
+
+  private static final String KEYSPACE = "sunbird";
+  private static final String TABLE = "user";
+
+  private Session session;
+  private PreparedStatement preparedStatement;
+  private List<SettableResultSetFuture> driverFutures;
+  private CassandraDACImpl cassandraOperation;
+
+  @Before
+  public void setUp() {
+    driverFutures = Collections.synchronizedList(new ArrayList<>());
+    session = Mockito.mock(Session.class);
+    Mockito.when(session.executeAsync(Mockito.any(Statement.class)))
+        .thenAnswer(
+            invocation -> {
+              SettableResultSetFuture future = new SettableResultSetFuture();
+              driverFutures.add(future);
+              return future;
+            });
+    preparedStatement = Mockito.mock(PreparedStatement.class);
+    Mockito.when(preparedStatement.bind(Mockito.<Object>any()))
+        .thenReturn(Mockito.mock(BoundStatement.class));
+    Mockito.when(session.prepareAsync(Mockito.anyString()))
+        .thenReturn(Futures.immediateFuture(preparedStatement));
+    CassandraConnectionManager connectionManager = Mockito.mock(CassandraConnectionManager.class);
+    Mockito.when(connectionManager.getSession(Mockito.anyString())).thenReturn(session);
+
+    cassandraOperation = new CassandraDACImpl();
+    cassandraOperation.connectionManager = connectionManager;
+  }
+
+  @Test
+  public void testGetRecordByIdAsyncCompletesWithMappedRows() throws Exception {
+    CompletableFuture<Response> stage =
+        cassandraOperation.getRecordByIdAsync(KEYSPACE, TABLE, "userId", null, null)
+            .toCompletableFuture();
+
+    assertFalse(stage.isDone());
+    driverFutures.get(0).set(ResultSetFixture.create(3, 2));
+
+    List<Map<String, Object>> rows =
+        (List<Map<String, Object>>) stage.get(10, TimeUnit.SECONDS).get(Constants.RESPONSE);
+    assertEquals(2, rows.size());
+    assertEquals(3, rows.get(0).size());
+  }
+
+  @Test
+  public void testInsertRecordAsyncCompletesWithSuccessResponse() throws Exception {
+    Map<String, Object> record = new HashMap<>();
+    record.put(JsonKey.ID, "userId");
+    record.put(JsonKey.FIRST_NAME, "name");
+    CompletableFuture<Response> stage =
+        cassandraOperation.insertRecordAsync(KEYSPACE, TABLE, record, null).toCompletableFuture();
+
+    driverFutures.get(0).set(Mockito.mock(ResultSet.class));
+
+    assertEquals(Constants.SUCCESS, stage.get(10, TimeUnit.SECONDS).get(Constants.RESPONSE));
+  }
+
+  @Test
+  public void testInsertRecordAsyncPreparesWithoutBlocking() throws Exception {
+    SettableFuture<PreparedStatement> prepareFuture = SettableFuture.create();
+    Mockito.when(session.prepareAsync(Mockito.anyString())).thenReturn(prepareFuture);
+    Map<String, Object> record = new HashMap<>();
+    record.put(JsonKey.ID, "userId");
+    record.put("preparedColumn", "value");
+    CompletableFuture<Response> stage =
+        cassandraOperation.insertRecordAsync(KEYSPACE, TABLE, record, null).toCompletableFuture();
+
+    // nothing is submitted until the driver has prepared the statement
+    assertTrue(driverFutures.isEmpty());
+    Mockito.verify(session, Mockito.never()).prepare(Mockito.anyString());
+    prepareFuture.set(preparedStatement);
+    driverFutures.get(0).set(Mockito.mock(ResultSet.class));
+
+    assertEquals(Constants.SUCCESS, stage.get(10, TimeUnit.SECONDS).get(Constants.RESPONSE));
+    // the prepared statement is cached for the next write of the same columns
+    cassandraOperation.insertRecordAsync(KEYSPACE, TABLE, record, null);
+    Mockito.verify(session, Mockito.times(1)).prepareAsync(Mockito.anyString());
+  }
+
+  @Test
+  public void testInsertRecordAsyncFailsWithInsertionErrorOnPrepareFailure() {
+    Mockito.when(session.prepareAsync(Mockito.anyString()))
+        .thenReturn(
+            Futures.immediateFailedFuture(new NoHostAvailableException(Collections.emptyMap())));
+    Map<String, Object> record = new HashMap<>();
+    record.put(JsonKey.ID, "userId");
+    record.put("failingColumn", "value");
+
+    ProjectCommonException exception =
+        getFailure(cassandraOperation.insertRecordAsync(KEYSPACE, TABLE, record, null));
+
+    assertEquals(ResponseCode.dbInsertionError.getErrorCode(), exception.getCode());
+    assertTrue(driverFutures.isEmpty());
+  }
+
+  @Test
+  public void testInsertRecordAsyncFailsWithInsertionErrorOnDriverFailure() {
+    Map<String, Object> record = new HashMap<>();
+    record.put(JsonKey.ID, "userId");
+    CompletionStage<Response> stage =
+        cassandraOperation.insertRecordAsync(KEYSPACE, TABLE, record, null);
+
+    driverFutures.get(0).setException(new NoHostAvailableException(Collections.emptyMap()));
+
+    ProjectCommonException exception = getFailure(stage);
+    assertEquals(ResponseCode.dbInsertionError.getErrorCode(), exception.getCode());
+    assertEquals(ResponseCode.SERVER_ERROR.getResponseCode(), exception.getResponseCode());
+  }
+
+  @Test
+  public void testUpdateRecordAsyncFailsWithClientErrorOnUnknownColumn() {
+    Map<String, Object> request = new HashMap<>();
+    request.put("unknownColumn", "value");
+    Map<String, Object> key = new HashMap<>();
+    key.put(JsonKey.ID, "userId");
+    CompletionStage<Response> stage =
+        cassandraOperation.updateRecordAsync(KEYSPACE, TABLE, request, key, null);
+
+    driverFutures
+        .get(0)
+        .setException(new InvalidQueryException(JsonKey.UNKNOWN_IDENTIFIER + "unknownColumn"));
+
+    ProjectCommonException exception = getFailure(stage);
+    assertEquals(ResponseCode.invalidPropertyError.getErrorCode(), exception.getCode());
+    assertEquals(ResponseCode.CLIENT_ERROR.getResponseCode(), exception.getResponseCode());
+  }
+
+  @Test
+  public void testExecuteAsyncFailsWhenStatementCannotBeSubmitted() {
+    Mockito.when(session.executeAsync(Mockito.any(Statement.class)))
+        .thenThrow(new NoHostAvailableException(Collections.emptyMap()));
+
+    ProjectCommonException exception =
+        getFailure(cassandraOperation.deleteRecordAsync(KEYSPACE, TABLE, "userId", null));
+
+    assertEquals(ResponseCode.SERVER_ERROR.getErrorCode(), exception.getCode());
+  }
+
+  @Test
+  public void testGetRecordByIdAsyncFailsWithoutQueryForEmptyKey() {
+    ProjectCommonException exception =
+        getFailure(cassandraOperation.getRecordByIdAsync(KEYSPACE, TABLE, "", null, null));
+
+    assertEquals(ResponseCode.SERVER_ERROR.getErrorCode(), exception.getCode());
+    Mockito.verify(session, Mockito.never()).executeAsync(Mockito.any(Statement.class));
+  }
+
+  @Test
+  public void testDependentStagesRunOnSharedExecutorAfterDriverCompletes() throws Exception {
+    CompletableFuture<String> callbackThread =
+        cassandraOperation
+            .getRecordByIdAsync(KEYSPACE, TABLE, "userId", null, null)
+            .thenApply(response -> Thread.currentThread().getName())
+            .toCompletableFuture();
+
+    assertFalse(callbackThread.isDone());
+    driverFutures.get(0).set(ResultSetFixture.create(1, 1));
+
+    assertTrue(callbackThread.get(10, TimeUnit.SECONDS).startsWith("cassandra-async-callback-"));
+  }
+
+  @Test
+  public void testStagesCompleteInDriverCompletionOrder() throws Exception {
+    CompletableFuture<Response> first =
+        cassandraOperation.getRecordByIdAsync(KEYSPACE, TABLE, "first", null, null)
+            .toCompletableFuture();
+    CompletableFuture<Response> second =
+        cassandraOperation.getRecordByIdAsync(KEYSPACE, TABLE, "second", null, null)
+            .toCompletableFuture();
+
+    driverFutures.get(1).set(ResultSetFixture.create(1, 1));
+    second.get(10, TimeUnit.SECONDS);
+    assertFalse(first.isDone());
+
+    driverFutures.get(0).set(ResultSetFixture.create(1, 2));
+    assertEquals(2, ((List) first.get(10, TimeUnit.SECONDS).get(Constants.RESPONSE)).size());
+  }
+
+  private ProjectCommonException getFailure(CompletionStage<?> stage) {
+    try {
+      stage.toCompletableFuture().get(10, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      assertTrue(e.getCause() instanceof ProjectCommonException);
+      return (ProjectCommonException) e.getCause();
+    } catch (Exception e) {
+      fail(e.getMessage());
+    }
+    fail("stage completed successfully");
+    return null;
+  }
+
+  /** Driver future completed by the test, standing in for the driver I/O thread. */
+  private static class SettableResultSetFuture extends AbstractFuture<ResultSet>
+      implements ResultSetFuture {
+
+    @Override
+    public boolean set(ResultSet resultSet) {
+      return super.set(resultSet);
+    }
+
+    @Override
+    public boolean setException(Throwable throwable) {
+      return super.setException(throwable);
+    }
+
+    @Override
+    public ResultSet getUninterruptibly() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ResultSet getUninterruptibly(long timeout, TimeUnit unit) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
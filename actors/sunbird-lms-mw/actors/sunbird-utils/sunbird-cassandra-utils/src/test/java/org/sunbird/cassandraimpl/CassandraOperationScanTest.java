@@ -0,0 +1,236 @@
+package org.sunbird.cassandraimpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.Token;
+import com.datastax.driver.core.TokenRange;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterators;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.sunbird.common.ResultSetFixture;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.helper.CassandraConnectionManager;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({TokenRange.class})
+@PowerMockIgnore({
+  "javax.management.*",
+  "javax.net.ssl.*",
+  "javax.security.*",
+  "jdk.internal.reflect.*"
+})
+public class CassandraOperationScanTest {
+
+  private static final String KEYSPACE = "sunbird";
+  private static final String TABLE = "user";
+
+  private Session session;
+  private Metadata metadata;
+  private CassandraDACImpl cassandraOperation;
+
+  @Before
+  public void setUp() {
+    session = Mockito.mock(Session.class);
+    metadata = Mockito.mock(Metadata.class);
+    Cluster cluster = Mockito.mock(Cluster.class);
+    Mockito.when(session.getCluster()).thenReturn(cluster);
+    Mockito.when(cluster.getMetadata()).thenReturn(metadata);
+    CassandraConnectionManager connectionManager = Mockito.mock(CassandraConnectionManager.class);
+    Mockito.when(connectionManager.getSession(Mockito.anyString())).thenReturn(session);
+
+    cassandraOperation = new CassandraDACImpl();
+    cassandraOperation.connectionManager = connectionManager;
+  }
+
+  @Test
+  public void testStreamAllRecordsFetchesNextPageBeforeCurrentOneIsRead() {
+    PagedResultSet results = new PagedResultSet(10, 4);
+    Mockito.when(session.execute(Mockito.any(Statement.class))).thenReturn(results.resultSet);
+
+    List<Map<String, Object>> rows =
+        cassandraOperation
+            .streamAllRecords(KEYSPACE, TABLE, null, 4, null)
+            .collect(Collectors.toList());
+
+    assertEquals(10, rows.size());
+    // the second and the third page are requested when one row of the page before is left
+    Mockito.verify(results.resultSet, Mockito.times(2)).fetchMoreResults();
+  }
+
+  @Test
+  public void testStreamAllRecordsReadsNoFurtherRowsOnceClosed() {
+    PagedResultSet results = new PagedResultSet(10, 4);
+    Mockito.when(session.execute(Mockito.any(Statement.class))).thenReturn(results.resultSet);
+
+    try (Stream<Map<String, Object>> stream =
+        cassandraOperation.streamAllRecords(KEYSPACE, TABLE, null, 4, null)) {
+      assertEquals(2, stream.limit(2).collect(Collectors.toList()).size());
+    }
+
+    assertEquals(2, results.consumed.get());
+    Mockito.verify(results.resultSet, Mockito.never()).fetchMoreResults();
+  }
+
+  @Test
+  public void testStreamAllRecordsFailsWithServerError() {
+    Mockito.when(session.execute(Mockito.any(Statement.class)))
+        .thenThrow(new IllegalStateException("connection lost"));
+
+    try {
+      cassandraOperation.streamAllRecords(KEYSPACE, TABLE, null, 4, null);
+      fail("no exception thrown");
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.SERVER_ERROR.getErrorCode(), e.getCode());
+    }
+  }
+
+  @Test
+  public void testScanAllRecordsFailsForMissingKeyspace() {
+    assertScanFailsWithoutQuery();
+  }
+
+  @Test
+  public void testScanAllRecordsFailsForMissingTable() {
+    Mockito.when(metadata.getKeyspace(KEYSPACE)).thenReturn(Mockito.mock(KeyspaceMetadata.class));
+
+    assertScanFailsWithoutQuery();
+  }
+
+  @Test
+  public void testScanAllRecordsReadsEveryRange() {
+    mockTable(5);
+    Mockito.when(session.execute(Mockito.any(Statement.class)))
+        .thenAnswer(invocation -> ResultSetFixture.create(2, 3));
+    ConcurrentLinkedQueue<Map<String, Object>> rows = new ConcurrentLinkedQueue<>();
+
+    cassandraOperation.scanAllRecords(KEYSPACE, TABLE, null, 4, 2, rows::add, null);
+
+    assertEquals(15, rows.size());
+    Mockito.verify(session, Mockito.times(5)).execute(Mockito.any(Statement.class));
+  }
+
+  @Test
+  public void testScanAllRecordsFailsWhenConsumerFails() {
+    mockTable(5);
+    Mockito.when(session.execute(Mockito.any(Statement.class)))
+        .thenAnswer(invocation -> ResultSetFixture.create(2, 3));
+
+    try {
+      cassandraOperation.scanAllRecords(
+          KEYSPACE,
+          TABLE,
+          null,
+          4,
+          1,
+          row -> {
+            throw new IllegalStateException("consumer failed");
+          },
+          null);
+      fail("no exception thrown");
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.SERVER_ERROR.getErrorCode(), e.getCode());
+    }
+    // the remaining ranges are not read once a range fails
+    Mockito.verify(session, Mockito.times(1)).execute(Mockito.any(Statement.class));
+  }
+
+  private void assertScanFailsWithoutQuery() {
+    try {
+      cassandraOperation.scanAllRecords(KEYSPACE, TABLE, null, 4, 2, row -> {}, null);
+      fail("no exception thrown");
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.SERVER_ERROR.getErrorCode(), e.getCode());
+    }
+    Mockito.verify(session, Mockito.never()).execute(Mockito.any(Statement.class));
+  }
+
+  private void mockTable(int rangeCount) {
+    ColumnMetadata partitionKey = Mockito.mock(ColumnMetadata.class);
+    Mockito.when(partitionKey.getName()).thenReturn("id");
+    TableMetadata table = Mockito.mock(TableMetadata.class);
+    Mockito.when(table.getPartitionKey()).thenReturn(Collections.singletonList(partitionKey));
+    KeyspaceMetadata keyspace = Mockito.mock(KeyspaceMetadata.class);
+    Mockito.when(keyspace.getTable(TABLE)).thenReturn(table);
+    Mockito.when(metadata.getKeyspace(KEYSPACE)).thenReturn(keyspace);
+    Set<TokenRange> ranges = new HashSet<>();
+    for (int i = 0; i < rangeCount; i++) {
+      Token start = Mockito.mock(Token.class);
+      Mockito.when(start.getValue()).thenReturn((long) i);
+      TokenRange range = PowerMockito.mock(TokenRange.class);
+      Mockito.when(range.getStart()).thenReturn(start);
+      Mockito.when(range.getEnd()).thenReturn(Mockito.mock(Token.class));
+      Mockito.when(range.unwrap()).thenReturn(Collections.singletonList(range));
+      ranges.add(range);
+    }
+    Mockito.when(metadata.getTokenRanges()).thenReturn(ranges);
+  }
+
+  /** Result set handing out rows page by page, the way the driver fetches them. */
+  private static class PagedResultSet {
+    private final ResultSet resultSet;
+    private final AtomicInteger consumed = new AtomicInteger();
+    private final AtomicInteger fetched = new AtomicInteger();
+
+    private PagedResultSet(int rowCount, int pageSize) {
+      ResultSet rows = ResultSetFixture.create(2, rowCount);
+      ColumnDefinitions columnDefinitions = rows.getColumnDefinitions();
+      Iterator<Row> rowIterator = rows.iterator();
+      Iterator<Row> iterator =
+          new Iterator<Row>() {
+            @Override
+            public boolean hasNext() {
+              return rowIterator.hasNext();
+            }
+
+            @Override
+            public Row next() {
+              consumed.incrementAndGet();
+              return rowIterator.next();
+            }
+          };
+      fetched.set(Math.min(pageSize, rowCount));
+      resultSet = Mockito.mock(ResultSet.class);
+      Mockito.when(resultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+      Mockito.when(resultSet.spliterator())
+          .thenAnswer(invocation -> Spliterators.spliteratorUnknownSize(iterator, 0));
+      Mockito.when(resultSet.getAvailableWithoutFetching())
+          .thenAnswer(invocation -> fetched.get() - consumed.get());
+      Mockito.when(resultSet.isFullyFetched())
+          .thenAnswer(invocation -> fetched.get() == rowCount);
+      Mockito.when(resultSet.fetchMoreResults())
+          .thenAnswer(
+              invocation -> {
+                fetched.set(Math.min(fetched.get() + pageSize, rowCount));
+                return null;
+              });
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package org.sunbird.common;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.models.util.CassandraPropertyReader;
+
+/**
+ * Compares decoding a result set by column name, with the column mapping resolved per result set,
+ * against CassandraUtil.createResponse. Rows are mocks, so absolute numbers include mock overhead;
+ * compare the two modes relative to each other. Run with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CassandraUtilBenchmark {
+  private static final int COLUMN_COUNT = 60;
+
+  @Param({"1", "100", "10000"})
+  public int rowCount;
+
+  private ResultSet resultSet;
+
+  @Setup
+  public void setup() {
+    resultSet = ResultSetFixture.create(COLUMN_COUNT, rowCount);
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> columnNameDecoding() {
+    CassandraPropertyReader propertyReader = CassandraPropertyReader.getInstance();
+    Map<String, String> columnsMapping =
+        resultSet
+            .getColumnDefinitions()
+            .asList()
+            .stream()
+            .collect(
+                Collectors.toMap(
+                    d -> propertyReader.readProperty(d.getName()).trim(), d -> d.getName()));
+    return legacyDecode(resultSet, columnsMapping);
+  }
+
+  @Benchmark
+  public Response positionalDecoding() {
+    return CassandraUtil.createResponse(resultSet);
+  }
+
+  static List<Map<String, Object>> legacyDecode(
+      ResultSet resultSet, Map<String, String> columnsMapping) {
+    List<Map<String, Object>> responseList = new ArrayList<>();
+    for (Row row : resultSet) {
+      Map<String, Object> rowMap = new HashMap<>();
+      columnsMapping
+          .entrySet()
+          .stream()
+          .forEach(entry -> rowMap.put(entry.getKey(), row.getObject(entry.getValue())));
+      responseList.add(rowMap);
+    }
+    return responseList;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(CassandraUtilBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
@@ -0,0 +1,42 @@
+package org.sunbird.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.datastax.driver.core.ResultSet;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.sunbird.common.models.response.Response;
+
+public class CassandraUtilTest {
+
+  @Test
+  public void testCreateResponseMatchesColumnNameDecoding() {
+    ResultSet resultSet = ResultSetFixture.create(60, 10);
+
+    Response response = CassandraUtil.createResponse(resultSet);
+    List<Map<String, Object>> decoded =
+        (List<Map<String, Object>>) response.get(Constants.RESPONSE);
+
+    Map<String, String> columnsMapping = CassandraUtil.fetchColumnsMapping(resultSet);
+    List<Map<String, Object>> expected =
+        CassandraUtilBenchmark.legacyDecode(resultSet, columnsMapping);
+    assertEquals(10, decoded.size());
+    assertEquals(expected, decoded);
+  }
+
+  @Test
+  public void testGetColumnMappingIsCachedPerColumnSet() {
+    ResultSet first = ResultSetFixture.create(5, 1);
+    ResultSet second = ResultSetFixture.create(5, 1);
+    ResultSet other = ResultSetFixture.create(6, 1);
+
+    ColumnMapping mapping = CassandraUtil.getColumnMapping(first.getColumnDefinitions());
+
+    assertSame(mapping, CassandraUtil.getColumnMapping(second.getColumnDefinitions()));
+    assertEquals(5, mapping.getColumnsMapping().size());
+    assertEquals(
+        6, CassandraUtil.getColumnMapping(other.getColumnDefinitions()).getColumnsMapping().size());
+  }
+}
@@ -0,0 +1,63 @@
+package org.sunbird.common;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import org.mockito.Mockito;
+
+/** Builds mocked result sets of a given shape for cassandra tests and benchmarks. */
+public final class ResultSetFixture {
+
+  private ResultSetFixture() {}
+
+  public static ResultSet create(int columnCount, int rowCount) {
+    List<ColumnDefinitions.Definition> definitions = new ArrayList<>(columnCount);
+    for (int i = 0; i < columnCount; i++) {
+      definitions.add(definition("sunbird", "user", column(i)));
+    }
+    ColumnDefinitions columnDefinitions =
+        Mockito.mock(ColumnDefinitions.class, Mockito.withSettings().stubOnly());
+    Mockito.when(columnDefinitions.asList()).thenReturn(definitions);
+    Mockito.when(columnDefinitions.iterator()).thenAnswer(invocation -> definitions.iterator());
+
+    List<Row> rows = new ArrayList<>(rowCount);
+    for (int r = 0; r < rowCount; r++) {
+      Row row = Mockito.mock(Row.class, Mockito.withSettings().stubOnly());
+      for (int i = 0; i < columnCount; i++) {
+        String value = "value" + r + "_" + i;
+        Mockito.when(row.getObject(i)).thenReturn(value);
+        Mockito.when(row.getObject(column(i))).thenReturn(value);
+      }
+      rows.add(row);
+    }
+    ResultSet resultSet = Mockito.mock(ResultSet.class, Mockito.withSettings().stubOnly());
+    Mockito.when(resultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+    Mockito.when(resultSet.getAvailableWithoutFetching()).thenReturn(rowCount);
+    Mockito.when(resultSet.iterator()).thenAnswer(invocation -> rows.iterator());
+    Mockito.when(resultSet.spliterator()).thenAnswer(invocation -> rows.spliterator());
+    Mockito.when(resultSet.isFullyFetched()).thenReturn(true);
+    return resultSet;
+  }
+
+  // the equals of a definition is final and reads its fields, so it cannot be mocked
+  private static ColumnDefinitions.Definition definition(
+      String keyspace, String table, String name) {
+    try {
+      Constructor<ColumnDefinitions.Definition> constructor =
+          ColumnDefinitions.Definition.class.getDeclaredConstructor(
+              String.class, String.class, String.class, DataType.class);
+      constructor.setAccessible(true);
+      return constructor.newInstance(keyspace, table, name, DataType.text());
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  public static String column(int index) {
+    return "column" + index;
+  }
+}
@@ -0,0 +1,60 @@
+package org.sunbird.helper;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class PreparedStatementCacheTest {
+
+  @Test
+  public void testGetOrPrepareReusesStatement() {
+    Session session = Mockito.mock(Session.class);
+    PreparedStatement statement = Mockito.mock(PreparedStatement.class);
+    Mockito.when(session.prepare(Mockito.anyString())).thenReturn(statement);
+    PreparedStatementCache cache = new PreparedStatementCache(10);
+
+    PreparedStatement first = cache.getOrPrepare(session, "sunbird", "SELECT * FROM user");
+    PreparedStatement second = cache.getOrPrepare(session, "sunbird", "SELECT * FROM user");
+
+    assertSame(first, second);
+    Mockito.verify(session, Mockito.times(1)).prepare("SELECT * FROM user");
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  public void testGetOrPrepareIsKeyspaceAware() {
+    Session session = Mockito.mock(Session.class);
+    Mockito.when(session.prepare(Mockito.anyString()))
+        .thenReturn(Mockito.mock(PreparedStatement.class));
+    PreparedStatementCache cache = new PreparedStatementCache(10);
+
+    cache.getOrPrepare(session, "sunbird", "SELECT * FROM user");
+    cache.getOrPrepare(session, "sunbird_courses", "SELECT * FROM user");
+
+    assertEquals(2, cache.getMissCount());
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void testGetOrPrepareEvictsLeastRecentlyUsed() {
+    Session session = Mockito.mock(Session.class);
+    Mockito.when(session.prepare(Mockito.anyString()))
+        .thenReturn(Mockito.mock(PreparedStatement.class));
+    PreparedStatementCache cache = new PreparedStatementCache(2);
+
+    cache.getOrPrepare(session, "sunbird", "q1");
+    cache.getOrPrepare(session, "sunbird", "q2");
+    cache.getOrPrepare(session, "sunbird", "q1");
+    cache.getOrPrepare(session, "sunbird", "q3");
+    cache.getOrPrepare(session, "sunbird", "q1");
+
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.getEvictionCount());
+    assertEquals(2, cache.getHitCount());
+  }
+}
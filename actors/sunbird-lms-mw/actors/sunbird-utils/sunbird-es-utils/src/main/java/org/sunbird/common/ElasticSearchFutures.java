@@ -0,0 +1,28 @@
+package org.sunbird.common;
+
+import java.util.concurrent.CompletionStage;
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.Future;
+
+/**
+ * Non blocking counterpart of {@link ElasticSearchHelper#getResponseFromFuture(Future)}. Results of
+ * {@link org.sunbird.common.inf.ElasticSearchService} are exposed as {@link CompletionStage} so that
+ * callers can compose them and pipe the outcome to the sender instead of parking an actor thread
+ * until elastic search responds.
+ */
+public final class ElasticSearchFutures {
+
+  private ElasticSearchFutures() {}
+
+  /**
+   * Converts the future returned by the elastic search service into a completion stage. Unlike
+   * getResponseFromFuture, a failed search is not turned into null, the stage completes
+   * exceptionally with the original error.
+   *
+   * @param future Future returned by ElasticSearchService
+   * @return CompletionStage<T>
+   */
+  public static <T> CompletionStage<T> toCompletionStage(Future<T> future) {
+    return FutureConverters.toJava(future);
+  }
+}
@@ -544,12 +544,8 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
             + startTime
             + " for Index "
             + index);
-    BulkRequest request = new BulkRequest();
+    BulkRequest request = createBulkIndexRequest(index, dataList);
     Promise<Boolean> promise = Futures.promise();
-    for (Map<String, Object> data : dataList) {
-      data.put("identifier", data.get(JsonKey.ID));
-      request.add(new IndexRequest(index, _DOC, (String) data.get(JsonKey.ID)).source(data));
-    }
     ActionListener<BulkResponse> listener =
         new ActionListener<BulkResponse>() {
           @Override
@@ -592,6 +588,68 @@ public class ElasticSearchRestHighImpl implements ElasticSearchService {
     return promise.future();
   }
 
+  /**
+   * This method will index the documents in a single bulk request and report the documents which
+   * could not be indexed.
+   *
+   * @param index String index name
+   * @param dataList List of documents, each identified by its id
+   * @param context
+   * @return Future of the ids of the documents failed to index, fails if the bulk request fails
+   */
+  @Override
+  public Future<List<String>> bulkIndex(
+      String index, List<Map<String, Object>> dataList, RequestContext context) {
+    long startTime = System.currentTimeMillis();
+    BulkRequest request = createBulkIndexRequest(index, dataList);
+    Promise<List<String>> promise = Futures.promise();
+    ActionListener<BulkResponse> listener =
+        new ActionListener<BulkResponse>() {
+          @Override
+          public void onResponse(BulkResponse bulkResponse) {
+            List<String> failedIds = new ArrayList<>();
+            for (BulkItemResponse itemResponse : bulkResponse) {
+              if (itemResponse.isFailed()) {
+                failedIds.add(itemResponse.getId());
+                logger.info(
+                    context,
+                    "ElasticSearchRestHighImpl:bulkIndex: failed to index "
+                        + itemResponse.getId()
+                        + " "
+                        + itemResponse.getFailureMessage());
+              }
+            }
+            logger.debug(
+                context,
+                "ElasticSearchRestHighImpl:bulkIndex: indexed "
+                    + (dataList.size() - failedIds.size())
+                    + " documents in index "
+                    + index
+                    + " ,Total time elapsed = "
+                    + calculateEndTime(startTime));
+            promise.success(failedIds);
+          }
+
+          @Override
+          public void onFailure(Exception e) {
+            logger.error(context, "ElasticSearchRestHighImpl:bulkIndex: Bulk request failed", e);
+            promise.failure(e);
+          }
+        };
+    ConnectionManager.getRestClient().bulkAsync(request, listener);
+    return promise.future();
+  }
+
+  private static BulkRequest createBulkIndexRequest(
+      String index, List<Map<String, Object>> dataList) {
+    BulkRequest request = new BulkRequest();
+    for (Map<String, Object> data : dataList) {
+      data.put("identifier", data.get(JsonKey.ID));
+      request.add(new IndexRequest(index, _DOC, (String) data.get(JsonKey.ID)).source(data));
+    }
+    return request;
+  }
+
   private static long calculateEndTime(long startTime) {
     return System.currentTimeMillis() - startTime;
   }
@@ -86,6 +86,17 @@ public interface ElasticSearchService {
   public Future<Boolean> bulkInsert(
       String index, List<Map<String, Object>> dataList, RequestContext context);
 
+  /**
+   * This method will index the documents in bulk and report the ones failed to index.
+   *
+   * @param index String index name
+   * @param dataList List<Map<String, Object>>
+   * @param context
+   * @return List of ids of the documents failed to index
+   */
+  public Future<List<String>> bulkIndex(
+      String index, List<Map<String, Object>> dataList, RequestContext context);
+
   /**
    * This method will upsert data based on identifier.take the data based on identifier and merge
    * with incoming data then update it or if not present already will create it.
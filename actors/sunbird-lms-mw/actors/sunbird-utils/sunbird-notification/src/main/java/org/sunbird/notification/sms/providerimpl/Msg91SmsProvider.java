@@ -6,24 +6,37 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpEntity;
 import org.apache.http.StatusLine;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
 import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.notification.sms.Sms;
 import org.sunbird.notification.sms.provider.ISmsProvider;
 import org.sunbird.notification.utils.JsonUtil;
 import org.sunbird.notification.utils.PropertiesCache;
+import org.sunbird.notification.utils.SmsTemplateIndex;
 import org.sunbird.notification.utils.SmsTemplateUtil;
 
 public class Msg91SmsProvider implements ISmsProvider {
   private static LoggerUtil logger = new LoggerUtil(Msg91SmsProvider.class);
+  private static final int DEFAULT_CONNECT_TIMEOUT = 5000;
+  private static final int DEFAULT_SOCKET_TIMEOUT = 10000;
+  private static final int DEFAULT_MAX_CONNECTIONS = 50;
+  private static final int DEFAULT_BATCH_SIZE = 100;
+  private static final int DEFAULT_TEMPLATE_REFRESH_INTERVAL = 300;
+  private static final int IDLE_CONNECTION_TIMEOUT = 60;
+  private static final int VALIDATE_AFTER_INACTIVITY = 2000;
 
   private static String baseUrl = null;
   private static String getUrl = null;
@@ -33,6 +46,15 @@ public class Msg91SmsProvider implements ISmsProvider {
   private static String smsMethodType = null;
   private static String authKey = null;
   private static String country = null;
+  private static int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+  private static int socketTimeout = DEFAULT_SOCKET_TIMEOUT;
+  private static int maxConnections = DEFAULT_MAX_CONNECTIONS;
+  private static int batchSize = DEFAULT_BATCH_SIZE;
+  private static int templateRefreshInterval = DEFAULT_TEMPLATE_REFRESH_INTERVAL;
+
+  private final CloseableHttpClient httpClient;
+  private volatile SmsTemplateIndex templateIndex;
+  private volatile long templateIndexLoadedAt;
 
   static {
     boolean resposne = init();
@@ -57,9 +79,56 @@ public class Msg91SmsProvider implements ISmsProvider {
     if (JsonUtil.isStringNullOREmpty(authKey)) {
       authKey = PropertiesCache.getInstance().getProperty("sunbird.msg.91.auth");
     }
+    connectTimeout = getIntProperty("sunbird.msg.91.connect.timeout", DEFAULT_CONNECT_TIMEOUT);
+    socketTimeout = getIntProperty("sunbird.msg.91.socket.timeout", DEFAULT_SOCKET_TIMEOUT);
+    maxConnections = getIntProperty("sunbird.msg.91.max.connections", DEFAULT_MAX_CONNECTIONS);
+    batchSize = getIntProperty("sunbird.msg.91.batch.size", DEFAULT_BATCH_SIZE);
+    templateRefreshInterval =
+        getIntProperty(
+            "sunbird.msg.91.template.refresh.interval", DEFAULT_TEMPLATE_REFRESH_INTERVAL);
     return validateSettings();
   }
 
+  private static int getIntProperty(String key, int defaultValue) {
+    String value = PropertiesCache.getInstance().getProperty(key);
+    if (StringUtils.isNumeric(value) && Integer.parseInt(value) > 0) {
+      return Integer.parseInt(value);
+    }
+    return defaultValue;
+  }
+
+  public Msg91SmsProvider() {
+    this(createHttpClient());
+  }
+
+  /** @param httpClient Client the SMS gateway requests are sent with */
+  public Msg91SmsProvider(CloseableHttpClient httpClient) {
+    this.httpClient = httpClient;
+  }
+
+  /**
+   * Client keeping the connections to the SMS gateway open between requests, so that a SMS does
+   * not pay for a new connection and TLS handshake.
+   */
+  private static CloseableHttpClient createHttpClient() {
+    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(maxConnections);
+    connectionManager.setDefaultMaxPerRoute(maxConnections);
+    connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY);
+    RequestConfig requestConfig =
+        RequestConfig.custom()
+            .setConnectTimeout(connectTimeout)
+            .setConnectionRequestTimeout(connectTimeout)
+            .setSocketTimeout(socketTimeout)
+            .build();
+    return HttpClientBuilder.create()
+        .setConnectionManager(connectionManager)
+        .setDefaultRequestConfig(requestConfig)
+        .evictIdleConnections(IDLE_CONNECTION_TIMEOUT, TimeUnit.SECONDS)
+        .useSystemProperties()
+        .build();
+  }
+
   @Override
   public boolean send(String phoneNumber, String smsText) {
     if ("POST".equalsIgnoreCase(smsMethodType)) {
@@ -85,113 +154,134 @@ public class Msg91SmsProvider implements ISmsProvider {
    */
   private boolean sendSmsUsingPost(String mobileNumber, String smsText) {
     logger.debug("Msg91SmsProvider@Sending " + smsText + "  to mobileNumber " + mobileNumber);
-    logger.debug(
-        "Msg91SmsProvider@SMS Provider parameters \n"
-            + "Gateway - "
-            + baseUrl
-            + "\n"
-            + "authKey - "
-            + authKey
-            + "\n"
-            + "sender - "
-            + sender
-            + "\n"
-            + "country - "
-            + country
-            + "\n"
-            + "smsMethodType - "
-            + smsMethodType
-            + "\n"
-            + "smsRoute - "
-            + smsRoute
-            + "\n");
+    logProviderDetails();
+    if (validateSettings(mobileNumber, smsText)) {
+      String tempMobileNumber = removePlusFromMobileNumber(mobileNumber);
+      logger.debug("Msg91SmsProvider - after removePlusFromMobileNumber " + tempMobileNumber);
+      String templateId = getTemplateId(smsText);
+      if (null == templateId) {
+        return false;
+      }
+      List<String> mobileNumbers = new ArrayList<>();
+      mobileNumbers.add(tempMobileNumber);
+      return sendSmsUsingPost(mobileNumbers, smsText, templateId);
+    } else {
+      logger.debug("Msg91SmsProvider - Some mandatory parameters are empty!");
+      return false;
+    }
+  }
 
-    CloseableHttpClient httpClient = null;
+  /**
+   * Sends one SMS request to the given phone numbers
+   *
+   * @param mobileNumbers List<String>
+   * @param smsText String
+   * @param templateId DLT template id of the SMS text
+   * @return boolean
+   */
+  private boolean sendSmsUsingPost(List<String> mobileNumbers, String smsText, String templateId) {
     try {
-      httpClient = HttpClients.createDefault();
-
-      String path = null;
-
-      if (validateSettings(mobileNumber, smsText)) {
-        String tempMobileNumber = removePlusFromMobileNumber(mobileNumber);
-
-        logger.debug("Msg91SmsProvider - after removePlusFromMobileNumber " + tempMobileNumber);
-        // add dlt template id header
-        String templateId = getTemplateId(smsText);
-        path = baseUrl + postUrl + "?DLT_TE_ID=" + templateId;
-        logger.debug("Msg91SmsProvider -Executing request - " + path);
-
-        HttpPost httpPost = new HttpPost(path);
-
-        // add content-type headers
-        httpPost.setHeader("content-type", "application/json");
+      // add dlt template id header
+      String path = baseUrl + postUrl + "?DLT_TE_ID=" + templateId;
+      logger.debug("Msg91SmsProvider -Executing request - " + path);
 
-        // add authkey header
-        httpPost.setHeader("authkey", authKey);
-        logger.debug("Msg91SmsProvider -request header- " + httpPost.getAllHeaders());
+      HttpPost httpPost = new HttpPost(path);
 
-        List<String> mobileNumbers = new ArrayList<>();
-        mobileNumbers.add(tempMobileNumber);
+      // add content-type headers
+      httpPost.setHeader("content-type", "application/json");
 
-        // create sms
-        Sms sms = new Sms(getDoubleEncodedSMS(smsText), mobileNumbers);
+      // add authkey header
+      httpPost.setHeader("authkey", authKey);
 
-        List<Sms> smsList = new ArrayList<>();
-        smsList.add(sms);
+      // create sms
+      Sms sms = new Sms(getDoubleEncodedSMS(smsText), mobileNumbers);
 
-        // create body
-        ProviderDetails providerDetails =
-            new ProviderDetails(sender, smsRoute, country, 1, smsList);
+      List<Sms> smsList = new ArrayList<>();
+      smsList.add(sms);
 
-        String providerDetailsString = JsonUtil.toJson(providerDetails);
+      // create body
+      ProviderDetails providerDetails = new ProviderDetails(sender, smsRoute, country, 1, smsList);
 
-        if (!JsonUtil.isStringNullOREmpty(providerDetailsString)) {
-          logger.debug("Msg91SmsProvider - Body - " + providerDetailsString);
+      String providerDetailsString = JsonUtil.toJson(providerDetails);
 
-          HttpEntity entity =
-              new ByteArrayEntity(providerDetailsString.getBytes(StandardCharsets.UTF_8));
-          httpPost.setEntity(entity);
+      if (!JsonUtil.isStringNullOREmpty(providerDetailsString)) {
+        logger.debug("Msg91SmsProvider - Body - " + providerDetailsString);
 
-          CloseableHttpResponse response = httpClient.execute(httpPost);
-          StatusLine sl = response.getStatusLine();
-          response.close();
-          if (sl.getStatusCode() != 200) {
-            logger.info(
-                "SMS code for "
-                    + tempMobileNumber
-                    + " could not be sent: "
-                    + sl.getStatusCode()
-                    + " - "
-                    + sl.getReasonPhrase());
-          }
-          return sl.getStatusCode() == 200;
-        } else {
-          return false;
-        }
+        HttpEntity entity =
+            new ByteArrayEntity(providerDetailsString.getBytes(StandardCharsets.UTF_8));
+        httpPost.setEntity(entity);
+        return execute(httpPost, String.valueOf(mobileNumbers));
       } else {
-        logger.debug("Msg91SmsProvider - Some mandatory parameters are empty!");
         return false;
       }
     } catch (IOException e) {
       logger.error("Error occurred :", e);
       return false;
     } catch (Exception e) {
-      logger.info("Msg91SmsProvider - Error in coverting providerDetails to string!");
+      logger.error("Msg91SmsProvider : send : error in converting providerDetails to String", e);
       return false;
-    } finally {
-      closeHttpResource(httpClient);
     }
   }
 
+  /**
+   * Executes the request on the shared client. The response body is read fully so that the
+   * connection goes back to the pool to be reused.
+   *
+   * @param request Gateway request
+   * @param mobileNumbers Phone numbers of the request, for logging
+   * @return true if the gateway accepted the request
+   */
+  private boolean execute(HttpUriRequest request, String mobileNumbers) throws IOException {
+    try (CloseableHttpResponse response = httpClient.execute(request)) {
+      StatusLine sl = response.getStatusLine();
+      EntityUtils.consume(response.getEntity());
+      if (sl.getStatusCode() != 200) {
+        logger.info(
+            "SMS code for "
+                + mobileNumbers
+                + " could not be sent: "
+                + sl.getStatusCode()
+                + " - "
+                + sl.getReasonPhrase());
+      }
+      return sl.getStatusCode() == 200;
+    }
+  }
+
+  /** @return DLT template id of the SMS text, null if the templates could not be read */
   private String getTemplateId(String sms) {
-    Map<String, String> smsTemplateConfig = SmsTemplateUtil.getSmsTemplateConfigMap();
-    for (String key : smsTemplateConfig.keySet()) {
-      String pattern = key.replaceAll("\\$[^ .]+", ".*?");
-      if (sms.matches(pattern)) {
-        return smsTemplateConfig.get(key);
+    try {
+      return getTemplateIndex().getTemplateId(sms);
+    } catch (Exception e) {
+      logger.error("Msg91SmsProvider - error in reading sms templates", e);
+      return null;
+    }
+  }
+
+  /**
+   * Templates are read from the system settings and compiled once, then read again after the
+   * refresh interval so that template changes are picked up. A failed or empty read is retried on
+   * the next SMS.
+   */
+  private SmsTemplateIndex getTemplateIndex() {
+    SmsTemplateIndex index = templateIndex;
+    if (null == index || isTemplateIndexExpired()) {
+      synchronized (this) {
+        index = templateIndex;
+        if (null == index || isTemplateIndexExpired()) {
+          index = new SmsTemplateIndex(SmsTemplateUtil.getSmsTemplateConfigMap());
+          templateIndex = index;
+          templateIndexLoadedAt = index.size() > 0 ? System.currentTimeMillis() : 0;
+          logger.debug("Msg91SmsProvider - compiled " + index.size() + " sms templates");
+        }
       }
     }
-    return "";
+    return index;
+  }
+
+  private boolean isTemplateIndexExpired() {
+    return System.currentTimeMillis() - templateIndexLoadedAt
+        >= TimeUnit.SECONDS.toMillis(templateRefreshInterval);
   }
 
   /**
@@ -202,9 +292,7 @@ public class Msg91SmsProvider implements ISmsProvider {
    * @return boolean
    */
   public boolean sendSmsGetMethod(String mobileNumber, String smsText) {
-    CloseableHttpClient httpClient = null;
     try {
-      httpClient = HttpClients.createDefault();
       String path = null;
       if (validateSettings(mobileNumber, smsText)) {
 
@@ -225,20 +313,7 @@ public class Msg91SmsProvider implements ISmsProvider {
         logger.debug("Msg91SmsProvider -Executing request - " + path);
 
         HttpGet httpGet = new HttpGet(path);
-
-        CloseableHttpResponse response = httpClient.execute(httpGet);
-        StatusLine sl = response.getStatusLine();
-        response.close();
-        if (sl.getStatusCode() != 200) {
-          logger.info(
-              "SMS code for "
-                  + tempMobileNumber
-                  + " could not be sent: "
-                  + sl.getStatusCode()
-                  + " - "
-                  + sl.getReasonPhrase());
-        }
-        return sl.getStatusCode() == 200;
+        return execute(httpGet, tempMobileNumber);
 
       } else {
         logger.debug("Msg91SmsProvider - Some mandatory parameters are empty!");
@@ -247,8 +322,6 @@ public class Msg91SmsProvider implements ISmsProvider {
     } catch (IOException e) {
       logger.error("Error occurred : ", e);
       return false;
-    } finally {
-      closeHttpResource(httpClient);
     }
   }
 
@@ -292,19 +365,27 @@ public class Msg91SmsProvider implements ISmsProvider {
     return builder.toString();
   }
 
-  /**
-   * This method will close the http resource.
-   *
-   * @param httpClient
-   */
-  private void closeHttpResource(CloseableHttpClient httpClient) {
-    if (httpClient != null) {
-      try {
-        httpClient.close();
-      } catch (IOException e) {
-        logger.error("Error occurred while closing http connection", e);
-      }
-    }
+  private void logProviderDetails() {
+    logger.debug(
+        "Msg91SmsProvider@SMS Provider parameters \n"
+            + "Gateway - "
+            + baseUrl
+            + "\n"
+            + "authKey - "
+            + authKey
+            + "\n"
+            + "sender - "
+            + sender
+            + "\n"
+            + "country - "
+            + country
+            + "\n"
+            + "smsMethodType - "
+            + smsMethodType
+            + "\n"
+            + "smsRoute - "
+            + smsRoute
+            + "\n");
   }
 
   /**
@@ -337,30 +418,15 @@ public class Msg91SmsProvider implements ISmsProvider {
     return false;
   }
 
+  /**
+   * Sends the SMS in requests of at most the batch size phone numbers. The template id is looked
+   * up once for all requests.
+   */
   @Override
   public boolean send(List<String> phoneNumber, String smsText) {
     List<String> phoneNumberList = null;
     logger.debug("Msg91SmsProvider@Sending " + smsText + "  to mobileNumber ");
-    logger.debug(
-        "Msg91SmsProvider@SMS Provider parameters \n"
-            + "Gateway - "
-            + baseUrl
-            + "\n"
-            + "authKey - "
-            + authKey
-            + "\n"
-            + "sender - "
-            + sender
-            + "\n"
-            + "country - "
-            + country
-            + "\n"
-            + "smsMethodType - "
-            + smsMethodType
-            + "\n"
-            + "smsRoute - "
-            + smsRoute
-            + "\n");
+    logProviderDetails();
     if (JsonUtil.isStringNullOREmpty(smsText)) {
       logger.debug("can't sent empty msg.");
       return false;
@@ -370,67 +436,34 @@ public class Msg91SmsProvider implements ISmsProvider {
       logger.debug("can't sent msg with empty phone list.");
       return false;
     }
-    CloseableHttpClient httpClient = null;
-    try {
-      httpClient = HttpClients.createDefault();
-
-      String path = null;
-      logger.debug("Inside POST");
-      // add dlt template id header
-      String templateId = getTemplateId(smsText);
-      path = baseUrl + postUrl + "?DLT_TE_ID=" + templateId;
-      logger.debug("Msg91SmsProvider -Executing request - " + path);
-      HttpPost httpPost = new HttpPost(path);
-
-      // add content-type headers
-      httpPost.setHeader("content-type", "application/json");
-
-      // add authkey header
-      httpPost.setHeader("authkey", authKey);
-
-      // create sms
-      Sms sms = new Sms(getDoubleEncodedSMS(smsText), phoneNumberList);
-
-      List<Sms> smsList = new ArrayList<>();
-      smsList.add(sms);
-
-      // create body
-      ProviderDetails providerDetails = new ProviderDetails(sender, smsRoute, country, 1, smsList);
-
-      String providerDetailsString = JsonUtil.toJson(providerDetails);
-
-      if (!JsonUtil.isStringNullOREmpty(providerDetailsString)) {
-        logger.debug("Msg91SmsProvider - Body - " + providerDetailsString);
-
-        HttpEntity entity =
-            new ByteArrayEntity(providerDetailsString.getBytes(StandardCharsets.UTF_8));
-        httpPost.setEntity(entity);
-        CloseableHttpResponse response = httpClient.execute(httpPost);
-        StatusLine sl = response.getStatusLine();
-        response.close();
-        if (sl.getStatusCode() != 200) {
-          logger.info(
-              "SMS code for "
-                  + phoneNumberList
-                  + " could not be sent: "
-                  + sl.getStatusCode()
-                  + " - "
-                  + sl.getReasonPhrase());
-        }
-        return sl.getStatusCode() == 200;
-      } else {
-        return false;
-      }
-
-    } catch (IOException e) {
-      logger.error("error in converting providerDetails to String", e);
+    long startTime = System.currentTimeMillis();
+    logger.debug("Inside POST");
+    String templateId = getTemplateId(smsText);
+    if (null == templateId) {
       return false;
-    } catch (Exception e) {
-      logger.error("Msg91SmsProvider : send : error in converting providerDetails to String", e);
-      return false;
-    } finally {
-      closeHttpResource(httpClient);
     }
+    int batches = 0;
+    int failedBatches = 0;
+    for (int from = 0; from < phoneNumberList.size(); from += batchSize) {
+      List<String> batch =
+          new ArrayList<>(
+              phoneNumberList.subList(from, Math.min(from + batchSize, phoneNumberList.size())));
+      batches++;
+      if (!sendSmsUsingPost(batch, smsText, templateId)) {
+        failedBatches++;
+      }
+    }
+    logger.info(
+        "Msg91SmsProvider:send: "
+            + phoneNumberList.size()
+            + " phones in "
+            + batches
+            + " batches, "
+            + failedBatches
+            + " failed, in "
+            + (System.currentTimeMillis() - startTime)
+            + " ms");
+    return failedBatches == 0;
   }
 
   /**
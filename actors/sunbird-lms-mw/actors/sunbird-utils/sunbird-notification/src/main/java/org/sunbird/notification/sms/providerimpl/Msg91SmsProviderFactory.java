@@ -5,12 +5,17 @@ import org.sunbird.notification.sms.provider.ISmsProviderFactory;
 
 public class Msg91SmsProviderFactory implements ISmsProviderFactory {
 
-  private static Msg91SmsProvider msg91SmsProvider = null;
+  // one provider, so that every SMS is sent on the connection pool of its http client
+  private static volatile Msg91SmsProvider msg91SmsProvider = null;
 
   @Override
   public ISmsProvider create() {
     if (msg91SmsProvider == null) {
-      msg91SmsProvider = new Msg91SmsProvider();
+      synchronized (Msg91SmsProviderFactory.class) {
+        if (msg91SmsProvider == null) {
+          msg91SmsProvider = new Msg91SmsProvider();
+        }
+      }
     }
     return msg91SmsProvider;
   }
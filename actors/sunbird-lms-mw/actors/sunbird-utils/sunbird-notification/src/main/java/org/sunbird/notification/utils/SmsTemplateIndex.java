@@ -0,0 +1,81 @@
+package org.sunbird.notification.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.sunbird.common.models.util.LoggerUtil;
+
+/**
+ * SMS templates compiled once into patterns matching the texts made from them, a template variable
+ * ($name) matching any text. Templates are tried in the order of the template config, and only
+ * against texts starting with the literal text before the first variable of the template.
+ */
+public class SmsTemplateIndex {
+  private static LoggerUtil logger = new LoggerUtil(SmsTemplateIndex.class);
+  private static final String VARIABLE = "\\$[^ .]+";
+
+  private final List<CompiledTemplate> templates;
+
+  /** @param smsTemplateConfig Template id by template */
+  public SmsTemplateIndex(Map<String, String> smsTemplateConfig) {
+    templates = new ArrayList<>(smsTemplateConfig.size());
+    for (Map.Entry<String, String> entry : smsTemplateConfig.entrySet()) {
+      String regex = entry.getKey().replaceAll(VARIABLE, ".*?");
+      try {
+        templates.add(
+            new CompiledTemplate(Pattern.compile(regex), literalPrefix(regex), entry.getValue()));
+      } catch (PatternSyntaxException e) {
+        logger.info("SmsTemplateIndex: template could not be compiled " + entry.getKey());
+      }
+    }
+  }
+
+  /**
+   * @param sms SMS text
+   * @return Id of the first template matching the text, empty if no template matches
+   */
+  public String getTemplateId(String sms) {
+    for (CompiledTemplate template : templates) {
+      if (sms.startsWith(template.prefix) && template.pattern.matcher(sms).matches()) {
+        return template.id;
+      }
+    }
+    return "";
+  }
+
+  public int size() {
+    return templates.size();
+  }
+
+  // text every match of the pattern starts with, up to the first regex construct
+  private static String literalPrefix(String regex) {
+    if (regex.indexOf('|') >= 0) {
+      return "";
+    }
+    for (int i = 0; i < regex.length(); i++) {
+      char c = regex.charAt(i);
+      if ("?*+{".indexOf(c) >= 0) {
+        // the quantifier applies to the character before it
+        return regex.substring(0, Math.max(0, i - 1));
+      }
+      if ("\\^$.()[".indexOf(c) >= 0) {
+        return regex.substring(0, i);
+      }
+    }
+    return regex;
+  }
+
+  private static final class CompiledTemplate {
+    private final Pattern pattern;
+    private final String prefix;
+    private final String id;
+
+    private CompiledTemplate(Pattern pattern, String prefix, String id) {
+      this.pattern = pattern;
+      this.prefix = prefix;
+      this.id = id;
+    }
+  }
+}
@@ -12,7 +12,6 @@ import org.apache.http.StatusLine;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.junit.Assert;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
@@ -32,7 +31,6 @@ import org.sunbird.notification.utils.SmsTemplateUtil;
 @RunWith(PowerMockRunner.class)
 @PowerMockIgnore({"javax.management.*", "javax.net.ssl.*", "javax.security.*"})
 @PrepareForTest({
-  HttpClients.class,
   CloseableHttpClient.class,
   PropertiesCache.class,
   SMSFactory.class,
@@ -40,14 +38,12 @@ import org.sunbird.notification.utils.SmsTemplateUtil;
 })
 public class Msg91PostMethodTest {
 
-  private void initMockRulesFor200() {
+  private CloseableHttpClient initMockRulesFor200() {
     CloseableHttpClient httpClient = mock(CloseableHttpClient.class);
     CloseableHttpResponse httpResp = mock(CloseableHttpResponse.class);
     PropertiesCache propertiesCache = mock(PropertiesCache.class);
     StatusLine statusLine = mock(StatusLine.class);
-    PowerMockito.mockStatic(HttpClients.class);
     try {
-      doReturn(httpClient).when(HttpClients.class, "createDefault");
       when(httpClient.execute(Mockito.any(HttpPost.class))).thenReturn(httpResp);
       doReturn(statusLine).when(httpResp).getStatusLine();
       doReturn(200).when(statusLine).getStatusCode();
@@ -60,16 +56,15 @@ public class Msg91PostMethodTest {
     } catch (Exception e) {
       Assert.fail("Exception while mocking static " + e.getLocalizedMessage());
     }
+    return httpClient;
   }
 
-  private void initMockRulesFor400() {
+  private CloseableHttpClient initMockRulesFor400() {
     CloseableHttpClient httpClient = mock(CloseableHttpClient.class);
     CloseableHttpResponse httpResp = mock(CloseableHttpResponse.class);
     PropertiesCache propertiesCache = mock(PropertiesCache.class);
     StatusLine statusLine = mock(StatusLine.class);
-    PowerMockito.mockStatic(HttpClients.class);
     try {
-      doReturn(httpClient).when(HttpClients.class, "createDefault");
       when(httpClient.execute(Mockito.any(HttpPost.class))).thenReturn(httpResp);
       doReturn(statusLine).when(httpResp).getStatusLine();
       doReturn(400).when(statusLine).getStatusCode();
@@ -82,11 +77,12 @@ public class Msg91PostMethodTest {
     } catch (Exception e) {
       Assert.fail("Exception while mocking static " + e.getLocalizedMessage());
     }
+    return httpClient;
   }
 
   @Test
   public void testSendSms() {
-    initMockRulesFor200();
+    CloseableHttpClient httpClient = initMockRulesFor200();
     PowerMockito.mockStatic(SmsTemplateUtil.class);
 
     Map<String, String> template1 = new HashMap<>();
@@ -101,7 +97,7 @@ public class Msg91PostMethodTest {
         "3");
 
     when(SmsTemplateUtil.getSmsTemplateConfigMap()).thenReturn(template1);
-    Msg91SmsProvider megObj = new Msg91SmsProvider();
+    Msg91SmsProvider megObj = new Msg91SmsProvider(httpClient);
     String sms =
         "OTP to reset your password on instance is 456123. This is valid for 30 minutes only.";
     boolean response = megObj.send("4321111111", sms);
@@ -110,7 +106,7 @@ public class Msg91PostMethodTest {
 
   @Test
   public void testSendSmsFailure() {
-    initMockRulesFor400();
+    CloseableHttpClient httpClient = initMockRulesFor400();
     PowerMockito.mockStatic(SmsTemplateUtil.class);
 
     Map<String, String> template1 = new HashMap<>();
@@ -125,7 +121,7 @@ public class Msg91PostMethodTest {
         "3");
 
     when(SmsTemplateUtil.getSmsTemplateConfigMap()).thenReturn(template1);
-    Msg91SmsProvider megObj = new Msg91SmsProvider();
+    Msg91SmsProvider megObj = new Msg91SmsProvider(httpClient);
     String sms =
         "OTP to verify your phone number on instance is 456123. This is valid for 30 minutes only.";
     boolean response = megObj.send("4321111111", sms);
@@ -134,7 +130,7 @@ public class Msg91PostMethodTest {
 
   @Test
   public void testSendSmsToMultiplePhone() {
-    initMockRulesFor200();
+    CloseableHttpClient httpClient = initMockRulesFor200();
     PowerMockito.mockStatic(SmsTemplateUtil.class);
 
     Map<String, String> template1 = new HashMap<>();
@@ -149,7 +145,7 @@ public class Msg91PostMethodTest {
         "3");
 
     when(SmsTemplateUtil.getSmsTemplateConfigMap()).thenReturn(template1);
-    Msg91SmsProvider megObj = new Msg91SmsProvider();
+    Msg91SmsProvider megObj = new Msg91SmsProvider(httpClient);
     String sms =
         "OTP to verify your phone number on instance is 456123. This is valid for 30 minutes only.";
     List<String> phoneList = new ArrayList<>();
@@ -161,7 +157,7 @@ public class Msg91PostMethodTest {
 
   @Test
   public void testSendSmsFailureToMultiplePhone() {
-    initMockRulesFor400();
+    CloseableHttpClient httpClient = initMockRulesFor400();
     PowerMockito.mockStatic(SmsTemplateUtil.class);
 
     Map<String, String> template1 = new HashMap<>();
@@ -176,7 +172,7 @@ public class Msg91PostMethodTest {
         "3");
 
     when(SmsTemplateUtil.getSmsTemplateConfigMap()).thenReturn(template1);
-    Msg91SmsProvider megObj = new Msg91SmsProvider();
+    Msg91SmsProvider megObj = new Msg91SmsProvider(httpClient);
     String sms =
         "OTP to verify your phone number on instance is 456123. This is valid for 30 minutes only.";
     List<String> phoneList = new ArrayList<>();
@@ -188,7 +184,7 @@ public class Msg91PostMethodTest {
 
   @Test
   public void testSendSmsWithCountryCode() {
-    initMockRulesFor200();
+    CloseableHttpClient httpClient = initMockRulesFor200();
     PowerMockito.mockStatic(SmsTemplateUtil.class);
 
     Map<String, String> template1 = new HashMap<>();
@@ -203,7 +199,7 @@ public class Msg91PostMethodTest {
         "3");
 
     when(SmsTemplateUtil.getSmsTemplateConfigMap()).thenReturn(template1);
-    Msg91SmsProvider megObj = new Msg91SmsProvider();
+    Msg91SmsProvider megObj = new Msg91SmsProvider(httpClient);
     String sms =
         "OTP to verify your phone number on instance is 456123. This is valid for 30 minutes only.";
     boolean response = megObj.send("4321111111", "+91", sms);
@@ -212,7 +208,7 @@ public class Msg91PostMethodTest {
 
   @Test
   public void testSendSmsFailureWithCountryCode() {
-    initMockRulesFor400();
+    CloseableHttpClient httpClient = initMockRulesFor400();
     PowerMockito.mockStatic(SmsTemplateUtil.class);
 
     Map<String, String> template1 = new HashMap<>();
@@ -227,10 +223,53 @@ public class Msg91PostMethodTest {
         "3");
 
     when(SmsTemplateUtil.getSmsTemplateConfigMap()).thenReturn(template1);
-    Msg91SmsProvider megObj = new Msg91SmsProvider();
+    Msg91SmsProvider megObj = new Msg91SmsProvider(httpClient);
     String sms =
         "OTP to verify your phone number on instance is 456123. This is valid for 30 minutes only.";
     boolean response = megObj.send("4321111111", "+91", sms);
     Assert.assertFalse(response);
   }
+
+  @Test
+  public void testSendSmsToMultiplePhoneInBatches() throws Exception {
+    CloseableHttpClient httpClient = initMockRulesFor200();
+    PowerMockito.mockStatic(SmsTemplateUtil.class);
+
+    Map<String, String> template1 = new HashMap<>();
+    template1.put(
+        "OTP to verify your phone number on $installationName is $otp. This is valid for $otpExpiryInMinutes minutes only.",
+        "1");
+
+    when(SmsTemplateUtil.getSmsTemplateConfigMap()).thenReturn(template1);
+    Msg91SmsProvider megObj = new Msg91SmsProvider(httpClient);
+    String sms =
+        "OTP to verify your phone number on instance is 456123. This is valid for 30 minutes only.";
+    List<String> phoneList = new ArrayList<>();
+    for (int i = 0; i < 250; i++) {
+      phoneList.add(String.valueOf(9000000000L + i));
+    }
+    boolean response = megObj.send(phoneList, sms);
+    Assert.assertTrue(response);
+    Mockito.verify(httpClient, Mockito.times(3)).execute(Mockito.any(HttpPost.class));
+  }
+
+  @Test
+  public void testSendSmsReadsTemplatesOnce() {
+    CloseableHttpClient httpClient = initMockRulesFor200();
+    PowerMockito.mockStatic(SmsTemplateUtil.class);
+
+    Map<String, String> template1 = new HashMap<>();
+    template1.put(
+        "OTP to verify your phone number on $installationName is $otp. This is valid for $otpExpiryInMinutes minutes only.",
+        "1");
+
+    when(SmsTemplateUtil.getSmsTemplateConfigMap()).thenReturn(template1);
+    Msg91SmsProvider megObj = new Msg91SmsProvider(httpClient);
+    String sms =
+        "OTP to verify your phone number on instance is 456123. This is valid for 30 minutes only.";
+    Assert.assertTrue(megObj.send("4321111111", sms));
+    Assert.assertTrue(megObj.send("4321111112", sms));
+    PowerMockito.verifyStatic(SmsTemplateUtil.class, Mockito.times(1));
+    SmsTemplateUtil.getSmsTemplateConfigMap();
+  }
 }
@@ -0,0 +1,140 @@
+package org.sunbird.notification.sms;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpHost;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.sunbird.notification.sms.providerimpl.Msg91SmsProvider;
+import org.sunbird.notification.utils.SmsTemplateIndex;
+import org.sunbird.notification.utils.SmsTemplateIndexTest;
+
+/**
+ * Compares sending a SMS with a new http client per SMS against Msg91SmsProvider on its shared
+ * client, and the template id lookup compiling the template regexes for every SMS against
+ * SmsTemplateIndex. The SMS gateway is a stub http server on localhost, used as proxy by the
+ * clients, so the cost of a TLS handshake per SMS is not part of the numbers. Run with the main
+ * method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Msg91SmsProviderBenchmark {
+  private static final String PHONE = "9999999999";
+  private static final String SMS =
+      "OTP to verify your phone number on Sunbird is 456123. This is valid for 30 minutes only.";
+
+  private HttpServer gateway;
+  private ExecutorService gatewayExecutor;
+  private HttpHost proxy;
+  private CloseableHttpClient httpClient;
+  private Msg91SmsProvider provider;
+  private Map<String, String> templates;
+  private List<String> smsTexts;
+  private SmsTemplateIndex templateIndex;
+
+  @Setup
+  public void setup() throws IOException {
+    gateway = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    byte[] body = "{\"type\":\"success\"}".getBytes(StandardCharsets.UTF_8);
+    gateway.createContext(
+        "/",
+        exchange -> {
+          exchange.getRequestBody().readAllBytes();
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    gatewayExecutor = Executors.newFixedThreadPool(4);
+    gateway.setExecutor(gatewayExecutor);
+    gateway.start();
+    proxy = new HttpHost("localhost", gateway.getAddress().getPort());
+    httpClient =
+        HttpClients.custom()
+            .setConnectionManager(new PoolingHttpClientConnectionManager())
+            .setProxy(proxy)
+            .build();
+    provider = new Msg91SmsProvider(httpClient);
+    templates = SmsTemplateIndexTest.getTemplates();
+    smsTexts = SmsTemplateIndexTest.getSmsTexts();
+    templateIndex = new SmsTemplateIndex(templates);
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    httpClient.close();
+    gateway.stop(0);
+    gatewayExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public boolean clientPerSms() throws IOException {
+    try (CloseableHttpClient client = HttpClients.custom().setProxy(proxy).build()) {
+      HttpGet httpGet =
+          new HttpGet("http://api.msg91.com/api/sendhttp.php?mobiles=" + PHONE + "&message=otp");
+      try (CloseableHttpResponse response = client.execute(httpGet)) {
+        EntityUtils.consume(response.getEntity());
+        return response.getStatusLine().getStatusCode() == 200;
+      }
+    }
+  }
+
+  @Benchmark
+  public boolean sharedClient() {
+    return provider.sendSmsGetMethod(PHONE, SMS);
+  }
+
+  @Benchmark
+  public int templateIdByRegex() {
+    int matched = 0;
+    for (String sms : smsTexts) {
+      matched += SmsTemplateIndexTest.getTemplateIdByRegex(templates, sms).length();
+    }
+    return matched;
+  }
+
+  @Benchmark
+  public int templateIdByIndex() {
+    int matched = 0;
+    for (String sms : smsTexts) {
+      matched += templateIndex.getTemplateId(sms).length();
+    }
+    return matched;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(Msg91SmsProviderBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
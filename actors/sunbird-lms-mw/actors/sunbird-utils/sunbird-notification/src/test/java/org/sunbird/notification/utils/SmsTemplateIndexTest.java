@@ -0,0 +1,96 @@
+package org.sunbird.notification.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class SmsTemplateIndexTest {
+
+  public static Map<String, String> getTemplates() {
+    Map<String, String> templates = new LinkedHashMap<>();
+    templates.put(
+        "OTP to verify your phone number on $installationName is $otp. This is valid for $otpExpiryInMinutes minutes only.",
+        "1");
+    templates.put(
+        "OTP to reset your password on $installationName is $otp. This is valid for $otpExpiryInMinutes minutes only.",
+        "2");
+    templates.put(
+        "Your ward has requested for registration on $installationName using this phone number. Use OTP $otp to agree and create the account. This is valid for $otpExpiryInMinutes minutes only.",
+        "3");
+    templates.put(
+        "Welcome to $instanceName. Your user account has now been created. Click on the link below to  set a password  and start using your account: $link",
+        "4");
+    templates.put(
+        "VidyaDaan: Your nomination for $content is accepted. Please login to https://vdn.diksha.gov.in to start contributing content.",
+        "7");
+    templates.put("Pay Rs.$amount before $date", "10");
+    templates.put("Hello!+ $name", "11");
+    templates.put("Reminder|Alert for $name", "12");
+    return templates;
+  }
+
+  public static List<String> getSmsTexts() {
+    return Arrays.asList(
+        "OTP to verify your phone number on Sunbird is 456123. This is valid for 30 minutes only.",
+        "OTP to reset your password on Sunbird is 456123. This is valid for 30 minutes only.",
+        "Your ward has requested for registration on Sunbird using this phone number. Use OTP 456123 to agree and create the account. This is valid for 30 minutes only.",
+        "Welcome to Sunbird. Your user account has now been created. Click on the link below to  set a password  and start using your account: https://sunbird.org/r/xyz",
+        "VidyaDaan: Your nomination for Maths Grade 5 is accepted. Please login to https://vdn.diksha.gov.in to start contributing content.",
+        "OTP to verify your phone number on Sunbird is 456123.",
+        "Pay Rs.50 before today",
+        "Pay Rs 50 before today",
+        "Hello!!! Sunbird",
+        "Hello Sunbird",
+        "Reminder",
+        "Alert for Sunbird",
+        "Reminder for Sunbird",
+        "say hai!");
+  }
+
+  /** Template id lookup of Msg91SmsProvider before the templates were compiled once. */
+  public static String getTemplateIdByRegex(Map<String, String> smsTemplateConfig, String sms) {
+    for (String key : smsTemplateConfig.keySet()) {
+      String pattern = key.replaceAll("\\$[^ .]+", ".*?");
+      if (sms.matches(pattern)) {
+        return smsTemplateConfig.get(key);
+      }
+    }
+    return "";
+  }
+
+  @Test
+  public void testTemplateIdSameAsRegexLookup() {
+    Map<String, String> templates = getTemplates();
+    SmsTemplateIndex index = new SmsTemplateIndex(templates);
+    for (String sms : getSmsTexts()) {
+      assertEquals(sms, getTemplateIdByRegex(templates, sms), index.getTemplateId(sms));
+    }
+  }
+
+  @Test
+  public void testTemplateId() {
+    SmsTemplateIndex index = new SmsTemplateIndex(getTemplates());
+    assertEquals(
+        "2",
+        index.getTemplateId(
+            "OTP to reset your password on Sunbird is 456123. This is valid for 30 minutes only."));
+    assertEquals("10", index.getTemplateId("Pay Rs 50 before today"));
+    assertEquals("11", index.getTemplateId("Hello!!! Sunbird"));
+    assertEquals("12", index.getTemplateId("Alert for Sunbird"));
+    assertEquals("", index.getTemplateId("say hai!"));
+  }
+
+  @Test
+  public void testInvalidTemplateSkipped() {
+    Map<String, String> templates = new LinkedHashMap<>();
+    templates.put("Your code is $otp (valid", "1");
+    templates.put("Your code is $otp", "2");
+    SmsTemplateIndex index = new SmsTemplateIndex(templates);
+    assertEquals(1, index.size());
+    assertEquals("2", index.getTemplateId("Your code is 1234"));
+  }
+}
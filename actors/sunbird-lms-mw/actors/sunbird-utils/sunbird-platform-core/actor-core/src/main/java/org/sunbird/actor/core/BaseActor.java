@@ -3,7 +3,9 @@ package org.sunbird.actor.core;
 import akka.actor.ActorRef;
 import akka.actor.ActorSelection;
 import akka.actor.UntypedAbstractActor;
+import akka.pattern.Patterns;
 import akka.util.Timeout;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import org.sunbird.actor.router.BackgroundRequestRouter;
@@ -13,6 +15,7 @@ import org.sunbird.actor.service.SunbirdMWService;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.common.request.Request;
+import org.sunbird.common.request.RequestContext;
 import org.sunbird.common.responsecode.ResponseCode;
 import scala.concurrent.duration.Duration;
 
@@ -70,6 +73,33 @@ public abstract class BaseActor extends UntypedAbstractActor {
     sender().tell(exception, self());
   }
 
+  /**
+   * Sends the outcome of the stage to the sender of the current message once it completes, without
+   * blocking the actor. A failed stage is reported with the exception itself, the same way {@link
+   * #onReceiveException(String, Exception)} reports failures of synchronous operations.
+   *
+   * @param stage Stage completing with the response of the request
+   * @param request Request being processed
+   */
+  protected void pipeToSender(CompletionStage<?> stage, Request request) {
+    String operation = request.getOperation();
+    RequestContext context = request.getRequestContext();
+    CompletionStage<Object> result =
+        stage.handle(
+            (response, error) -> {
+              if (null == error) {
+                return response;
+              }
+              Throwable cause =
+                  (error instanceof CompletionException && null != error.getCause())
+                      ? error.getCause()
+                      : error;
+              logger.error(context, "Error while processing the message : " + operation, cause);
+              return cause;
+            });
+    Patterns.pipe(result, getContext().dispatcher()).to(sender(), self());
+  }
+
   protected ActorRef getActorRef(String operation) {
     int waitTime = 10;
     ActorSelection select = null;
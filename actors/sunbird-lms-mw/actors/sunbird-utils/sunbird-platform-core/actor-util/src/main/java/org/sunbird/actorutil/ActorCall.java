@@ -0,0 +1,142 @@
+package org.sunbird.actorutil;
+
+import akka.actor.ActorRef;
+import akka.pattern.Patterns;
+import akka.util.Timeout;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.responsecode.ResponseCode;
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.duration.Duration;
+
+/**
+ * Asks an actor without blocking the caller. The clients of this module build both their
+ * asynchronous and their blocking methods on the stages returned here, so that the two report
+ * failures the same way.
+ */
+public final class ActorCall {
+  private static LoggerUtil logger = new LoggerUtil(ActorCall.class);
+  private static final Timeout TIMEOUT = new Timeout(Duration.create(10, TimeUnit.SECONDS));
+
+  private ActorCall() {}
+
+  /**
+   * Sends the message to the actor.
+   *
+   * @param actorRef Actor reference
+   * @param message Message to send
+   * @return Stage completing with the reply of the actor, or exceptionally if the message could
+   *     not be sent, the actor fails the ask or does not reply in time
+   */
+  public static CompletionStage<Object> ask(ActorRef actorRef, Object message) {
+    return ask(actorRef, message, TIMEOUT);
+  }
+
+  static CompletionStage<Object> ask(ActorRef actorRef, Object message, Timeout timeout) {
+    try {
+      return FutureConverters.toJava(Patterns.ask(actorRef, message, timeout));
+    } catch (Exception e) {
+      CompletableFuture<Object> failed = new CompletableFuture<>();
+      failed.completeExceptionally(e);
+      return failed;
+    }
+  }
+
+  /**
+   * Sends the message to the actor. A ProjectCommonException failing the ask is passed on as it is,
+   * any other failure is reported as unableToCommunicateWithActor.
+   *
+   * @param actorRef Actor reference
+   * @param message Message to send
+   * @param context
+   * @return Stage completing with the reply of the actor
+   */
+  public static CompletionStage<Object> ask(
+      ActorRef actorRef, Object message, RequestContext context) {
+    return ask(actorRef, message)
+        .exceptionally(
+            error -> {
+              Throwable cause = unwrap(error);
+              if (cause instanceof ProjectCommonException) {
+                throw (ProjectCommonException) cause;
+              }
+              logger.error(
+                  context,
+                  "Unable to communicate with actor: Exception occurred with error message = "
+                      + cause.getMessage(),
+                  cause);
+              ProjectCommonException.throwServerErrorException(
+                  ResponseCode.unableToCommunicateWithActor,
+                  ResponseCode.unableToCommunicateWithActor.getErrorMessage());
+              return null;
+            });
+  }
+
+  /**
+   * Throws the reply of an actor if it is an exception. A ProjectCommonException is thrown as it is,
+   * any other exception is reported as SERVER_ERROR.
+   *
+   * @param reply Reply of the actor
+   */
+  public static void throwIfException(Object reply) {
+    if (reply instanceof ProjectCommonException) {
+      throw (ProjectCommonException) reply;
+    } else if (reply instanceof Exception) {
+      throw serverError();
+    }
+  }
+
+  /** @return ProjectCommonException for SERVER_ERROR */
+  public static ProjectCommonException serverError() {
+    return new ProjectCommonException(
+        ResponseCode.SERVER_ERROR.getErrorCode(),
+        ResponseCode.SERVER_ERROR.getErrorMessage(),
+        ResponseCode.SERVER_ERROR.getResponseCode());
+  }
+
+  /**
+   * Waits for the stage, used by the blocking client methods. The cause of a failed stage is thrown
+   * as it is, so that the blocking methods fail the same way they did before the asynchronous ones
+   * existed.
+   *
+   * @param stage Stage to wait for
+   * @return Result of the stage
+   */
+  public static <T> T join(CompletionStage<T> stage) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    stage.whenComplete(
+        (result, error) -> {
+          if (null == error) {
+            future.complete(result);
+          } else {
+            future.completeExceptionally(error);
+          }
+        });
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      Throwable cause = unwrap(e);
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * @param error Failure of a stage
+   * @return Cause of the failure without the CompletionException wrapping it
+   */
+  public static Throwable unwrap(Throwable error) {
+    Throwable cause = error;
+    while (cause instanceof CompletionException && null != cause.getCause()) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
+}
@@ -2,6 +2,7 @@ package org.sunbird.actorutil.email;
 
 import akka.actor.ActorRef;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.sunbird.common.models.response.Response;
 
 public interface EmailServiceClient {
@@ -13,4 +14,13 @@ public interface EmailServiceClient {
    * @return Response containing email send status
    */
   Response sendMail(ActorRef actorRef, Map<String, Object> request);
+
+  /**
+   * Send mail user from course without blocking the caller.
+   *
+   * @param actorRef Actor reference
+   * @param request Request containing email realted information
+   * @return Stage completing with the response containing email send status
+   */
+  CompletionStage<Response> sendMailAsync(ActorRef actorRef, Map<String, Object> request);
 }
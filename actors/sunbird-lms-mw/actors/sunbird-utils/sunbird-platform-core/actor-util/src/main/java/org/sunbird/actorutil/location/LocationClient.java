@@ -2,6 +2,7 @@ package org.sunbird.actorutil.location;
 
 import akka.actor.ActorRef;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import org.sunbird.common.request.RequestContext;
 import org.sunbird.models.location.Location;
 import org.sunbird.models.location.apirequest.UpsertLocationRequest;
@@ -72,4 +73,79 @@ public interface LocationClient {
    * @return List of related location IDs
    */
   List<String> getRelatedLocationIds(ActorRef actorRef, List<String> codes, RequestContext context);
+
+  /**
+   * @desc Non blocking counterpart of {@link #getLocationsByCodes(ActorRef, List,
+   *     RequestContext)}.
+   * @param actorRef Actor reference.
+   * @param codeList List of location code.
+   * @param context
+   * @return Stage completing with the list of location.
+   */
+  CompletionStage<List<Location>> getLocationsByCodesAsync(
+      ActorRef actorRef, List<String> codeList, RequestContext context);
+
+  /**
+   * @desc Non blocking counterpart of {@link #getLocationByIds(ActorRef, List, RequestContext)}.
+   * @param actorRef Actor reference.
+   * @param idsList List of location id.
+   * @param context
+   * @return Stage completing with the list of location.
+   */
+  CompletionStage<List<Location>> getLocationByIdsAsync(
+      ActorRef actorRef, List<String> idsList, RequestContext context);
+
+  /**
+   * @desc Non blocking counterpart of {@link #getLocationById(ActorRef, String, RequestContext)}.
+   * @param actorRef Actor reference.
+   * @param id Location id.
+   * @param context
+   * @return Stage completing with the location details, or null if not found.
+   */
+  CompletionStage<Location> getLocationByIdAsync(
+      ActorRef actorRef, String id, RequestContext context);
+
+  /**
+   * @desc Non blocking counterpart of {@link #getLocationByCodes(ActorRef, List,
+   *     RequestContext)}.
+   * @param actorRef Actor reference.
+   * @param locationCode List of location code.
+   * @param context
+   * @return Stage completing with the list of location, or null if none is found.
+   */
+  CompletionStage<List<Location>> getLocationByCodesAsync(
+      ActorRef actorRef, List<String> locationCode, RequestContext context);
+
+  /**
+   * @desc Non blocking counterpart of {@link #createLocation(ActorRef, UpsertLocationRequest,
+   *     RequestContext)}.
+   * @param actorRef Actor reference.
+   * @param location Location details.
+   * @param context
+   * @return Stage completing with the location id.
+   */
+  CompletionStage<String> createLocationAsync(
+      ActorRef actorRef, UpsertLocationRequest location, RequestContext context);
+
+  /**
+   * @desc Non blocking counterpart of {@link #updateLocation(ActorRef, UpsertLocationRequest,
+   *     RequestContext)}.
+   * @param actorRef Actor reference.
+   * @param location Location details.
+   * @param context
+   * @return Stage completing once the location is updated.
+   */
+  CompletionStage<Void> updateLocationAsync(
+      ActorRef actorRef, UpsertLocationRequest location, RequestContext context);
+
+  /**
+   * @desc Non blocking counterpart of {@link #getRelatedLocationIds(ActorRef, List,
+   *     RequestContext)}.
+   * @param actorRef Actor reference.
+   * @param codes List of location codes.
+   * @param context
+   * @return Stage completing with the list of related location IDs
+   */
+  CompletionStage<List<String>> getRelatedLocationIdsAsync(
+      ActorRef actorRef, List<String> codes, RequestContext context);
 }
@@ -1,28 +1,22 @@
 package org.sunbird.actorutil.location.impl;
 
 import akka.actor.ActorRef;
-import akka.pattern.Patterns;
-import akka.util.Timeout;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
+import org.sunbird.actorutil.ActorCall;
 import org.sunbird.actorutil.location.LocationClient;
-import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.*;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.request.RequestContext;
-import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.models.location.Location;
 import org.sunbird.models.location.apirequest.UpsertLocationRequest;
-import scala.concurrent.Await;
-import scala.concurrent.Future;
-import scala.concurrent.duration.Duration;
 
 public class LocationClientImpl implements LocationClient {
   private static LoggerUtil logger = new LoggerUtil(LocationClientImpl.class);
@@ -37,18 +31,39 @@ public class LocationClientImpl implements LocationClient {
   @Override
   public List<Location> getLocationsByCodes(
       ActorRef actorRef, List<String> codeList, RequestContext context) {
+    return ActorCall.join(getLocationsByCodesAsync(actorRef, codeList, context));
+  }
+
+  @Override
+  public CompletionStage<List<Location>> getLocationsByCodesAsync(
+      ActorRef actorRef, List<String> codeList, RequestContext context) {
     return getSearchResponse(actorRef, JsonKey.CODE, codeList, context);
   }
 
   @Override
   public List<Location> getLocationByIds(
       ActorRef actorRef, List<String> idsList, RequestContext context) {
+    return ActorCall.join(getLocationByIdsAsync(actorRef, idsList, context));
+  }
+
+  @Override
+  public CompletionStage<List<Location>> getLocationByIdsAsync(
+      ActorRef actorRef, List<String> idsList, RequestContext context) {
     return getSearchResponse(actorRef, JsonKey.ID, idsList, context);
   }
 
   @Override
   public Location getLocationById(ActorRef actorRef, String id, RequestContext context) {
-    List<Location> locationList = getSearchResponse(actorRef, JsonKey.ID, id, context);
+    return ActorCall.join(getLocationByIdAsync(actorRef, id, context));
+  }
+
+  @Override
+  public CompletionStage<Location> getLocationByIdAsync(
+      ActorRef actorRef, String id, RequestContext context) {
+    return getSearchResponse(actorRef, JsonKey.ID, id, context).thenApply(this::getFirst);
+  }
+
+  private Location getFirst(List<Location> locationList) {
     if (CollectionUtils.isNotEmpty(locationList)) {
       return locationList.get(0);
     } else {
@@ -56,9 +71,8 @@ public class LocationClientImpl implements LocationClient {
     }
   }
 
-  private List<Location> getSearchResponse(
+  private CompletionStage<List<Location>> getSearchResponse(
       ActorRef actorRef, String param, Object value, RequestContext context) {
-    List<Location> response = null;
     Map<String, Object> filters = new HashMap<>();
     Map<String, Object> searchRequestMap = new HashMap<>();
     filters.put(param, value);
@@ -67,23 +81,22 @@ public class LocationClientImpl implements LocationClient {
     request.setOperation(LocationActorOperation.SEARCH_LOCATION.getValue());
     request.getRequest().putAll(searchRequestMap);
     logger.info(context, "callSearchLocation ");
-    try {
-      Object obj = actorCall(actorRef, request, context);
-      if (obj instanceof Response) {
-        Response responseObj = (Response) obj;
-        List<Map<String, Object>> responseList =
-            (List<Map<String, Object>>) responseObj.getResult().get(JsonKey.RESPONSE);
-        return responseList
-            .stream()
-            .map(s -> mapper.convertValue(s, Location.class))
-            .collect(Collectors.toList());
-      } else {
-        response = new ArrayList<>();
-      }
-    } catch (Exception ex) {
-      response = new ArrayList<>();
+    return actorCall(actorRef, request, context)
+        .thenApply(this::toLocations)
+        .exceptionally(ex -> new ArrayList<>());
+  }
+
+  private List<Location> toLocations(Object obj) {
+    if (obj instanceof Response) {
+      Response responseObj = (Response) obj;
+      List<Map<String, Object>> responseList =
+          (List<Map<String, Object>>) responseObj.getResult().get(JsonKey.RESPONSE);
+      return responseList
+          .stream()
+          .map(s -> mapper.convertValue(s, Location.class))
+          .collect(Collectors.toList());
     }
-    return response;
+    return new ArrayList<>();
   }
 
   @Override
@@ -91,56 +104,75 @@ public class LocationClientImpl implements LocationClient {
       ActorRef actorRef, String locationCode, RequestContext context) {
     String param = JsonKey.CODE;
     Object value = locationCode;
-    List<Location> locationList = getSearchResponse(actorRef, param, value, context);
-    if (CollectionUtils.isNotEmpty(locationList)) {
-      return locationList.get(0);
-    } else {
-      return null;
-    }
+    return getFirst(ActorCall.join(getSearchResponse(actorRef, param, value, context)));
   }
 
   @Override
   public List<Location> getLocationByCodes(
       ActorRef actorRef, List<String> locationCode, RequestContext context) {
+    return ActorCall.join(getLocationByCodesAsync(actorRef, locationCode, context));
+  }
+
+  @Override
+  public CompletionStage<List<Location>> getLocationByCodesAsync(
+      ActorRef actorRef, List<String> locationCode, RequestContext context) {
     String param = JsonKey.CODE;
     Object value = locationCode;
-    List<Location> locationList = getSearchResponse(actorRef, param, value, context);
-    if (CollectionUtils.isNotEmpty(locationList)) {
-      return locationList;
-    } else {
-      return null;
-    }
+    return getSearchResponse(actorRef, param, value, context)
+        .thenApply(
+            locationList -> CollectionUtils.isNotEmpty(locationList) ? locationList : null);
   }
 
   @Override
   public String createLocation(
       ActorRef actorRef, UpsertLocationRequest location, RequestContext context) {
+    return ActorCall.join(createLocationAsync(actorRef, location, context));
+  }
+
+  @Override
+  public CompletionStage<String> createLocationAsync(
+      ActorRef actorRef, UpsertLocationRequest location, RequestContext context) {
     Request request = new Request();
-    String locationId = null;
     request.getRequest().putAll(mapper.convertValue(location, Map.class));
     request.setOperation(LocationActorOperation.CREATE_LOCATION.getValue());
     logger.info(context, "callCreateLocation ");
-    Object obj = actorCall(actorRef, request, context);
-    if (obj instanceof Response) {
-      Response response = (Response) obj;
-      locationId = (String) response.get(JsonKey.ID);
-    }
-    return locationId;
+    return actorCall(actorRef, request, context)
+        .thenApply(
+            obj -> {
+              String locationId = null;
+              if (obj instanceof Response) {
+                Response response = (Response) obj;
+                locationId = (String) response.get(JsonKey.ID);
+              }
+              return locationId;
+            });
   }
 
   @Override
   public void updateLocation(
       ActorRef actorRef, UpsertLocationRequest location, RequestContext context) {
+    ActorCall.join(updateLocationAsync(actorRef, location, context));
+  }
+
+  @Override
+  public CompletionStage<Void> updateLocationAsync(
+      ActorRef actorRef, UpsertLocationRequest location, RequestContext context) {
     Request request = new Request();
     request.getRequest().putAll(mapper.convertValue(location, Map.class));
     request.setOperation(LocationActorOperation.UPDATE_LOCATION.getValue());
     logger.info(context, "callUpdateLocation ");
-    Object obj = actorCall(actorRef, request, context);
+    return actorCall(actorRef, request, context).thenAccept(obj -> {});
   }
 
   @Override
   public List<String> getRelatedLocationIds(
       ActorRef actorRef, List<String> codes, RequestContext context) {
+    return ActorCall.join(getRelatedLocationIdsAsync(actorRef, codes, context));
+  }
+
+  @Override
+  public CompletionStage<List<String>> getRelatedLocationIdsAsync(
+      ActorRef actorRef, List<String> codes, RequestContext context) {
     Map<String, Object> requestMap = new HashMap<>();
     requestMap.put(JsonKey.LOCATION_CODES, codes);
 
@@ -149,8 +181,10 @@ public class LocationClientImpl implements LocationClient {
     request.getRequest().putAll(requestMap);
 
     logger.info(context, "getRelatedLocationIds called");
-    Object obj = actorCall(actorRef, request, context);
+    return actorCall(actorRef, request, context).thenApply(this::toRelatedLocationIds);
+  }
 
+  private List<String> toRelatedLocationIds(Object obj) {
     if (obj instanceof Response) {
       Response responseObj = (Response) obj;
       List<String> responseList = (List<String>) responseObj.getResult().get(JsonKey.RESPONSE);
@@ -160,36 +194,13 @@ public class LocationClientImpl implements LocationClient {
     return new ArrayList<>();
   }
 
-  private Object actorCall(ActorRef actorRef, Request request, RequestContext context) {
-    Object obj = null;
-    try {
-      Timeout t = new Timeout(Duration.create(10, TimeUnit.SECONDS));
-      Future<Object> future = Patterns.ask(actorRef, request, t);
-      obj = Await.result(future, t.duration());
-    } catch (ProjectCommonException pce) {
-      throw pce;
-    } catch (Exception e) {
-      logger.error(
-          context,
-          "Unable to communicate with actor: Exception occurred with error message = "
-              + e.getMessage(),
-          e);
-      ProjectCommonException.throwServerErrorException(
-          ResponseCode.unableToCommunicateWithActor,
-          ResponseCode.unableToCommunicateWithActor.getErrorMessage());
-    }
-    checkLocationResponseForException(obj);
-    return obj;
-  }
-
-  private void checkLocationResponseForException(Object obj) {
-    if (obj instanceof ProjectCommonException) {
-      throw (ProjectCommonException) obj;
-    } else if (obj instanceof Exception) {
-      throw new ProjectCommonException(
-          ResponseCode.SERVER_ERROR.getErrorCode(),
-          ResponseCode.SERVER_ERROR.getErrorMessage(),
-          ResponseCode.SERVER_ERROR.getResponseCode());
-    }
+  private CompletionStage<Object> actorCall(
+      ActorRef actorRef, Request request, RequestContext context) {
+    return ActorCall.ask(actorRef, request, context)
+        .thenApply(
+            obj -> {
+              ActorCall.throwIfException(obj);
+              return obj;
+            });
   }
 }
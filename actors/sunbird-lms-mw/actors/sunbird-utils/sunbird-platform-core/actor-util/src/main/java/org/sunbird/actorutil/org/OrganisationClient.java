@@ -3,6 +3,7 @@ package org.sunbird.actorutil.org;
 import akka.actor.ActorRef;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.sunbird.common.request.RequestContext;
 import org.sunbird.models.organisation.Organisation;
 
@@ -27,6 +28,28 @@ public interface OrganisationClient {
    */
   void updateOrg(ActorRef actorRef, Map<String, Object> orgMap, RequestContext context);
 
+  /**
+   * Create organisation without blocking the caller.
+   *
+   * @param actorRef Actor reference
+   * @param orgMap Organisation details
+   * @param context
+   * @return Stage completing with the organisation ID
+   */
+  CompletionStage<String> createOrgAsync(
+      ActorRef actorRef, Map<String, Object> orgMap, RequestContext context);
+
+  /**
+   * Update organisation details without blocking the caller.
+   *
+   * @param actorRef Actor reference
+   * @param orgMap Organisation details
+   * @param context
+   * @return Stage completing once the organisation is updated
+   */
+  CompletionStage<Void> updateOrgAsync(
+      ActorRef actorRef, Map<String, Object> orgMap, RequestContext context);
+
   /**
    * Get details of organisation for given ID.
    *
@@ -37,6 +60,17 @@ public interface OrganisationClient {
    */
   Organisation getOrgById(ActorRef actorRef, String orgId, RequestContext context);
 
+  /**
+   * Get details of organisation for given ID without blocking the caller.
+   *
+   * @param actorRef Actor reference
+   * @param orgId Organisation ID
+   * @param context
+   * @return Stage completing with the organisation details
+   */
+  CompletionStage<Organisation> getOrgByIdAsync(
+      ActorRef actorRef, String orgId, RequestContext context);
+
   /**
    * Get details of organisation for given external ID and provider.
    *
@@ -56,6 +90,15 @@ public interface OrganisationClient {
    */
   Organisation esGetOrgById(String orgId, RequestContext context);
 
+  /**
+   * Get details of organisation for given ID without blocking the caller.
+   *
+   * @param orgId Organisation ID
+   * @param context
+   * @return Stage completing with the organisation details, or null if not found
+   */
+  CompletionStage<Organisation> esGetOrgByIdAsync(String orgId, RequestContext context);
+
   /**
    * Search organisations using specified filter.
    *
@@ -65,6 +108,16 @@ public interface OrganisationClient {
    */
   List<Organisation> esSearchOrgByFilter(Map<String, Object> filter, RequestContext context);
 
+  /**
+   * Search organisations using specified filter without blocking the caller.
+   *
+   * @param filter Filter criteria for organisation search
+   * @param context
+   * @return Stage completing with the list of organisations
+   */
+  CompletionStage<List<Organisation>> esSearchOrgByFilterAsync(
+      Map<String, Object> filter, RequestContext context);
+
   /**
    * Search organisations by IDs.
    *
@@ -75,4 +128,15 @@ public interface OrganisationClient {
    */
   List<Organisation> esSearchOrgByIds(
       List<String> orgIds, List<String> outputColumns, RequestContext context);
+
+  /**
+   * Search organisations by IDs without blocking the caller.
+   *
+   * @param orgIds List of org IDs
+   * @param outputColumns List of attributes required in each organisation search result
+   * @param context
+   * @return Stage completing with the list of organisations found
+   */
+  CompletionStage<List<Organisation>> esSearchOrgByIdsAsync(
+      List<String> orgIds, List<String> outputColumns, RequestContext context);
 }
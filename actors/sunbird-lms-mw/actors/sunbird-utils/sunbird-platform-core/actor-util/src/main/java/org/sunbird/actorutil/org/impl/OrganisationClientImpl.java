@@ -1,33 +1,29 @@
 package org.sunbird.actorutil.org.impl;
 
 import akka.actor.ActorRef;
-import akka.pattern.Patterns;
-import akka.util.Timeout;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionStage;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actorutil.ActorCall;
 import org.sunbird.actorutil.org.OrganisationClient;
+import org.sunbird.common.ElasticSearchFutures;
 import org.sunbird.common.ElasticSearchHelper;
-import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.*;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.request.RequestContext;
-import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.dto.SearchDTO;
 import org.sunbird.models.organisation.Organisation;
-import scala.concurrent.Await;
 import scala.concurrent.Future;
-import scala.concurrent.duration.Duration;
 
 public class OrganisationClientImpl implements OrganisationClient {
 
@@ -50,57 +46,58 @@ public class OrganisationClientImpl implements OrganisationClient {
 
   @Override
   public String createOrg(ActorRef actorRef, Map<String, Object> orgMap, RequestContext context) {
+    return ActorCall.join(createOrgAsync(actorRef, orgMap, context));
+  }
+
+  @Override
+  public void updateOrg(ActorRef actorRef, Map<String, Object> orgMap, RequestContext context) {
+    ActorCall.join(updateOrgAsync(actorRef, orgMap, context));
+  }
+
+  @Override
+  public CompletionStage<String> createOrgAsync(
+      ActorRef actorRef, Map<String, Object> orgMap, RequestContext context) {
     logger.info(context, "createOrg called");
     return upsertOrg(actorRef, orgMap, ActorOperations.CREATE_ORG.getValue(), context);
   }
 
   @Override
-  public void updateOrg(ActorRef actorRef, Map<String, Object> orgMap, RequestContext context) {
+  public CompletionStage<Void> updateOrgAsync(
+      ActorRef actorRef, Map<String, Object> orgMap, RequestContext context) {
     logger.info(context, "updateOrg called");
-    upsertOrg(actorRef, orgMap, ActorOperations.UPDATE_ORG.getValue(), context);
+    return upsertOrg(actorRef, orgMap, ActorOperations.UPDATE_ORG.getValue(), context)
+        .thenAccept(orgId -> {});
   }
 
-  private String upsertOrg(
+  private CompletionStage<String> upsertOrg(
       ActorRef actorRef, Map<String, Object> orgMap, String operation, RequestContext context) {
-    String orgId = null;
-    Object obj = null;
-
     Request request = new Request();
     request.setRequestContext(context);
     request.setRequest(orgMap);
     request.setOperation(operation);
     request.getContext().put(JsonKey.CALLER_ID, JsonKey.BULK_ORG_UPLOAD);
-    try {
-      Timeout t = new Timeout(Duration.create(10, TimeUnit.SECONDS));
-      Future<Object> future = Patterns.ask(actorRef, request, t);
-      obj = Await.result(future, t.duration());
-    } catch (ProjectCommonException pce) {
-      throw pce;
-    } catch (Exception e) {
-      logger.error(
-          context, "upsertOrg: Exception occurred with error message = " + e.getMessage(), e);
-      ProjectCommonException.throwServerErrorException(
-          ResponseCode.unableToCommunicateWithActor,
-          ResponseCode.unableToCommunicateWithActor.getErrorMessage());
-    }
-    if (obj instanceof Response) {
-      Response response = (Response) obj;
-      orgId = (String) response.get(JsonKey.ORGANISATION_ID);
-    } else if (obj instanceof ProjectCommonException) {
-      throw (ProjectCommonException) obj;
-    } else if (obj instanceof Exception) {
-      throw new ProjectCommonException(
-          ResponseCode.SERVER_ERROR.getErrorCode(),
-          ResponseCode.SERVER_ERROR.getErrorMessage(),
-          ResponseCode.SERVER_ERROR.getResponseCode());
-    }
-    return orgId;
+    return ActorCall.ask(actorRef, request, context)
+        .thenApply(
+            obj -> {
+              ActorCall.throwIfException(obj);
+              String orgId = null;
+              if (obj instanceof Response) {
+                Response response = (Response) obj;
+                orgId = (String) response.get(JsonKey.ORGANISATION_ID);
+              }
+              return orgId;
+            });
   }
 
   @Override
   public Organisation getOrgById(ActorRef actorRef, String orgId, RequestContext context) {
+    return ActorCall.join(getOrgByIdAsync(actorRef, orgId, context));
+  }
+
+  @Override
+  public CompletionStage<Organisation> getOrgByIdAsync(
+      ActorRef actorRef, String orgId, RequestContext context) {
     logger.info(context, "getOrgById called");
-    Organisation organisation = null;
 
     Request request = new Request();
     request.setRequestContext(context);
@@ -108,37 +105,21 @@ public class OrganisationClientImpl implements OrganisationClient {
     requestMap.put(JsonKey.ORGANISATION_ID, orgId);
     request.setRequest(requestMap);
     request.setOperation(ActorOperations.GET_ORG_DETAILS.getValue());
-    Object obj = null;
-    try {
-      Timeout t = new Timeout(Duration.create(10, TimeUnit.SECONDS));
-      Future<Object> future = Patterns.ask(actorRef, request, t);
-      obj = Await.result(future, t.duration());
-    } catch (ProjectCommonException pce) {
-      throw pce;
-    } catch (Exception e) {
-      logger.error(
-          context, "getOrgById: Exception occurred with error message = " + e.getMessage(), e);
-      ProjectCommonException.throwServerErrorException(
-          ResponseCode.unableToCommunicateWithActor,
-          ResponseCode.unableToCommunicateWithActor.getErrorMessage());
-    }
-    if (obj instanceof Response) {
-      ObjectMapper objectMapper = new ObjectMapper();
-      Response response = (Response) obj;
-
-      // Convert contact details (received from ES) format from map to
-      // JSON string (as in Cassandra contact details are stored as text)
-      Map<String, Object> map = (Map) response.get(JsonKey.RESPONSE);
-      organisation = objectMapper.convertValue(map, Organisation.class);
-    } else if (obj instanceof ProjectCommonException) {
-      throw (ProjectCommonException) obj;
-    } else if (obj instanceof Exception) {
-      throw new ProjectCommonException(
-          ResponseCode.SERVER_ERROR.getErrorCode(),
-          ResponseCode.SERVER_ERROR.getErrorMessage(),
-          ResponseCode.SERVER_ERROR.getResponseCode());
-    }
-    return organisation;
+    return ActorCall.ask(actorRef, request, context)
+        .thenApply(
+            obj -> {
+              ActorCall.throwIfException(obj);
+              Organisation organisation = null;
+              if (obj instanceof Response) {
+                Response response = (Response) obj;
+
+                // Convert contact details (received from ES) format from map to
+                // JSON string (as in Cassandra contact details are stored as text)
+                Map<String, Object> map = (Map) response.get(JsonKey.RESPONSE);
+                organisation = objectMapper.convertValue(map, Organisation.class);
+              }
+              return organisation;
+            });
   }
 
   @Override
@@ -180,6 +161,14 @@ public class OrganisationClientImpl implements OrganisationClient {
     }
   }
 
+  @Override
+  public CompletionStage<Organisation> esGetOrgByIdAsync(String id, RequestContext context) {
+    return ElasticSearchFutures.toCompletionStage(
+            esUtil.getDataByIdentifier(ProjectUtil.EsType.organisation.getTypeName(), id, context))
+        .thenApply(
+            map -> MapUtils.isEmpty(map) ? null : objectMapper.convertValue(map, Organisation.class));
+  }
+
   @Override
   public List<Organisation> esSearchOrgByFilter(
       Map<String, Object> filter, RequestContext context) {
@@ -188,17 +177,32 @@ public class OrganisationClientImpl implements OrganisationClient {
     return searchOrganisation(searchDto, context);
   }
 
+  @Override
+  public CompletionStage<List<Organisation>> esSearchOrgByFilterAsync(
+      Map<String, Object> filter, RequestContext context) {
+    SearchDTO searchDto = new SearchDTO();
+    searchDto.getAdditionalProperties().put(JsonKey.FILTERS, filter);
+    logger.info(context, "search org async.");
+    return ElasticSearchFutures.toCompletionStage(
+            esUtil.search(searchDto, ProjectUtil.EsType.organisation.getTypeName(), context))
+        .thenApply(this::toOrganisations);
+  }
+
   @SuppressWarnings("unchecked")
   private List<Organisation> searchOrganisation(SearchDTO searchDto, RequestContext context) {
-    List<Organisation> orgList = new ArrayList<>();
     logger.info(context, "search org.");
     Future<Map<String, Object>> resultF =
         esUtil.search(searchDto, ProjectUtil.EsType.organisation.getTypeName(), context);
     Map<String, Object> result =
         (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
+    return toOrganisations(result);
+  }
 
+  @SuppressWarnings("unchecked")
+  private List<Organisation> toOrganisations(Map<String, Object> result) {
     List<Map<String, Object>> orgMapList = (List<Map<String, Object>>) result.get(JsonKey.CONTENT);
     if (CollectionUtils.isNotEmpty(orgMapList)) {
+      List<Organisation> orgList = new ArrayList<>();
       for (Map<String, Object> orgMap : orgMapList) {
         orgList.add(objectMapper.convertValue(orgMap, Organisation.class));
       }
@@ -211,15 +215,25 @@ public class OrganisationClientImpl implements OrganisationClient {
   @Override
   public List<Organisation> esSearchOrgByIds(
       List<String> orgIds, List<String> outputColumns, RequestContext context) {
-    SearchDTO searchDTO = new SearchDTO();
+    return searchOrganisation(createSearchByIdsDto(orgIds, outputColumns), context);
+  }
 
-    searchDTO.setFields(outputColumns);
+  @Override
+  public CompletionStage<List<Organisation>> esSearchOrgByIdsAsync(
+      List<String> orgIds, List<String> outputColumns, RequestContext context) {
+    SearchDTO searchDTO = createSearchByIdsDto(orgIds, outputColumns);
+    logger.info(context, "search org async.");
+    return ElasticSearchFutures.toCompletionStage(
+            esUtil.search(searchDTO, ProjectUtil.EsType.organisation.getTypeName(), context))
+        .thenApply(this::toOrganisations);
+  }
 
+  private SearchDTO createSearchByIdsDto(List<String> orgIds, List<String> outputColumns) {
+    SearchDTO searchDTO = new SearchDTO();
+    searchDTO.setFields(outputColumns);
     Map<String, Object> filters = new HashMap<>();
     filters.put(JsonKey.ID, orgIds);
-
     searchDTO.getAdditionalProperties().put(JsonKey.FILTERS, filters);
-
-    return searchOrganisation(searchDTO, context);
+    return searchDTO;
   }
 }
@@ -2,6 +2,7 @@ package org.sunbird.actorutil.systemsettings;
 
 import akka.actor.ActorRef;
 import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.concurrent.CompletionStage;
 import org.sunbird.common.request.RequestContext;
 import org.sunbird.models.systemsetting.SystemSetting;
 
@@ -38,4 +39,34 @@ public interface SystemSettingClient {
       String key,
       TypeReference typeReference,
       RequestContext context);
+
+  /**
+   * Get system setting information for given field (setting) name without blocking the caller.
+   *
+   * @param actorRef Actor reference
+   * @param field System setting field name
+   * @param context
+   * @return Stage completing with the system setting details
+   */
+  CompletionStage<SystemSetting> getSystemSettingByFieldAsync(
+      ActorRef actorRef, String field, RequestContext context);
+
+  /**
+   * Get system setting information for given field (setting) and key name without blocking the
+   * caller.
+   *
+   * @param actorRef Actor reference
+   * @param field System setting field name
+   * @param key Key (e.g. csv.mandatoryColumns) within system setting information
+   * @param typeReference Type reference for value corresponding to specified key
+   * @param context
+   * @return Stage completing with the system setting value corresponding to given field and key
+   *     name
+   */
+  <T> CompletionStage<T> getSystemSettingByFieldAndKeyAsync(
+      ActorRef actorRef,
+      String field,
+      String key,
+      TypeReference typeReference,
+      RequestContext context);
 }
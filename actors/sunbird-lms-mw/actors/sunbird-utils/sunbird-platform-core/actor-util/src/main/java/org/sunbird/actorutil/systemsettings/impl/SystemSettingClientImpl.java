@@ -1,24 +1,19 @@
 package org.sunbird.actorutil.systemsettings.impl;
 
 import akka.actor.ActorRef;
-import akka.pattern.Patterns;
-import akka.util.Timeout;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionStage;
+import org.sunbird.actorutil.ActorCall;
 import org.sunbird.actorutil.systemsettings.SystemSettingClient;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.models.util.*;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.request.RequestContext;
-import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.models.systemsetting.SystemSetting;
-import scala.concurrent.Await;
-import scala.concurrent.Future;
-import scala.concurrent.duration.Duration;
 
 public class SystemSettingClientImpl implements SystemSettingClient {
   private static LoggerUtil logger = new LoggerUtil(SystemSettingClientImpl.class);
@@ -34,9 +29,7 @@ public class SystemSettingClientImpl implements SystemSettingClient {
   @Override
   public SystemSetting getSystemSettingByField(
       ActorRef actorRef, String field, RequestContext context) {
-    logger.info(context, "SystemSettingClientImpl:getSystemSettingByField: field is " + field);
-    SystemSetting systemSetting = getSystemSetting(actorRef, JsonKey.FIELD, field, context);
-    return systemSetting;
+    return ActorCall.join(getSystemSettingByFieldAsync(actorRef, field, context));
   }
 
   @Override
@@ -46,7 +39,30 @@ public class SystemSettingClientImpl implements SystemSettingClient {
       String key,
       TypeReference typeReference,
       RequestContext context) {
-    SystemSetting systemSetting = getSystemSettingByField(actorRef, field, context);
+    return ActorCall.join(
+        getSystemSettingByFieldAndKeyAsync(actorRef, field, key, typeReference, context));
+  }
+
+  @Override
+  public CompletionStage<SystemSetting> getSystemSettingByFieldAsync(
+      ActorRef actorRef, String field, RequestContext context) {
+    logger.info(context, "SystemSettingClientImpl:getSystemSettingByField: field is " + field);
+    return getSystemSetting(actorRef, JsonKey.FIELD, field, context);
+  }
+
+  @Override
+  public <T> CompletionStage<T> getSystemSettingByFieldAndKeyAsync(
+      ActorRef actorRef,
+      String field,
+      String key,
+      TypeReference typeReference,
+      RequestContext context) {
+    return getSystemSettingByFieldAsync(actorRef, field, context)
+        .thenApply(systemSetting -> getValue(systemSetting, key, typeReference, context));
+  }
+
+  private <T> T getValue(
+      SystemSetting systemSetting, String key, TypeReference typeReference, RequestContext context) {
     ObjectMapper objectMapper = new ObjectMapper();
     if (systemSetting != null) {
       try {
@@ -68,7 +84,7 @@ public class SystemSettingClientImpl implements SystemSettingClient {
     return null;
   }
 
-  private SystemSetting getSystemSetting(
+  private CompletionStage<SystemSetting> getSystemSetting(
       ActorRef actorRef, String param, Object value, RequestContext context) {
     Request request = new Request();
     request.setRequestContext(context);
@@ -76,32 +92,17 @@ public class SystemSettingClientImpl implements SystemSettingClient {
     map.put(param, value);
     request.setContext(map);
     request.setOperation(ActorOperations.GET_SYSTEM_SETTING.getValue());
-    Object obj = null;
-    try {
-      Timeout t = new Timeout(Duration.create(10, TimeUnit.SECONDS));
-      Future<Object> future = Patterns.ask(actorRef, request, t);
-      obj = Await.result(future, t.duration());
-    } catch (ProjectCommonException pce) {
-      throw pce;
-    } catch (Exception e) {
-      logger.error(
-          context,
-          "getSystemSetting: Exception occurred with error message = " + e.getMessage(),
-          e);
-      ProjectCommonException.throwServerErrorException(
-          ResponseCode.unableToCommunicateWithActor,
-          ResponseCode.unableToCommunicateWithActor.getErrorMessage());
-    }
+    return ActorCall.ask(actorRef, request, context).thenApply(this::toSystemSetting);
+  }
+
+  private SystemSetting toSystemSetting(Object obj) {
     if (obj instanceof Response) {
       Response responseObj = (Response) obj;
       return (SystemSetting) responseObj.getResult().get(JsonKey.RESPONSE);
     } else if (obj instanceof ProjectCommonException) {
       throw (ProjectCommonException) obj;
     } else {
-      throw new ProjectCommonException(
-          ResponseCode.SERVER_ERROR.getErrorCode(),
-          ResponseCode.SERVER_ERROR.getErrorMessage(),
-          ResponseCode.SERVER_ERROR.getResponseCode());
+      throw ActorCall.serverError();
     }
   }
 }
@@ -2,6 +2,7 @@ package org.sunbird.actorutil.user;
 
 import akka.actor.ActorRef;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.request.RequestContext;
 
@@ -26,6 +27,28 @@ public interface UserClient {
    */
   void updateUser(ActorRef actorRef, Map<String, Object> userMap, RequestContext context);
 
+  /**
+   * Create user without blocking the caller.
+   *
+   * @param actorRef Actor reference
+   * @param userMap User details
+   * @param context
+   * @return Stage completing with the user ID
+   */
+  CompletionStage<String> createUserAsync(
+      ActorRef actorRef, Map<String, Object> userMap, RequestContext context);
+
+  /**
+   * Update user details without blocking the caller.
+   *
+   * @param actorRef Actor reference
+   * @param userMap User details
+   * @param context
+   * @return Stage completing once the user is updated
+   */
+  CompletionStage<Void> updateUserAsync(
+      ActorRef actorRef, Map<String, Object> userMap, RequestContext context);
+
   /**
    * Verify phone uniqueness across all users in the system.
    *
@@ -48,4 +71,15 @@ public interface UserClient {
    * @param context
    */
   Map<String, Object> searchManagedUser(ActorRef actorRef, Request req, RequestContext context);
+
+  /**
+   * Search user details without blocking the caller.
+   *
+   * @param actorRef Actor reference
+   * @param req Search req
+   * @param context
+   * @return Stage completing with the search result
+   */
+  CompletionStage<Map<String, Object>> searchManagedUserAsync(
+      ActorRef actorRef, Request req, RequestContext context);
 }
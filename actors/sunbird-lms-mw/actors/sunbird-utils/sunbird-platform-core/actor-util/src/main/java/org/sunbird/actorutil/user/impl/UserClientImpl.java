@@ -1,16 +1,15 @@
 package org.sunbird.actorutil.user.impl;
 
 import akka.actor.ActorRef;
-import akka.pattern.Patterns;
-import akka.util.Timeout;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionStage;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
+import org.sunbird.actorutil.ActorCall;
 import org.sunbird.actorutil.user.UserClient;
 import org.sunbird.common.ElasticSearchHelper;
 import org.sunbird.common.exception.ProjectCommonException;
@@ -22,9 +21,7 @@ import org.sunbird.common.request.Request;
 import org.sunbird.common.request.RequestContext;
 import org.sunbird.common.responsecode.ResponseCode;
 import org.sunbird.dto.SearchDTO;
-import scala.concurrent.Await;
 import scala.concurrent.Future;
-import scala.concurrent.duration.Duration;
 
 public class UserClientImpl implements UserClient {
 
@@ -34,14 +31,27 @@ public class UserClientImpl implements UserClient {
 
   @Override
   public String createUser(ActorRef actorRef, Map<String, Object> userMap, RequestContext context) {
+    return ActorCall.join(createUserAsync(actorRef, userMap, context));
+  }
+
+  @Override
+  public void updateUser(ActorRef actorRef, Map<String, Object> userMap, RequestContext context) {
+    ActorCall.join(updateUserAsync(actorRef, userMap, context));
+  }
+
+  @Override
+  public CompletionStage<String> createUserAsync(
+      ActorRef actorRef, Map<String, Object> userMap, RequestContext context) {
     logger.info(context, "createUser called");
     return upsertUser(actorRef, userMap, ActorOperations.CREATE_USER.getValue(), context);
   }
 
   @Override
-  public void updateUser(ActorRef actorRef, Map<String, Object> userMap, RequestContext context) {
+  public CompletionStage<Void> updateUserAsync(
+      ActorRef actorRef, Map<String, Object> userMap, RequestContext context) {
     logger.info(context, "updateUser called");
-    upsertUser(actorRef, userMap, ActorOperations.UPDATE_USER.getValue(), context);
+    return upsertUser(actorRef, userMap, ActorOperations.UPDATE_USER.getValue(), context)
+        .thenAccept(userId -> {});
   }
 
   @Override
@@ -93,11 +103,8 @@ public class UserClientImpl implements UserClient {
     }
   }
 
-  private String upsertUser(
+  private CompletionStage<String> upsertUser(
       ActorRef actorRef, Map<String, Object> userMap, String operation, RequestContext context) {
-    String userId = null;
-    Object obj = null;
-
     Request request = new Request();
     request.setRequest(userMap);
     request.setRequestContext(context);
@@ -107,32 +114,33 @@ public class UserClientImpl implements UserClient {
     request.getContext().put(JsonKey.ROOT_ORG_ID, userMap.get(JsonKey.ROOT_ORG_ID));
     userMap.remove(JsonKey.ROOT_ORG_ID);
 
-    try {
-      Timeout t = new Timeout(Duration.create(10, TimeUnit.SECONDS));
-      Future<Object> future = Patterns.ask(actorRef, request, t);
-      obj = Await.result(future, t.duration());
-    } catch (ProjectCommonException pce) {
-      throw pce;
-    } catch (Exception e) {
-      logger.error(
-          context, "upsertUser: Exception occurred with error message = " + e.getMessage(), e);
-      throw new ProjectCommonException(
-          ResponseCode.SERVER_ERROR.getErrorCode(),
-          ResponseCode.SERVER_ERROR.getErrorMessage(),
-          ResponseCode.SERVER_ERROR.getResponseCode());
-    }
-    if (obj instanceof Response) {
-      Response response = (Response) obj;
-      userId = (String) response.get(JsonKey.USER_ID);
-    } else if (obj instanceof ProjectCommonException) {
-      throw (ProjectCommonException) obj;
-    } else if (obj instanceof Exception) {
-      ProjectCommonException.throwServerErrorException(
-          ResponseCode.unableToCommunicateWithActor,
-          ResponseCode.unableToCommunicateWithActor.getErrorMessage());
-    }
-
-    return userId;
+    return ActorCall.ask(actorRef, request)
+        .handle(
+            (obj, error) -> {
+              if (null != error) {
+                Throwable cause = ActorCall.unwrap(error);
+                if (cause instanceof ProjectCommonException) {
+                  throw (ProjectCommonException) cause;
+                }
+                logger.error(
+                    context,
+                    "upsertUser: Exception occurred with error message = " + cause.getMessage(),
+                    cause);
+                throw ActorCall.serverError();
+              }
+              String userId = null;
+              if (obj instanceof Response) {
+                Response response = (Response) obj;
+                userId = (String) response.get(JsonKey.USER_ID);
+              } else if (obj instanceof ProjectCommonException) {
+                throw (ProjectCommonException) obj;
+              } else if (obj instanceof Exception) {
+                ProjectCommonException.throwServerErrorException(
+                    ResponseCode.unableToCommunicateWithActor,
+                    ResponseCode.unableToCommunicateWithActor.getErrorMessage());
+              }
+              return userId;
+            });
   }
 
   /**
@@ -145,6 +153,12 @@ public class UserClientImpl implements UserClient {
    */
   public Map<String, Object> searchManagedUser(
       ActorRef actorRef, Request req, RequestContext context) {
+    return ActorCall.join(searchManagedUserAsync(actorRef, req, context));
+  }
+
+  @Override
+  public CompletionStage<Map<String, Object>> searchManagedUserAsync(
+      ActorRef actorRef, Request req, RequestContext context) {
     logger.debug(context, "UserServiceImpl: searchManagedUser called");
 
     Map<String, Object> searchRequestMap = new HashMap<>();
@@ -168,31 +182,17 @@ public class UserClientImpl implements UserClient {
     request.getRequest().putAll(searchRequestMap);
     request.setOperation(ActorOperations.USER_SEARCH.getValue());
 
-    Object obj = null;
-    try {
-      Timeout t = new Timeout(Duration.create(10, TimeUnit.SECONDS));
-      obj = Await.result(Patterns.ask(actorRef, request, t), t.duration());
-    } catch (ProjectCommonException pce) {
-      throw pce;
-    } catch (Exception e) {
-      logger.error(
-          context,
-          "searchManagedUser: Exception occurred with error message = " + e.getMessage(),
-          e);
-      ProjectCommonException.throwServerErrorException(
-          ResponseCode.unableToCommunicateWithActor,
-          ResponseCode.unableToCommunicateWithActor.getErrorMessage());
-    }
+    return ActorCall.ask(actorRef, request, context).thenApply(this::toSearchResult);
+  }
+
+  private Map<String, Object> toSearchResult(Object obj) {
     if (obj instanceof Response) {
       Response responseObj = (Response) obj;
       return (Map<String, Object>) responseObj.getResult().get(JsonKey.RESPONSE);
     } else if (obj instanceof ProjectCommonException) {
       throw (ProjectCommonException) obj;
     } else {
-      throw new ProjectCommonException(
-          ResponseCode.SERVER_ERROR.getErrorCode(),
-          ResponseCode.SERVER_ERROR.getErrorMessage(),
-          ResponseCode.SERVER_ERROR.getResponseCode());
+      throw ActorCall.serverError();
     }
   }
 }
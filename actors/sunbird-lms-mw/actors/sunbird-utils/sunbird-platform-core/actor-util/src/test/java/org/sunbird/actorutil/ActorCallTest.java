@@ -0,0 +1,135 @@
+package org.sunbird.actorutil;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Status;
+import akka.pattern.AskTimeoutException;
+import akka.testkit.javadsl.TestKit;
+import akka.util.Timeout;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.responsecode.ResponseCode;
+import scala.concurrent.duration.Duration;
+
+public class ActorCallTest {
+
+  private static ActorSystem system;
+
+  @BeforeClass
+  public static void setUp() {
+    system = ActorSystem.create("ActorCallTest");
+  }
+
+  @AfterClass
+  public static void tearDown() {
+    TestKit.shutdownActorSystem(system);
+  }
+
+  @Test
+  public void testAskCompletesWithReply() throws Exception {
+    Response response = new Response();
+    ActorRef actorRef = system.actorOf(ReplyActor.props(response));
+
+    Object reply =
+        ActorCall.ask(actorRef, "message", new RequestContext())
+            .toCompletableFuture()
+            .get(10, TimeUnit.SECONDS);
+
+    assertSame(response, reply);
+  }
+
+  @Test
+  public void testAskPassesOnProjectCommonException() {
+    ProjectCommonException exception =
+        new ProjectCommonException(
+            ResponseCode.invalidRequestData.getErrorCode(),
+            ResponseCode.invalidRequestData.getErrorMessage(),
+            ResponseCode.CLIENT_ERROR.getResponseCode());
+    ActorRef actorRef = system.actorOf(ReplyActor.props(new Status.Failure(exception)));
+
+    assertSame(exception, getFailure(ActorCall.ask(actorRef, "message", new RequestContext())));
+  }
+
+  @Test
+  public void testAskReportsOtherFailureAsUnableToCommunicate() {
+    ActorRef actorRef =
+        system.actorOf(ReplyActor.props(new Status.Failure(new IllegalStateException())));
+
+    Throwable error = getFailure(ActorCall.ask(actorRef, "message", new RequestContext()));
+
+    assertEquals(
+        ResponseCode.unableToCommunicateWithActor.getErrorCode(),
+        ((ProjectCommonException) error).getCode());
+  }
+
+  @Test
+  public void testAskFailsWhenActorDoesNotReplyInTime() {
+    ActorRef actorRef = system.actorOf(ReplyActor.silent());
+
+    Throwable error =
+        getFailure(
+            ActorCall.ask(
+                actorRef, "message", new Timeout(Duration.create(100, TimeUnit.MILLISECONDS))));
+
+    assertTrue(error instanceof AskTimeoutException);
+  }
+
+  @Test
+  public void testAskFailsWhenActorIsMissing() {
+    Throwable error = getFailure(ActorCall.ask(null, "message", new RequestContext()));
+
+    assertEquals(
+        ResponseCode.unableToCommunicateWithActor.getErrorCode(),
+        ((ProjectCommonException) error).getCode());
+  }
+
+  @Test
+  public void testJoinThrowsCauseOfFailedStage() {
+    CompletableFuture<Object> stage = new CompletableFuture<>();
+    IllegalStateException exception = new IllegalStateException();
+    stage.completeExceptionally(exception);
+
+    try {
+      ActorCall.join(stage.thenApply(result -> result));
+      fail("join returned");
+    } catch (IllegalStateException e) {
+      assertSame(exception, e);
+    }
+  }
+
+  @Test
+  public void testThrowIfExceptionReportsOtherExceptionAsServerError() {
+    ActorCall.throwIfException(new Response());
+    try {
+      ActorCall.throwIfException(new IllegalStateException());
+      fail("no exception thrown");
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.SERVER_ERROR.getErrorCode(), e.getCode());
+    }
+  }
+
+  private Throwable getFailure(CompletionStage<?> stage) {
+    try {
+      stage.toCompletableFuture().get(10, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      return e.getCause();
+    } catch (Exception e) {
+      fail(e.getMessage());
+    }
+    fail("stage completed successfully");
+    return null;
+  }
+}
@@ -0,0 +1,34 @@
+package org.sunbird.actorutil;
+
+import akka.actor.AbstractActor;
+import akka.actor.Props;
+
+/** Actor answering every message with the same reply, or not at all if the reply is null. */
+public class ReplyActor extends AbstractActor {
+
+  private final Object reply;
+
+  public ReplyActor(Object reply) {
+    this.reply = reply;
+  }
+
+  public static Props props(Object reply) {
+    return Props.create(ReplyActor.class, reply);
+  }
+
+  public static Props silent() {
+    return Props.create(ReplyActor.class, (Object) null);
+  }
+
+  @Override
+  public Receive createReceive() {
+    return receiveBuilder()
+        .matchAny(
+            message -> {
+              if (null != reply) {
+                getSender().tell(reply, getSelf());
+              }
+            })
+        .build();
+  }
+}
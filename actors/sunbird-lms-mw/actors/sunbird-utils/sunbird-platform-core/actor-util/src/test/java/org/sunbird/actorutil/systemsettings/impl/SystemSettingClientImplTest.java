@@ -0,0 +1,124 @@
+package org.sunbird.actorutil.systemsettings.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Status;
+import akka.pattern.AskTimeoutException;
+import akka.testkit.javadsl.TestKit;
+import com.fasterxml.jackson.core.type.TypeReference;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.sunbird.actorutil.ReplyActor;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.models.systemsetting.SystemSetting;
+
+public class SystemSettingClientImplTest {
+
+  private static ActorSystem system;
+
+  @BeforeClass
+  public static void setUp() {
+    system = ActorSystem.create("SystemSettingClientImplTest");
+  }
+
+  @AfterClass
+  public static void tearDown() {
+    TestKit.shutdownActorSystem(system);
+  }
+
+  @Test
+  public void testGetSystemSettingByFieldAsyncCompletesWithSetting() throws Exception {
+    SystemSetting systemSetting = new SystemSetting("id", "field", "value");
+    Response response = new Response();
+    response.put(JsonKey.RESPONSE, systemSetting);
+    ActorRef actorRef = system.actorOf(ReplyActor.props(response));
+
+    SystemSetting result =
+        new SystemSettingClientImpl()
+            .getSystemSettingByFieldAsync(actorRef, "field", new RequestContext())
+            .toCompletableFuture()
+            .get(10, TimeUnit.SECONDS);
+
+    assertSame(systemSetting, result);
+  }
+
+  @Test
+  public void testGetSystemSettingByFieldAndKeyAsyncReadsKey() throws Exception {
+    Response response = new Response();
+    response.put(JsonKey.RESPONSE, new SystemSetting("id", "field", "{\"a\":{\"b\":\"value\"}}"));
+    ActorRef actorRef = system.actorOf(ReplyActor.props(response));
+
+    Object value =
+        new SystemSettingClientImpl()
+            .getSystemSettingByFieldAndKeyAsync(
+                actorRef,
+                "field",
+                "a.b",
+                new TypeReference<String>() {},
+                new RequestContext())
+            .toCompletableFuture()
+            .get(10, TimeUnit.SECONDS);
+
+    assertEquals("value", value);
+  }
+
+  @Test
+  public void testGetSystemSettingByFieldAsyncFailsWithRepliedException() {
+    ProjectCommonException exception =
+        new ProjectCommonException(
+            ResponseCode.resourceNotFound.getErrorCode(),
+            ResponseCode.resourceNotFound.getErrorMessage(),
+            ResponseCode.RESOURCE_NOT_FOUND.getResponseCode());
+    ActorRef actorRef = system.actorOf(ReplyActor.props(exception));
+
+    assertSame(exception, getFailure(actorRef));
+  }
+
+  @Test
+  public void testGetSystemSettingByFieldAsyncFailsWhenAskTimesOut() {
+    ActorRef actorRef =
+        system.actorOf(ReplyActor.props(new Status.Failure(new AskTimeoutException("timeout"))));
+
+    assertEquals(
+        ResponseCode.unableToCommunicateWithActor.getErrorCode(), getFailure(actorRef).getCode());
+  }
+
+  @Test
+  public void testGetSystemSettingByFieldFailsLikeAsyncVariant() {
+    ActorRef actorRef =
+        system.actorOf(ReplyActor.props(new Status.Failure(new AskTimeoutException("timeout"))));
+
+    try {
+      new SystemSettingClientImpl().getSystemSettingByField(actorRef, "field", new RequestContext());
+      fail("no exception thrown");
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.unableToCommunicateWithActor.getErrorCode(), e.getCode());
+    }
+  }
+
+  private ProjectCommonException getFailure(ActorRef actorRef) {
+    try {
+      new SystemSettingClientImpl()
+          .getSystemSettingByFieldAsync(actorRef, "field", new RequestContext())
+          .toCompletableFuture()
+          .get(10, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      return (ProjectCommonException) e.getCause();
+    } catch (Exception e) {
+      fail(e.getMessage());
+    }
+    fail("stage completed successfully");
+    return null;
+  }
+}
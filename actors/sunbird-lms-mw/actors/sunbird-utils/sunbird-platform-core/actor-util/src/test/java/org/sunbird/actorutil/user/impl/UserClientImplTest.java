@@ -0,0 +1,109 @@
+package org.sunbird.actorutil.user.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Status;
+import akka.pattern.AskTimeoutException;
+import akka.testkit.javadsl.TestKit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.sunbird.actorutil.ReplyActor;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.responsecode.ResponseCode;
+
+public class UserClientImplTest {
+
+  private static ActorSystem system;
+
+  @BeforeClass
+  public static void setUp() {
+    system = ActorSystem.create("UserClientImplTest");
+  }
+
+  @AfterClass
+  public static void tearDown() {
+    TestKit.shutdownActorSystem(system);
+  }
+
+  @Test
+  public void testCreateUserAsyncCompletesWithUserId() throws Exception {
+    Response response = new Response();
+    response.put(JsonKey.USER_ID, "userId");
+    ActorRef actorRef = system.actorOf(ReplyActor.props(response));
+
+    String userId =
+        new UserClientImpl()
+            .createUserAsync(actorRef, userMap(), new RequestContext())
+            .toCompletableFuture()
+            .get(10, TimeUnit.SECONDS);
+
+    assertEquals("userId", userId);
+  }
+
+  @Test
+  public void testUpdateUserAsyncFailsWithRepliedException() {
+    ProjectCommonException exception =
+        new ProjectCommonException(
+            ResponseCode.userNotFound.getErrorCode(),
+            ResponseCode.userNotFound.getErrorMessage(),
+            ResponseCode.RESOURCE_NOT_FOUND.getResponseCode());
+    ActorRef actorRef = system.actorOf(ReplyActor.props(exception));
+
+    assertSame(exception, getUpdateFailure(actorRef));
+  }
+
+  @Test
+  public void testUpdateUserAsyncFailsWithServerErrorWhenAskTimesOut() {
+    ActorRef actorRef =
+        system.actorOf(ReplyActor.props(new Status.Failure(new AskTimeoutException("timeout"))));
+
+    assertEquals(ResponseCode.SERVER_ERROR.getErrorCode(), getUpdateFailure(actorRef).getCode());
+  }
+
+  @Test
+  public void testUpdateUserFailsLikeAsyncVariant() {
+    ActorRef actorRef =
+        system.actorOf(ReplyActor.props(new Status.Failure(new AskTimeoutException("timeout"))));
+
+    try {
+      new UserClientImpl().updateUser(actorRef, userMap(), new RequestContext());
+      fail("no exception thrown");
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.SERVER_ERROR.getErrorCode(), e.getCode());
+    }
+  }
+
+  private ProjectCommonException getUpdateFailure(ActorRef actorRef) {
+    try {
+      new UserClientImpl()
+          .updateUserAsync(actorRef, userMap(), new RequestContext())
+          .toCompletableFuture()
+          .get(10, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      return (ProjectCommonException) e.getCause();
+    } catch (Exception e) {
+      fail(e.getMessage());
+    }
+    fail("stage completed successfully");
+    return null;
+  }
+
+  private Map<String, Object> userMap() {
+    Map<String, Object> userMap = new HashMap<>();
+    userMap.put(JsonKey.FIRST_NAME, "name");
+    userMap.put(JsonKey.ROOT_ORG_ID, "rootOrgId");
+    return userMap;
+  }
+}
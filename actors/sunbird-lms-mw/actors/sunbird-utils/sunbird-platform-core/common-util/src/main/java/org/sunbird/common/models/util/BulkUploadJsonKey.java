@@ -15,4 +15,11 @@ public class BulkUploadJsonKey {
   public static final String NOT_STARTED = "NOT STARTED";
   public static final String IN_PROGRESS = "IN PROGRESS";
   public static final String COMPLETED = "COMPLETED";
+  public static final String PROGRESS = "progress";
+  public static final String TOTAL_COUNT = "totalCount";
+  public static final String PROCESSED_COUNT = "processedCount";
+  public static final String SUCCESS_COUNT = "successCount";
+  public static final String FAILURE_COUNT = "failureCount";
+  public static final String ROWS_PER_SECOND = "rowsPerSecond";
+  public static final String ETA = "eta";
 }
@@ -330,6 +330,10 @@ public final class JsonKey {
   public static final String WELCOME_MESSAGE = "welcomeMessage";
   public static final String SUNBIRD_HEALTH_CHECK_ENABLE = "sunbird_health_check_enable";
   public static final String HEALTH = "health";
+  public static final String CHECKED_ON = "checkedOn";
+  public static final String LATENCY = "latency";
+  public static final String SUNBIRD_HEALTH_CHECK_INTERVAL = "sunbird_health_check_interval";
+  public static final String SUNBIRD_HEALTH_CHECK_TIMEOUT = "sunbird_health_check_timeout";
   public static final String SERVICE = "service";
   public static final String SOFT_CONSTRAINTS = "softConstraints";
   public static final String SUNBIRD_AUTHORIZATION = "sunbird_authorization";
@@ -420,6 +424,12 @@ public final class JsonKey {
   public static final String SUNBIRD_OTP_LENGTH = "sunbird_otp_length";
   public static final String OTP_EXPIRATION_IN_MINUTES = "otpExpiryInMinutes";
   public static final String SUNBIRD_RATE_LIMIT_ENABLED = "sunbird_rate_limit_enabled";
+  public static final String SUNBIRD_RATE_LIMIT_FLUSH_INTERVAL =
+      "sunbird_rate_limit_flush_interval";
+  public static final String SUNBIRD_RATE_LIMIT_REFRESH_INTERVAL =
+      "sunbird_rate_limit_refresh_interval";
+  public static final String SUNBIRD_RATE_LIMIT_MAX_KEYS = "sunbird_rate_limit_max_keys";
+  public static final String SUNBIRD_RATE_LIMIT_POOL_SIZE = "sunbird_rate_limit_pool_size";
   public static final String RATE_LIMIT = "rate_limit";
   public static final String RATE_LIMIT_UNIT = "unit";
   public static final String RATE = "rate";
@@ -525,6 +535,8 @@ public final class JsonKey {
   public static final String LIMIT_MANAGED_USER_CREATION = "limit_managed_user_creation";
   public static final String MANAGED_USER_LIMIT = "managed_user_limit";
   public static final String ACCESS_TOKEN_PUBLICKEY_BASEPATH = "accesstoken.publickey.basepath";
+  public static final String ACCESS_TOKEN_CACHE_SIZE = "accesstoken.cache.size";
+  public static final String ACCESS_TOKEN_NEGATIVE_CACHE_TTL = "accesstoken.negative.cache.ttl";
   public static final String SHA_256_WITH_RSA = "SHA256withRSA";
   public static final String SUB = "sub";
   public static final String DOT_SEPARATOR = ".";
@@ -628,6 +640,38 @@ public final class JsonKey {
   public static final String ORGANISATION_TYPE = "organisationType";
   public static final String SYNC = "sync";
   public static final String ES_SYNC_RESPONSE = "esSyncResponse";
+  public static final String SYNC_ALL = "syncAll";
+  public static final String SUNBIRD_ES_SYNC_PAGE_SIZE = "sunbird_es_sync_page_size";
+  public static final String SUNBIRD_ES_SYNC_BULK_SIZE = "sunbird_es_sync_bulk_size";
+  public static final String SUNBIRD_ES_SYNC_BULK_BYTES = "sunbird_es_sync_bulk_bytes";
+  public static final String SUNBIRD_ES_SYNC_MAX_IN_FLIGHT = "sunbird_es_sync_max_in_flight";
+  public static final String SUNBIRD_ES_SYNC_PARALLELISM = "sunbird_es_sync_parallelism";
+  public static final String SUNBIRD_ES_SYNC_RETRY_COUNT = "sunbird_es_sync_retry_count";
+  public static final String SUNBIRD_ES_SYNC_MAX_CONCURRENT_SYNCS =
+      "sunbird_es_sync_max_concurrent_syncs";
+  public static final String SUNBIRD_TELEMETRY_QUEUE_SIZE = "sunbird_telemetry_queue_size";
+  public static final String SUNBIRD_TELEMETRY_BATCH_SIZE = "sunbird_telemetry_batch_size";
+  public static final String SUNBIRD_USER_READ_LOOKUP_POOL_SIZE =
+      "sunbird_user_read_lookup_pool_size";
+  public static final String SUNBIRD_USER_READ_LOOKUP_TIMEOUT = "sunbird_user_read_lookup_timeout";
+  public static final String SUNBIRD_ORG_CACHE_SIZE = "sunbird_org_cache_size";
+  public static final String SUNBIRD_ORG_CACHE_TTL = "sunbird_org_cache_ttl";
+  public static final String SUNBIRD_ORG_CACHE_INVALIDATION_TOPIC =
+      "sunbird_org_cache_invalidation_topic";
+  public static final String SUNBIRD_LOCATION_INDEX_REFRESH_INTERVAL =
+      "sunbird_location_index_refresh_interval";
+  public static final String SUNBIRD_LOCATION_INDEX_INVALIDATION_TOPIC =
+      "sunbird_location_index_invalidation_topic";
+  public static final String SUNBIRD_BULK_UPLOAD_WORKERS_PER_PROCESS =
+      "sunbird_bulk_upload_workers_per_process";
+  public static final String SUNBIRD_BULK_UPLOAD_MAX_WORKERS = "sunbird_bulk_upload_max_workers";
+  public static final String SUNBIRD_BULK_UPLOAD_STATUS_PAGE_SIZE =
+      "sunbird_bulk_upload_status_page_size";
+  public static final String SUNBIRD_FRAMEWORK_CACHE_SIZE = "sunbird_framework_cache_size";
+  public static final String SUNBIRD_FRAMEWORK_CACHE_TTL = "sunbird_framework_cache_ttl";
+  public static final String SUNBIRD_USERNAME_CANDIDATE_COUNT = "sunbird_username_candidate_count";
+  public static final String SUNBIRD_EMAIL_SMTP_POOL_SIZE = "sunbird_email_smtp_pool_size";
+  public static final String SUNBIRD_EMAIL_BATCH_SIZE = "sunbird_email_batch_size";
   public static final String IS_ROOT_ORG = "isRootOrg";
   public static final String STATE_ID = "stateId";
   public static final String BLOCK_USER = "BlockUser";
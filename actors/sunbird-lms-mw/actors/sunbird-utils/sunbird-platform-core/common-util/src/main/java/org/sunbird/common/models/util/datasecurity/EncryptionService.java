@@ -52,4 +52,15 @@ public interface EncryptionService {
    * @throws Exception
    */
   String encryptData(String data, RequestContext context) throws Exception;
+
+  /**
+   * This method will take list of String as an input and encrypt each of them in one call. Blank
+   * values are returned as they are.
+   *
+   * @param dataList List<String>
+   * @param context
+   * @return List<String> encrypted values in the order of the input
+   * @throws Exception
+   */
+  List<String> encryptAll(List<String> dataList, RequestContext context) throws Exception;
 }
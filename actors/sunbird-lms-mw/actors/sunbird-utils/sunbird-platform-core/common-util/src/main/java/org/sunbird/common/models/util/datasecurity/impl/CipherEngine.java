@@ -0,0 +1,113 @@
+package org.sunbird.common.models.util.datasecurity.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.Base64;
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import org.sunbird.common.models.util.datasecurity.EncryptionService;
+
+/**
+ * Cipher shared by the encryption and decryption services. A Cipher instance is not thread safe, so
+ * every thread gets its own instance initialised with the same mode and key, along with a buffer
+ * reused to assemble the input of each round.
+ *
+ * <p>Values are Base64 encoded in the format of {@link BASE64Encoder}, which wraps lines at 76
+ * characters and ends with a line separator when the last line is full, so that values encrypted
+ * earlier keep matching the stored ones.
+ */
+final class CipherEngine {
+  private static final int BYTES_PER_LINE = 57;
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+  private static final Base64.Encoder ENCODER =
+      Base64.getMimeEncoder(
+          BYTES_PER_LINE / 3 * 4, LINE_SEPARATOR.getBytes(StandardCharsets.ISO_8859_1));
+  private static final Base64.Decoder DECODER = Base64.getMimeDecoder();
+  private static final int INITIAL_BUFFER_SIZE = 256;
+
+  private final ThreadLocal<Cipher> ciphers;
+  private final ThreadLocal<byte[]> buffers =
+      ThreadLocal.withInitial(() -> new byte[INITIAL_BUFFER_SIZE]);
+
+  /**
+   * @param mode Cipher.ENCRYPT_MODE or Cipher.DECRYPT_MODE
+   * @param key Key
+   * @throws GeneralSecurityException if a cipher can not be created for the key
+   */
+  CipherEngine(int mode, Key key) throws GeneralSecurityException {
+    Cipher cipher = createCipher(mode, key);
+    ciphers =
+        ThreadLocal.withInitial(
+            () -> {
+              try {
+                return createCipher(mode, key);
+              } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+              }
+            });
+    ciphers.set(cipher);
+  }
+
+  private static Cipher createCipher(int mode, Key key) throws GeneralSecurityException {
+    Cipher cipher = Cipher.getInstance(EncryptionService.ALGORITHM);
+    cipher.init(mode, key);
+    return cipher;
+  }
+
+  /**
+   * Runs the cipher over the prefix followed by the UTF-8 bytes of the value.
+   *
+   * @param prefix Bytes placed before the value
+   * @param value String
+   * @return byte[]
+   */
+  byte[] doFinal(byte[] prefix, String value) throws IllegalBlockSizeException, BadPaddingException {
+    byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+    int length = prefix.length + valueBytes.length;
+    byte[] buffer = buffers.get();
+    if (buffer.length < length) {
+      buffer = new byte[Math.max(length, buffer.length * 2)];
+      buffers.set(buffer);
+    }
+    System.arraycopy(prefix, 0, buffer, 0, prefix.length);
+    System.arraycopy(valueBytes, 0, buffer, prefix.length, valueBytes.length);
+    return ciphers.get().doFinal(buffer, 0, length);
+  }
+
+  /**
+   * Runs the cipher over the input.
+   *
+   * @param input byte[]
+   * @return byte[]
+   */
+  byte[] doFinal(byte[] input) throws IllegalBlockSizeException, BadPaddingException {
+    return ciphers.get().doFinal(input);
+  }
+
+  /**
+   * Encodes the bytes the same way as {@link BASE64Encoder#encode(byte[])}.
+   *
+   * @param data byte[]
+   * @return String
+   */
+  static String encode(byte[] data) {
+    String encoded = ENCODER.encodeToString(data);
+    if (data.length > 0 && data.length % BYTES_PER_LINE == 0) {
+      return encoded + LINE_SEPARATOR;
+    }
+    return encoded;
+  }
+
+  /**
+   * Decodes a value encoded by {@link #encode(byte[])} or {@link BASE64Encoder}, line separators
+   * are ignored.
+   *
+   * @param data String
+   * @return byte[]
+   */
+  static byte[] decode(String data) {
+    return DECODER.decode(data);
+  }
+}
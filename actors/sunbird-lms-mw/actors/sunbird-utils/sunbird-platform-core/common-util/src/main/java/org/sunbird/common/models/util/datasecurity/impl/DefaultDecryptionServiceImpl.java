@@ -24,14 +24,13 @@ public class DefaultDecryptionServiceImpl implements DecryptionService {
 
   private String sunbirdEncryption = "";
 
-  private static Cipher c;
+  private static CipherEngine cipherEngine;
 
   static {
     try {
       sunbird_encryption = DefaultEncryptionServivceImpl.getSalt();
       Key key = generateKey();
-      c = Cipher.getInstance(ALGORITHM);
-      c.init(Cipher.DECRYPT_MODE, key);
+      cipherEngine = new CipherEngine(Cipher.DECRYPT_MODE, key);
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
     }
@@ -101,8 +100,8 @@ public class DefaultDecryptionServiceImpl implements DecryptionService {
       String dValue = null;
       String valueToDecrypt = value.trim();
       for (int i = 0; i < ITERATIONS; i++) {
-        byte[] decordedValue = new BASE64Decoder().decodeBuffer(valueToDecrypt);
-        byte[] decValue = c.doFinal(decordedValue);
+        byte[] decordedValue = CipherEngine.decode(valueToDecrypt);
+        byte[] decValue = cipherEngine.doFinal(decordedValue);
         dValue =
             new String(decValue, StandardCharsets.UTF_8).substring(sunbird_encryption.length());
         valueToDecrypt = dValue;
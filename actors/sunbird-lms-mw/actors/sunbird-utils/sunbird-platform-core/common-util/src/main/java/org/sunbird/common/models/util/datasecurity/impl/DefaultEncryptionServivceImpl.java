@@ -6,6 +6,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.Key;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -36,14 +37,16 @@ public class DefaultEncryptionServivceImpl implements EncryptionService {
 
   private String sunbirdEncryption = "";
 
-  private static Cipher c;
+  private static byte[] encryptionKeyBytes;
+
+  private static CipherEngine cipherEngine;
 
   static {
     try {
       encryption_key = getSalt();
+      encryptionKeyBytes = encryption_key.getBytes(StandardCharsets.UTF_8);
       Key key = generateKey();
-      c = Cipher.getInstance(ALGORITHM);
-      c.init(Cipher.ENCRYPT_MODE, key);
+      cipherEngine = new CipherEngine(Cipher.ENCRYPT_MODE, key);
     } catch (Exception e) {
       logger.error(e.getMessage(), e);
     }
@@ -105,6 +108,18 @@ public class DefaultEncryptionServivceImpl implements EncryptionService {
     }
   }
 
+  @Override
+  public List<String> encryptAll(List<String> dataList, RequestContext context) throws Exception {
+    if (!JsonKey.ON.equalsIgnoreCase(sunbirdEncryption) || dataList == null) {
+      return dataList;
+    }
+    List<String> encryptedList = new ArrayList<>(dataList.size());
+    for (String data : dataList) {
+      encryptedList.add(StringUtils.isBlank(data) ? data : encrypt(data));
+    }
+    return encryptedList;
+  }
+
   /**
    * this method is used to encrypt the password.
    *
@@ -117,14 +132,10 @@ public class DefaultEncryptionServivceImpl implements EncryptionService {
    * @throws IllegalBlockSizeException
    * @throws UnsupportedEncodingException
    */
-  @SuppressWarnings("restriction")
   public static String encrypt(String value) throws IllegalBlockSizeException, BadPaddingException {
-    String valueToEnc = null;
     String eValue = value;
     for (int i = 0; i < ITERATIONS; i++) {
-      valueToEnc = encryption_key + eValue;
-      byte[] encValue = c.doFinal(valueToEnc.getBytes(StandardCharsets.UTF_8));
-      eValue = new BASE64Encoder().encode(encValue);
+      eValue = CipherEngine.encode(cipherEngine.doFinal(encryptionKeyBytes, eValue));
     }
     return eValue;
   }
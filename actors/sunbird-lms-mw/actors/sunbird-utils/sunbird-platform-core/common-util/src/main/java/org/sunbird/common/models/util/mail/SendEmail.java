@@ -22,13 +22,34 @@ public class SendEmail {
       StringWriter writer,
       Session session,
       Transport transport) {
+    if (context != null) {
+      context.put(JsonKey.FROM_EMAIL, fromEmail);
+    }
+    return send(fromEmail, emailList, subject, writer.toString(), session, transport);
+  }
+
+  /**
+   * Sends the html body in one message, the recipients are blind copied if there are more than one.
+   *
+   * @param from Sender address
+   * @param emailList Recipient addresses
+   * @param subject Subject
+   * @param body Html body
+   * @param session Mail session
+   * @param transport Connected transport
+   * @return true if the message is sent
+   */
+  public boolean send(
+      String from,
+      String[] emailList,
+      String subject,
+      String body,
+      Session session,
+      Transport transport) {
     boolean sentStatus = true;
     try {
-      if (context != null) {
-        context.put(JsonKey.FROM_EMAIL, fromEmail);
-      }
       MimeMessage message = new MimeMessage(session);
-      message.setFrom(new InternetAddress(fromEmail));
+      message.setFrom(new InternetAddress(from));
       Message.RecipientType recipientType = null;
       if (emailList.length > 1) {
         recipientType = Message.RecipientType.BCC;
@@ -39,9 +60,9 @@ public class SendEmail {
         message.addRecipient(recipientType, new InternetAddress(email));
       }
       if (recipientType == Message.RecipientType.BCC)
-        message.addRecipient(Message.RecipientType.TO, new InternetAddress(fromEmail));
+        message.addRecipient(Message.RecipientType.TO, new InternetAddress(from));
       message.setSubject(subject);
-      message.setContent(writer.toString(), "text/html; charset=utf-8");
+      message.setContent(body, "text/html; charset=utf-8");
       transport.sendMessage(message, message.getAllRecipients());
     } catch (Exception e) {
       sentStatus = false;
@@ -1,6 +1,7 @@
 package org.sunbird.common.models.util.mail;
 
 import java.util.Properties;
+import javax.mail.MessagingException;
 import javax.mail.Session;
 import javax.mail.Transport;
 import org.apache.commons.lang3.StringUtils;
@@ -23,36 +24,8 @@ public class SendgridConnection {
 
   public Transport createConnection() {
     try {
-      host = System.getenv(JsonKey.EMAIL_SERVER_HOST);
-      port = System.getenv(JsonKey.EMAIL_SERVER_PORT);
-      userName = System.getenv(JsonKey.EMAIL_SERVER_USERNAME);
-      password = System.getenv(JsonKey.EMAIL_SERVER_PASSWORD);
-
-      if (StringUtils.isBlank(host)
-          || StringUtils.isBlank(port)
-          || StringUtils.isBlank(userName)
-          || StringUtils.isBlank(password)
-          || StringUtils.isBlank(fromEmail)) {
-        logger.info(
-            "Email setting value is not provided by Env variable=="
-                + host
-                + " "
-                + port
-                + " "
-                + fromEmail);
-        initialiseFromProperty();
-      }
-
-      props = System.getProperties();
-      props.put("mail.smtp.host", host);
-      props.put("mail.smtp.socketFactory.port", port);
-
-      props.put("mail.smtp.auth", "true");
-      props.put("mail.smtp.port", port);
-
-      session = Session.getInstance(props, new GMailAuthenticator(userName, password));
-      transport = session.getTransport("smtp");
-      transport.connect(host, userName, password);
+      createSession();
+      transport = connect();
       return transport;
     } catch (Exception e) {
       logger.error("Exception occurred while smtp session and creating transport connection", e);
@@ -60,6 +33,56 @@ public class SendgridConnection {
     return null;
   }
 
+  /**
+   * Reads the SMTP server settings, from the environment or else from the properties, and creates
+   * the mail session.
+   *
+   * @return Mail session
+   */
+  public Session createSession() {
+    host = System.getenv(JsonKey.EMAIL_SERVER_HOST);
+    port = System.getenv(JsonKey.EMAIL_SERVER_PORT);
+    userName = System.getenv(JsonKey.EMAIL_SERVER_USERNAME);
+    password = System.getenv(JsonKey.EMAIL_SERVER_PASSWORD);
+
+    if (StringUtils.isBlank(host)
+        || StringUtils.isBlank(port)
+        || StringUtils.isBlank(userName)
+        || StringUtils.isBlank(password)
+        || StringUtils.isBlank(fromEmail)) {
+      logger.info(
+          "Email setting value is not provided by Env variable=="
+              + host
+              + " "
+              + port
+              + " "
+              + fromEmail);
+      initialiseFromProperty();
+    }
+
+    props = System.getProperties();
+    props.put("mail.smtp.host", host);
+    props.put("mail.smtp.socketFactory.port", port);
+
+    props.put("mail.smtp.auth", "true");
+    props.put("mail.smtp.port", port);
+
+    session = Session.getInstance(props, new GMailAuthenticator(userName, password));
+    return session;
+  }
+
+  /**
+   * Opens a new connection to the SMTP server of the session created by {@link #createSession()}.
+   *
+   * @return Connected transport
+   * @throws MessagingException if the connection fails
+   */
+  public Transport connect() throws MessagingException {
+    Transport smtpTransport = session.getTransport("smtp");
+    smtpTransport.connect(host, userName, password);
+    return smtpTransport;
+  }
+
   public Session getSession() {
     return session;
   }
@@ -0,0 +1,151 @@
+package org.sunbird.common.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.models.util.ProjectUtil;
+
+/**
+ * Creates the shared background pools of the service. Every pool has a fixed number of daemon
+ * threads named after it, a bounded queue and a rejection policy which counts and logs the work
+ * submitted beyond the queue capacity. Idle threads are released after a minute.
+ */
+public final class ExecutorUtil {
+  private static LoggerUtil logger = new LoggerUtil(ExecutorUtil.class);
+  private static final long KEEP_ALIVE_SECONDS = 60L;
+
+  /** What happens to work submitted to a pool whose threads are busy and whose queue is full. */
+  public enum Rejection {
+    /** The submitting thread runs the work itself, which slows down the submitter. */
+    CALLER_RUNS,
+    /** The work fails with a {@link RejectedExecutionException}. */
+    ABORT
+  }
+
+  private ExecutorUtil() {}
+
+  /**
+   * Reads a positive int from the environment or the configuration.
+   *
+   * @param key Config key
+   * @param defaultValue Value if the key is missing, not a number or not positive
+   * @return Configured value or the default
+   */
+  public static int getIntConfig(String key, int defaultValue) {
+    return getIntConfig(key, defaultValue, 1);
+  }
+
+  /**
+   * Reads an int from the environment or the configuration.
+   *
+   * @param key Config key
+   * @param defaultValue Value if the key is missing, not a number or below the minimum
+   * @param minValue Smallest value accepted
+   * @return Configured value or the default
+   */
+  public static int getIntConfig(String key, int defaultValue, int minValue) {
+    String value = StringUtils.trim(ProjectUtil.getConfigValue(key));
+    if (StringUtils.isNumeric(value) && value.length() < 10) {
+      int intValue = Integer.parseInt(value);
+      if (intValue >= minValue) {
+        return intValue;
+      }
+    }
+    return defaultValue;
+  }
+
+  /**
+   * @param name Thread name, suffixed with the number of the thread
+   * @return Factory of daemon threads
+   */
+  public static ThreadFactory newDaemonThreadFactory(String name) {
+    AtomicInteger threadCount = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * @param name Name of the pool and its threads
+   * @param poolSize Number of threads
+   * @param queueSize Number of tasks waiting for a thread
+   * @param rejection Policy for tasks submitted beyond the queue capacity
+   * @return Bounded pool
+   */
+  public static ThreadPoolExecutor newBoundedPool(
+      String name, int poolSize, int queueSize, Rejection rejection) {
+    return newBoundedPool(name, poolSize, queueSize, rejection, new AtomicLong());
+  }
+
+  /**
+   * @param name Name of the pool and its threads
+   * @param poolSize Number of threads
+   * @param queueSize Number of tasks waiting for a thread
+   * @param rejection Policy for tasks submitted beyond the queue capacity
+   * @param rejectedCount Incremented for each rejected task
+   * @return Bounded pool
+   */
+  public static ThreadPoolExecutor newBoundedPool(
+      String name, int poolSize, int queueSize, Rejection rejection, AtomicLong rejectedCount) {
+    ThreadPoolExecutor pool =
+        new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(queueSize),
+            newDaemonThreadFactory(name),
+            newRejectionHandler(name, rejection, rejectedCount));
+    pool.allowCoreThreadTimeOut(true);
+    logger.info(
+        "ExecutorUtil: created pool "
+            + name
+            + ", poolSize = "
+            + poolSize
+            + ", queueSize = "
+            + queueSize
+            + ", rejection = "
+            + rejection);
+    return pool;
+  }
+
+  /**
+   * @param name Name of the scheduler thread
+   * @return Scheduler running its tasks on one daemon thread
+   */
+  public static ScheduledExecutorService newDaemonScheduler(String name) {
+    return Executors.newSingleThreadScheduledExecutor(newDaemonThreadFactory(name));
+  }
+
+  private static RejectedExecutionHandler newRejectionHandler(
+      String name, Rejection rejection, AtomicLong rejectedCount) {
+    return (runnable, pool) -> {
+      rejectedCount.incrementAndGet();
+      if (Rejection.ABORT == rejection || pool.isShutdown()) {
+        logger.info(
+            "ExecutorUtil: "
+                + name
+                + " queue full, rejecting, queue depth = "
+                + pool.getQueue().size());
+        throw new RejectedExecutionException(name + " queue is full");
+      }
+      logger.info(
+          "ExecutorUtil: "
+              + name
+              + " queue full, running on caller, queue depth = "
+              + pool.getQueue().size());
+      runnable.run();
+    };
+  }
+}
@@ -3,24 +3,30 @@ package org.sunbird.kafka.client;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerConfig;
-import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.PartitionInfo;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
-import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.common.models.util.ProjectUtil;
-import org.sunbird.common.responsecode.ResponseCode;
 
 /**
  * Helper class for creating a Kafka consumer and producer.
  *
+ * <p>The producer batches and compresses events and waits for the configured acknowledgements,
+ * retrying failed sends without reordering them. The outcome of each event is counted per topic,
+ * see {@link #getStats()}. The topics events can be sent to are refreshed periodically, so topics
+ * created after startup are picked up.
+ *
  * @author Pradyumna
  */
 public class KafkaClient {
@@ -28,14 +34,16 @@ public class KafkaClient {
   public static LoggerUtil logger = new LoggerUtil(KafkaClient.class);
 
   private static final String BOOTSTRAP_SERVERS = ProjectUtil.getConfigValue("kafka_urls");
-  private static Producer<String, String> producer;
+  private static final int DEFAULT_TOPICS_REFRESH_INTERVAL_SECONDS = 300;
   private static Consumer<String, String> consumer;
+  private static KafkaEventPublisher publisher;
   private static volatile Map<String, List<PartitionInfo>> topics;
 
   static {
     loadProducerProperties();
     loadConsumerProperties();
     loadTopics();
+    scheduleTopicsRefresh();
   }
 
   private static void loadProducerProperties() {
@@ -45,17 +53,62 @@ public class KafkaClient {
     props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
     props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
     props.put(ProducerConfig.LINGER_MS_CONFIG, ProjectUtil.getConfigValue("kafka_linger_ms"));
-    producer = new KafkaProducer<String, String>(props);
+    putIfConfigured(props, ProducerConfig.ACKS_CONFIG, "kafka_producer_acks");
+    putIfConfigured(props, ProducerConfig.BATCH_SIZE_CONFIG, "kafka_producer_batch_size");
+    putIfConfigured(
+        props, ProducerConfig.COMPRESSION_TYPE_CONFIG, "kafka_producer_compression_type");
+    putIfConfigured(props, ProducerConfig.RETRIES_CONFIG, "kafka_producer_retries");
+    // a retried batch must not overtake the batches sent after it to the same partition
+    if (StringUtils.isNumeric((String) props.get(ProducerConfig.RETRIES_CONFIG))
+        && Integer.parseInt((String) props.get(ProducerConfig.RETRIES_CONFIG)) > 0) {
+      props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, "1");
+    }
+    publisher = new KafkaEventPublisher(new KafkaProducer<String, String>(props));
   }
 
-  private static void loadTopics() {
+  private static void putIfConfigured(Properties props, String property, String configKey) {
+    String value = ProjectUtil.getConfigValue(configKey);
+    if (StringUtils.isNotBlank(value)) {
+      props.put(property, value.trim());
+    }
+  }
+
+  private static synchronized void loadTopics() {
     if (consumer == null) {
       loadConsumerProperties();
     }
     topics = consumer.listTopics();
+    publisher.setTopics(topics.keySet());
     logger.info("KafkaClient:loadTopics Kafka topic info" + topics);
   }
 
+  private static void scheduleTopicsRefresh() {
+    int interval = DEFAULT_TOPICS_REFRESH_INTERVAL_SECONDS;
+    String value = ProjectUtil.getConfigValue("kafka_topics_refresh_interval");
+    if (StringUtils.isNumeric(value) && Integer.parseInt(value) > 0) {
+      interval = Integer.parseInt(value);
+    }
+    ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "kafka-topics-refresh");
+              thread.setDaemon(true);
+              return thread;
+            });
+    scheduler.scheduleWithFixedDelay(
+        () -> {
+          try {
+            loadTopics();
+            logger.info("KafkaClient:refreshTopics: " + getStats());
+          } catch (Exception e) {
+            logger.error("KafkaClient:refreshTopics: failed to refresh topics", e);
+          }
+        },
+        interval,
+        interval,
+        TimeUnit.SECONDS);
+  }
+
   private static void loadConsumerProperties() {
     Properties props = new Properties();
     props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, BOOTSTRAP_SERVERS);
@@ -66,7 +119,7 @@ public class KafkaClient {
   }
 
   public static Producer<String, String> getProducer() {
-    return producer;
+    return publisher.getProducer();
   }
 
   public static Consumer<String, String> getConsumer() {
@@ -74,37 +127,18 @@ public class KafkaClient {
   }
 
   public static void send(String event, String topic) throws Exception {
-    if (validate(topic)) {
-      final Producer<String, String> producer = getProducer();
-      ProducerRecord<String, String> record = new ProducerRecord<String, String>(topic, event);
-      producer.send(record);
-    } else {
-      logger.info("Topic id: " + topic + ", does not exists.");
-      throw new ProjectCommonException(
-          "TOPIC_NOT_EXISTS_EXCEPTION",
-          "Topic id: " + topic + ", does not exists.",
-          ResponseCode.CLIENT_ERROR.getResponseCode());
-    }
+    send(null, event, topic);
   }
 
   public static void send(String key, String event, String topic) {
-    if (validate(topic)) {
-      final Producer<String, String> producer = getProducer();
-      ProducerRecord<String, String> record = new ProducerRecord<String, String>(topic, key, event);
-      producer.send(record);
-    } else {
-      logger.info("Topic id: " + topic + ", does not exists.");
-      throw new ProjectCommonException(
-          "TOPIC_NOT_EXISTS_EXCEPTION",
-          "Topic id: " + topic + ", does not exists.",
-          ResponseCode.CLIENT_ERROR.getResponseCode());
-    }
-  }
-
-  private static boolean validate(String topic) {
     if (topics == null) {
       loadTopics();
     }
-    return topics.keySet().contains(topic);
+    publisher.send(key, event, topic);
+  }
+
+  /** @return Events sent, acknowledged and failed per topic */
+  public static String getStats() {
+    return publisher.getStats();
   }
 }
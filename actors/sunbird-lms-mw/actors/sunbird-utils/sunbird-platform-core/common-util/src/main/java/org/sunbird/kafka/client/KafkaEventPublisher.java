@@ -0,0 +1,121 @@
+package org.sunbird.kafka.client;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.responsecode.ResponseCode;
+
+/**
+ * Sends events through a producer and keeps per topic counts of the events sent, acknowledged by
+ * the brokers and failed. Sends do not wait for the acknowledgement, the outcome of each event is
+ * reported through the callback of the producer. Events are only sent to topics known to exist,
+ * the known topics are replaced whenever the topic metadata is refreshed.
+ */
+final class KafkaEventPublisher {
+  private static LoggerUtil logger = new LoggerUtil(KafkaEventPublisher.class);
+
+  private final Producer<String, String> producer;
+  private final Map<String, TopicStats> stats = new ConcurrentHashMap<>();
+  private volatile Set<String> topics = Collections.emptySet();
+
+  KafkaEventPublisher(Producer<String, String> producer) {
+    this.producer = producer;
+  }
+
+  Producer<String, String> getProducer() {
+    return producer;
+  }
+
+  /** @param topics Topics existing in the cluster */
+  void setTopics(Set<String> topics) {
+    this.topics = Collections.unmodifiableSet(new HashSet<>(topics));
+  }
+
+  boolean isKnownTopic(String topic) {
+    return topics.contains(topic);
+  }
+
+  /**
+   * Sends the event to the topic.
+   *
+   * @param key Event key used for partitioning, null to let the producer pick the partition
+   * @param event Event
+   * @param topic Topic
+   * @throws ProjectCommonException if the topic does not exist
+   */
+  void send(String key, String event, String topic) {
+    if (!isKnownTopic(topic)) {
+      logger.info("Topic id: " + topic + ", does not exists.");
+      throw new ProjectCommonException(
+          "TOPIC_NOT_EXISTS_EXCEPTION",
+          "Topic id: " + topic + ", does not exists.",
+          ResponseCode.CLIENT_ERROR.getResponseCode());
+    }
+    TopicStats topicStats = stats.computeIfAbsent(topic, name -> new TopicStats());
+    topicStats.sent.incrementAndGet();
+    ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, event);
+    try {
+      producer.send(
+          record,
+          (metadata, exception) -> {
+            if (null == exception) {
+              topicStats.acknowledged.incrementAndGet();
+            } else {
+              topicStats.failed.incrementAndGet();
+              logger.error(
+                  "KafkaEventPublisher:send: failed to send event to topic " + topic, exception);
+            }
+          });
+    } catch (RuntimeException e) {
+      topicStats.failed.incrementAndGet();
+      throw e;
+    }
+  }
+
+  /** @return Number of events sent to the topic */
+  long getSentCount(String topic) {
+    TopicStats topicStats = stats.get(topic);
+    return null == topicStats ? 0 : topicStats.sent.get();
+  }
+
+  /** @return Number of events to the topic acknowledged by the brokers */
+  long getAcknowledgedCount(String topic) {
+    TopicStats topicStats = stats.get(topic);
+    return null == topicStats ? 0 : topicStats.acknowledged.get();
+  }
+
+  /** @return Number of events to the topic which could not be sent */
+  long getFailedCount(String topic) {
+    TopicStats topicStats = stats.get(topic);
+    return null == topicStats ? 0 : topicStats.failed.get();
+  }
+
+  String getStats() {
+    Map<String, String> topicStats = new TreeMap<>();
+    stats.forEach(
+        (topic, counts) ->
+            topicStats.put(
+                topic,
+                "sent = "
+                    + counts.sent.get()
+                    + ", acknowledged = "
+                    + counts.acknowledged.get()
+                    + ", failed = "
+                    + counts.failed.get()));
+    return topicStats.toString();
+  }
+
+  private static final class TopicStats {
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong acknowledged = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+  }
+}
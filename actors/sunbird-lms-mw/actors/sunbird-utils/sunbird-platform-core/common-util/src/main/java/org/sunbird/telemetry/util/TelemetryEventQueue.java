@@ -0,0 +1,218 @@
+package org.sunbird.telemetry.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.telemetry.dto.Telemetry;
+
+/**
+ * Bounded queue of telemetry events drained by a single background thread. Callers only hand over
+ * the event object, the drain thread encodes the events and writes them in batches. When the queue
+ * is full the event is dropped and counted, so that callers are never blocked by telemetry.
+ */
+public final class TelemetryEventQueue {
+  private static LoggerUtil logger = new LoggerUtil(TelemetryEventQueue.class);
+  private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long STATS_LOG_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+  private static final long STOP_WAIT_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+  private final Queue<Telemetry> events = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger depth = new AtomicInteger();
+  private final int capacity;
+  private final int batchSize;
+  private final Function<Telemetry, String> encoder;
+  private final Consumer<List<String>> writer;
+  private final AtomicLong enqueued = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final AtomicLong invalid = new AtomicLong();
+  private final AtomicLong written = new AtomicLong();
+  private volatile boolean running;
+  private Thread drainThread;
+  private long lastStatsTime = System.currentTimeMillis();
+  private long lastStatsWritten;
+
+  /**
+   * @param capacity Maximum number of events waiting in the queue
+   * @param batchSize Maximum number of events written at a time
+   * @param encoder Validates and serializes an event, returns null or blank for an invalid event
+   * @param writer Writes a batch of serialized events
+   */
+  TelemetryEventQueue(
+      int capacity,
+      int batchSize,
+      Function<Telemetry, String> encoder,
+      Consumer<List<String>> writer) {
+    this.capacity = capacity;
+    this.batchSize = batchSize;
+    this.encoder = encoder;
+    this.writer = writer;
+  }
+
+  /** Starts the drain thread, events left in the queue are written on shutdown. */
+  void start() {
+    running = true;
+    drainThread = new Thread(this::drainLoop, "telemetry-writer");
+    drainThread.setDaemon(true);
+    drainThread.start();
+    Runtime.getRuntime().addShutdownHook(new Thread(this::stop, "telemetry-writer-flush"));
+  }
+
+  /**
+   * Stops the drain thread once its current batch is written, then writes the events left in the
+   * queue, so that batches are never written by two threads at a time. The events are left
+   * unwritten if the drain thread does not stop in time.
+   */
+  void stop() {
+    running = false;
+    if (null != drainThread) {
+      try {
+        drainThread.join(STOP_WAIT_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      if (drainThread.isAlive()) {
+        logger.info("TelemetryEventQueue:stop: drain thread did not stop, " + getStats());
+        return;
+      }
+    }
+    flush();
+  }
+
+  /**
+   * Adds the event to the queue without waiting.
+   *
+   * @param event Telemetry event
+   * @return false if the queue is full and the event is dropped
+   */
+  boolean offer(Telemetry event) {
+    int current;
+    do {
+      current = depth.get();
+      if (current >= capacity) {
+        dropped.incrementAndGet();
+        return false;
+      }
+    } while (!depth.compareAndSet(current, current + 1));
+    events.offer(event);
+    enqueued.incrementAndGet();
+    return true;
+  }
+
+  private void drainLoop() {
+    while (running && !Thread.currentThread().isInterrupted()) {
+      try {
+        if (drainBatch() == 0) {
+          LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+        }
+        long now = System.currentTimeMillis();
+        if (now - lastStatsTime >= STATS_LOG_INTERVAL_MILLIS) {
+          logStats(now);
+        }
+      } catch (Exception e) {
+        logger.error("TelemetryEventQueue:drainLoop: failed to write telemetry events", e);
+      }
+    }
+  }
+
+  /**
+   * Encodes and writes up to one batch of events.
+   *
+   * @return Number of events taken from the queue
+   */
+  int drainBatch() {
+    List<String> batch = new ArrayList<>(Math.min(batchSize, Math.max(depth.get(), 1)));
+    int polled = 0;
+    Telemetry event;
+    while (polled < batchSize && null != (event = events.poll())) {
+      depth.decrementAndGet();
+      polled++;
+      String encoded = encode(event);
+      if (StringUtils.isBlank(encoded)) {
+        invalid.incrementAndGet();
+      } else {
+        batch.add(encoded);
+      }
+    }
+    if (!batch.isEmpty()) {
+      writer.accept(batch);
+      written.addAndGet(batch.size());
+    }
+    return polled;
+  }
+
+  private String encode(Telemetry event) {
+    try {
+      return encoder.apply(event);
+    } catch (Exception e) {
+      logger.error("TelemetryEventQueue:encode: failed to encode telemetry event", e);
+      return null;
+    }
+  }
+
+  /** Writes all events waiting in the queue. */
+  void flush() {
+    while (drainBatch() > 0) {
+      // keep draining until the queue is empty
+    }
+  }
+
+  private void logStats(long now) {
+    long writtenCount = written.get();
+    long elapsedMillis = Math.max(now - lastStatsTime, 1);
+    logger.info(
+        "TelemetryEventQueue: "
+            + getStats()
+            + ", throughput = "
+            + (writtenCount - lastStatsWritten) * 1000 / elapsedMillis
+            + " events/sec");
+    lastStatsTime = now;
+    lastStatsWritten = writtenCount;
+  }
+
+  /** @return Number of events waiting in the queue */
+  public int getDepth() {
+    return depth.get();
+  }
+
+  /** @return Number of events accepted into the queue */
+  public long getEnqueuedCount() {
+    return enqueued.get();
+  }
+
+  /** @return Number of events dropped because the queue was full */
+  public long getDroppedCount() {
+    return dropped.get();
+  }
+
+  /** @return Number of events discarded because they failed validation */
+  public long getInvalidCount() {
+    return invalid.get();
+  }
+
+  /** @return Number of events written */
+  public long getWrittenCount() {
+    return written.get();
+  }
+
+  public String getStats() {
+    return "depth = "
+        + getDepth()
+        + ", enqueued = "
+        + getEnqueuedCount()
+        + ", written = "
+        + getWrittenCount()
+        + ", invalid = "
+        + getInvalidCount()
+        + ", dropped = "
+        + getDroppedCount();
+  }
+}
@@ -39,8 +39,18 @@ public class TelemetryGenerator {
    * @return Telemetry event
    */
   public static String audit(Map<String, Object> context, Map<String, Object> params) {
+    Telemetry telemetry = createAuditEvent(context, params);
+    return null == telemetry ? "" : getTelemetry(telemetry);
+  }
+
+  /**
+   * Creates the audit telemetry event without serializing it.
+   *
+   * @return Telemetry event or null if the context or params are empty
+   */
+  static Telemetry createAuditEvent(Map<String, Object> context, Map<String, Object> params) {
     if (!validateRequest(context, params)) {
-      return "";
+      return null;
     }
     String actorId = (String) context.get(JsonKey.ACTOR_ID);
     String actorType = (String) context.get(JsonKey.ACTOR_TYPE);
@@ -67,7 +77,7 @@ public class TelemetryGenerator {
     Telemetry telemetry =
         new Telemetry(TelemetryEvents.AUDIT.getName(), actor, eventContext, edata, targetObject);
     telemetry.setMid(reqId);
-    return getTelemetry(telemetry);
+    return telemetry;
   }
 
   private static void setCorrelatedDataToContext(Object correlatedObjects, Context eventContext) {
@@ -179,7 +189,7 @@ public class TelemetryGenerator {
     }
   }
 
-  private static String getTelemetry(Telemetry telemetry) {
+  static String getTelemetry(Telemetry telemetry) {
     String event = "";
     try {
       event = mapper.writeValueAsString(telemetry);
@@ -199,9 +209,19 @@ public class TelemetryGenerator {
    * @return Search Telemetry event
    */
   public static String search(Map<String, Object> context, Map<String, Object> params) {
+    Telemetry telemetry = createSearchEvent(context, params);
+    return null == telemetry ? "" : getTelemetry(telemetry);
+  }
+
+  /**
+   * Creates the search telemetry event without serializing it.
+   *
+   * @return Telemetry event or null if the context or params are empty
+   */
+  static Telemetry createSearchEvent(Map<String, Object> context, Map<String, Object> params) {
 
     if (!validateRequest(context, params)) {
-      return "";
+      return null;
     }
     String actorId = (String) context.get(JsonKey.ACTOR_ID);
     String actorType = (String) context.get(JsonKey.ACTOR_TYPE);
@@ -220,7 +240,7 @@ public class TelemetryGenerator {
     Telemetry telemetry =
         new Telemetry(TelemetryEvents.SEARCH.getName(), actor, eventContext, edata);
     telemetry.setMid(reqId);
-    return getTelemetry(telemetry);
+    return telemetry;
   }
 
   private static Map<String, Object> generateSearchEdata(Map<String, Object> params) {
@@ -252,9 +272,19 @@ public class TelemetryGenerator {
    * @return Search Telemetry event
    */
   public static String log(Map<String, Object> context, Map<String, Object> params) {
+    Telemetry telemetry = createLogEvent(context, params);
+    return null == telemetry ? "" : getTelemetry(telemetry);
+  }
+
+  /**
+   * Creates the log telemetry event without serializing it.
+   *
+   * @return Telemetry event or null if the context or params are empty
+   */
+  static Telemetry createLogEvent(Map<String, Object> context, Map<String, Object> params) {
 
     if (!validateRequest(context, params)) {
-      return "";
+      return null;
     }
     String actorId = (String) context.get(JsonKey.ACTOR_ID);
     String actorType = (String) context.get(JsonKey.ACTOR_TYPE);
@@ -274,7 +304,7 @@ public class TelemetryGenerator {
     Map<String, Object> edata = generateLogEdata(params);
     Telemetry telemetry = new Telemetry(TelemetryEvents.LOG.getName(), actor, eventContext, edata);
     telemetry.setMid(reqId);
-    return getTelemetry(telemetry);
+    return telemetry;
   }
 
   private static Map<String, Object> generateLogEdata(Map<String, Object> params) {
@@ -317,9 +347,19 @@ public class TelemetryGenerator {
    * @return Search Telemetry event
    */
   public static String error(Map<String, Object> context, Map<String, Object> params) {
+    Telemetry telemetry = createErrorEvent(context, params);
+    return null == telemetry ? "" : getTelemetry(telemetry);
+  }
+
+  /**
+   * Creates the error telemetry event without serializing it.
+   *
+   * @return Telemetry event or null if the context or params are empty
+   */
+  static Telemetry createErrorEvent(Map<String, Object> context, Map<String, Object> params) {
 
     if (!validateRequest(context, params)) {
-      return "";
+      return null;
     }
     String actorId = (String) context.get(JsonKey.ACTOR_ID);
     String actorType = (String) context.get(JsonKey.ACTOR_TYPE);
@@ -340,7 +380,7 @@ public class TelemetryGenerator {
     Telemetry telemetry =
         new Telemetry(TelemetryEvents.ERROR.getName(), actor, eventContext, edata);
     telemetry.setMid(reqId);
-    return getTelemetry(telemetry);
+    return telemetry;
   }
 
   private static Map<String, Object> generateErrorEdata(Map<String, Object> params) {
@@ -1,80 +1,81 @@
 package org.sunbird.telemetry.util;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.models.util.LoggerUtil;
 import org.sunbird.common.request.Request;
-import org.sunbird.telemetry.collector.TelemetryAssemblerFactory;
-import org.sunbird.telemetry.collector.TelemetryDataAssembler;
+import org.sunbird.common.util.ExecutorUtil;
+import org.sunbird.telemetry.dto.Telemetry;
 import org.sunbird.telemetry.validator.TelemetryObjectValidator;
 import org.sunbird.telemetry.validator.TelemetryObjectValidatorV3;
 
+/**
+ * Writes telemetry events to the TelemetryEventLogger. The event is created on the calling thread
+ * from a copy of the request maps and queued, validation, serialization and logging happen on the
+ * drain thread of {@link TelemetryEventQueue}.
+ */
 public class TelemetryWriter {
+  private static final int DEFAULT_QUEUE_SIZE = 10000;
+  private static final int DEFAULT_BATCH_SIZE = 100;
 
-  private static TelemetryDataAssembler telemetryDataAssembler = TelemetryAssemblerFactory.get();
   private static TelemetryObjectValidator telemetryObjectValidator =
       new TelemetryObjectValidatorV3();
   private static LoggerUtil logger = new LoggerUtil(TelemetryWriter.class);
   private static Logger telemetryEventLogger = LoggerFactory.getLogger("TelemetryEventLogger");
+  private static TelemetryEventQueue eventQueue = createEventQueue();
+
+  private static TelemetryEventQueue createEventQueue() {
+    TelemetryEventQueue queue =
+        new TelemetryEventQueue(
+            ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_TELEMETRY_QUEUE_SIZE, DEFAULT_QUEUE_SIZE),
+            ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_TELEMETRY_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+            TelemetryWriter::encode,
+            TelemetryWriter::writeBatch);
+    queue.start();
+    return queue;
+  }
 
   public static void write(Request request) {
     try {
       String eventType = (String) request.getRequest().get(JsonKey.TELEMETRY_EVENT_TYPE);
+      // the caller may change its maps once the event is queued
+      Map<String, Object> context = copy((Map<String, Object>) request.get(JsonKey.CONTEXT));
+      Map<String, Object> params = copy((Map<String, Object>) request.get(JsonKey.PARAMS));
+      Telemetry telemetry = null;
 
       if (TelemetryEvents.AUDIT.getName().equalsIgnoreCase(eventType)) {
-        processAuditEvent(request);
+        telemetry = createAuditEvent(request, context, params);
       } else if (TelemetryEvents.SEARCH.getName().equalsIgnoreCase(eventType)) {
-        processSearchEvent(request);
+        telemetry = TelemetryGenerator.createSearchEvent(context, params);
       } else if (TelemetryEvents.ERROR.getName().equalsIgnoreCase(eventType)) {
-        processErrorEvent(request);
+        telemetry = TelemetryGenerator.createErrorEvent(context, params);
       } else if (TelemetryEvents.LOG.getName().equalsIgnoreCase(eventType)) {
-        processLogEvent(request);
+        telemetry = TelemetryGenerator.createLogEvent(context, params);
+      }
+      if (null != telemetry) {
+        eventQueue.offer(telemetry);
       }
     } catch (Exception ex) {
       logger.info("Exception occurred while writing telemetry");
     }
   }
 
-  private static void processLogEvent(Request request) {
-    Map<String, Object> context = (Map<String, Object>) request.getRequest().get(JsonKey.CONTEXT);
-    Map<String, Object> params = (Map<String, Object>) request.getRequest().get(JsonKey.PARAMS);
-    String telemetry = telemetryDataAssembler.log(context, params);
-    if (StringUtils.isNotBlank(telemetry) && telemetryObjectValidator.validateLog(telemetry)) {
-      telemetryEventLogger.info(telemetry);
-    } else {
-      logger.info(
-          "TelemetryWriter:processLogEvent: Audit Telemetry validation failed: " + telemetry);
-    }
+  /** @return Queue of events waiting to be written, exposes the queue depth and counters */
+  public static TelemetryEventQueue getEventQueue() {
+    return eventQueue;
   }
 
-  private static void processErrorEvent(Request request) {
-    Map<String, Object> context = (Map<String, Object>) request.get(JsonKey.CONTEXT);
-    Map<String, Object> params = (Map<String, Object>) request.get(JsonKey.PARAMS);
-    String telemetry = telemetryDataAssembler.error(context, params);
-    if (StringUtils.isNotBlank(telemetry) && telemetryObjectValidator.validateError(telemetry)) {
-      telemetryEventLogger.info(telemetry);
-    }
-  }
-
-  private static void processSearchEvent(Request request) {
-    Map<String, Object> context = (Map<String, Object>) request.get(JsonKey.CONTEXT);
-    Map<String, Object> params = (Map<String, Object>) request.get(JsonKey.PARAMS);
-    String telemetry = telemetryDataAssembler.search(context, params);
-    if (StringUtils.isNotBlank(telemetry) && telemetryObjectValidator.validateSearch(telemetry)) {
-      telemetryEventLogger.info(telemetry);
-    }
-  }
-
-  private static void processAuditEvent(Request request) {
-    Map<String, Object> context = (Map<String, Object>) request.get(JsonKey.CONTEXT);
-    Map<String, Object> targetObject = (Map<String, Object>) request.get(JsonKey.TARGET_OBJECT);
+  private static Telemetry createAuditEvent(
+      Request request, Map<String, Object> context, Map<String, Object> params) {
+    Map<String, Object> targetObject =
+        copy((Map<String, Object>) request.get(JsonKey.TARGET_OBJECT));
     List<Map<String, Object>> correlatedObjects =
-        (List<Map<String, Object>>) request.get(JsonKey.CORRELATED_OBJECTS);
-    Map<String, Object> params = (Map<String, Object>) request.get(JsonKey.PARAMS);
+        copy((List<Map<String, Object>>) request.get(JsonKey.CORRELATED_OBJECTS));
     Map<String, Object> props = (Map<String, Object>) params.get(JsonKey.PROPS);
     if (props != null && props.containsKey(JsonKey.TYPE)) {
       String type = (String) props.get(JsonKey.TYPE);
@@ -82,9 +83,54 @@ public class TelemetryWriter {
     }
     params.put(JsonKey.TARGET_OBJECT, targetObject);
     params.put(JsonKey.CORRELATED_OBJECTS, correlatedObjects);
-    String telemetry = telemetryDataAssembler.audit(context, params);
-    if (StringUtils.isNotBlank(telemetry) && telemetryObjectValidator.validateAudit(telemetry)) {
-      telemetryEventLogger.info(telemetry);
+    return TelemetryGenerator.createAuditEvent(context, params);
+  }
+
+  /** @return Deep copy of the nested maps and lists, other values are shared */
+  static <T> T copy(T value) {
+    if (value instanceof Map) {
+      Map<Object, Object> copy = new HashMap<>();
+      ((Map<Object, Object>) value).forEach((k, v) -> copy.put(k, copy(v)));
+      return (T) copy;
+    }
+    if (value instanceof List) {
+      List<Object> copy = new ArrayList<>();
+      ((List<Object>) value).forEach(v -> copy.add(copy(v)));
+      return (T) copy;
+    }
+    return value;
+  }
+
+  /**
+   * Validates the event and serializes it.
+   *
+   * @param telemetry Telemetry event
+   * @return Event JSON or null if the event is invalid
+   */
+  static String encode(Telemetry telemetry) {
+    if (!isValid(telemetry)) {
+      return null;
+    }
+    return TelemetryGenerator.getTelemetry(telemetry);
+  }
+
+  private static boolean isValid(Telemetry telemetry) {
+    String eventType = telemetry.getEid();
+    if (TelemetryEvents.AUDIT.getName().equals(eventType)) {
+      return telemetryObjectValidator.validateAudit(telemetry);
+    } else if (TelemetryEvents.SEARCH.getName().equals(eventType)) {
+      return telemetryObjectValidator.validateSearch(telemetry);
+    } else if (TelemetryEvents.ERROR.getName().equals(eventType)) {
+      return telemetryObjectValidator.validateError(telemetry);
+    } else if (TelemetryEvents.LOG.getName().equals(eventType)) {
+      return telemetryObjectValidator.validateLog(telemetry);
+    }
+    return false;
+  }
+
+  private static void writeBatch(List<String> events) {
+    for (String event : events) {
+      telemetryEventLogger.info(event);
     }
   }
 }
@@ -1,5 +1,7 @@
 package org.sunbird.telemetry.validator;
 
+import org.sunbird.telemetry.dto.Telemetry;
+
 /** @author arvind */
 public interface TelemetryObjectValidator {
 
@@ -10,4 +12,12 @@ public interface TelemetryObjectValidator {
   public boolean validateLog(String jsonString);
 
   public boolean validateError(String jsonString);
+
+  public boolean validateAudit(Telemetry telemetry);
+
+  public boolean validateSearch(Telemetry telemetry);
+
+  public boolean validateLog(Telemetry telemetry);
+
+  public boolean validateError(Telemetry telemetry);
 }
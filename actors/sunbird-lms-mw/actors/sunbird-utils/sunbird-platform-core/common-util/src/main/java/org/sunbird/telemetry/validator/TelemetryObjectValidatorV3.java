@@ -19,52 +19,50 @@ public class TelemetryObjectValidatorV3 implements TelemetryObjectValidator {
 
   @Override
   public boolean validateAudit(String jsonString) {
-
-    boolean validationSuccess = true;
-    List<String> missingFields = new ArrayList<>();
-    Telemetry telemetryObj = null;
     try {
-      telemetryObj = mapper.readValue(jsonString, Telemetry.class);
-      validateBasics(telemetryObj, missingFields);
-      validateAuditEventData(telemetryObj.getEdata(), missingFields);
-      if (!missingFields.isEmpty()) {
-        logger.info(
-            "Telemetry Object Creation Error for event : "
-                + TelemetryEvents.AUDIT.getName()
-                + "  missing required fields :"
-                + String.join(",", missingFields));
-        validationSuccess = false;
-      }
+      return validateAudit(mapper.readValue(jsonString, Telemetry.class));
     } catch (IOException e) {
-      validationSuccess = false;
       logger.error(e.getMessage(), e);
+      return false;
     }
-    return validationSuccess;
   }
 
   @Override
-  public boolean validateSearch(String jsonString) {
-
-    boolean validationSuccess = true;
+  public boolean validateAudit(Telemetry telemetryObj) {
     List<String> missingFields = new ArrayList<>();
-    Telemetry telemetryObj = null;
+    validateBasics(telemetryObj, missingFields);
+    validateAuditEventData(telemetryObj.getEdata(), missingFields);
+    return isValid(TelemetryEvents.AUDIT, missingFields);
+  }
+
+  @Override
+  public boolean validateSearch(String jsonString) {
     try {
-      telemetryObj = mapper.readValue(jsonString, Telemetry.class);
-      validateBasics(telemetryObj, missingFields);
-      validateSearchEventData(telemetryObj.getEdata(), missingFields);
-      if (!missingFields.isEmpty()) {
-        logger.info(
-            "Telemetry Object Creation Error for event : "
-                + TelemetryEvents.SEARCH.getName()
-                + "  missing required fields :"
-                + String.join(",", missingFields));
-        validationSuccess = false;
-      }
+      return validateSearch(mapper.readValue(jsonString, Telemetry.class));
     } catch (IOException e) {
-      validationSuccess = false;
       logger.error("validateSearch" + e.getMessage(), e);
+      return false;
+    }
+  }
+
+  @Override
+  public boolean validateSearch(Telemetry telemetryObj) {
+    List<String> missingFields = new ArrayList<>();
+    validateBasics(telemetryObj, missingFields);
+    validateSearchEventData(telemetryObj.getEdata(), missingFields);
+    return isValid(TelemetryEvents.SEARCH, missingFields);
+  }
+
+  private boolean isValid(TelemetryEvents event, List<String> missingFields) {
+    if (!missingFields.isEmpty()) {
+      logger.info(
+          "Telemetry Object Creation Error for event : "
+              + event.getName()
+              + "  missing required fields :"
+              + String.join(",", missingFields));
+      return false;
     }
-    return validationSuccess;
+    return true;
   }
 
   private void validateSearchEventData(Map<String, Object> edata, List<String> missingFields) {
@@ -127,27 +125,20 @@ public class TelemetryObjectValidatorV3 implements TelemetryObjectValidator {
 
   @Override
   public boolean validateLog(String jsonString) {
-
-    boolean validationSuccess = true;
-    List<String> missingFields = new ArrayList<>();
-    Telemetry telemetryObj = null;
     try {
-      telemetryObj = mapper.readValue(jsonString, Telemetry.class);
-      validateBasics(telemetryObj, missingFields);
-      validateLogEventData(telemetryObj.getEdata(), missingFields);
-      if (!missingFields.isEmpty()) {
-        logger.info(
-            "Telemetry Object Creation Error for event : "
-                + TelemetryEvents.LOG.getName()
-                + "  missing required fields :"
-                + String.join(",", missingFields));
-        validationSuccess = false;
-      }
+      return validateLog(mapper.readValue(jsonString, Telemetry.class));
     } catch (IOException e) {
-      validationSuccess = false;
       logger.error("validateLog" + e.getMessage(), e);
+      return false;
     }
-    return validationSuccess;
+  }
+
+  @Override
+  public boolean validateLog(Telemetry telemetryObj) {
+    List<String> missingFields = new ArrayList<>();
+    validateBasics(telemetryObj, missingFields);
+    validateLogEventData(telemetryObj.getEdata(), missingFields);
+    return isValid(TelemetryEvents.LOG, missingFields);
   }
 
   private void validateLogEventData(Map<String, Object> edata, List<String> missingFields) {
@@ -160,36 +151,25 @@ public class TelemetryObjectValidatorV3 implements TelemetryObjectValidator {
       if (StringUtils.isBlank((String) edata.get(JsonKey.LEVEL))) {
         missingFields.add(JsonKey.LEVEL);
       }
-      // TODO: remember and make this change at the time of re-factoring.
-      if (StringUtils.isBlank((String) edata.get(JsonKey.MESSAGE))) {
-        edata.remove(JsonKey.MESSAGE);
-      }
     }
   }
 
   @Override
   public boolean validateError(String jsonString) {
-
-    boolean validationSuccess = true;
-    List<String> missingFields = new ArrayList<>();
-    Telemetry telemetryObj = null;
     try {
-      telemetryObj = mapper.readValue(jsonString, Telemetry.class);
-      validateBasics(telemetryObj, missingFields);
-      validateErrorEventData(telemetryObj.getEdata(), missingFields);
-      if (!missingFields.isEmpty()) {
-        logger.info(
-            "Telemetry Object Creation Error for event : "
-                + TelemetryEvents.ERROR.getName()
-                + "  missing required fields :"
-                + String.join(",", missingFields));
-        validationSuccess = false;
-      }
+      return validateError(mapper.readValue(jsonString, Telemetry.class));
     } catch (IOException e) {
-      validationSuccess = false;
       logger.error("validateError" + e.getMessage(), e);
+      return false;
     }
-    return validationSuccess;
+  }
+
+  @Override
+  public boolean validateError(Telemetry telemetryObj) {
+    List<String> missingFields = new ArrayList<>();
+    validateBasics(telemetryObj, missingFields);
+    validateErrorEventData(telemetryObj.getEdata(), missingFields);
+    return isValid(TelemetryEvents.ERROR, missingFields);
   }
 
   private void validateErrorEventData(Map<String, Object> edata, List<String> missingFields) {
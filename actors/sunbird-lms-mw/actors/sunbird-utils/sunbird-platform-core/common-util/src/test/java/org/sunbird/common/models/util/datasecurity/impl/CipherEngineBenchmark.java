@@ -0,0 +1,73 @@
+package org.sunbird.common.models.util.datasecurity.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.sunbird.common.models.util.datasecurity.EncryptionService;
+
+/**
+ * Compares encryption with one shared cipher, guarded by a lock so that the result stays correct,
+ * and BASE64Encoder against DefaultEncryptionServivceImpl.encrypt with per thread ciphers, from
+ * several threads. Run with the main method from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class CipherEngineBenchmark {
+  private static final String VALUE = "user.name@sunbird.example.org";
+
+  private Cipher sharedCipher;
+  private String salt;
+
+  @Setup
+  public void setup() throws Exception {
+    sharedCipher = Cipher.getInstance(EncryptionService.ALGORITHM);
+    sharedCipher.init(
+        Cipher.ENCRYPT_MODE,
+        new SecretKeySpec(EncryptionService.keyValue, EncryptionService.ALGORITHM));
+    salt = DefaultEncryptionServivceImpl.getSalt();
+  }
+
+  @Benchmark
+  public String sharedCipher() throws Exception {
+    String eValue = VALUE;
+    for (int i = 0; i < EncryptionService.ITERATIONS; i++) {
+      byte[] input = (salt + eValue).getBytes(StandardCharsets.UTF_8);
+      byte[] encValue;
+      synchronized (sharedCipher) {
+        encValue = sharedCipher.doFinal(input);
+      }
+      eValue = new BASE64Encoder().encode(encValue);
+    }
+    return eValue;
+  }
+
+  @Benchmark
+  public String cipherEngine() throws Exception {
+    return DefaultEncryptionServivceImpl.encrypt(VALUE);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(CipherEngineBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
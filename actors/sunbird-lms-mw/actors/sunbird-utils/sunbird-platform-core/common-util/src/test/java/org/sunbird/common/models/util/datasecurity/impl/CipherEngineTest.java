@@ -0,0 +1,95 @@
+package org.sunbird.common.models.util.datasecurity.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.Test;
+import org.sunbird.common.models.util.datasecurity.EncryptionService;
+
+public class CipherEngineTest {
+  private static final int THREAD_COUNT = 8;
+  private static final int VALUES_PER_THREAD = 200;
+
+  @Test
+  public void testEncodeMatchesBase64Encoder() {
+    for (int length = 0; length <= 240; length++) {
+      byte[] data = new byte[length];
+      Arrays.fill(data, (byte) length);
+      String encoded = new BASE64Encoder().encode(data);
+      assertEquals("length " + length, encoded, CipherEngine.encode(data));
+    }
+  }
+
+  @Test
+  public void testDecodeBase64EncoderOutput() throws Exception {
+    for (int length = 1; length <= 240; length++) {
+      byte[] data = new byte[length];
+      Arrays.fill(data, (byte) (length * 7));
+      String encoded = new BASE64Encoder().encode(data);
+      assertArrayEquals("length " + length, data, CipherEngine.decode(encoded));
+    }
+  }
+
+  @Test
+  public void testEncryptMatchesSingleCipher() throws Exception {
+    String value = "user.name+tag@sunbird.example.org";
+    assertEquals(legacyEncrypt(value), DefaultEncryptionServivceImpl.encrypt(value));
+  }
+
+  @Test
+  public void testConcurrentEncryptAndDecrypt() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    try {
+      List<Future<List<String>>> results = new ArrayList<>();
+      for (int t = 0; t < THREAD_COUNT; t++) {
+        int thread = t;
+        Callable<List<String>> task =
+            () -> {
+              List<String> errors = new ArrayList<>();
+              for (int i = 0; i < VALUES_PER_THREAD; i++) {
+                String value = "user" + thread + "_" + i + "@sunbird.org";
+                String encrypted = DefaultEncryptionServivceImpl.encrypt(value);
+                if (!legacyEncrypt(value).equals(encrypted)) {
+                  errors.add("corrupted ciphertext for " + value);
+                }
+                if (!value.equals(DefaultDecryptionServiceImpl.decrypt(encrypted, true, null))) {
+                  errors.add("round trip failed for " + value);
+                }
+              }
+              return errors;
+            };
+        results.add(executor.submit(task));
+      }
+      for (Future<List<String>> result : results) {
+        assertEquals(new ArrayList<>(), result.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /** Encryption as done with a single cipher and BASE64Encoder before the cipher engine. */
+  private static String legacyEncrypt(String value) throws Exception {
+    Cipher cipher = Cipher.getInstance(EncryptionService.ALGORITHM);
+    cipher.init(
+        Cipher.ENCRYPT_MODE,
+        new SecretKeySpec(EncryptionService.keyValue, EncryptionService.ALGORITHM));
+    String salt = DefaultEncryptionServivceImpl.getSalt();
+    String eValue = value;
+    for (int i = 0; i < EncryptionService.ITERATIONS; i++) {
+      byte[] encValue = cipher.doFinal((salt + eValue).getBytes(StandardCharsets.UTF_8));
+      eValue = new BASE64Encoder().encode(encValue);
+    }
+    return eValue;
+  }
+}
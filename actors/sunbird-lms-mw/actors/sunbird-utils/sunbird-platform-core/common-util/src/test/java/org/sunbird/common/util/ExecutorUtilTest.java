@@ -0,0 +1,87 @@
+package org.sunbird.common.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+public class ExecutorUtilTest {
+
+  @Test
+  public void testPoolThreadsAreNamedDaemons() throws Exception {
+    ThreadPoolExecutor pool =
+        ExecutorUtil.newBoundedPool("test-pool", 1, 1, ExecutorUtil.Rejection.ABORT);
+    AtomicReference<Thread> thread = new AtomicReference<>();
+    pool.submit(() -> thread.set(Thread.currentThread())).get(10, TimeUnit.SECONDS);
+    assertEquals("test-pool-1", thread.get().getName());
+    assertTrue(thread.get().isDaemon());
+    pool.shutdown();
+  }
+
+  @Test
+  public void testCallerRunsWhenQueueIsFull() throws Exception {
+    AtomicLong rejectedCount = new AtomicLong();
+    ThreadPoolExecutor pool =
+        ExecutorUtil.newBoundedPool(
+            "test-caller-runs", 1, 1, ExecutorUtil.Rejection.CALLER_RUNS, rejectedCount);
+    CountDownLatch release = fill(pool);
+    try {
+      AtomicReference<Thread> thread = new AtomicReference<>();
+      pool.execute(() -> thread.set(Thread.currentThread()));
+      assertSame(Thread.currentThread(), thread.get());
+      assertEquals(1, rejectedCount.get());
+    } finally {
+      release.countDown();
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testAbortWhenQueueIsFull() throws Exception {
+    AtomicLong rejectedCount = new AtomicLong();
+    ThreadPoolExecutor pool =
+        ExecutorUtil.newBoundedPool(
+            "test-abort", 1, 1, ExecutorUtil.Rejection.ABORT, rejectedCount);
+    CountDownLatch release = fill(pool);
+    try {
+      pool.execute(() -> fail("rejected task ran"));
+      fail("task was not rejected");
+    } catch (RejectedExecutionException e) {
+      assertEquals(1, rejectedCount.get());
+    } finally {
+      release.countDown();
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testGetIntConfigFallsBackToDefault() {
+    assertEquals(7, ExecutorUtil.getIntConfig("executor_util_test_missing_key", 7));
+    assertEquals(7, ExecutorUtil.getIntConfig("executor_util_test_missing_key", 7, 0));
+  }
+
+  private CountDownLatch fill(ThreadPoolExecutor pool) throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+    pool.execute(
+        () -> {
+          started.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+        });
+    started.await();
+    pool.execute(() -> {});
+    return release;
+  }
+}
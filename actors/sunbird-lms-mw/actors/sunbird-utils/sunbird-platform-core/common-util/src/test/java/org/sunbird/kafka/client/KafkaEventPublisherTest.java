@@ -0,0 +1,70 @@
+package org.sunbird.kafka.client;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.Before;
+import org.junit.Test;
+import org.sunbird.common.exception.ProjectCommonException;
+
+public class KafkaEventPublisherTest {
+
+  private MockProducer<String, String> producer;
+  private KafkaEventPublisher publisher;
+
+  @Before
+  public void setUp() {
+    producer = new MockProducer<>(false, new StringSerializer(), new StringSerializer());
+    publisher = new KafkaEventPublisher(producer);
+    publisher.setTopics(new HashSet<>(Arrays.asList("topic1", "topic2")));
+  }
+
+  @Test
+  public void testSendCountsAcknowledgedEvents() {
+    publisher.send("key1", "event1", "topic1");
+    publisher.send(null, "event2", "topic1");
+    assertEquals(2, producer.history().size());
+    assertEquals("key1", producer.history().get(0).key());
+    assertEquals(2, publisher.getSentCount("topic1"));
+    assertEquals(0, publisher.getAcknowledgedCount("topic1"));
+    producer.completeNext();
+    producer.completeNext();
+    assertEquals(2, publisher.getAcknowledgedCount("topic1"));
+    assertEquals(0, publisher.getFailedCount("topic1"));
+  }
+
+  @Test
+  public void testSendCountsFailedEventsPerTopic() {
+    publisher.send("key1", "event1", "topic1");
+    publisher.send("key2", "event2", "topic2");
+    producer.errorNext(new RuntimeException("broker unavailable"));
+    producer.completeNext();
+    assertEquals(1, publisher.getFailedCount("topic1"));
+    assertEquals(1, publisher.getAcknowledgedCount("topic2"));
+    assertEquals(0, publisher.getFailedCount("topic2"));
+  }
+
+  @Test
+  public void testSendToUnknownTopicFails() {
+    try {
+      publisher.send("key1", "event1", "topic3");
+      fail();
+    } catch (ProjectCommonException e) {
+      assertEquals("TOPIC_NOT_EXISTS_EXCEPTION", e.getCode());
+    }
+    assertEquals(0, producer.history().size());
+  }
+
+  @Test
+  public void testSetTopicsReplacesKnownTopics() {
+    publisher.setTopics(new HashSet<>(Arrays.asList("topic3")));
+    publisher.send("key1", "event1", "topic3");
+    assertEquals(1, publisher.getSentCount("topic3"));
+    assertFalse(publisher.isKnownTopic("topic1"));
+  }
+}
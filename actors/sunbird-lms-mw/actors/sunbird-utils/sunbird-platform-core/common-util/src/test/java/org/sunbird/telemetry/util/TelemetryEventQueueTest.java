@@ -0,0 +1,155 @@
+package org.sunbird.telemetry.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.telemetry.dto.Telemetry;
+
+public class TelemetryEventQueueTest {
+
+  @Test
+  public void testOfferDropsEventsWhenFull() {
+    TelemetryEventQueue queue =
+        new TelemetryEventQueue(2, 10, Telemetry::getEid, batch -> {});
+    assertTrue(queue.offer(event("1")));
+    assertTrue(queue.offer(event("2")));
+    assertFalse(queue.offer(event("3")));
+    assertEquals(2, queue.getDepth());
+    assertEquals(2, queue.getEnqueuedCount());
+    assertEquals(1, queue.getDroppedCount());
+  }
+
+  @Test
+  public void testDrainBatchWritesInBatches() {
+    List<List<String>> batches = new ArrayList<>();
+    TelemetryEventQueue queue =
+        new TelemetryEventQueue(10, 2, Telemetry::getEid, batches::add);
+    for (int i = 0; i < 5; i++) {
+      queue.offer(event(String.valueOf(i)));
+    }
+    assertEquals(2, queue.drainBatch());
+    queue.flush();
+    assertEquals(
+        Arrays.asList(Arrays.asList("0", "1"), Arrays.asList("2", "3"), Arrays.asList("4")),
+        batches);
+    assertEquals(0, queue.getDepth());
+    assertEquals(5, queue.getWrittenCount());
+  }
+
+  @Test
+  public void testDrainBatchSkipsInvalidEvents() {
+    List<String> written = new ArrayList<>();
+    TelemetryEventQueue queue =
+        new TelemetryEventQueue(
+            10,
+            10,
+            event -> {
+              if ("bad".equals(event.getEid())) {
+                throw new IllegalStateException("invalid event");
+              }
+              return event.getEid();
+            },
+            written::addAll);
+    queue.offer(event("good"));
+    queue.offer(event("bad"));
+    queue.offer(event(""));
+    queue.flush();
+    assertEquals(Arrays.asList("good"), written);
+    assertEquals(1, queue.getWrittenCount());
+    assertEquals(2, queue.getInvalidCount());
+  }
+
+  @Test
+  public void testStopWritesQueuedEventsAfterDrainThreadStops() throws Exception {
+    List<String> written = Collections.synchronizedList(new ArrayList<>());
+    List<String> writerThreads = Collections.synchronizedList(new ArrayList<>());
+    TelemetryEventQueue queue =
+        new TelemetryEventQueue(
+            100,
+            1,
+            Telemetry::getEid,
+            batch -> {
+              writerThreads.add(Thread.currentThread().getName());
+              written.addAll(batch);
+            });
+    queue.start();
+    for (int i = 0; i < 50; i++) {
+      queue.offer(event(String.valueOf(i)));
+    }
+    queue.stop();
+    assertEquals(50, written.size());
+    assertEquals(0, queue.getDepth());
+    int count = writerThreads.size();
+    queue.offer(event("late"));
+    Thread.sleep(50);
+    assertEquals(count, writerThreads.size());
+  }
+
+  @Test
+  public void testCopyDetachesNestedMapsAndLists() {
+    Map<String, Object> props = new HashMap<>();
+    props.put(JsonKey.TYPE, "user");
+    List<Object> cdata = new ArrayList<>();
+    cdata.add(props);
+    Map<String, Object> params = new HashMap<>();
+    params.put(JsonKey.PROPS, props);
+    params.put(JsonKey.CORRELATED_OBJECTS, cdata);
+    Map<String, Object> copy = TelemetryWriter.copy(params);
+    props.put(JsonKey.TYPE, "org");
+    cdata.clear();
+    params.remove(JsonKey.PROPS);
+    assertEquals("user", ((Map<String, Object>) copy.get(JsonKey.PROPS)).get(JsonKey.TYPE));
+    assertEquals(1, ((List<Object>) copy.get(JsonKey.CORRELATED_OBJECTS)).size());
+    assertNull(TelemetryWriter.copy(null));
+  }
+
+  @Test
+  public void testEncodeValidLogEvent() {
+    Telemetry telemetry = TelemetryGenerator.createLogEvent(context(), logParams());
+    String event = TelemetryWriter.encode(telemetry);
+    assertNotNull(event);
+    assertTrue(event.contains(TelemetryEvents.LOG.getName()));
+  }
+
+  @Test
+  public void testEncodeLogEventWithoutActor() {
+    Telemetry telemetry = TelemetryGenerator.createLogEvent(context(), logParams());
+    telemetry.setActor(null);
+    assertNull(TelemetryWriter.encode(telemetry));
+  }
+
+  private static Telemetry event(String eid) {
+    Telemetry telemetry = new Telemetry();
+    telemetry.setEid(eid);
+    return telemetry;
+  }
+
+  private static Map<String, Object> context() {
+    Map<String, Object> context = new HashMap<>();
+    context.put(JsonKey.ACTOR_ID, "Internal");
+    context.put(JsonKey.ACTOR_TYPE, "consumer");
+    context.put(JsonKey.CHANNEL, "ORG_001");
+    context.put(JsonKey.ENV, "User");
+    context.put(JsonKey.X_REQUEST_ID, "8e27cbf5-e299-43b0-bca7-8347f7e5abcf");
+    return context;
+  }
+
+  private static Map<String, Object> logParams() {
+    Map<String, Object> params = new HashMap<>();
+    params.put(JsonKey.LOG_TYPE, JsonKey.API_ACCESS);
+    params.put(JsonKey.LOG_LEVEL, JsonKey.INFO);
+    params.put(JsonKey.MESSAGE, "");
+    return params;
+  }
+}
@@ -3,7 +3,6 @@ package org.sunbird.user.actors;
 import akka.actor.ActorRef;
 import akka.dispatch.Futures;
 import akka.dispatch.Mapper;
-import akka.pattern.Patterns;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.sql.Timestamp;
@@ -15,6 +14,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
@@ -31,6 +33,7 @@ import org.sunbird.actorutil.systemsettings.impl.SystemSettingClientImpl;
 import org.sunbird.actorutil.user.UserClient;
 import org.sunbird.actorutil.user.impl.UserClientImpl;
 import org.sunbird.cassandra.CassandraOperation;
+import org.sunbird.common.ElasticSearchFutures;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
@@ -74,10 +77,13 @@ import org.sunbird.user.service.UserLookupService;
 import org.sunbird.user.service.UserService;
 import org.sunbird.user.service.impl.UserLookUpServiceImpl;
 import org.sunbird.user.service.impl.UserServiceImpl;
+import org.sunbird.user.util.FrameworkCache;
 import org.sunbird.user.util.UserActorOperations;
 import org.sunbird.user.util.UserUtil;
 import org.sunbird.validator.user.UserRequestValidator;
 import scala.Tuple2;
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.ExecutionContextExecutor;
 import scala.concurrent.Future;
 
 @ActorConfig(
@@ -163,7 +169,7 @@ public class UserManagementActor extends BaseActor {
   private void createUserV3(Request actorMessage) {
     logger.info(
         actorMessage.getRequestContext(), "UserManagementActor:createUserV3 method called.");
-    createUserV3_V4(actorMessage, false);
+    pipeToSender(createUserV3_V4(actorMessage, false, getContext().dispatcher()), actorMessage);
   }
   /**
    * This method will create managed user in user in cassandra and update to ES as well at same
@@ -181,11 +187,20 @@ public class UserManagementActor extends BaseActor {
         .equalsIgnoreCase(ActorOperations.CREATE_MANAGED_USER.getValue())) {
       setProfileUsertypeAndLocation(userMap, actorMessage);
     }
-    validateLocationCodes(actorMessage);
-    createUserV3_V4(actorMessage, true);
+    ExecutionContextExecutor dispatcher = getContext().dispatcher();
+    CompletionStage<Response> response =
+        getRequestedLocations(actorMessage)
+            .thenComposeAsync(
+                locations -> {
+                  validateLocationCodes(actorMessage, locations);
+                  return createUserV3_V4(actorMessage, true, dispatcher);
+                },
+                dispatcher);
+    pipeToSender(response, actorMessage);
   }
 
-  private void createUserV3_V4(Request actorMessage, boolean isV4) {
+  private CompletionStage<Response> createUserV3_V4(
+      Request actorMessage, boolean isV4, ExecutionContextExecutor dispatcher) {
     actorMessage.toLower();
     Map<String, Object> userMap = actorMessage.getRequest();
     String signupType =
@@ -222,7 +237,8 @@ public class UserManagementActor extends BaseActor {
       }
       profileUserType(userMap, actorMessage.getRequestContext());
     }
-    processUserRequestV3_V4(userMap, signupType, source, managedBy, actorMessage);
+    return processUserRequestV3_V4(
+        userMap, signupType, source, managedBy, actorMessage, dispatcher);
   }
 
   private void cacheFrameworkFieldsConfig(RequestContext context) {
@@ -242,16 +258,28 @@ public class UserManagementActor extends BaseActor {
   private void updateUser(Request actorMessage) {
     Util.initializeContext(actorMessage, TelemetryEnvKey.USER);
     actorMessage.toLower();
-    String callerId = (String) actorMessage.getContext().get(JsonKey.CALLER_ID);
     Map<String, Object> userMap = actorMessage.getRequest();
     logger.info(actorMessage.getRequestContext(), "Incoming update request body: " + userMap);
     userRequestValidator.validateUpdateUserRequest(actorMessage);
-    validateLocationCodes(actorMessage);
+    Executor executor = getContext().dispatcher();
+    CompletionStage<Response> response =
+        getRequestedLocations(actorMessage)
+            .thenApplyAsync(locations -> getUserDbRecord(actorMessage, locations), executor)
+            .thenCompose(
+                userDbRecord -> validateUserTypeAndSubType(actorMessage, userDbRecord, executor))
+            .thenComposeAsync(
+                userDbRecord -> validateAndUpdateUser(actorMessage, userDbRecord, executor),
+                executor);
+    pipeToSender(response, actorMessage);
+  }
+
+  private Map<String, Object> getUserDbRecord(Request actorMessage, List<Location> locations) {
+    Map<String, Object> userMap = actorMessage.getRequest();
+    validateLocationCodes(actorMessage, locations);
     // update externalIds provider from channel to orgId
     UserUtil.updateExternalIdsProviderWithOrgId(userMap, actorMessage.getRequestContext());
     Map<String, Object> userDbRecord =
         UserUtil.validateExternalIdsAndReturnActiveUser(userMap, actorMessage.getRequestContext());
-    String managedById = (String) userDbRecord.get(JsonKey.MANAGED_BY);
     if (actorMessage.getOperation().equalsIgnoreCase(ActorOperations.UPDATE_USER_V2.getValue())) {
       setProfileUsertypeAndLocation(userMap, actorMessage);
     } else {
@@ -262,8 +290,30 @@ public class UserManagementActor extends BaseActor {
         userMap.remove(JsonKey.PROFILE_USERTYPE);
       }
     }
-    validateUserTypeAndSubType(
-        actorMessage.getRequest(), userDbRecord, actorMessage.getRequestContext());
+    return userDbRecord;
+  }
+
+  private CompletionStage<Map<String, Object>> validateUserTypeAndSubType(
+      Request actorMessage, Map<String, Object> userDbRecord, Executor executor) {
+    Map<String, Object> userMap = actorMessage.getRequest();
+    if (null == userMap.get(JsonKey.USER_TYPE)) {
+      return CompletableFuture.completedFuture(userDbRecord);
+    }
+    return getUserLocations(userMap, userDbRecord, actorMessage.getRequestContext())
+        .thenApplyAsync(
+            locations -> {
+              validateUserTypeAndSubType(userMap, locations, actorMessage.getRequestContext());
+              return userDbRecord;
+            },
+            executor);
+  }
+
+  @SuppressWarnings("unchecked")
+  private CompletionStage<Response> validateAndUpdateUser(
+      Request actorMessage, Map<String, Object> userDbRecord, Executor executor) {
+    String callerId = (String) actorMessage.getContext().get(JsonKey.CALLER_ID);
+    Map<String, Object> userMap = actorMessage.getRequest();
+    String managedById = (String) userDbRecord.get(JsonKey.MANAGED_BY);
     if (StringUtils.isNotBlank(callerId)) {
       userService.validateUploader(actorMessage, actorMessage.getRequestContext());
     } else {
@@ -278,9 +328,19 @@ public class UserManagementActor extends BaseActor {
     UserUtil.validateExternalIdsForUpdateUser(
         user, isCustodianOrgUser, actorMessage.getRequestContext());
     userMap.put(JsonKey.EXTERNAL_IDS, user.getExternalIds());
-    updateLocationCodeToIds(
-        (List<Map<String, String>>) userMap.get(JsonKey.EXTERNAL_IDS),
-        actorMessage.getRequestContext());
+    return updateLocationCodeToIds(
+            (List<Map<String, String>>) userMap.get(JsonKey.EXTERNAL_IDS),
+            actorMessage.getRequestContext())
+        .thenComposeAsync(
+            v -> saveUpdatedUser(actorMessage, userDbRecord, user, executor), executor);
+  }
+
+  @SuppressWarnings("unchecked")
+  private CompletionStage<Response> saveUpdatedUser(
+      Request actorMessage, Map<String, Object> userDbRecord, User user, Executor executor) {
+    String callerId = (String) actorMessage.getContext().get(JsonKey.CALLER_ID);
+    Map<String, Object> userMap = actorMessage.getRequest();
+    String managedById = (String) userDbRecord.get(JsonKey.MANAGED_BY);
     UserUtil.validateUserPhoneAndEmailUniqueness(
         user, JsonKey.UPDATE, actorMessage.getRequestContext());
     // not allowing user to update the status,provider,userName
@@ -310,12 +370,12 @@ public class UserManagementActor extends BaseActor {
     int userFlagValue = userFlagsToNum(userBooleanMap);
     requestMap.put(JsonKey.FLAGS_VALUE, userFlagValue);
     // As of now disallowing updating manageble user's phone/email, will le allowed in next release
-    boolean resetPasswordLink = false;
-    if (StringUtils.isNotEmpty(managedById)
-        && ((StringUtils.isNotEmpty((String) requestMap.get(JsonKey.EMAIL))
-            || (StringUtils.isNotEmpty((String) requestMap.get(JsonKey.PHONE)))))) {
+    boolean resetPasswordLink =
+        StringUtils.isNotEmpty(managedById)
+            && ((StringUtils.isNotEmpty((String) requestMap.get(JsonKey.EMAIL))
+                || (StringUtils.isNotEmpty((String) requestMap.get(JsonKey.PHONE)))));
+    if (resetPasswordLink) {
       requestMap.put(JsonKey.MANAGED_BY, null);
-      resetPasswordLink = true;
     }
 
     Response response =
@@ -329,90 +389,138 @@ public class UserManagementActor extends BaseActor {
     if (StringUtils.isNotBlank(callerId)) {
       userMap.put(JsonKey.ROOT_ORG_ID, actorMessage.getContext().get(JsonKey.ROOT_ORG_ID));
     }
-    Response resp = null;
+    CompletionStage<Response> saveAttributes;
     if (((String) response.get(JsonKey.RESPONSE)).equalsIgnoreCase(JsonKey.SUCCESS)) {
-      if (StringUtils.isNotEmpty((String) userMap.get(JsonKey.ORG_EXTERNAL_ID))) {
-        OrganisationClient organisationClient = OrganisationClientImpl.getInstance();
-        Map<String, Object> filters = new HashMap<>();
-        filters.put(JsonKey.EXTERNAL_ID, userMap.get(JsonKey.ORG_EXTERNAL_ID));
-        if (StringUtils.isNotEmpty((String) userMap.get(JsonKey.STATE_ID))) {
-          filters.put(
-              String.join(".", JsonKey.ORG_LOCATION, JsonKey.ID), userMap.get(JsonKey.STATE_ID));
-        } else {
-          logger.info(
-              actorMessage.getRequestContext(), "profileLocation is empty in user update request.");
-          List<Map<String, String>> profileLocation =
-              (List<Map<String, String>>) userDbRecord.get(JsonKey.PROFILE_LOCATION);
-          profileLocation
-              .stream()
-              .forEach(
-                  loc -> {
-                    String locType = loc.get(JsonKey.TYPE);
-                    if (JsonKey.STATE.equalsIgnoreCase(locType)) {
-                      filters.put(
-                          String.join(".", JsonKey.ORG_LOCATION, JsonKey.ID), loc.get(JsonKey.ID));
+      saveAttributes =
+          updateOrgByExternalId(actorMessage, userDbRecord, executor)
+              .thenComposeAsync(
+                  v -> {
+                    Map<String, Object> userRequest = new HashMap<>(userMap);
+                    userRequest.put(JsonKey.OPERATION_TYPE, JsonKey.UPDATE);
+                    if (StringUtils.isNotBlank(callerId)) {
+                      userRequest.put(
+                          JsonKey.ASSOCIATION_TYPE, AssociationMechanism.SYSTEM_UPLOAD);
+                    } else {
+                      userRequest.put(
+                          JsonKey.ASSOCIATION_TYPE, AssociationMechanism.SELF_DECLARATION);
                     }
-                  });
-        }
-        logger.info(
-            actorMessage.getRequestContext(),
-            "fetching org by orgExternalId and orgLocationId : " + filters);
-        List<Organisation> organisations =
-            organisationClient.esSearchOrgByFilter(filters, actorMessage.getRequestContext());
-        if (organisations.size() == 0 || organisations.size() > 1) {
-          logger.info(
-              actorMessage.getRequestContext(),
-              "Got empty search result by orgExternalId and orgLocationId : " + filters);
-        } else {
-          Map<String, Object> org =
-              (Map<String, Object>) mapper.convertValue(organisations.get(0), Map.class);
-          List<Map<String, Object>> orgList = new ArrayList();
-          if (MapUtils.isNotEmpty(org)) {
-            orgList.add(org);
+                    return userService.saveUserAttributesAsync(
+                        userRequest,
+                        getActorRef(UserActorOperations.SAVE_USER_ATTRIBUTES.getValue()),
+                        actorMessage.getRequestContext());
+                  },
+                  executor);
+    } else {
+      logger.info(
+          actorMessage.getRequestContext(), "UserManagementActor:updateUser: User update failure");
+      saveAttributes = CompletableFuture.completedFuture(null);
+    }
+    // the reply waits for the database writes only, the notifications run on their own stage
+    saveAttributes.thenAcceptAsync(
+        resp ->
+            runUpdateSideEffects(
+                actorMessage, userDbRecord, requestMap, resetPasswordLink, null != resp),
+        executor);
+    return saveAttributes.thenApplyAsync(
+        resp -> {
+          if (null != resp) {
+            response.put(
+                JsonKey.ERRORS,
+                ((Map<String, Object>) resp.getResult().get(JsonKey.RESPONSE))
+                    .get(JsonKey.ERRORS));
           }
-          actorMessage.getRequest().put(JsonKey.ORGANISATIONS, orgList);
-          actorMessage.getRequest().put(JsonKey.ROOT_ORG_ID, userDbRecord.get(JsonKey.ROOT_ORG_ID));
-          updateUserOrganisations(actorMessage);
-        }
+          return response;
+        },
+        executor);
+  }
+
+  private void runUpdateSideEffects(
+      Request actorMessage,
+      Map<String, Object> userDbRecord,
+      Map<String, Object> requestMap,
+      boolean resetPasswordLink,
+      boolean userUpdated) {
+    Map<String, Object> userMap = actorMessage.getRequest();
+    try {
+      // Managed-users should get ResetPassword Link
+      if (resetPasswordLink) {
+        sendResetPasswordLink(requestMap, actorMessage.getRequestContext());
       }
-      Map<String, Object> userRequest = new HashMap<>(userMap);
-      userRequest.put(JsonKey.OPERATION_TYPE, JsonKey.UPDATE);
-      if (StringUtils.isNotBlank(callerId)) {
-        userRequest.put(JsonKey.ASSOCIATION_TYPE, AssociationMechanism.SYSTEM_UPLOAD);
-      } else {
-        userRequest.put(JsonKey.ASSOCIATION_TYPE, AssociationMechanism.SELF_DECLARATION);
+      if (userUpdated) {
+        Map<String, Object> completeUserDetails = new HashMap<>(userDbRecord);
+        completeUserDetails.putAll(requestMap);
+        saveUserDetailsToEs(completeUserDetails, actorMessage.getRequestContext());
       }
-      resp =
-          userService.saveUserAttributes(
-              userRequest,
-              getActorRef(UserActorOperations.SAVE_USER_ATTRIBUTES.getValue()),
-              actorMessage.getRequestContext());
+      Map<String, Object> targetObject = null;
+      List<Map<String, Object>> correlatedObject = new ArrayList<>();
+      targetObject =
+          TelemetryUtil.generateTargetObject(
+              (String) userMap.get(JsonKey.USER_ID), TelemetryEnvKey.USER, JsonKey.UPDATE, null);
+      TelemetryUtil.telemetryProcessingCall(
+          userMap, targetObject, correlatedObject, actorMessage.getContext());
+    } catch (Exception e) {
+      logger.error(
+          actorMessage.getRequestContext(),
+          "UserManagementActor:runUpdateSideEffects: Exception occurred with error message = "
+              + e.getMessage(),
+          e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private CompletionStage<Void> updateOrgByExternalId(
+      Request actorMessage, Map<String, Object> userDbRecord, Executor executor) {
+    Map<String, Object> userMap = actorMessage.getRequest();
+    if (StringUtils.isEmpty((String) userMap.get(JsonKey.ORG_EXTERNAL_ID))) {
+      return CompletableFuture.completedFuture(null);
+    }
+    Map<String, Object> filters = new HashMap<>();
+    filters.put(JsonKey.EXTERNAL_ID, userMap.get(JsonKey.ORG_EXTERNAL_ID));
+    if (StringUtils.isNotEmpty((String) userMap.get(JsonKey.STATE_ID))) {
+      filters.put(
+          String.join(".", JsonKey.ORG_LOCATION, JsonKey.ID), userMap.get(JsonKey.STATE_ID));
     } else {
       logger.info(
-          actorMessage.getRequestContext(), "UserManagementActor:updateUser: User update failure");
-    }
-    if (null != resp) {
-      response.put(
-          JsonKey.ERRORS,
-          ((Map<String, Object>) resp.getResult().get(JsonKey.RESPONSE)).get(JsonKey.ERRORS));
-    }
-    sender().tell(response, self());
-    // Managed-users should get ResetPassword Link
-    if (resetPasswordLink) {
-      sendResetPasswordLink(requestMap, actorMessage.getRequestContext());
-    }
-    if (null != resp) {
-      Map<String, Object> completeUserDetails = new HashMap<>(userDbRecord);
-      completeUserDetails.putAll(requestMap);
-      saveUserDetailsToEs(completeUserDetails, actorMessage.getRequestContext());
+          actorMessage.getRequestContext(), "profileLocation is empty in user update request.");
+      List<Map<String, String>> profileLocation =
+          (List<Map<String, String>>) userDbRecord.get(JsonKey.PROFILE_LOCATION);
+      profileLocation
+          .stream()
+          .forEach(
+              loc -> {
+                String locType = loc.get(JsonKey.TYPE);
+                if (JsonKey.STATE.equalsIgnoreCase(locType)) {
+                  filters.put(
+                      String.join(".", JsonKey.ORG_LOCATION, JsonKey.ID), loc.get(JsonKey.ID));
+                }
+              });
     }
-    Map<String, Object> targetObject = null;
-    List<Map<String, Object>> correlatedObject = new ArrayList<>();
-    targetObject =
-        TelemetryUtil.generateTargetObject(
-            (String) userMap.get(JsonKey.USER_ID), TelemetryEnvKey.USER, JsonKey.UPDATE, null);
-    TelemetryUtil.telemetryProcessingCall(
-        userMap, targetObject, correlatedObject, actorMessage.getContext());
+    logger.info(
+        actorMessage.getRequestContext(),
+        "fetching org by orgExternalId and orgLocationId : " + filters);
+    return organisationClient
+        .esSearchOrgByFilterAsync(filters, actorMessage.getRequestContext())
+        .thenAcceptAsync(
+            organisations -> {
+              if (organisations.size() == 0 || organisations.size() > 1) {
+                logger.info(
+                    actorMessage.getRequestContext(),
+                    "Got empty search result by orgExternalId and orgLocationId : " + filters);
+              } else {
+                Map<String, Object> org =
+                    (Map<String, Object>) mapper.convertValue(organisations.get(0), Map.class);
+                List<Map<String, Object>> orgList = new ArrayList();
+                if (MapUtils.isNotEmpty(org)) {
+                  orgList.add(org);
+                }
+                actorMessage.getRequest().put(JsonKey.ORGANISATIONS, orgList);
+                actorMessage
+                    .getRequest()
+                    .put(JsonKey.ROOT_ORG_ID, userDbRecord.get(JsonKey.ROOT_ORG_ID));
+                updateUserOrganisations(actorMessage);
+              }
+            },
+            executor);
   }
 
   private void removeUserLookupEntry(
@@ -439,37 +547,43 @@ public class UserManagementActor extends BaseActor {
     }
   }
 
-  private void updateLocationCodeToIds(
+  private CompletionStage<Void> updateLocationCodeToIds(
       List<Map<String, String>> externalIds, RequestContext context) {
+    if (CollectionUtils.isEmpty(externalIds)) {
+      return CompletableFuture.completedFuture(null);
+    }
     List<String> locCodeLst = new ArrayList<>();
-    if (CollectionUtils.isNotEmpty(externalIds)) {
-      externalIds.forEach(
-          externalIdMap -> {
-            if (externalIdMap.containsValue(JsonKey.DECLARED_STATE)
-                || externalIdMap.containsValue(JsonKey.DECLARED_DISTRICT)) {
-              locCodeLst.add(externalIdMap.get(JsonKey.ID));
-            }
-          });
-      List<Location> locationIdList =
-          locationClient.getLocationByCodes(
-              getActorRef(LocationActorOperation.GET_RELATED_LOCATION_IDS.getValue()),
-              locCodeLst,
-              context);
-      if (CollectionUtils.isNotEmpty(locationIdList)) {
-        locationIdList.forEach(
-            location -> {
-              externalIds.forEach(
-                  externalIdMap -> {
-                    if (externalIdMap.containsValue(JsonKey.DECLARED_STATE)
-                        || externalIdMap.containsValue(JsonKey.DECLARED_DISTRICT)) {
-                      if (location.getCode().equals(externalIdMap.get(JsonKey.ID))) {
-                        externalIdMap.put(JsonKey.ID, location.getId());
-                        externalIdMap.put(JsonKey.ORIGINAL_EXTERNAL_ID, location.getId());
-                      }
+    externalIds.forEach(
+        externalIdMap -> {
+          if (externalIdMap.containsValue(JsonKey.DECLARED_STATE)
+              || externalIdMap.containsValue(JsonKey.DECLARED_DISTRICT)) {
+            locCodeLst.add(externalIdMap.get(JsonKey.ID));
+          }
+        });
+    return locationClient
+        .getLocationByCodesAsync(
+            getActorRef(LocationActorOperation.GET_RELATED_LOCATION_IDS.getValue()),
+            locCodeLst,
+            context)
+        .thenAccept(locationIdList -> updateLocationCodeToIds(externalIds, locationIdList));
+  }
+
+  private void updateLocationCodeToIds(
+      List<Map<String, String>> externalIds, List<Location> locationIdList) {
+    if (CollectionUtils.isNotEmpty(locationIdList)) {
+      locationIdList.forEach(
+          location -> {
+            externalIds.forEach(
+                externalIdMap -> {
+                  if (externalIdMap.containsValue(JsonKey.DECLARED_STATE)
+                      || externalIdMap.containsValue(JsonKey.DECLARED_DISTRICT)) {
+                    if (location.getCode().equals(externalIdMap.get(JsonKey.ID))) {
+                      externalIdMap.put(JsonKey.ID, location.getId());
+                      externalIdMap.put(JsonKey.ORIGINAL_EXTERNAL_ID, location.getId());
                     }
-                  });
-            });
-      }
+                  }
+                });
+          });
     }
   }
 
@@ -709,8 +823,33 @@ public class UserManagementActor extends BaseActor {
     if (actorMessage.getOperation().equalsIgnoreCase(ActorOperations.CREATE_SSO_USER.getValue())) {
       setProfileUsertypeAndLocation(userMap, actorMessage);
     }
-    validateLocationCodes(actorMessage);
-    validateChannelAndOrganisationId(userMap, actorMessage.getRequestContext());
+    Executor executor = getContext().dispatcher();
+    CompletionStage<Response> response =
+        getRequestedLocations(actorMessage)
+            .thenAcceptBothAsync(
+                getRequestedOrg(userMap, actorMessage.getRequestContext()),
+                (locations, requestedOrg) ->
+                    prepareCreateUserRequest(actorMessage, locations, requestedOrg),
+                executor)
+            .thenCompose(v -> processUserRequest(userMap, callerId, actorMessage, executor));
+    pipeToSender(response, actorMessage);
+  }
+
+  private CompletionStage<Organisation> getRequestedOrg(
+      Map<String, Object> userMap, RequestContext context) {
+    String requestedOrgId = (String) userMap.get(JsonKey.ORGANISATION_ID);
+    if (StringUtils.isBlank(requestedOrgId)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return organisationClient.esGetOrgByIdAsync(requestedOrgId, context);
+  }
+
+  private void prepareCreateUserRequest(
+      Request actorMessage, List<Location> locations, Organisation requestedOrg) {
+    Map<String, Object> userMap = actorMessage.getRequest();
+    String callerId = (String) actorMessage.getContext().get(JsonKey.CALLER_ID);
+    validateLocationCodes(actorMessage, locations);
+    validateChannelAndOrganisationId(userMap, requestedOrg, actorMessage.getRequestContext());
     validatePrimaryAndRecoveryKeys(userMap);
     profileUserType(userMap, actorMessage.getRequestContext());
     // remove these fields from req
@@ -744,7 +883,6 @@ public class UserManagementActor extends BaseActor {
         }
       }
     }
-    processUserRequest(userMap, callerId, actorMessage);
   }
 
   private String validateExternalIdAndGetOrgId(
@@ -786,7 +924,7 @@ public class UserManagementActor extends BaseActor {
   }
 
   private void validateChannelAndOrganisationId(
-      Map<String, Object> userMap, RequestContext context) {
+      Map<String, Object> userMap, Organisation fetchedOrgById, RequestContext context) {
     String requestedOrgId = (String) userMap.get(JsonKey.ORGANISATION_ID);
     String requestedChannel = (String) userMap.get(JsonKey.CHANNEL);
     String fetchedRootOrgIdByChannel = "";
@@ -803,9 +941,7 @@ public class UserManagementActor extends BaseActor {
       }
       userMap.put(JsonKey.ROOT_ORG_ID, fetchedRootOrgIdByChannel);
     }
-    Organisation fetchedOrgById = null;
     if (StringUtils.isNotBlank(requestedOrgId)) {
-      fetchedOrgById = organisationClient.esGetOrgById(requestedOrgId, context);
       if (null == fetchedOrgById) {
         ProjectCommonException.throwClientErrorException(ResponseCode.invalidOrgData);
       }
@@ -842,12 +978,13 @@ public class UserManagementActor extends BaseActor {
             ResponseCode.parameterMismatch.getErrorMessage(), StringFormatter.joinByComma(param)));
   }
 
-  private void processUserRequestV3_V4(
+  private CompletionStage<Response> processUserRequestV3_V4(
       Map<String, Object> userMap,
       String signupType,
       String source,
       String managedBy,
-      Request actorMessage) {
+      Request actorMessage,
+      ExecutionContextExecutor dispatcher) {
     UserUtil.setUserDefaultValueForV3(userMap, actorMessage.getRequestContext());
     UserUtil.toLower(userMap);
     if (StringUtils.isEmpty(managedBy)) {
@@ -909,9 +1046,10 @@ public class UserManagementActor extends BaseActor {
           actorMessage.getRequestContext(),
           "UserManagementActor:processUserRequest: User creation failure");
     }
+    CompletionStage<Response> result;
     if ("kafka".equalsIgnoreCase(ProjectUtil.getConfigValue("sunbird_user_create_sync_type"))) {
       saveUserToKafka(esResponse);
-      sender().tell(response, self());
+      result = CompletableFuture.completedFuture(response);
     } else {
       Future<Boolean> kcFuture =
           Futures.future(
@@ -940,7 +1078,7 @@ public class UserManagementActor extends BaseActor {
                   }
                 }
               },
-              getContext().dispatcher());
+              dispatcher);
       Future<Response> future =
           saveUserToES(esResponse, actorMessage.getRequestContext())
               .zip(kcFuture)
@@ -961,11 +1099,14 @@ public class UserManagementActor extends BaseActor {
                       return response;
                     }
                   },
-                  getContext().dispatcher());
-      Patterns.pipe(future, getContext().dispatcher()).to(sender());
-    }
-
-    processTelemetry(userMap, signupType, source, userId, actorMessage.getContext());
+                  dispatcher);
+      result = FutureConverters.toJava(future);
+    }
+    // emitted once the user is saved, so that it does not hold up the actor thread
+    result.whenComplete(
+        (res, e) ->
+            processTelemetry(userMap, signupType, source, userId, actorMessage.getContext()));
+    return result;
   }
 
   private void processTelemetry(
@@ -1041,12 +1182,11 @@ public class UserManagementActor extends BaseActor {
         list.add(lookUp);
       }
     }
-    if (userMap.get(JsonKey.USERNAME) != null) {
-      lookUp = new HashMap<>();
-      lookUp.put(JsonKey.TYPE, JsonKey.USER_LOOKUP_FILED_USER_NAME);
-      lookUp.put(JsonKey.USER_ID, userMap.get(JsonKey.ID));
-      lookUp.put(JsonKey.VALUE, userMap.get(JsonKey.USERNAME));
-      list.add(lookUp);
+    // usernames are reserved with a lightweight transaction, so they are claimed with one as well
+    if (userMap.get(JsonKey.USERNAME) != null
+        && !userLookupService.claimUsername(
+            (String) userMap.get(JsonKey.USERNAME), (String) userMap.get(JsonKey.ID), context)) {
+      ProjectCommonException.throwClientErrorException(ResponseCode.userNameAlreadyExistError);
     }
     Response response = null;
     if (CollectionUtils.isNotEmpty(list)) {
@@ -1069,8 +1209,8 @@ public class UserManagementActor extends BaseActor {
   }
 
   @SuppressWarnings("unchecked")
-  private void processUserRequest(Map<String, Object> userMap, String callerId, Request request) {
-    Map<String, Object> requestMap = null;
+  private CompletionStage<Response> processUserRequest(
+      Map<String, Object> userMap, String callerId, Request request, Executor executor) {
     UserUtil.setUserDefaultValue(userMap, callerId, request.getRequestContext());
     ObjectMapper mapper = new ObjectMapper();
     // Update external ids provider with OrgId
@@ -1085,7 +1225,7 @@ public class UserManagementActor extends BaseActor {
     userMap.put(JsonKey.ID, userId);
     userMap.put(JsonKey.USER_ID, userId);
     UserUtil.addMaskEmailAndMaskPhone(userMap);
-    requestMap = UserUtil.encryptUserData(userMap);
+    Map<String, Object> requestMap = UserUtil.encryptUserData(userMap);
     Map<String, Object> userLookUpData = new HashMap<>(requestMap);
     removeUnwanted(requestMap);
     requestMap.put(JsonKey.IS_DELETED, false);
@@ -1112,7 +1252,8 @@ public class UserManagementActor extends BaseActor {
         response.put(JsonKey.ERROR_MSG, ResponseMessage.Message.ERROR_USER_UPDATE_PASSWORD);
       }
     }
-    Response resp = null;
+    Response createResponse = response;
+    CompletionStage<Response> saveAttributes;
     if (((String) response.get(JsonKey.RESPONSE)).equalsIgnoreCase(JsonKey.SUCCESS)) {
       Map<String, Object> userRequest = new HashMap<>();
       userRequest.putAll(userMap);
@@ -1122,8 +1263,8 @@ public class UserManagementActor extends BaseActor {
       if (StringUtils.isNotBlank(callerId) && callerId.equalsIgnoreCase(JsonKey.BULK_USER_UPLOAD)) {
         userRequest.put(JsonKey.ASSOCIATION_TYPE, AssociationMechanism.SYSTEM_UPLOAD);
       }
-      resp =
-          userService.saveUserAttributes(
+      saveAttributes =
+          userService.saveUserAttributesAsync(
               userRequest,
               getActorRef(UserActorOperations.SAVE_USER_ATTRIBUTES.getValue()),
               request.getRequestContext());
@@ -1131,7 +1272,25 @@ public class UserManagementActor extends BaseActor {
       logger.info(
           request.getRequestContext(),
           "UserManagementActor:processUserRequest: User creation failure");
+      saveAttributes = CompletableFuture.completedFuture(null);
     }
+    return saveAttributes.thenComposeAsync(
+        resp ->
+            completeUserRequest(
+                resp, createResponse, requestMap, userMap, callerId, request, executor),
+        executor);
+  }
+
+  @SuppressWarnings("unchecked")
+  private CompletionStage<Response> completeUserRequest(
+      Response resp,
+      Response response,
+      Map<String, Object> requestMap,
+      Map<String, Object> userMap,
+      String callerId,
+      Request request,
+      Executor executor) {
+    String userId = (String) userMap.get(JsonKey.ID);
     Map<String, Object> esResponse = new HashMap<>();
     if (null != resp) {
       esResponse.putAll((Map<String, Object>) resp.getResult().get(JsonKey.RESPONSE));
@@ -1143,32 +1302,58 @@ public class UserManagementActor extends BaseActor {
     Response syncResponse = new Response();
     syncResponse.putAll(response.getResult());
 
+    CompletionStage<Response> result;
     if (null != resp && userMap.containsKey("sync") && (boolean) userMap.get("sync")) {
-      Map<String, Object> userDetails = Util.getUserDetails(userId, request.getRequestContext());
-      Future<Response> future =
-          saveUserToES(userDetails, request.getRequestContext())
-              .map(
-                  new Mapper<String, Response>() {
-                    @Override
-                    public Response apply(String parameter) {
-                      return syncResponse;
+      result =
+          Util.getUserDetailsAsync(userId, request.getRequestContext())
+              .thenCompose(
+                  userDetails -> {
+                    if (null == userDetails) {
+                      logger.info(
+                          request.getRequestContext(),
+                          "UserManagementActor:completeUserRequest: user not read, "
+                              + "not saved to ES for userId = "
+                              + userId);
+                      return CompletableFuture.completedFuture(null);
                     }
-                  },
-                  context().dispatcher());
-      Patterns.pipe(future, getContext().dispatcher()).to(sender());
+                    return ElasticSearchFutures.toCompletionStage(
+                        saveUserToES(userDetails, request.getRequestContext()));
+                  })
+              .thenApply(id -> syncResponse);
     } else {
       if (null != resp) {
         saveUserDetailsToEs(esResponse, request.getRequestContext());
       }
       /*The pattern of this call was incorrect that it tells the ES actor after sending a response. In a high load system,
       this could be fatal, due to this it was  throw an error that the user is not found . so shifted this line after saving to ES */
-      sender().tell(response, self());
+      result = CompletableFuture.completedFuture(response);
     }
-    requestMap.put(JsonKey.PASSWORD, userMap.get(JsonKey.PASSWORD));
-    if (StringUtils.isNotBlank(callerId)) {
-      sendEmailAndSms(requestMap, request.getRequestContext());
+    // the reply does not wait for the notifications, they run on their own stage
+    result.whenCompleteAsync(
+        (res, e) -> runCreateSideEffects(requestMap, userMap, callerId, request, userId),
+        executor);
+    return result;
+  }
+
+  private void runCreateSideEffects(
+      Map<String, Object> requestMap,
+      Map<String, Object> userMap,
+      String callerId,
+      Request request,
+      String userId) {
+    try {
+      requestMap.put(JsonKey.PASSWORD, userMap.get(JsonKey.PASSWORD));
+      if (StringUtils.isNotBlank(callerId)) {
+        sendEmailAndSms(requestMap, request.getRequestContext());
+      }
+      generateUserTelemetry(userMap, request, userId);
+    } catch (Exception e) {
+      logger.error(
+          request.getRequestContext(),
+          "UserManagementActor:runCreateSideEffects: Exception occurred with error message = "
+              + e.getMessage(),
+          e);
     }
-    generateUserTelemetry(userMap, request, userId);
   }
 
   private void generateUserTelemetry(Map<String, Object> userMap, Request request, String userId) {
@@ -1366,15 +1551,17 @@ public class UserManagementActor extends BaseActor {
 
   public static Map<String, List<Map<String, String>>> getFrameworkDetails(
       String frameworkId, RequestContext context) {
-    if (DataCacheHandler.getFrameworkCategoriesMap().get(frameworkId) == null) {
-      handleGetFrameworkDetails(frameworkId, context);
-    }
-    return DataCacheHandler.getFrameworkCategoriesMap().get(frameworkId);
+    return FrameworkCache.getInstance()
+        .get(frameworkId, id -> handleGetFrameworkDetails(id, context));
   }
 
   @SuppressWarnings("unchecked")
-  private static void handleGetFrameworkDetails(String frameworkId, RequestContext context) {
+  private static Map<String, List<Map<String, String>>> handleGetFrameworkDetails(
+      String frameworkId, RequestContext context) {
     Map<String, Object> response = ContentStoreUtil.readFramework(frameworkId, context);
+    if (MapUtils.isEmpty(response)) {
+      return null;
+    }
     Map<String, List<Map<String, String>>> frameworkCacheMap = new HashMap<>();
     List<String> supportedfFields = DataCacheHandler.getFrameworkFieldsConfig().get(JsonKey.FIELDS);
     Map<String, Object> result = (Map<String, Object>) response.get(JsonKey.RESULT);
@@ -1404,12 +1591,11 @@ public class UserManagementActor extends BaseActor {
                   && CollectionUtils.isNotEmpty(listOfFields))
                 frameworkCacheMap.put(frameworkField, listOfFields);
             }
-            if (MapUtils.isNotEmpty(frameworkCacheMap))
-              DataCacheHandler.updateFrameworkCategoriesMap(frameworkId, frameworkCacheMap);
           }
         }
       }
     }
+    return MapUtils.isEmpty(frameworkCacheMap) ? null : frameworkCacheMap;
   }
 
   private void throwRecoveryParamsMatchException(String type, String recoveryType) {
@@ -1519,60 +1705,58 @@ public class UserManagementActor extends BaseActor {
     sender().tell(response, self());
   }
 
-  private void validateUserTypeAndSubType(
+  /**
+   * Looks up the locations the userType of the request is validated against, the requested
+   * locationCodes if any, else the profile locations of the user.
+   *
+   * @return Stage completing with the locations
+   */
+  private CompletionStage<List<Location>> getUserLocations(
       Map<String, Object> userMap, Map<String, Object> userDbRecord, RequestContext context) {
-    if (null != userMap.get(JsonKey.USER_TYPE)) {
-      List<String> locationCodes = (List<String>) userMap.get(JsonKey.LOCATION_CODES);
-      List<Location> locations = new ArrayList<>();
-      if (CollectionUtils.isEmpty(locationCodes)) {
-        // userDbRecord is record from ES , so it contains complete user data and profileLocation as
-        // List<Map<String, String>>
-        List<Map<String, String>> profLocList =
-            (List<Map<String, String>>) userDbRecord.get(JsonKey.PROFILE_LOCATION);
-        List<String> locationIds = null;
-        if (CollectionUtils.isNotEmpty(profLocList)) {
-          locationIds =
-              profLocList.stream().map(m -> m.get(JsonKey.ID)).collect(Collectors.toList());
-        }
-        // Get location code from user records locations Ids
-        logger.info(
-            context,
-            String.format(
-                "Locations for userId:%s is:%s", userMap.get(JsonKey.USER_ID), locationIds));
-        if (CollectionUtils.isNotEmpty(locationIds)) {
-          locations =
-              locationClient.getLocationByIds(
-                  getActorRef(LocationActorOperation.SEARCH_LOCATION.getValue()),
-                  locationIds,
-                  context);
+    List<String> locationCodes = (List<String>) userMap.get(JsonKey.LOCATION_CODES);
+    if (CollectionUtils.isNotEmpty(locationCodes)) {
+      return locationClient.getLocationsByCodesAsync(
+          getActorRef(LocationActorOperation.SEARCH_LOCATION.getValue()), locationCodes, context);
+    }
+    // userDbRecord is record from ES , so it contains complete user data and profileLocation as
+    // List<Map<String, String>>
+    List<Map<String, String>> profLocList =
+        (List<Map<String, String>>) userDbRecord.get(JsonKey.PROFILE_LOCATION);
+    List<String> locationIds = null;
+    if (CollectionUtils.isNotEmpty(profLocList)) {
+      locationIds = profLocList.stream().map(m -> m.get(JsonKey.ID)).collect(Collectors.toList());
+    }
+    // Get location code from user records locations Ids
+    logger.info(
+        context,
+        String.format("Locations for userId:%s is:%s", userMap.get(JsonKey.USER_ID), locationIds));
+    if (CollectionUtils.isEmpty(locationIds)) {
+      return CompletableFuture.completedFuture(new ArrayList<>());
+    }
+    return locationClient.getLocationByIdsAsync(
+        getActorRef(LocationActorOperation.SEARCH_LOCATION.getValue()), locationIds, context);
+  }
+
+  private void validateUserTypeAndSubType(
+      Map<String, Object> userMap, List<Location> locations, RequestContext context) {
+    if (CollectionUtils.isNotEmpty(locations)) {
+      String stateCode = null;
+      for (Location location : locations) {
+        if (JsonKey.STATE.equals(location.getType())) {
+          stateCode = location.getCode();
         }
-      } else {
-        locations =
-            locationClient.getLocationsByCodes(
-                getActorRef(LocationActorOperation.SEARCH_LOCATION.getValue()),
-                locationCodes,
-                context);
       }
-      if (CollectionUtils.isNotEmpty(locations)) {
-        String stateCode = null;
-        for (Location location : locations) {
-          if (JsonKey.STATE.equals(location.getType())) {
-            stateCode = location.getCode();
-          }
-        }
-        logger.info(context, String.format("Validating UserType for state code:%s", stateCode));
-        if (StringUtils.isNotBlank(stateCode)) {
-          // Validate UserType and UserSubType configure based on user state config else user
-          // default config
-          validateUserTypeAndSubType(userMap, context, stateCode);
-        }
-      } else {
-        // If location is null or empty .Validate with default config
-        logger.info(
-            context,
-            String.format("Validating UserType for state code:%s", JsonKey.DEFAULT_PERSONA));
-        validateUserTypeAndSubType(userMap, context, JsonKey.DEFAULT_PERSONA);
+      logger.info(context, String.format("Validating UserType for state code:%s", stateCode));
+      if (StringUtils.isNotBlank(stateCode)) {
+        // Validate UserType and UserSubType configure based on user state config else user
+        // default config
+        validateUserTypeAndSubType(userMap, context, stateCode);
       }
+    } else {
+      // If location is null or empty .Validate with default config
+      logger.info(
+          context, String.format("Validating UserType for state code:%s", JsonKey.DEFAULT_PERSONA));
+      validateUserTypeAndSubType(userMap, context, JsonKey.DEFAULT_PERSONA);
     }
   }
 
@@ -1584,7 +1768,14 @@ public class UserManagementActor extends BaseActor {
     profileUserType(userMap, context);
   }
 
-  private void validateLocationCodes(Request userRequest) {
+  /**
+   * Looks up the locations requested in locationCodes.
+   *
+   * @param userRequest Request
+   * @return Stage completing with the requested locations, or with null if no location codes are
+   *     requested
+   */
+  private CompletionStage<List<Location>> getRequestedLocations(Request userRequest) {
     Object locationCodes = userRequest.getRequest().get(JsonKey.LOCATION_CODES);
     if ((locationCodes != null) && !(locationCodes instanceof List)) {
       throw new ProjectCommonException(
@@ -1593,30 +1784,28 @@ public class UserManagementActor extends BaseActor {
               ResponseCode.dataTypeError.getErrorMessage(), JsonKey.LOCATION_CODES, JsonKey.LIST),
           ResponseCode.CLIENT_ERROR.getResponseCode());
     }
-    if (CollectionUtils.isNotEmpty((List) locationCodes)) {
-      // As of now locationCode can take array of only locationcodes and map of locationCodes which
-      // include type and code of the location
+    if (CollectionUtils.isEmpty((List) locationCodes)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    // As of now locationCode can take array of only locationcodes and map of locationCodes which
+    // include type and code of the location
+    if (((List) locationCodes).get(0) instanceof String) {
+      return locationClient.getLocationsByCodesAsync(
+          getActorRef(LocationActorOperation.SEARCH_LOCATION.getValue()),
+          (List<String>) locationCodes,
+          userRequest.getRequestContext());
+    }
+    return CompletableFuture.completedFuture(
+        createLocationLists((List<Map<String, String>>) locationCodes));
+  }
+
+  private void validateLocationCodes(Request userRequest, List<Location> locationList) {
+    if (null != locationList) {
       String stateCode = null;
       List<String> set = new ArrayList<>();
-      List<Location> locationList = new ArrayList<>();
-      if (((List) locationCodes).get(0) instanceof String) {
-        List<String> locations = (List<String>) locationCodes;
-        locationList =
-            locationClient.getLocationsByCodes(
-                getActorRef(LocationActorOperation.SEARCH_LOCATION.getValue()),
-                locations,
-                userRequest.getRequestContext());
-        for (Location location : locationList) {
-          if (JsonKey.STATE.equals(location.getType())) {
-            stateCode = location.getCode();
-          }
-        }
-      } else {
-        locationList = createLocationLists((List<Map<String, String>>) locationCodes);
-        for (Location location : locationList) {
-          if (JsonKey.STATE.equals(location.getType())) {
-            stateCode = location.getCode();
-          }
+      for (Location location : locationList) {
+        if (JsonKey.STATE.equals(location.getType())) {
+          stateCode = location.getCode();
         }
       }
       // Throw an exception if location codes update is not passed with state code
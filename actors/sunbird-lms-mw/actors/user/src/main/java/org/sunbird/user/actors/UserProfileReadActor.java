@@ -4,11 +4,15 @@ import static org.sunbird.learner.util.Util.isNotNull;
 
 import akka.dispatch.Futures;
 import akka.dispatch.Mapper;
+import akka.dispatch.Recover;
 import akka.pattern.Patterns;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang3.BooleanUtils;
@@ -16,7 +20,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.sunbird.actor.core.BaseActor;
 import org.sunbird.actor.router.ActorConfig;
 import org.sunbird.cassandra.CassandraOperation;
-import org.sunbird.common.ElasticSearchHelper;
+import org.sunbird.common.ElasticSearchFutures;
 import org.sunbird.common.exception.ProjectCommonException;
 import org.sunbird.common.factory.EsClientFactory;
 import org.sunbird.common.inf.ElasticSearchService;
@@ -35,6 +39,7 @@ import org.sunbird.learner.util.UserUtility;
 import org.sunbird.learner.util.Util;
 import org.sunbird.user.service.UserProfileReadService;
 import scala.Tuple2;
+import scala.concurrent.ExecutionContext;
 import scala.concurrent.Future;
 
 @ActorConfig(
@@ -114,25 +119,27 @@ public class UserProfileReadActor extends BaseActor {
       Map<String, Object> filter = new HashMap<>();
       filter.put(JsonKey.LOGIN_ID, loginId);
       searchDto.getAdditionalProperties().put(JsonKey.FILTERS, filter);
-      Future<Map<String, Object>> esResponseF =
-          esUtil.search(
-              searchDto, ProjectUtil.EsType.user.getTypeName(), actorMessage.getRequestContext());
-      Map<String, Object> esResponse =
-          (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(esResponseF);
-      List<Map<String, Object>> userList =
-          (List<Map<String, Object>>) esResponse.get(JsonKey.CONTENT);
-      Map<String, Object> result = null;
-      if (null != userList && !userList.isEmpty()) {
-        result = userList.get(0);
-      } else {
-        throw new ProjectCommonException(
-            ResponseCode.userNotFound.getErrorCode(),
-            ResponseCode.userNotFound.getErrorMessage(),
-            ResponseCode.RESOURCE_NOT_FOUND.getResponseCode());
-      }
+      CompletionStage<Map<String, Object>> userStage =
+          ElasticSearchFutures.toCompletionStage(
+                  esUtil.search(
+                      searchDto,
+                      ProjectUtil.EsType.user.getTypeName(),
+                      actorMessage.getRequestContext()))
+              .thenApply(
+                  esResponse -> {
+                    List<Map<String, Object>> userList =
+                        (List<Map<String, Object>>) esResponse.get(JsonKey.CONTENT);
+                    if (null != userList && !userList.isEmpty()) {
+                      return userList.get(0);
+                    }
+                    throw new ProjectCommonException(
+                        ResponseCode.userNotFound.getErrorCode(),
+                        ResponseCode.userNotFound.getErrorMessage(),
+                        ResponseCode.RESOURCE_NOT_FOUND.getResponseCode());
+                  });
       // String username = ssoManager.getUsernameById((String) result.get(JsonKey.USER_ID));
       // result.put(JsonKey.USERNAME, username);
-      sendResponse(actorMessage, result);
+      sendResponse(actorMessage, userStage);
 
     } else {
       ProjectCommonException exception =
@@ -145,7 +152,33 @@ public class UserProfileReadActor extends BaseActor {
     }
   }
 
-  private void sendResponse(Request actorMessage, Map<String, Object> result) {
+  private void sendResponse(Request actorMessage, CompletionStage<Map<String, Object>> userStage) {
+    Executor executor = getContext().dispatcher();
+    CompletionStage<Response> response =
+        userStage.thenCompose(
+            result -> {
+              validateUser(result);
+              return fetchRootOrganisation(result, actorMessage.getRequestContext())
+                  .thenApplyAsync(
+                      responseMap -> {
+                        logger.info(
+                            actorMessage.getRequestContext(),
+                            "UserProfileReadActor:handle user profile read async call ");
+                        result.put(JsonKey.ROOT_ORG, responseMap);
+                        if (MapUtils.isNotEmpty(responseMap)) {
+                          responseMap.putAll(Util.getOrgDefaultValue());
+                        }
+                        result.putAll(Util.getUserDefaultValue());
+                        Response userResponse = new Response();
+                        handleUserCallAsync(result, userResponse, actorMessage);
+                        return userResponse;
+                      },
+                      executor);
+            });
+    pipeToSender(response, actorMessage);
+  }
+
+  private void validateUser(Map<String, Object> result) {
     if (result == null || result.size() == 0) {
       throw new ProjectCommonException(
           ResponseCode.userNotFound.getErrorCode(),
@@ -163,29 +196,15 @@ public class UserProfileReadActor extends BaseActor {
           ResponseCode.userAccountlocked.getErrorMessage(),
           ResponseCode.CLIENT_ERROR.getResponseCode());
     }
+  }
 
-    Future<Map<String, Object>> future =
-        fetchRootAndRegisterOrganisation(result, actorMessage.getRequestContext());
-    Future<Response> response =
-        future.map(
-            new Mapper<Map<String, Object>, Response>() {
-              @Override
-              public Response apply(Map<String, Object> responseMap) {
-                logger.info(
-                    actorMessage.getRequestContext(),
-                    "UserProfileReadActor:handle user profile read async call ");
-                result.put(JsonKey.ROOT_ORG, responseMap);
-                if (MapUtils.isNotEmpty(responseMap)) {
-                  responseMap.putAll(Util.getOrgDefaultValue());
-                }
-                result.putAll(Util.getUserDefaultValue());
-                Response response = new Response();
-                handleUserCallAsync(result, response, actorMessage);
-                return response;
-              }
-            },
-            getContext().dispatcher());
-    Patterns.pipe(response, getContext().dispatcher()).to(sender());
+  private CompletionStage<Map<String, Object>> fetchRootOrganisation(
+      Map<String, Object> result, RequestContext context) {
+    Future<Map<String, Object>> rootOrgFuture = fetchRootAndRegisterOrganisation(result, context);
+    if (null == rootOrgFuture) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return ElasticSearchFutures.toCompletionStage(rootOrgFuture);
   }
 
   private void handleUserCallAsync(
@@ -218,8 +237,7 @@ public class UserProfileReadActor extends BaseActor {
               ResponseCode.userDataEncryptionError.getErrorCode(),
               ResponseCode.userDataEncryptionError.getErrorMessage(),
               ResponseCode.SERVER_ERROR.getResponseCode());
-      sender().tell(exception, self());
-      return;
+      throw exception;
     }
 
     if (null != result) {
@@ -482,24 +500,44 @@ public class UserProfileReadActor extends BaseActor {
 
   private void handleUserSearchAsyncRequest(
       Future<Map<String, Object>> userResponse, Request actorMessage) {
+    ExecutionContext ec = getContext().dispatcher();
     Future<Object> orgResponse =
-        userResponse.map(
-            new Mapper<Map<String, Object>, Object>() {
+        userResponse.flatMap(
+            new Mapper<Map<String, Object>, Future<Object>>() {
               @Override
-              public Object apply(Map<String, Object> parameter) {
-                Map<String, Object> esOrgMap = new HashMap<>();
-                esOrgMap =
-                    (Map<String, Object>)
-                        ElasticSearchHelper.getResponseFromFuture(
-                            fetchRootAndRegisterOrganisation(
-                                parameter, actorMessage.getRequestContext()));
-                if (MapUtils.isNotEmpty(esOrgMap)) {
-                  esOrgMap.putAll(Util.getOrgDefaultValue());
+              public Future<Object> apply(Map<String, Object> parameter) {
+                Future<Map<String, Object>> rootOrgFuture =
+                    fetchRootAndRegisterOrganisation(parameter, actorMessage.getRequestContext());
+                if (null == rootOrgFuture) {
+                  return Futures.successful(null);
                 }
-                return esOrgMap;
+                return rootOrgFuture
+                    .map(
+                        new Mapper<Map<String, Object>, Object>() {
+                          @Override
+                          public Object apply(Map<String, Object> esOrgMap) {
+                            if (MapUtils.isNotEmpty(esOrgMap)) {
+                              esOrgMap.putAll(Util.getOrgDefaultValue());
+                            }
+                            return esOrgMap;
+                          }
+                        },
+                        ec)
+                    .recover(
+                        new Recover<Object>() {
+                          @Override
+                          public Object recover(Throwable failure) {
+                            logger.error(
+                                actorMessage.getRequestContext(),
+                                "UserProfileReadActor: root org fetch failed",
+                                failure);
+                            return null;
+                          }
+                        },
+                        ec);
               }
             },
-            getContext().dispatcher());
+            ec);
 
     Future<Map<String, Object>> userOrgResponse =
         userResponse
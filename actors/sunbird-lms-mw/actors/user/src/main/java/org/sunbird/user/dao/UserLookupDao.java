@@ -9,6 +9,24 @@ public interface UserLookupDao {
 
   public Response insertRecords(List<Map<String, Object>> reqMap, RequestContext context);
 
+  /**
+   * Inserts the lookup record unless a record of the same type and value exists.
+   *
+   * @param ttl Seconds after which the record is deleted, unless it is inserted again
+   * @return true if the record is inserted
+   */
+  public boolean insertRecordIfNotExists(
+      Map<String, Object> record, int ttl, RequestContext context);
+
+  /**
+   * Sets the user id of the lookup record unless another user id is set, creating the record if it
+   * does not exist. The record is kept without ttl.
+   *
+   * @return true if the user id is set
+   */
+  public boolean updateUserIdIfNull(
+      String type, String value, String userId, RequestContext context);
+
   public void deleteRecords(List<Map<String, String>> reqMap, RequestContext context);
 
   public Response insertExternalIdIntoUserLookup(
@@ -40,6 +40,23 @@ public class UserLookupDaoImpl implements UserLookupDao {
     return result;
   }
 
+  public boolean insertRecordIfNotExists(
+      Map<String, Object> record, int ttl, RequestContext context) {
+    return cassandraOperation.insertRecordIfNotExists(
+        userLookUp.getKeySpace(), userLookUp.getTableName(), record, ttl, context);
+  }
+
+  public boolean updateUserIdIfNull(
+      String type, String value, String userId, RequestContext context) {
+    Map<String, Object> compositeKey = new HashMap<>();
+    compositeKey.put(JsonKey.TYPE, type);
+    compositeKey.put(JsonKey.VALUE, value);
+    Map<String, Object> record = new HashMap<>();
+    record.put(JsonKey.USER_ID, userId);
+    return cassandraOperation.updateRecordIfNull(
+        userLookUp.getKeySpace(), userLookUp.getTableName(), record, compositeKey, context);
+  }
+
   public void deleteRecords(List<Map<String, String>> reqMap, RequestContext context) {
     logger.info(
         context, "UserLookUp:deleteRecords removing " + reqMap.size() + " lookups from table");
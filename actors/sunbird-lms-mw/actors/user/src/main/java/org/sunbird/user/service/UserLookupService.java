@@ -13,6 +13,26 @@ public interface UserLookupService {
   public boolean checkUsernameUniqueness(
       String username, boolean isEncrypted, RequestContext context);
 
+  /**
+   * Reserves the username for a user being created, so that no other user can be given it. The
+   * reservation expires unless the saved user claims it.
+   *
+   * @param encryptedUsername Encrypted username
+   * @return true if the username is reserved, false if it is taken
+   */
+  public boolean reserveUsername(String encryptedUsername, RequestContext context);
+
+  /**
+   * Writes the username lookup of a saved user. The lookup is written with a lightweight
+   * transaction like the reservation, so it keeps the reserved username and cannot take the
+   * username of another user.
+   *
+   * @param encryptedUsername Encrypted username
+   * @param userId User id
+   * @return true if the username belongs to the user, false if it belongs to another user
+   */
+  public boolean claimUsername(String encryptedUsername, String userId, RequestContext context);
+
   public void checkEmailUniqueness(User user, String opType, RequestContext context);
 
   public void checkPhoneUniqueness(String phone, RequestContext context);
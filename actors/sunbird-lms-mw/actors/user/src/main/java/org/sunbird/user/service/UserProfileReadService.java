@@ -12,6 +12,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
@@ -29,6 +38,7 @@ import org.sunbird.common.models.util.ProjectUtil;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.request.RequestContext;
 import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.common.util.ExecutorUtil;
 import org.sunbird.dto.SearchDTO;
 import org.sunbird.helper.ServiceFactory;
 import org.sunbird.learner.organisation.dao.OrgDao;
@@ -45,9 +55,24 @@ import org.sunbird.user.dao.impl.UserOrgDaoImpl;
 import org.sunbird.user.service.impl.UserExternalIdentityServiceImpl;
 import org.sunbird.user.service.impl.UserServiceImpl;
 import org.sunbird.user.util.UserUtil;
-import scala.concurrent.Future;
 
 public class UserProfileReadService {
+  private static final int DEFAULT_LOOKUP_POOL_SIZE = 16;
+  private static final int DEFAULT_LOOKUP_TIMEOUT_MILLIS = 3000;
+  private static final int LOOKUP_QUEUE_SIZE_PER_THREAD = 64;
+  private static final String EXTERNAL_ID_STAGE = "externalIdLookup";
+  private static final String USER_STAGE = "user";
+  private static final String ROOT_ORG_STAGE = "rootOrg";
+  private static final String ORGANISATIONS_STAGE = "organisations";
+  private static final String MANAGED_TOKEN_STAGE = "managedToken";
+  private static final String EXTERNAL_IDS_STAGE = "externalIds";
+  private static final String LOCATIONS_STAGE = "locations";
+  private static final String DECLARATIONS_STAGE = "declarations";
+  // Shared by all reads, the lookups of one read run on it in parallel
+  private static final ExecutorService lookupExecutor = createLookupExecutor();
+  private static final long lookupTimeoutMillis =
+      ExecutorUtil.getIntConfig(
+          JsonKey.SUNBIRD_USER_READ_LOOKUP_TIMEOUT, DEFAULT_LOOKUP_TIMEOUT_MILLIS);
 
   private LoggerUtil logger = new LoggerUtil(UserProfileReadService.class);
   private CassandraOperation cassandraOperation = ServiceFactory.getInstance();
@@ -64,6 +89,9 @@ public class UserProfileReadService {
   private ObjectMapper mapper = new ObjectMapper();
 
   public Response getUserProfileData(Request actorMessage) {
+    long startTime = System.currentTimeMillis();
+    Map<String, Long> latencies = new ConcurrentHashMap<>();
+    RequestContext context = actorMessage.getRequestContext();
     String id = (String) actorMessage.getRequest().get(JsonKey.USER_ID);
     String idType = (String) actorMessage.getContext().get(JsonKey.ID_TYPE);
     String provider = (String) actorMessage.getContext().get(JsonKey.PROVIDER);
@@ -72,35 +100,24 @@ public class UserProfileReadService {
     // Check whether its normal read by id call or read by externalId call
     validateProviderAndIdType(provider, idType);
     if (StringUtils.isNotBlank(provider)) {
-      userId = getUserIdByExternalId(actorMessage, id, idType, provider);
+      userId =
+          timed(
+              EXTERNAL_ID_STAGE,
+              () -> getUserIdByExternalId(actorMessage, id, idType, provider),
+              latencies);
     } else {
       userId = id;
     }
     Map<String, Object> result =
-        validateUserIdAndGetUserDetails(userId, actorMessage.getRequestContext());
+        timed(USER_STAGE, () -> validateUserIdAndGetUserDetails(userId, context), latencies);
     appendUserTypeAndLocation(result, actorMessage);
     result.putAll(Util.getUserDefaultValue());
-    Map<String, Object> rootOrg =
-        orgDao.getOrgById(
-            (String) result.get(JsonKey.ROOT_ORG_ID), actorMessage.getRequestContext());
-    if (MapUtils.isNotEmpty(rootOrg)) {
-      rootOrg.putAll(Util.getOrgDefaultValue());
-      if (actorMessage
-          .getOperation()
-          .equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V4.getValue())) {
-        Util.getOrgDefaultValue().keySet().stream().forEach(key -> rootOrg.remove(key));
-      }
-    }
-    result.put(JsonKey.ROOT_ORG, rootOrg);
-    result.put(
-        JsonKey.ORGANISATIONS,
-        fetchUserOrgList((String) result.get(JsonKey.ID), actorMessage.getRequestContext()));
     String requestedById =
         (String) actorMessage.getContext().getOrDefault(JsonKey.REQUESTED_BY, "");
     String managedForId = (String) actorMessage.getContext().getOrDefault(JsonKey.MANAGED_FOR, "");
     String managedBy = (String) result.get(JsonKey.MANAGED_BY);
     logger.info(
-        actorMessage.getRequestContext(),
+        context,
         "requested By and requested user id == "
             + requestedById
             + "  "
@@ -113,17 +130,129 @@ public class UserProfileReadService {
       ProjectCommonException.throwUnauthorizedErrorException();
     }
 
-    getManagedToken(actorMessage, userId, result, managedBy);
+    // The lookups below only depend on the user row, so they are issued together
+    long deadline = System.currentTimeMillis() + lookupTimeoutMillis;
     String requestFields = (String) actorMessage.getContext().get(JsonKey.FIELDS);
+    String fields = StringUtils.defaultString(requestFields);
+    String rootOrgId = (String) result.get(JsonKey.ROOT_ORG_ID);
+    String userDbId = (String) result.get(JsonKey.ID);
+    Future<Map<String, Object>> rootOrgLookup =
+        lookup(ROOT_ORG_STAGE, () -> orgDao.getOrgById(rootOrgId, context), latencies);
+    Future<List<Map<String, Object>>> orgsLookup =
+        lookup(
+            ORGANISATIONS_STAGE,
+            () -> {
+              List<Map<String, Object>> userOrgs = fetchUserOrgList(userDbId, context);
+              if (fields.contains(JsonKey.ORGANISATIONS)) {
+                updateUserOrgInfo(userOrgs, context);
+              }
+              return userOrgs;
+            },
+            latencies);
+    // lookups read the user from a copy, the profile itself is only written by this thread
+    Map<String, Object> user = new HashMap<>();
+    user.put(JsonKey.ID, userDbId);
+    user.put(JsonKey.ROOT_ORG_ID, rootOrgId);
+    user.put(JsonKey.CHANNEL, result.get(JsonKey.CHANNEL));
+    boolean withTokens =
+        Boolean.parseBoolean((String) actorMessage.getContext().get(JsonKey.WITH_TOKENS))
+            && StringUtils.isNotEmpty(managedBy);
+    String managedToken = (String) actorMessage.getContext().get(JsonKey.MANAGED_TOKEN);
+    Future<Map<String, Object>> tokenLookup = skipped();
+    if (withTokens && StringUtils.isEmpty(managedToken)) {
+      logger.info(
+          context,
+          "UserProfileReadActor: getUserProfileData: calling token generation for: " + userId);
+      List<Map<String, Object>> userList = Collections.singletonList(user);
+      // Fetch encrypted token from admin utils
+      tokenLookup =
+          lookup(
+              MANAGED_TOKEN_STAGE,
+              () -> userService.fetchEncryptedToken(managedBy, userList, context),
+              latencies);
+    }
+    Future<List<Map<String, String>>> externalIdsLookup = skipped();
     if (StringUtils.isNotBlank(userId)
         && (userId.equalsIgnoreCase(requestedById) || userId.equalsIgnoreCase(managedForId))
         && StringUtils.isBlank(requestFields)) {
-      result.put(
-          JsonKey.EXTERNAL_IDS,
-          fetchUserExternalIdentity(userId, result, true, actorMessage.getRequestContext()));
+      externalIdsLookup =
+          lookup(
+              EXTERNAL_IDS_STAGE,
+              () -> fetchUserExternalIdentity(userId, user, true, context),
+              latencies);
+    } else if (isExternalIdsRequired(result, fields)) {
+      externalIdsLookup =
+          lookup(
+              EXTERNAL_IDS_STAGE,
+              () -> fetchUserExternalIdentity(userDbId, user, false, context),
+              latencies);
+    }
+    Future<List<Map<String, Object>>> locationsLookup = skipped();
+    if (fields.contains(JsonKey.LOCATIONS)) {
+      List<String> locationIds = getProfileLocationIds(result);
+      locationsLookup =
+          lookup(LOCATIONS_STAGE, () -> getUserLocations(locationIds, context), latencies);
+    }
+    Future<List<Map<String, Object>>> declarationsLookup = skipped();
+    if (fields.contains(JsonKey.DECLARATIONS)) {
+      declarationsLookup =
+          lookup(
+              DECLARATIONS_STAGE, () -> fetchUserDeclarations(userDbId, context), latencies);
+    }
+
+    List<Future<?>> lookups =
+        Arrays.asList(
+            rootOrgLookup,
+            orgsLookup,
+            tokenLookup,
+            externalIdsLookup,
+            locationsLookup,
+            declarationsLookup);
+    Map<String, Object> rootOrg;
+    List<Map<String, Object>> userOrgs;
+    Map<String, Object> tokens = null;
+    List<Map<String, String>> externalIds;
+    List<Map<String, Object>> userLocations;
+    List<Map<String, Object>> declarations;
+    try {
+      rootOrg = await(ROOT_ORG_STAGE, rootOrgLookup, deadline, context);
+      userOrgs = await(ORGANISATIONS_STAGE, orgsLookup, deadline, context);
+      if (withTokens && StringUtils.isEmpty(managedToken)) {
+        tokens = await(MANAGED_TOKEN_STAGE, tokenLookup, deadline, context);
+      }
+      externalIds = await(EXTERNAL_IDS_STAGE, externalIdsLookup, deadline, context);
+      userLocations = await(LOCATIONS_STAGE, locationsLookup, deadline, context);
+      declarations = await(DECLARATIONS_STAGE, declarationsLookup, deadline, context);
+    } finally {
+      // once the read fails the remaining lookups are interrupted instead of holding pool threads
+      lookups.forEach(lookup -> lookup.cancel(true));
+    }
+    if (MapUtils.isNotEmpty(rootOrg)) {
+      rootOrg.putAll(Util.getOrgDefaultValue());
+      if (actorMessage
+          .getOperation()
+          .equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V4.getValue())) {
+        Util.getOrgDefaultValue().keySet().stream().forEach(key -> rootOrg.remove(key));
+      }
     }
-    if (StringUtils.isNotBlank((String) actorMessage.getContext().get(JsonKey.FIELDS))) {
-      addExtraFieldsInUserProfileResponse(result, requestFields, actorMessage.getRequestContext());
+    result.put(JsonKey.ROOT_ORG, rootOrg);
+    result.put(JsonKey.ORGANISATIONS, userOrgs);
+    if (withTokens) {
+      if (StringUtils.isEmpty(managedToken)) {
+        List<Map<String, Object>> userList = new ArrayList<>();
+        userList.add(result);
+        // encrypted token for each managedUser in respList
+        userService.appendEncryptedToken(tokens, userList, context);
+      } else {
+        result.put(JsonKey.MANAGED_TOKEN, managedToken);
+      }
+    }
+    if (StringUtils.isBlank(requestFields)) {
+      if (null != externalIds) {
+        result.put(JsonKey.EXTERNAL_IDS, externalIds);
+      }
+    } else {
+      addExtraFields(result, requestFields, userLocations, declarations, externalIds, context);
     }
     String encEmail = (String) result.get(JsonKey.EMAIL);
     String encPhone = (String) result.get(JsonKey.PHONE);
@@ -150,12 +279,91 @@ public class UserProfileReadService {
         .equalsIgnoreCase(ActorOperations.GET_USER_PROFILE_V4.getValue())) {
       Util.getUserDefaultValue().keySet().stream().forEach(key -> result.remove(key));
     }
+    logger.info(
+        context,
+        "UserProfileReadService:getUserProfileData: latency breakdown in ms for userId = "
+            + userId
+            + " : "
+            + new TreeMap<>(latencies)
+            + ", total = "
+            + (System.currentTimeMillis() - startTime));
 
     Response response = new Response();
     response.put(JsonKey.RESPONSE, result);
     return response;
   }
 
+  private static ExecutorService createLookupExecutor() {
+    int poolSize =
+        ExecutorUtil.getIntConfig(
+            JsonKey.SUNBIRD_USER_READ_LOOKUP_POOL_SIZE, DEFAULT_LOOKUP_POOL_SIZE);
+    // when the pool is saturated the caller runs the lookup itself, so a burst of reads
+    // degrades to the sequential behaviour instead of failing
+    return ExecutorUtil.newBoundedPool(
+        "user-read-lookup",
+        poolSize,
+        poolSize * LOOKUP_QUEUE_SIZE_PER_THREAD,
+        ExecutorUtil.Rejection.CALLER_RUNS);
+  }
+
+  // submitted as a task of the pool, so that cancelling it interrupts the thread running it
+  private <T> Future<T> lookup(String stage, Supplier<T> supplier, Map<String, Long> latencies) {
+    return lookupExecutor.submit(() -> timed(stage, supplier, latencies));
+  }
+
+  private static <T> Future<T> skipped() {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  private <T> T timed(String stage, Supplier<T> supplier, Map<String, Long> latencies) {
+    long startTime = System.currentTimeMillis();
+    try {
+      return supplier.get();
+    } finally {
+      latencies.put(stage, System.currentTimeMillis() - startTime);
+    }
+  }
+
+  /**
+   * Waits for a lookup until the deadline of the read. A lookup that is still running at the
+   * deadline fails the read with operationTimeout and its thread is interrupted.
+   */
+  private <T> T await(String stage, Future<T> lookup, long deadline, RequestContext context) {
+    try {
+      return lookup.get(
+          Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      lookup.cancel(true);
+      logger.error(
+          context,
+          "UserProfileReadService:getUserProfileData: " + stage + " lookup timed out",
+          e);
+      throw new ProjectCommonException(
+          ResponseCode.operationTimeout.getErrorCode(),
+          ResponseCode.operationTimeout.getErrorMessage(),
+          ResponseCode.SERVER_ERROR.getResponseCode());
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      logger.error(
+          context,
+          "UserProfileReadService:getUserProfileData: " + stage + " lookup failed",
+          e.getCause());
+      throw serverError();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw serverError();
+    }
+  }
+
+  private ProjectCommonException serverError() {
+    return new ProjectCommonException(
+        ResponseCode.SERVER_ERROR.getErrorCode(),
+        ResponseCode.SERVER_ERROR.getErrorMessage(),
+        ResponseCode.SERVER_ERROR.getResponseCode());
+  }
+
   public void appendUserTypeAndLocation(Map<String, Object> result, Request actormessage) {
     Map<String, Object> userTypeDetails = new HashMap<>();
     try {
@@ -232,33 +440,6 @@ public class UserProfileReadService {
     userDetails.putAll(userFlagMap);
   }
 
-  private Map<String, Object> getManagedToken(
-      Request actorMessage, String userId, Map<String, Object> result, String managedBy) {
-    boolean withTokens =
-        Boolean.parseBoolean((String) actorMessage.getContext().get(JsonKey.WITH_TOKENS));
-
-    if (withTokens && StringUtils.isNotEmpty(managedBy)) {
-      String managedToken = (String) actorMessage.getContext().get(JsonKey.MANAGED_TOKEN);
-      if (StringUtils.isEmpty(managedToken)) {
-        logger.info(
-            actorMessage.getRequestContext(),
-            "UserProfileReadActor: getUserProfileData: calling token generation for: " + userId);
-        List<Map<String, Object>> userList = new ArrayList<>();
-        userList.add(result);
-        // Fetch encrypted token from admin utils
-        Map<String, Object> encryptedTokenList =
-            userService.fetchEncryptedToken(managedBy, userList, actorMessage.getRequestContext());
-        // encrypted token for each managedUser in respList
-        userService.appendEncryptedToken(
-            encryptedTokenList, userList, actorMessage.getRequestContext());
-        result = userList.get(0);
-      } else {
-        result.put(JsonKey.MANAGED_TOKEN, managedToken);
-      }
-    }
-    return result;
-  }
-
   private List<Map<String, Object>> fetchUserOrgList(String userId, RequestContext requestContext) {
     Response response = userOrgDao.getUserOrgListByUserId(userId, requestContext);
     List<Map<String, Object>> userOrgList =
@@ -511,51 +692,78 @@ public class UserProfileReadService {
   public void addExtraFieldsInUserProfileResponse(
       Map<String, Object> result, String fields, RequestContext context) {
     if (!StringUtils.isBlank(fields)) {
-      result.put(JsonKey.LAST_LOGIN_TIME, Long.parseLong("0"));
-      if (fields.contains(JsonKey.TOPIC)) {
-        result.put(JsonKey.TOPICS, new HashSet<>());
-      }
       if (fields.contains(JsonKey.ORGANISATIONS)) {
         updateUserOrgInfo((List) result.get(JsonKey.ORGANISATIONS), context);
       }
-      if (fields.contains(JsonKey.ROLES)) {
-        result.put(JsonKey.ROLE_LIST, DataCacheHandler.getUserReadRoleList());
-      }
+      List<Map<String, Object>> userLocations = null;
       if (fields.contains(JsonKey.LOCATIONS)) {
-        List<Map<String, String>> userLocList =
-            (List<Map<String, String>>) result.get(JsonKey.PROFILE_LOCATION);
-        if (CollectionUtils.isNotEmpty(userLocList)) {
-          List<String> locationIds =
-              userLocList.stream().map(m -> m.get(JsonKey.ID)).collect(Collectors.toList());
-          List<Map<String, Object>> userLocations = getUserLocations(locationIds, context);
-          if (CollectionUtils.isNotEmpty(userLocations)) {
-            result.put(JsonKey.USER_LOCATIONS, userLocations);
-            // For adding school, request need to have fields=locations,organisations, as externalid
-            // id is populated with this request only
-            if (fields.contains(JsonKey.ORGANISATIONS)) {
-              try {
-                addSchoolLocation(result, context);
-              } catch (Exception e) {
-                logger.error("Not able to fetch school details in user read - user location", e);
-              }
-            }
-            result.remove(JsonKey.LOCATION_IDS);
-            result.remove(JsonKey.PROFILE_LOCATION);
-          }
-        }
+        userLocations = getUserLocations(getProfileLocationIds(result), context);
       }
+      List<Map<String, Object>> declarations = null;
       if (fields.contains(JsonKey.DECLARATIONS)) {
-        List<Map<String, Object>> declarations =
-            fetchUserDeclarations((String) result.get(JsonKey.ID), context);
-        result.put(JsonKey.DECLARATIONS, declarations);
+        declarations = fetchUserDeclarations((String) result.get(JsonKey.ID), context);
       }
-      if (CollectionUtils.isEmpty((List<Map<String, String>>) result.get(JsonKey.EXTERNAL_IDS))
-          && fields.contains(JsonKey.EXTERNAL_IDS)) {
-        List<Map<String, String>> resExternalIds =
+      List<Map<String, String>> externalIds = null;
+      if (isExternalIdsRequired(result, fields)) {
+        externalIds =
             fetchUserExternalIdentity((String) result.get(JsonKey.ID), result, false, context);
-        result.put(JsonKey.EXTERNAL_IDS, resExternalIds);
       }
+      addExtraFields(result, fields, userLocations, declarations, externalIds, context);
+    }
+  }
+
+  /**
+   * Adds the requested fields to the profile, the organisations of the profile are expected to be
+   * enriched already when requested.
+   */
+  private void addExtraFields(
+      Map<String, Object> result,
+      String fields,
+      List<Map<String, Object>> userLocations,
+      List<Map<String, Object>> declarations,
+      List<Map<String, String>> externalIds,
+      RequestContext context) {
+    result.put(JsonKey.LAST_LOGIN_TIME, Long.parseLong("0"));
+    if (fields.contains(JsonKey.TOPIC)) {
+      result.put(JsonKey.TOPICS, new HashSet<>());
+    }
+    if (fields.contains(JsonKey.ROLES)) {
+      result.put(JsonKey.ROLE_LIST, DataCacheHandler.getUserReadRoleList());
+    }
+    if (fields.contains(JsonKey.LOCATIONS) && CollectionUtils.isNotEmpty(userLocations)) {
+      result.put(JsonKey.USER_LOCATIONS, userLocations);
+      // For adding school, request need to have fields=locations,organisations, as externalid
+      // id is populated with this request only
+      if (fields.contains(JsonKey.ORGANISATIONS)) {
+        try {
+          addSchoolLocation(result, context);
+        } catch (Exception e) {
+          logger.error("Not able to fetch school details in user read - user location", e);
+        }
+      }
+      result.remove(JsonKey.LOCATION_IDS);
+      result.remove(JsonKey.PROFILE_LOCATION);
+    }
+    if (fields.contains(JsonKey.DECLARATIONS)) {
+      result.put(JsonKey.DECLARATIONS, declarations);
+    }
+    if (null != externalIds) {
+      result.put(JsonKey.EXTERNAL_IDS, externalIds);
+    }
+  }
+
+  private boolean isExternalIdsRequired(Map<String, Object> result, String fields) {
+    return CollectionUtils.isEmpty((List<Map<String, String>>) result.get(JsonKey.EXTERNAL_IDS))
+        && fields.contains(JsonKey.EXTERNAL_IDS);
+  }
+
+  private List<String> getProfileLocationIds(Map<String, Object> result) {
+    List<Map<String, String>> userLocList =
+        (List<Map<String, String>>) result.get(JsonKey.PROFILE_LOCATION);
+    if (CollectionUtils.isEmpty(userLocList)) {
+      return new ArrayList<>();
     }
+    return userLocList.stream().map(m -> m.get(JsonKey.ID)).collect(Collectors.toList());
   }
 
   private void addSchoolLocation(Map<String, Object> result, RequestContext context) {
@@ -596,7 +804,7 @@ public class UserProfileReadService {
       Map<String, Object> searchQueryMap, RequestContext context) {
     SearchDTO searchDto = Util.createSearchDto(searchQueryMap);
     String type = ProjectUtil.EsType.location.getTypeName();
-    Future<Map<String, Object>> resultF = esUtil.search(searchDto, type, context);
+    scala.concurrent.Future<Map<String, Object>> resultF = esUtil.search(searchDto, type, context);
     Map<String, Object> result =
         (Map<String, Object>) ElasticSearchHelper.getResponseFromFuture(resultF);
     if (MapUtils.isNotEmpty(result)
@@ -3,6 +3,7 @@ package org.sunbird.user.service;
 import akka.actor.ActorRef;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import org.sunbird.common.models.response.Response;
 import org.sunbird.common.request.Request;
 import org.sunbird.common.request.RequestContext;
@@ -47,4 +48,12 @@ public interface UserService {
 
   Response saveUserAttributes(
       Map<String, Object> userMap, ActorRef actorRef, RequestContext context);
+
+  /**
+   * Non blocking counterpart of {@link #saveUserAttributes(Map, ActorRef, RequestContext)}.
+   *
+   * @return Stage completing with the response of the actor, or with null if it could not be saved
+   */
+  CompletionStage<Response> saveUserAttributesAsync(
+      Map<String, Object> userMap, ActorRef actorRef, RequestContext context);
 }
@@ -1,5 +1,6 @@
 package org.sunbird.user.service.impl;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.collections.CollectionUtils;
@@ -30,6 +31,8 @@ public class UserLookUpServiceImpl implements UserLookupService {
   private static Util.DbInfo userLookUp = Util.dbInfoMap.get(JsonKey.USER_LOOKUP);
   private static UserLookupDao userLookupDao = UserLookupDaoImpl.getInstance();
   private static UserLookupService userLookupService = null;
+  // a reserved username is released unless the user is saved before the reservation expires
+  private static final int USERNAME_RESERVATION_TTL = 600;
 
   public static UserLookupService getInstance() {
     if (userLookupService == null) {
@@ -60,6 +63,26 @@ public class UserLookUpServiceImpl implements UserLookupService {
     return true;
   }
 
+  public boolean reserveUsername(String encryptedUsername, RequestContext context) {
+    Map<String, Object> lookUp = new HashMap<>();
+    lookUp.put(JsonKey.TYPE, JsonKey.USER_LOOKUP_FILED_USER_NAME);
+    lookUp.put(JsonKey.VALUE, encryptedUsername);
+    return userLookupDao.insertRecordIfNotExists(lookUp, USERNAME_RESERVATION_TTL, context);
+  }
+
+  public boolean claimUsername(String encryptedUsername, String userId, RequestContext context) {
+    if (userLookupDao.updateUserIdIfNull(
+        JsonKey.USER_LOOKUP_FILED_USER_NAME, encryptedUsername, userId, context)) {
+      return true;
+    }
+    // the user may already own it, when the lookup is written again
+    List<Map<String, Object>> userMapList =
+        userLookupDao.getRecordByType(
+            JsonKey.USER_LOOKUP_FILED_USER_NAME, encryptedUsername, false, context);
+    return CollectionUtils.isNotEmpty(userMapList)
+        && StringUtils.equals(userId, (String) userMapList.get(0).get(JsonKey.USER_ID));
+  }
+
   public void checkEmailUniqueness(User user, String opType, RequestContext context) {
     String email = user.getEmail();
     if (StringUtils.isNotBlank(email)) {
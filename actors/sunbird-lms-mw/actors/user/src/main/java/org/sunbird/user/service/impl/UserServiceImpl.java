@@ -1,8 +1,6 @@
 package org.sunbird.user.service.impl;
 
 import akka.actor.ActorRef;
-import akka.pattern.Patterns;
-import akka.util.Timeout;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -11,12 +9,13 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
 import org.apache.commons.lang.math.NumberUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.sunbird.actorutil.ActorCall;
 import org.sunbird.actorutil.systemsettings.SystemSettingClient;
 import org.sunbird.actorutil.systemsettings.impl.SystemSettingClientImpl;
 import org.sunbird.common.ElasticSearchHelper;
@@ -47,9 +46,7 @@ import org.sunbird.user.dao.impl.UserLookupDaoImpl;
 import org.sunbird.user.service.UserService;
 import org.sunbird.user.util.UserActorOperations;
 import org.sunbird.user.util.UserUtil;
-import scala.concurrent.Await;
 import scala.concurrent.Future;
-import scala.concurrent.duration.Duration;
 
 public class UserServiceImpl implements UserService {
 
@@ -267,6 +264,21 @@ public class UserServiceImpl implements UserService {
   @Override
   public List<String> getEncryptedList(List<String> dataList, RequestContext context) {
     List<String> encryptedDataList = new ArrayList<>();
+    try {
+      for (String encData : encryptionService.encryptAll(dataList, context)) {
+        if (StringUtils.isNotBlank(encData)) {
+          encryptedDataList.add(encData);
+        }
+      }
+      return encryptedDataList;
+    } catch (Exception e) {
+      logger.error(
+          context,
+          "UserServiceImpl:getEncryptedDataList: Exception occurred with error message ",
+          e);
+    }
+    // one bad value fails the whole batch, skip only the values that fail on their own
+    encryptedDataList.clear();
     for (String data : dataList) {
       String encData = "";
       try {
@@ -475,18 +487,32 @@ public class UserServiceImpl implements UserService {
 
   public Response saveUserAttributes(
       Map<String, Object> userMap, ActorRef actorRef, RequestContext context) {
+    return ActorCall.join(saveUserAttributesAsync(userMap, actorRef, context));
+  }
+
+  @Override
+  public CompletionStage<Response> saveUserAttributesAsync(
+      Map<String, Object> userMap, ActorRef actorRef, RequestContext context) {
     Request request = new Request();
     request.setRequestContext(context);
     request.setOperation(UserActorOperations.SAVE_USER_ATTRIBUTES.getValue());
     request.getRequest().putAll(userMap);
     logger.info(context, "saveUserAttributes");
-    try {
-      Timeout t = new Timeout(Duration.create(10, TimeUnit.SECONDS));
-      Future<Object> future = Patterns.ask(actorRef, request, t);
-      return (Response) Await.result(future, t.duration());
-    } catch (Exception e) {
-      logger.error(context, e.getMessage(), e);
-    }
-    return null;
+    return ActorCall.ask(actorRef, request)
+        .handle(
+            (obj, error) -> {
+              if (null != error) {
+                Throwable cause = ActorCall.unwrap(error);
+                logger.error(context, cause.getMessage(), cause);
+                return null;
+              }
+              if (obj instanceof Response) {
+                return (Response) obj;
+              }
+              if (obj instanceof Exception) {
+                logger.error(context, ((Exception) obj).getMessage(), (Exception) obj);
+              }
+              return null;
+            });
   }
 }
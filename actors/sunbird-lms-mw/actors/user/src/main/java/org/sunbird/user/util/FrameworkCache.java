@@ -0,0 +1,233 @@
+package org.sunbird.user.util;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.util.ExecutorUtil;
+
+/**
+ * Bounded in-process cache of the categories of frameworks read from the content store. Concurrent
+ * lookups of a framework which is not cached wait for a single read. A framework cached for longer
+ * than the ttl is still served while it is read again in the background, and is kept for another
+ * ttl if that read fails. When the cache is full the framework loaded first is dropped.
+ */
+public final class FrameworkCache {
+  private static LoggerUtil logger = new LoggerUtil(FrameworkCache.class);
+  private static final int DEFAULT_MAX_SIZE = 100;
+  private static final int DEFAULT_TTL_SECONDS = 3600;
+  private static final int REFRESH_THREADS = 2;
+  private static final long STATS_LOG_INTERVAL = 1000;
+  private static volatile FrameworkCache instance;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<Map<String, List<Map<String, String>>>>> loads =
+      new ConcurrentHashMap<>();
+  private final int maxSize;
+  private final long ttlMillis;
+  private final Executor refreshExecutor;
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong staleHits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong loadCount = new AtomicLong();
+  private final AtomicLong loadFailures = new AtomicLong();
+  private final AtomicLong loadTimeMillis = new AtomicLong();
+
+  /**
+   * @param maxSize Maximum number of cached frameworks
+   * @param ttlMillis Time after which a cached framework is read again
+   * @param refreshExecutor Executor reading stale frameworks again
+   */
+  FrameworkCache(int maxSize, long ttlMillis, Executor refreshExecutor) {
+    this.maxSize = maxSize;
+    this.ttlMillis = ttlMillis;
+    this.refreshExecutor = refreshExecutor;
+  }
+
+  public static FrameworkCache getInstance() {
+    if (null == instance) {
+      synchronized (FrameworkCache.class) {
+        if (null == instance) {
+          int maxSize =
+              ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_FRAMEWORK_CACHE_SIZE, DEFAULT_MAX_SIZE);
+          int ttlSeconds =
+              ExecutorUtil.getIntConfig(JsonKey.SUNBIRD_FRAMEWORK_CACHE_TTL, DEFAULT_TTL_SECONDS);
+          logger.info(
+              "FrameworkCache: maxSize = " + maxSize + ", ttl = " + ttlSeconds + " seconds");
+          instance =
+              new FrameworkCache(
+                  maxSize,
+                  TimeUnit.SECONDS.toMillis(ttlSeconds),
+                  // a refresh is queued once per framework, one that does not fit is skipped
+                  ExecutorUtil.newBoundedPool(
+                      "framework-cache-refresh",
+                      REFRESH_THREADS,
+                      maxSize,
+                      ExecutorUtil.Rejection.ABORT));
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * @param frameworkId Framework id
+   * @param loader Reads the categories of a framework, returns null if the framework is not found
+   * @return Categories of the framework, or null if the framework is not found
+   */
+  public Map<String, List<Map<String, String>>> get(
+      String frameworkId, Function<String, Map<String, List<Map<String, String>>>> loader) {
+    Entry entry = entries.get(frameworkId);
+    long lookups;
+    if (null != entry) {
+      if (System.currentTimeMillis() - entry.loadedAt >= ttlMillis) {
+        staleHits.incrementAndGet();
+        refresh(frameworkId, loader);
+      }
+      lookups = hits.incrementAndGet() + misses.get();
+    } else {
+      lookups = misses.incrementAndGet() + hits.get();
+    }
+    if (lookups % STATS_LOG_INTERVAL == 0) {
+      logger.info("FrameworkCache: " + getStats());
+    }
+    if (null != entry) {
+      return entry.categories;
+    }
+    CompletableFuture<Map<String, List<Map<String, String>>>> load = new CompletableFuture<>();
+    CompletableFuture<Map<String, List<Map<String, String>>>> inFlight =
+        loads.putIfAbsent(frameworkId, load);
+    if (null == inFlight) {
+      load(frameworkId, loader, load);
+      inFlight = load;
+    }
+    try {
+      return inFlight.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  private void refresh(
+      String frameworkId, Function<String, Map<String, List<Map<String, String>>>> loader) {
+    CompletableFuture<Map<String, List<Map<String, String>>>> load = new CompletableFuture<>();
+    if (null == loads.putIfAbsent(frameworkId, load)) {
+      try {
+        refreshExecutor.execute(() -> load(frameworkId, loader, load));
+      } catch (RejectedExecutionException e) {
+        loads.remove(frameworkId, load);
+      }
+    }
+  }
+
+  private void load(
+      String frameworkId,
+      Function<String, Map<String, List<Map<String, String>>>> loader,
+      CompletableFuture<Map<String, List<Map<String, String>>>> load) {
+    long startTime = System.currentTimeMillis();
+    try {
+      Map<String, List<Map<String, String>>> categories = loader.apply(frameworkId);
+      loadCount.incrementAndGet();
+      loadTimeMillis.addAndGet(System.currentTimeMillis() - startTime);
+      Entry stale = entries.get(frameworkId);
+      if (null != categories) {
+        put(frameworkId, categories);
+      } else if (null != stale) {
+        logger.info(
+            "FrameworkCache: framework " + frameworkId + " not read, serving the cached one");
+        entries.replace(frameworkId, stale, new Entry(stale.categories));
+        categories = stale.categories;
+      }
+      load.complete(categories);
+    } catch (RuntimeException e) {
+      loadFailures.incrementAndGet();
+      logger.error("FrameworkCache: failed to read framework " + frameworkId, e);
+      Entry stale = entries.get(frameworkId);
+      if (null != stale) {
+        entries.replace(frameworkId, stale, new Entry(stale.categories));
+      }
+      load.completeExceptionally(e);
+    } finally {
+      loads.remove(frameworkId, load);
+    }
+  }
+
+  private void put(String frameworkId, Map<String, List<Map<String, String>>> categories) {
+    while (entries.size() >= maxSize && !entries.containsKey(frameworkId)) {
+      entries
+          .entrySet()
+          .stream()
+          .min((a, b) -> Long.compare(a.getValue().loadedAt, b.getValue().loadedAt))
+          .ifPresent(oldest -> entries.remove(oldest.getKey(), oldest.getValue()));
+    }
+    entries.put(frameworkId, new Entry(categories));
+  }
+
+  int size() {
+    return entries.size();
+  }
+
+  long getHitCount() {
+    return hits.get();
+  }
+
+  long getStaleHitCount() {
+    return staleHits.get();
+  }
+
+  long getMissCount() {
+    return misses.get();
+  }
+
+  long getLoadCount() {
+    return loadCount.get();
+  }
+
+  long getLoadFailureCount() {
+    return loadFailures.get();
+  }
+
+  /** @return Average time in millis taken to read a framework */
+  long getAverageLoadTime() {
+    long count = loadCount.get();
+    return count == 0 ? 0 : loadTimeMillis.get() / count;
+  }
+
+  public String getStats() {
+    return "size = "
+        + size()
+        + ", hits = "
+        + getHitCount()
+        + ", staleHits = "
+        + getStaleHitCount()
+        + ", misses = "
+        + getMissCount()
+        + ", loads = "
+        + getLoadCount()
+        + ", loadFailures = "
+        + getLoadFailureCount()
+        + ", averageLoadTime = "
+        + getAverageLoadTime()
+        + " ms";
+  }
+
+  private static final class Entry {
+    private final Map<String, List<Map<String, String>>> categories;
+    private final long loadedAt = System.currentTimeMillis();
+
+    private Entry(Map<String, List<Map<String, String>>> categories) {
+      this.categories = categories;
+    }
+  }
+}
@@ -408,73 +408,9 @@ public class UserUtil {
   }
 
   private static String getUsername(String name, RequestContext context) {
-    List<Map<String, Object>> users = null;
-    List<String> encryptedUserNameList = new ArrayList<>();
-    List<String> excludedUsernames = new ArrayList<>();
-    List<String> userNameList = new ArrayList<>();
-
-    String userName = "";
-    for (int j = 1; j <= 10; j++) {
-      logger.info(context, "Generating list of 10 userNames in loop for iteration " + j);
-      encryptedUserNameList.clear();
-      excludedUsernames.addAll(userNameList);
-
-      // Generate usernames
-      userNameList = userService.generateUsernames(name, excludedUsernames, context);
-
-      // Encrypt each user name
-      userService
-          .getEncryptedList(userNameList, context)
-          .stream()
-          .forEach(value -> encryptedUserNameList.add(value));
-
-      // Throw an error in case of encryption failures
-      if (encryptedUserNameList.isEmpty()) {
-        ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
-      }
-
-      // Search if any user names
-      List<String> filtersEncryptedUserNameList = new ArrayList<>(encryptedUserNameList);
-      users = userService.searchUserNameInUserLookup(filtersEncryptedUserNameList, context);
-
-      if (!(CollectionUtils.isNotEmpty(users) && users.size() >= encryptedUserNameList.size())) {
-        break;
-      }
-    }
-
-    List<String> esUserNameList = new ArrayList<>();
-
-    // Map list of results (from User lookup) into list of usernames
-    users
-        .stream()
-        .forEach(
-            user -> {
-              esUserNameList.add((String) user.get(JsonKey.VALUE));
-            });
-
-    // Query cassandra to find first username that is not yet assigned
-    Optional<String> result =
-        encryptedUserNameList
-            .stream()
-            .filter(
-                value -> {
-                  if (!esUserNameList.contains(value)) {
-                    return userLookupService.checkUsernameUniqueness(value, true, context);
-                  }
-                  return false;
-                })
-            .findFirst();
-
-    if (result.isPresent()) {
-      userName = result.get();
-    }
-
-    if (StringUtils.isNotBlank(userName)) {
-      return decService.decryptData(userName, context);
-    }
-
-    return "";
+    return UsernameAllocator.getInstance().allocate(name, context);
   }
+
   // validateExternalIds For CREATE USER and MIGRATE USER
   public static void validateExternalIds(User user, String operationType, RequestContext context) {
     if (CollectionUtils.isNotEmpty(user.getExternalIds())) {
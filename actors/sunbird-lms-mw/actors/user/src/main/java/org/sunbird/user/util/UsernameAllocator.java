@@ -0,0 +1,205 @@
+package org.sunbird.user.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.LoggerUtil;
+import org.sunbird.common.models.util.ProjectUtil;
+import org.sunbird.common.models.util.datasecurity.DecryptionService;
+import org.sunbird.common.request.RequestContext;
+import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.user.service.UserLookupService;
+import org.sunbird.user.service.UserService;
+import org.sunbird.user.service.impl.UserLookUpServiceImpl;
+import org.sunbird.user.service.impl.UserServiceImpl;
+
+/**
+ * Picks the username of a user created without one. Each round generates a batch of candidates
+ * from the name and finds the taken ones with a single lookup of the whole batch. The first free
+ * candidate is then reserved with a user lookup insert which only succeeds if no other user has
+ * it, falling back to the next free candidate if a concurrent create reserved it first. Another
+ * round is only needed when every candidate of a batch is taken.
+ *
+ * <p>The username is picked before the user is validated, so the reservation expires on its own
+ * and only the claim made when the user is saved keeps the username taken. The claim sets the user
+ * id with a lightweight transaction as well, since a plain write mixed with the reservation may be
+ * ordered before it and expire with it. A create that fails after the username is picked does not
+ * hold it.
+ */
+public final class UsernameAllocator {
+  private static LoggerUtil logger = new LoggerUtil(UsernameAllocator.class);
+  private static final int DEFAULT_CANDIDATE_COUNT = 50;
+  private static final int MAX_ROUNDS = 3;
+  private static final long STATS_LOG_INTERVAL = 1000;
+  private static volatile UsernameAllocator instance;
+
+  private final UserService userService;
+  private final UserLookupService userLookupService;
+  private final DecryptionService decryptionService;
+  private final int candidateCount;
+  private final AtomicLong allocations = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+  private final AtomicLong allocatedCandidates = new AtomicLong();
+  private final AtomicLong lookups = new AtomicLong();
+  private final AtomicLong claimConflicts = new AtomicLong();
+
+  /**
+   * @param userService Generates, encrypts and looks up candidate usernames
+   * @param userLookupService Reserves usernames
+   * @param decryptionService Decrypts the reserved username
+   * @param candidateCount Number of candidates generated in a round
+   */
+  UsernameAllocator(
+      UserService userService,
+      UserLookupService userLookupService,
+      DecryptionService decryptionService,
+      int candidateCount) {
+    this.userService = userService;
+    this.userLookupService = userLookupService;
+    this.decryptionService = decryptionService;
+    this.candidateCount = candidateCount;
+  }
+
+  public static UsernameAllocator getInstance() {
+    if (null == instance) {
+      synchronized (UsernameAllocator.class) {
+        if (null == instance) {
+          String value = ProjectUtil.getConfigValue(JsonKey.SUNBIRD_USERNAME_CANDIDATE_COUNT);
+          int candidateCount =
+              StringUtils.isNumeric(value) && Integer.parseInt(value) > 0
+                  ? Integer.parseInt(value)
+                  : DEFAULT_CANDIDATE_COUNT;
+          logger.info("UsernameAllocator: candidateCount = " + candidateCount);
+          instance =
+              new UsernameAllocator(
+                  UserServiceImpl.getInstance(),
+                  UserLookUpServiceImpl.getInstance(),
+                  org.sunbird.common.models.util.datasecurity.impl.ServiceFactory
+                      .getDecryptionServiceInstance(null),
+                  candidateCount);
+        }
+      }
+    }
+    return instance;
+  }
+
+  /**
+   * @param name Name of the user
+   * @param context Request context
+   * @return Username reserved for the user, empty if none could be reserved
+   */
+  public String allocate(String name, RequestContext context) {
+    List<String> excludedUsernames = new ArrayList<>();
+    int checked = 0;
+    int conflicts = 0;
+    for (int round = 1; round <= MAX_ROUNDS; round++) {
+      List<String> usernames = generateCandidates(name, excludedUsernames, context);
+      List<String> encryptedUsernames =
+          CollectionUtils.isEmpty(usernames)
+              ? new ArrayList<>()
+              : userService.getEncryptedList(usernames, context);
+      // Throw an error in case of encryption failures
+      if (encryptedUsernames.isEmpty()) {
+        ProjectCommonException.throwServerErrorException(ResponseCode.SERVER_ERROR);
+      }
+      excludedUsernames.addAll(usernames);
+      checked += encryptedUsernames.size();
+      lookups.incrementAndGet();
+      Set<String> takenUsernames = new HashSet<>();
+      List<Map<String, Object>> users =
+          userService.searchUserNameInUserLookup(new ArrayList<>(encryptedUsernames), context);
+      if (null != users) {
+        users.forEach(user -> takenUsernames.add((String) user.get(JsonKey.VALUE)));
+      }
+      for (String encryptedUsername : encryptedUsernames) {
+        if (takenUsernames.contains(encryptedUsername)) {
+          continue;
+        }
+        if (userLookupService.reserveUsername(encryptedUsername, context)) {
+          logger.info(
+              context,
+              "UsernameAllocator:allocate: username reserved after "
+                  + checked
+                  + " candidates in "
+                  + round
+                  + " rounds, "
+                  + conflicts
+                  + " reserved concurrently");
+          allocatedCandidates.addAndGet(checked);
+          logStats(allocations.incrementAndGet() + failures.get());
+          return decryptionService.decryptData(encryptedUsername, context);
+        }
+        conflicts++;
+        claimConflicts.incrementAndGet();
+      }
+    }
+    logger.info(
+        context,
+        "UsernameAllocator:allocate: no username reserved after " + checked + " candidates");
+    logStats(failures.incrementAndGet() + allocations.get());
+    return "";
+  }
+
+  private List<String> generateCandidates(
+      String name, List<String> excludedUsernames, RequestContext context) {
+    Set<String> candidates = new LinkedHashSet<>();
+    List<String> excluded = new ArrayList<>(excludedUsernames);
+    while (candidates.size() < candidateCount) {
+      List<String> generated = userService.generateUsernames(name, excluded, context);
+      if (CollectionUtils.isEmpty(generated) || !candidates.addAll(generated)) {
+        break;
+      }
+      excluded.addAll(generated);
+    }
+    return new ArrayList<>(candidates);
+  }
+
+  private void logStats(long attempts) {
+    if (attempts % STATS_LOG_INTERVAL == 0) {
+      logger.info("UsernameAllocator: " + getStats());
+    }
+  }
+
+  long getAllocationCount() {
+    return allocations.get();
+  }
+
+  long getFailureCount() {
+    return failures.get();
+  }
+
+  long getLookupCount() {
+    return lookups.get();
+  }
+
+  long getClaimConflictCount() {
+    return claimConflicts.get();
+  }
+
+  /** @return Average number of candidates generated for a reserved username */
+  double getCandidatesPerAllocation() {
+    long count = allocations.get();
+    return count == 0 ? 0 : (double) allocatedCandidates.get() / count;
+  }
+
+  public String getStats() {
+    return "allocations = "
+        + getAllocationCount()
+        + ", failures = "
+        + getFailureCount()
+        + ", candidatesPerAllocation = "
+        + getCandidatesPerAllocation()
+        + ", lookups = "
+        + getLookupCount()
+        + ", claimConflicts = "
+        + getClaimConflictCount();
+  }
+}
@@ -19,6 +19,8 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import org.junit.Before;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
@@ -62,6 +64,7 @@ import org.sunbird.user.service.UserService;
 import org.sunbird.user.service.impl.UserLookUpServiceImpl;
 import org.sunbird.user.service.impl.UserServiceImpl;
 import org.sunbird.user.util.UserUtil;
+import scala.concurrent.ExecutionContext;
 import scala.concurrent.Future;
 import scala.concurrent.Promise;
 
@@ -147,6 +150,8 @@ public abstract class UserManagementActorTestBase {
     when(Patterns.ask(
             Mockito.any(ActorRef.class), Mockito.any(Request.class), Mockito.any(Timeout.class)))
         .thenReturn(future);
+    when(Patterns.pipe(Mockito.any(CompletionStage.class), Mockito.any(ExecutionContext.class)))
+        .thenCallRealMethod();
 
     PowerMockito.mockStatic(SystemSettingClientImpl.class);
     SystemSettingClientImpl systemSettingClient = mock(SystemSettingClientImpl.class);
@@ -170,6 +175,30 @@ public abstract class UserManagementActorTestBase {
         .thenReturn(getLocationIdLists());
     when(locationClient.getLocationByIds(Mockito.any(), Mockito.anyList(), Mockito.any()))
         .thenReturn(getLocationLists());
+    when(locationClient.getLocationsByCodesAsync(Mockito.any(), Mockito.anyList(), Mockito.any()))
+        .thenAnswer(
+            invocation ->
+                CompletableFuture.completedFuture(
+                    locationClient.getLocationsByCodes(
+                        invocation.getArgument(0),
+                        invocation.getArgument(1),
+                        invocation.getArgument(2))));
+    when(locationClient.getLocationByIdsAsync(Mockito.any(), Mockito.anyList(), Mockito.any()))
+        .thenAnswer(
+            invocation ->
+                CompletableFuture.completedFuture(
+                    locationClient.getLocationByIds(
+                        invocation.getArgument(0),
+                        invocation.getArgument(1),
+                        invocation.getArgument(2))));
+    when(locationClient.getLocationByCodesAsync(Mockito.any(), Mockito.anyList(), Mockito.any()))
+        .thenAnswer(
+            invocation ->
+                CompletableFuture.completedFuture(
+                    locationClient.getLocationByCodes(
+                        invocation.getArgument(0),
+                        invocation.getArgument(1),
+                        invocation.getArgument(2))));
     PowerMockito.mockStatic(FormApiUtilHandler.class);
     PowerMockito.when(FormApiUtilHandler.getFormApiConfig(Mockito.any(), Mockito.any()))
         .thenReturn(getFormApiConfig());
@@ -186,6 +215,14 @@ public abstract class UserManagementActorTestBase {
     when(userService.getUserById(Mockito.any(), Mockito.any())).thenReturn(getUser(false));
     when(userService.saveUserAttributes(Mockito.any(), Mockito.any(), Mockito.any()))
         .thenReturn(getSaveResponse());
+    when(userService.saveUserAttributesAsync(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenAnswer(
+            invocation ->
+                CompletableFuture.completedFuture(
+                    userService.saveUserAttributes(
+                        invocation.getArgument(0),
+                        invocation.getArgument(1),
+                        invocation.getArgument(2))));
     when(userService.getRootOrgIdFromChannel(Mockito.anyString(), Mockito.any()))
         .thenReturn("anyId");
     when(userService.getCustodianChannel(
@@ -199,6 +236,8 @@ public abstract class UserManagementActorTestBase {
     when(UserLookUpServiceImpl.getInstance()).thenReturn(userLookupService);
     when(userLookupService.insertRecords(Mockito.anyList(), Mockito.any()))
         .thenReturn(getSuccessResponse());
+    when(userLookupService.claimUsername(Mockito.any(), Mockito.any(), Mockito.any()))
+        .thenReturn(true);
     Promise<Map<String, Object>> promise = Futures.promise();
     promise.success(getEsResponseMap());
     when(esService.getDataByIdentifier(Mockito.anyString(), Mockito.anyString(), Mockito.any()))
@@ -226,6 +265,8 @@ public abstract class UserManagementActorTestBase {
     requestMap.put(JsonKey.EXTERNAL_IDS, externalIds);
     PowerMockito.mockStatic(Util.class);
     when(Util.getUserDetails(Mockito.any(), Mockito.any())).thenReturn(getMapObject());
+    when(Util.getUserDetailsAsync(Mockito.any(), Mockito.any()))
+        .thenReturn(CompletableFuture.completedFuture(getMapObject()));
     when(UserUtil.encryptUserData(Mockito.anyMap())).thenReturn(requestMap);
     PowerMockito.mockStatic(DataCacheHandler.class);
     when(DataCacheHandler.getRoleMap()).thenReturn(roleMap(true));
@@ -254,6 +295,19 @@ public abstract class UserManagementActorTestBase {
     organisation.setTenant(true);
     when(organisationClient.esGetOrgById(Mockito.anyString(), Mockito.any()))
         .thenReturn(organisation);
+    // the asynchronous lookups answer with whatever the blocking ones are stubbed with
+    when(organisationClient.esGetOrgByIdAsync(Mockito.anyString(), Mockito.any()))
+        .thenAnswer(
+            invocation ->
+                CompletableFuture.completedFuture(
+                    organisationClient.esGetOrgById(
+                        invocation.getArgument(0), invocation.getArgument(1))));
+    when(organisationClient.esSearchOrgByFilterAsync(Mockito.anyMap(), Mockito.any()))
+        .thenAnswer(
+            invocation ->
+                CompletableFuture.completedFuture(
+                    organisationClient.esSearchOrgByFilter(
+                        invocation.getArgument(0), invocation.getArgument(1))));
     Map<String, Object> user = new HashMap<>();
     user.put(JsonKey.IS_DELETED, false);
     user.put(JsonKey.ROOT_ORG_ID, "custodianRootOrgId");
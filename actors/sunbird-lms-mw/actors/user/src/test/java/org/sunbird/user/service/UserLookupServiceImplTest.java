@@ -1,5 +1,8 @@
 package org.sunbird.user.service;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -11,6 +14,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
 import org.sunbird.common.models.util.JsonKey;
 import org.sunbird.common.request.RequestContext;
 import org.sunbird.models.user.User;
@@ -42,6 +46,37 @@ public class UserLookupServiceImplTest {
     userLookupService.checkEmailUniqueness(user, "read", new RequestContext());
   }
 
+  @Test
+  public void testClaimUsernameSetsUserIdOfReservation() {
+    UserLookupDaoImpl userLookupDao = PowerMockito.mock(UserLookupDaoImpl.class);
+    Whitebox.setInternalState(UserLookUpServiceImpl.class, "userLookupDao", userLookupDao);
+    PowerMockito.when(
+            userLookupDao.updateUserIdIfNull(
+                Mockito.eq(JsonKey.USER_LOOKUP_FILED_USER_NAME),
+                Mockito.eq("encUsername"),
+                Mockito.eq("1234"),
+                Mockito.any()))
+        .thenReturn(true);
+    assertTrue(
+        new UserLookUpServiceImpl().claimUsername("encUsername", "1234", new RequestContext()));
+  }
+
+  @Test
+  public void testClaimUsernameOwnedByUser() {
+    UserLookupDaoImpl userLookupDao = PowerMockito.mock(UserLookupDaoImpl.class);
+    Whitebox.setInternalState(UserLookUpServiceImpl.class, "userLookupDao", userLookupDao);
+    PowerMockito.when(
+            userLookupDao.getRecordByType(
+                Mockito.eq(JsonKey.USER_LOOKUP_FILED_USER_NAME),
+                Mockito.eq("encUsername"),
+                Mockito.eq(false),
+                Mockito.any()))
+        .thenReturn(getRecords());
+    UserLookupService userLookupService = new UserLookUpServiceImpl();
+    assertTrue(userLookupService.claimUsername("encUsername", "1234", new RequestContext()));
+    assertFalse(userLookupService.claimUsername("encUsername", "5678", new RequestContext()));
+  }
+
   private List<Map<String, Object>> getRecords() {
     List<Map<String, Object>> result = new ArrayList<>();
     Map<String, Object> mapObj = new HashMap<>();
@@ -10,6 +10,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -522,6 +524,80 @@ public class UserProfileReadServiceTest {
     }
   }
 
+  @Test
+  public void getUserProfileWithFailedLookupTest() throws JsonProcessingException {
+    PowerMockito.mockStatic(ServiceFactory.class);
+    CassandraOperation cassandraOperationImpl = mock(CassandraOperation.class);
+    when(ServiceFactory.getInstance()).thenReturn(cassandraOperationImpl);
+    UserDao userDao = PowerMockito.mock(UserDao.class);
+    PowerMockito.mockStatic(UserDaoImpl.class);
+    Mockito.when(UserDaoImpl.getInstance()).thenReturn(userDao);
+    PowerMockito.mockStatic(UserUtility.class);
+    PowerMockito.mockStatic(Util.class);
+    Map<String, Object> user = getValidUserResponse("1234567890");
+    user.remove(JsonKey.ROOT_ORG_ID);
+    Mockito.when(userDao.getUserDetailsById(Mockito.anyString(), Mockito.any())).thenReturn(user);
+    UserOrgDao userOrgDao = PowerMockito.mock(UserOrgDao.class);
+    PowerMockito.mockStatic(UserOrgDaoImpl.class);
+    Mockito.when(UserOrgDaoImpl.getInstance()).thenReturn(userOrgDao);
+    Mockito.when(userOrgDao.getUserOrgListByUserId(Mockito.anyString(), Mockito.any()))
+        .thenThrow(
+            new ProjectCommonException(
+                ResponseCode.SERVER_ERROR.getErrorCode(),
+                ResponseCode.SERVER_ERROR.getErrorMessage(),
+                ResponseCode.SERVER_ERROR.getResponseCode()));
+    UserProfileReadService userProfileReadService = new UserProfileReadService();
+    Request request = getProfileReadRequest("1234567890");
+    request.getContext().remove(JsonKey.FIELDS);
+    request.getContext().put(JsonKey.REQUESTED_BY, "requestedBy");
+    try {
+      userProfileReadService.getUserProfileData(request);
+      Assert.fail();
+    } catch (ProjectCommonException ex) {
+      Assert.assertEquals(ResponseCode.SERVER_ERROR.getErrorCode(), ex.getCode());
+    }
+  }
+
+  @Test
+  public void getUserProfileWithTimedOutLookupTest() throws Exception {
+    PowerMockito.mockStatic(ServiceFactory.class);
+    CassandraOperation cassandraOperationImpl = mock(CassandraOperation.class);
+    when(ServiceFactory.getInstance()).thenReturn(cassandraOperationImpl);
+    UserDao userDao = PowerMockito.mock(UserDao.class);
+    PowerMockito.mockStatic(UserDaoImpl.class);
+    Mockito.when(UserDaoImpl.getInstance()).thenReturn(userDao);
+    PowerMockito.mockStatic(UserUtility.class);
+    PowerMockito.mockStatic(Util.class);
+    Map<String, Object> user = getValidUserResponse("1234567890");
+    user.remove(JsonKey.ROOT_ORG_ID);
+    Mockito.when(userDao.getUserDetailsById(Mockito.anyString(), Mockito.any())).thenReturn(user);
+    UserOrgDao userOrgDao = PowerMockito.mock(UserOrgDao.class);
+    PowerMockito.mockStatic(UserOrgDaoImpl.class);
+    Mockito.when(UserOrgDaoImpl.getInstance()).thenReturn(userOrgDao);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    Mockito.when(userOrgDao.getUserOrgListByUserId(Mockito.anyString(), Mockito.any()))
+        .thenAnswer(
+            invocation -> {
+              try {
+                Thread.sleep(60000);
+              } catch (InterruptedException e) {
+                interrupted.countDown();
+              }
+              return null;
+            });
+    UserProfileReadService userProfileReadService = new UserProfileReadService();
+    Request request = getProfileReadRequest("1234567890");
+    request.getContext().remove(JsonKey.FIELDS);
+    request.getContext().put(JsonKey.REQUESTED_BY, "requestedBy");
+    try {
+      userProfileReadService.getUserProfileData(request);
+      Assert.fail();
+    } catch (ProjectCommonException ex) {
+      Assert.assertEquals(ResponseCode.operationTimeout.getErrorCode(), ex.getCode());
+    }
+    Assert.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+  }
+
   private Request getProfileReadRequest(String userId) {
     Request reqObj = new Request();
     Map<String, Object> innerMap = new HashMap<>();
@@ -0,0 +1,143 @@
+package org.sunbird.user.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.Test;
+
+public class FrameworkCacheTest {
+
+  @Test
+  public void testGetLoadsFrameworkOnce() {
+    FrameworkCache cache = new FrameworkCache(10, 60000, Runnable::run);
+    AtomicInteger reads = new AtomicInteger();
+    Function<String, Map<String, List<Map<String, String>>>> loader =
+        id -> {
+          reads.incrementAndGet();
+          return categories(id);
+        };
+    assertEquals("NCF", cache.get("NCF", loader).get("board").get(0).get("name"));
+    assertEquals("NCF", cache.get("NCF", loader).get("board").get(0).get("name"));
+    assertEquals(1, reads.get());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+  }
+
+  @Test
+  public void testConcurrentMissesShareOneRead() throws Exception {
+    FrameworkCache cache = new FrameworkCache(10, 60000, Runnable::run);
+    AtomicInteger reads = new AtomicInteger();
+    CountDownLatch readStarted = new CountDownLatch(1);
+    CountDownLatch releaseRead = new CountDownLatch(1);
+    Function<String, Map<String, List<Map<String, String>>>> loader =
+        id -> {
+          reads.incrementAndGet();
+          readStarted.countDown();
+          try {
+            releaseRead.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return categories(id);
+        };
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Map<String, List<Map<String, String>>>>> results = new ArrayList<>();
+      results.add(executor.submit(() -> cache.get("NCF", loader)));
+      readStarted.await(10, TimeUnit.SECONDS);
+      for (int i = 0; i < 3; i++) {
+        results.add(executor.submit(() -> cache.get("NCF", loader)));
+      }
+      Thread.sleep(100);
+      releaseRead.countDown();
+      for (Future<Map<String, List<Map<String, String>>>> result : results) {
+        assertSame(results.get(0).get(), result.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, reads.get());
+    assertEquals(1, cache.getLoadCount());
+  }
+
+  @Test
+  public void testStaleFrameworkServedWhileRefreshed() throws Exception {
+    List<Runnable> refreshes = new ArrayList<>();
+    FrameworkCache cache = new FrameworkCache(10, 1, refreshes::add);
+    AtomicInteger reads = new AtomicInteger();
+    Function<String, Map<String, List<Map<String, String>>>> loader =
+        id -> categories(id + reads.incrementAndGet());
+    cache.get("NCF", loader);
+    Thread.sleep(10);
+    assertEquals("NCF1", cache.get("NCF", loader).get("board").get(0).get("name"));
+    assertEquals("NCF1", cache.get("NCF", loader).get("board").get(0).get("name"));
+    assertEquals(1, refreshes.size());
+    assertEquals(2, cache.getStaleHitCount());
+    refreshes.get(0).run();
+    assertEquals("NCF2", cache.get("NCF", loader).get("board").get(0).get("name"));
+  }
+
+  @Test
+  public void testFailedRefreshKeepsStaleFramework() throws Exception {
+    FrameworkCache cache = new FrameworkCache(10, 1, Runnable::run);
+    cache.get("NCF", this::categories);
+    Thread.sleep(10);
+    Map<String, List<Map<String, String>>> stale =
+        cache.get(
+            "NCF",
+            id -> {
+              throw new RuntimeException("content store unavailable");
+            });
+    assertEquals("NCF", stale.get("board").get(0).get("name"));
+    assertEquals(1, cache.getLoadFailureCount());
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void testFrameworkNotFoundIsNotCached() {
+    FrameworkCache cache = new FrameworkCache(10, 60000, Runnable::run);
+    assertNull(cache.get("invalid", id -> null));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testFullCacheDropsOldestFramework() throws Exception {
+    FrameworkCache cache = new FrameworkCache(2, 60000, Runnable::run);
+    cache.get("NCF1", this::categories);
+    Thread.sleep(2);
+    cache.get("NCF2", this::categories);
+    Thread.sleep(2);
+    cache.get("NCF3", this::categories);
+    assertEquals(2, cache.size());
+    AtomicInteger reads = new AtomicInteger();
+    cache.get(
+        "NCF1",
+        id -> {
+          reads.incrementAndGet();
+          return categories(id);
+        });
+    assertEquals(1, reads.get());
+  }
+
+  private Map<String, List<Map<String, String>>> categories(String name) {
+    Map<String, String> term = new HashMap<>();
+    term.put("id", name.toLowerCase());
+    term.put("name", name);
+    Map<String, List<Map<String, String>>> categories = new HashMap<>();
+    categories.put("board", Collections.singletonList(term));
+    return categories;
+  }
+}
@@ -117,6 +117,8 @@ public class SetUserDefaultValueTest {
             userLookUp.checkUsernameUniqueness(
                 Mockito.anyString(), Mockito.anyBoolean(), Mockito.any()))
         .thenReturn(true);
+    PowerMockito.when(userLookUp.reserveUsername(Mockito.anyString(), Mockito.any()))
+        .thenReturn(true);
     Response response = new Response();
     response.getResult().put(JsonKey.RESPONSE, new ArrayList<>());
     PowerMockito.when(
@@ -0,0 +1,131 @@
+package org.sunbird.user.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.sunbird.common.exception.ProjectCommonException;
+import org.sunbird.common.models.util.JsonKey;
+import org.sunbird.common.models.util.datasecurity.DecryptionService;
+import org.sunbird.common.responsecode.ResponseCode;
+import org.sunbird.user.service.UserLookupService;
+import org.sunbird.user.service.UserService;
+
+public class UsernameAllocatorTest {
+
+  private UserService userService;
+  private UserLookupService userLookupService;
+  private UsernameAllocator allocator;
+
+  @Before
+  public void setUp() {
+    userService = mock(UserService.class);
+    userLookupService = mock(UserLookupService.class);
+    DecryptionService decryptionService = mock(DecryptionService.class);
+    when(userService.getEncryptedList(Mockito.anyList(), Mockito.any()))
+        .thenAnswer(
+            invocation ->
+                ((List<String>) invocation.getArgument(0))
+                    .stream()
+                    .map(username -> "enc_" + username)
+                    .collect(Collectors.toList()));
+    when(decryptionService.decryptData(Mockito.anyString(), Mockito.any()))
+        .thenAnswer(invocation -> ((String) invocation.getArgument(0)).substring(4));
+    when(userLookupService.reserveUsername(Mockito.anyString(), Mockito.any())).thenReturn(true);
+    allocator = new UsernameAllocator(userService, userLookupService, decryptionService, 3);
+  }
+
+  @Test
+  public void testAllocateClaimsFirstFreeCandidate() {
+    whenGenerated(Arrays.asList("kumar_1a2b", "kumar_3c4d", "kumar_5e6f"));
+    whenTaken(Arrays.asList("enc_kumar_1a2b"));
+    assertEquals("kumar_3c4d", allocator.allocate("kumar", null));
+    verify(userService, times(1)).searchUserNameInUserLookup(Mockito.anyList(), Mockito.any());
+    verify(userLookupService, times(1)).reserveUsername(Mockito.anyString(), Mockito.any());
+    assertEquals(1, allocator.getAllocationCount());
+    assertEquals(3.0, allocator.getCandidatesPerAllocation(), 0);
+  }
+
+  @Test
+  public void testAllocateSkipsCandidateClaimedConcurrently() {
+    whenGenerated(Arrays.asList("kumar_1a2b", "kumar_3c4d"));
+    whenTaken(new ArrayList<>());
+    when(userLookupService.reserveUsername(Mockito.eq("enc_kumar_1a2b"), Mockito.any()))
+        .thenReturn(false);
+    assertEquals("kumar_3c4d", allocator.allocate("kumar", null));
+    assertEquals(1, allocator.getClaimConflictCount());
+  }
+
+  @Test
+  public void testAllocateLooksUpBatchOfSeveralGenerations() {
+    when(userService.generateUsernames(Mockito.anyString(), Mockito.anyList(), Mockito.any()))
+        .thenReturn(Arrays.asList("kumar_1a2b", "kumar_3c4d"), Arrays.asList("kumar_5e6f"));
+    whenTaken(Arrays.asList("enc_kumar_1a2b", "enc_kumar_3c4d"));
+    assertEquals("kumar_5e6f", allocator.allocate("kumar", null));
+    verify(userService, times(1)).searchUserNameInUserLookup(Mockito.anyList(), Mockito.any());
+    assertEquals(3.0, allocator.getCandidatesPerAllocation(), 0);
+  }
+
+  @Test
+  public void testAllocateGeneratesNextBatchWhenAllTaken() {
+    when(userService.generateUsernames(Mockito.anyString(), Mockito.anyList(), Mockito.any()))
+        .thenReturn(
+            Arrays.asList("kumar_1a2b", "kumar_3c4d", "kumar_5e6f"), Arrays.asList("kumar_7g8h"));
+    whenTaken(Arrays.asList("enc_kumar_1a2b", "enc_kumar_3c4d", "enc_kumar_5e6f"));
+    assertEquals("kumar_7g8h", allocator.allocate("kumar", null));
+    verify(userService, times(2)).searchUserNameInUserLookup(Mockito.anyList(), Mockito.any());
+    assertEquals(4.0, allocator.getCandidatesPerAllocation(), 0);
+  }
+
+  @Test
+  public void testAllocateFailsWhenAllCandidatesTaken() {
+    whenGenerated(Arrays.asList("kumar_1a2b"));
+    whenTaken(Arrays.asList("enc_kumar_1a2b"));
+    assertEquals("", allocator.allocate("kumar", null));
+    verify(userLookupService, times(0)).reserveUsername(Mockito.anyString(), Mockito.any());
+    assertEquals(1, allocator.getFailureCount());
+    assertEquals(3, allocator.getLookupCount());
+  }
+
+  @Test
+  public void testAllocateFailsOnEncryptionError() {
+    whenGenerated(Arrays.asList("kumar_1a2b"));
+    when(userService.getEncryptedList(Mockito.anyList(), Mockito.any()))
+        .thenReturn(new ArrayList<>());
+    try {
+      allocator.allocate("kumar", null);
+      fail();
+    } catch (ProjectCommonException e) {
+      assertEquals(ResponseCode.SERVER_ERROR.getResponseCode(), e.getResponseCode());
+    }
+  }
+
+  private void whenGenerated(List<String> usernames) {
+    when(userService.generateUsernames(Mockito.anyString(), Mockito.anyList(), Mockito.any()))
+        .thenReturn(usernames);
+  }
+
+  private void whenTaken(List<String> encryptedUsernames) {
+    List<Map<String, Object>> users = new ArrayList<>();
+    for (String encryptedUsername : encryptedUsernames) {
+      Map<String, Object> user = new HashMap<>();
+      user.put(JsonKey.TYPE, JsonKey.USER_LOOKUP_FILED_USER_NAME);
+      user.put(JsonKey.VALUE, encryptedUsername);
+      users.add(user);
+    }
+    when(userService.searchUserNameInUserLookup(Mockito.anyList(), Mockito.any()))
+        .thenReturn(users);
+  }
+}
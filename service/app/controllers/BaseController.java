@@ -13,6 +13,8 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -51,6 +53,7 @@ import play.mvc.Result;
 import play.mvc.Results;
 import util.Attrs;
 import util.Common;
+import util.ResponseWriter;
 
 /**
  * This controller we can use for writing some common method.
@@ -365,18 +368,16 @@ public class BaseController extends Controller {
     code.setResponseCode(ResponseCode.OK.getResponseCode());
     response.setParams(
         createResponseParamObj(code, null, Common.getFromRequest(request, Attrs.X_REQUEST_ID)));
-    String value = null;
+    logTelemetry(response, request);
+    byte[] body;
     try {
-      if (response.getResult() != null) {
-        String json = new ObjectMapper().writeValueAsString(response.getResult());
-        value = getResponseSize(json);
-      }
-    } catch (Exception e) {
-      value = "0.0";
+      body = ResponseWriter.write(response);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
     }
-    logTelemetry(response, request);
-    return Results.ok(Json.toJson(response))
-        .withHeader(HeaderParam.X_Response_Length.getName(), value);
+    return Results.ok(body)
+        .as(Http.MimeTypes.JSON)
+        .withHeader(HeaderParam.X_Response_Length.getName(), String.valueOf(body.length));
   }
 
   /**
@@ -78,10 +78,17 @@ public class BulkUploadController extends BaseBulkUploadController {
   }
 
   public CompletionStage<Result> getUploadStatus(String processId, Http.Request httpRequest) {
+    String offset = httpRequest.getQueryString(JsonKey.OFFSET);
+    String limit = httpRequest.getQueryString(JsonKey.LIMIT);
     return handleRequest(
         ActorOperations.GET_BULK_OP_STATUS.getValue(),
         null,
-        null,
+        req -> {
+          Request request = (Request) req;
+          request.getRequest().put(JsonKey.OFFSET, offset);
+          request.getRequest().put(JsonKey.LIMIT, limit);
+          return null;
+        },
         processId,
         JsonKey.PROCESS_ID,
         false,
@@ -0,0 +1,51 @@
+package util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import play.libs.Json;
+
+/**
+ * Serializes api responses in a single pass. The json is written into a buffer kept by the thread
+ * and copied out once at its final size, so the length of the response is known without a second
+ * serialization and no intermediate tree or string is built.
+ */
+public final class ResponseWriter {
+  private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+  private static final ThreadLocal<ReusableBuffer> buffers =
+      ThreadLocal.withInitial(() -> new ReusableBuffer(INITIAL_BUFFER_SIZE));
+
+  private ResponseWriter() {}
+
+  /**
+   * Serializes the value to json with the mapper of play.
+   *
+   * @param value Object to be serialized
+   * @return UTF-8 encoded json
+   * @throws IOException if the value can not be serialized
+   */
+  public static byte[] write(Object value) throws IOException {
+    ReusableBuffer buffer = buffers.get();
+    buffer.reset();
+    try {
+      Json.mapper().writeValue(buffer, value);
+      return buffer.toByteArray();
+    } finally {
+      // a buffer grown by an unusually large response is not kept for the thread
+      if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+        buffers.remove();
+      }
+    }
+  }
+
+  private static class ReusableBuffer extends ByteArrayOutputStream {
+
+    private ReusableBuffer(int size) {
+      super(size);
+    }
+
+    private int capacity() {
+      return buf.length;
+    }
+  }
+}
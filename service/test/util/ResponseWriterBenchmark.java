@@ -0,0 +1,92 @@
+package util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.models.util.JsonKey;
+import play.libs.Json;
+
+/**
+ * Compares the serialization done for a success response before ResponseWriter, the result
+ * serialized with a new mapper for its length and the response converted to a tree and written by
+ * play, against a single pass of ResponseWriter. Run with the main method from the test classpath,
+ * the gc profiler reports the bytes allocated per response as gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseWriterBenchmark {
+
+  @Param({"10", "1000"})
+  public int userCount;
+
+  private Response response;
+
+  @Setup
+  public void setup() {
+    List<Map<String, Object>> users = new ArrayList<>();
+    for (int i = 0; i < userCount; i++) {
+      Map<String, Object> user = new HashMap<>();
+      user.put(JsonKey.ID, "user" + i);
+      user.put(JsonKey.FIRST_NAME, "firstName" + i);
+      user.put(JsonKey.LAST_NAME, "lastName" + i);
+      user.put(JsonKey.USERNAME, "username" + i);
+      user.put(JsonKey.ROOT_ORG_ID, "0123456789");
+      user.put(JsonKey.CHANNEL, "channel");
+      users.add(user);
+    }
+    Map<String, Object> content = new HashMap<>();
+    content.put(JsonKey.CONTENT, users);
+    content.put(JsonKey.COUNT, userCount);
+    response = new Response();
+    response.setId("api.user.search");
+    response.setVer("v1");
+    response.put(JsonKey.RESPONSE, content);
+  }
+
+  @Benchmark
+  public int twoPassSerialization() throws Exception {
+    String json = new ObjectMapper().writeValueAsString(response.getResult());
+    int length = json.getBytes(StandardCharsets.UTF_8).length;
+    byte[] body = Json.mapper().writeValueAsBytes(Json.toJson(response));
+    return length + body.length;
+  }
+
+  @Benchmark
+  public int singlePassSerialization() throws Exception {
+    byte[] body = ResponseWriter.write(response);
+    return body.length + body.length;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(ResponseWriterBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,43 @@
+package util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.sunbird.common.models.response.Response;
+import org.sunbird.common.models.util.JsonKey;
+import play.libs.Json;
+
+public class ResponseWriterTest {
+
+  @Test
+  public void testWriteMatchesPlayJson() throws Exception {
+    Response response = createResponse("user");
+    byte[] body = ResponseWriter.write(response);
+    assertEquals(Json.toJson(response), Json.parse(body));
+  }
+
+  @Test
+  public void testWriteReusesBufferWithoutLeftover() throws Exception {
+    StringBuilder name = new StringBuilder();
+    for (int i = 0; i < 2000; i++) {
+      name.append('a');
+    }
+    ResponseWriter.write(createResponse(name.toString()));
+    Response response = createResponse("user");
+    byte[] body = ResponseWriter.write(response);
+    assertEquals(Json.toJson(response), Json.parse(body));
+  }
+
+  private static Response createResponse(String name) {
+    Map<String, Object> user = new HashMap<>();
+    user.put(JsonKey.ID, "userId");
+    user.put(JsonKey.FIRST_NAME, name);
+    Response response = new Response();
+    response.setId("api.user.read");
+    response.setVer("v1");
+    response.put(JsonKey.RESPONSE, user);
+    return response;
+  }
+}